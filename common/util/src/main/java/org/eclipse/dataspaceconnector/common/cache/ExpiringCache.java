@@ -0,0 +1,154 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.common.cache;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Clock;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A bounded, threadsafe cache whose entries expire at a given time.
+ * <p>
+ * When the cache grows beyond its maximum size, expired entries are removed first, then entries in the {@link Eviction} order of the cache, by default the
+ * entries that expire soonest.
+ */
+public class ExpiringCache<K, V> {
+    private final int maxEntries;
+    private final Clock clock;
+    private final Eviction eviction;
+    private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+
+    public ExpiringCache(int maxEntries, Clock clock) {
+        this(maxEntries, clock, Eviction.SOONEST_EXPIRY);
+    }
+
+    public ExpiringCache(int maxEntries, Clock clock, Eviction eviction) {
+        this.maxEntries = maxEntries;
+        this.clock = Objects.requireNonNull(clock, "clock");
+        this.eviction = Objects.requireNonNull(eviction, "eviction");
+    }
+
+    /**
+     * Returns the value for the key, or null if there is none or it has expired.
+     */
+    @Nullable
+    public V get(K key) {
+        var entry = getEntry(key);
+        return entry != null ? entry.getValue() : null;
+    }
+
+    /**
+     * Returns the entry for the key, or null if there is none or it has expired. Callers that apply their own freshness rules read the time the entry was
+     * cached from it.
+     */
+    @Nullable
+    public Entry<V> getEntry(K key) {
+        var entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt <= clock.millis()) {
+            entries.remove(key, entry);
+            return null;
+        }
+        return entry;
+    }
+
+    /**
+     * Caches the value until the given time in epoch milliseconds. Values that have already expired are not cached.
+     */
+    public void put(K key, V value, long expiresAt) {
+        var now = clock.millis();
+        if (maxEntries <= 0 || expiresAt <= now) {
+            return;
+        }
+        entries.put(key, new Entry<>(value, now, expiresAt));
+        if (entries.size() > maxEntries) {
+            evict();
+        }
+    }
+
+    public void remove(K key) {
+        entries.remove(key);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Linear, but only reached when more keys are used than the cache holds.
+     */
+    private void evict() {
+        var now = clock.millis();
+        entries.values().removeIf(entry -> entry.expiresAt <= now);
+        var excess = entries.size() - maxEntries;
+        if (excess > 0) {
+            Comparator<Map.Entry<K, Entry<V>>> order = eviction == Eviction.OLDEST
+                    ? Comparator.comparingLong(e -> e.getValue().createdAt)
+                    : Comparator.comparingLong(e -> e.getValue().expiresAt);
+            entries.entrySet().stream()
+                    .sorted(order)
+                    .limit(excess)
+                    .map(Map.Entry::getKey)
+                    .forEach(entries::remove);
+        }
+    }
+
+    /**
+     * The order in which live entries are evicted once the cache is full.
+     */
+    public enum Eviction {
+        /**
+         * The entries that expire soonest are evicted first.
+         */
+        SOONEST_EXPIRY,
+        /**
+         * The entries that were cached the longest time ago are evicted first.
+         */
+        OLDEST
+    }
+
+    /**
+     * A cached value together with the time it was cached and the time it expires, both in epoch milliseconds.
+     */
+    public static class Entry<V> {
+        private final V value;
+        private final long createdAt;
+        private final long expiresAt;
+
+        Entry(V value, long createdAt, long expiresAt) {
+            this.value = value;
+            this.createdAt = createdAt;
+            this.expiresAt = expiresAt;
+        }
+
+        public V getValue() {
+            return value;
+        }
+
+        public long getCreatedAt() {
+            return createdAt;
+        }
+
+        public long getExpiresAt() {
+            return expiresAt;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.common.cache;
+
+import org.eclipse.dataspaceconnector.common.testfixtures.MutableClock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ExpiringCacheTest {
+    private MutableClock clock;
+    private ExpiringCache<String, String> cache;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock();
+        cache = new ExpiringCache<>(2, clock);
+    }
+
+    @Test
+    void get_expiresEntries() {
+        cache.put("key", "value", clock.millis() + 1000);
+        assertThat(cache.get("key")).isEqualTo("value");
+
+        clock.advance(Duration.ofSeconds(1));
+
+        assertThat(cache.get("key")).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void put_ignoresExpiredValues() {
+        cache.put("key", "value", clock.millis());
+
+        assertThat(cache.get("key")).isNull();
+    }
+
+    @Test
+    void put_evictsEntriesThatExpireFirst() {
+        cache.put("key1", "value1", clock.millis() + 3000);
+        cache.put("key2", "value2", clock.millis() + 1000);
+        cache.put("key3", "value3", clock.millis() + 2000);
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get("key1")).isEqualTo("value1");
+        assertThat(cache.get("key2")).isNull();
+        assertThat(cache.get("key3")).isEqualTo("value3");
+    }
+
+    @Test
+    void put_evictsOldestEntriesFirst() {
+        cache = new ExpiringCache<>(2, clock, ExpiringCache.Eviction.OLDEST);
+        cache.put("key1", "value1", clock.millis() + 3000);
+        clock.advance(Duration.ofMillis(1));
+        cache.put("key2", "value2", clock.millis() + 1000);
+        clock.advance(Duration.ofMillis(1));
+        cache.put("key3", "value3", clock.millis() + 2000);
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get("key1")).isNull();
+        assertThat(cache.get("key2")).isEqualTo("value2");
+        assertThat(cache.get("key3")).isEqualTo("value3");
+    }
+
+    @Test
+    void put_evictsExpiredEntriesBeforeOldest() {
+        cache = new ExpiringCache<>(2, clock, ExpiringCache.Eviction.OLDEST);
+        cache.put("key1", "value1", Long.MAX_VALUE);
+        cache.put("key2", "value2", clock.millis() + 1000);
+        clock.advance(Duration.ofSeconds(1));
+        cache.put("key3", "value3", Long.MAX_VALUE);
+
+        assertThat(cache.get("key1")).isEqualTo("value1");
+        assertThat(cache.get("key3")).isEqualTo("value3");
+    }
+
+    @Test
+    void getEntry_returnsTimeOfCaching() {
+        var createdAt = clock.millis();
+        cache.put("key", "value", createdAt + 1000);
+        clock.advance(Duration.ofMillis(500));
+
+        var entry = cache.getEntry("key");
+
+        assertThat(entry).isNotNull();
+        assertThat(entry.getValue()).isEqualTo("value");
+        assertThat(entry.getCreatedAt()).isEqualTo(createdAt);
+        assertThat(entry.getExpiresAt()).isEqualTo(createdAt + 1000);
+    }
+
+    @Test
+    void remove() {
+        cache.put("key", "value", Long.MAX_VALUE);
+
+        cache.remove("key");
+
+        assertThat(cache.get("key")).isNull();
+        assertThat(cache.size()).isZero();
+    }
+}
@@ -21,7 +21,10 @@ plugins {
 
 dependencies {
     api(project(":spi"))
+    implementation(project(":common:util"))
     api("org.slf4j:slf4j-api:${slf4jVersion}")
+
+    testImplementation(testFixtures(project(":common:util")))
 }
 
 publishing {
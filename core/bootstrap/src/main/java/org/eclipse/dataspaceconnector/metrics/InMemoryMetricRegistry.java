@@ -0,0 +1,232 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.metrics;
+
+import org.eclipse.dataspaceconnector.spi.EdcException;
+import org.eclipse.dataspaceconnector.spi.metrics.Counter;
+import org.eclipse.dataspaceconnector.spi.metrics.Gauge;
+import org.eclipse.dataspaceconnector.spi.metrics.Histogram;
+import org.eclipse.dataspaceconnector.spi.metrics.Meter;
+import org.eclipse.dataspaceconnector.spi.metrics.MetricRegistry;
+import org.eclipse.dataspaceconnector.spi.metrics.Timer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+import static java.lang.String.format;
+
+/**
+ * Keeps meters in memory. Updates are lock-free and cheap enough for hot paths: counters and buckets are
+ * {@link LongAdder}s, and bucket lookup is a binary search over the bounds.
+ */
+public class InMemoryMetricRegistry implements MetricRegistry {
+
+    /**
+     * Default timer buckets, from 1 ms to 10 s.
+     */
+    static final long[] DEFAULT_TIMER_BOUNDS = Arrays.stream(new long[]{ 1, 5, 10, 25, 50, 100, 250, 500, 1000, 2500, 5000, 10000 })
+            .map(TimeUnit.MILLISECONDS::toNanos).toArray();
+
+    private static final Pattern NAME_PATTERN = Pattern.compile("[a-zA-Z_:][a-zA-Z0-9_:]*");
+
+    private final Map<MeterId, Meter> meters = new ConcurrentHashMap<>();
+
+    @Override
+    public Counter counter(String name, Map<String, String> labels) {
+        return register(name, labels, Counter.class, CounterImpl::new);
+    }
+
+    @Override
+    public Timer timer(String name, Map<String, String> labels) {
+        return register(name, labels, Timer.class, id -> new TimerImpl(id, DEFAULT_TIMER_BOUNDS));
+    }
+
+    @Override
+    public Histogram histogram(String name, Map<String, String> labels, long... bucketBounds) {
+        for (int i = 1; i < bucketBounds.length; i++) {
+            if (bucketBounds[i] <= bucketBounds[i - 1]) {
+                throw new IllegalArgumentException("Bucket bounds must be ascending: " + Arrays.toString(bucketBounds));
+            }
+        }
+        return register(name, labels, Histogram.class, id -> new HistogramImpl(id, bucketBounds.clone()));
+    }
+
+    @Override
+    public Gauge gauge(String name, Map<String, String> labels, Supplier<? extends Number> value) {
+        return register(name, labels, Gauge.class, id -> new GaugeImpl(id, value));
+    }
+
+    @Override
+    public Collection<Meter> getMeters() {
+        return new ArrayList<>(meters.values());
+    }
+
+    private <M extends Meter> M register(String name, Map<String, String> labels, Class<M> type, Function<MeterId, M> factory) {
+        var id = new MeterId(name, Map.copyOf(labels));
+        var meter = meters.get(id);
+        if (meter == null) {
+            if (!NAME_PATTERN.matcher(name).matches()) {
+                throw new EdcException("Invalid metric name: " + name);
+            }
+            meter = meters.computeIfAbsent(id, factory::apply);
+        }
+        if (!type.isInstance(meter) || (type == Histogram.class && meter instanceof Timer)) {
+            throw new EdcException(format("Metric %s is already registered as %s", name, meter.getClass().getSimpleName()));
+        }
+        return type.cast(meter);
+    }
+
+    private static class MeterId {
+        private final String name;
+        private final Map<String, String> labels;
+
+        MeterId(String name, Map<String, String> labels) {
+            this.name = name;
+            this.labels = labels;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            MeterId that = (MeterId) o;
+            return name.equals(that.name) && labels.equals(that.labels);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, labels);
+        }
+    }
+
+    private abstract static class AbstractMeter implements Meter {
+        private final MeterId id;
+
+        AbstractMeter(MeterId id) {
+            this.id = id;
+        }
+
+        @Override
+        public String getName() {
+            return id.name;
+        }
+
+        @Override
+        public Map<String, String> getLabels() {
+            return id.labels;
+        }
+    }
+
+    private static class CounterImpl extends AbstractMeter implements Counter {
+        private final LongAdder count = new LongAdder();
+
+        CounterImpl(MeterId id) {
+            super(id);
+        }
+
+        @Override
+        public void increment(long amount) {
+            count.add(amount);
+        }
+
+        @Override
+        public long getCount() {
+            return count.sum();
+        }
+    }
+
+    private static class GaugeImpl extends AbstractMeter implements Gauge {
+        private final Supplier<? extends Number> value;
+
+        GaugeImpl(MeterId id, Supplier<? extends Number> value) {
+            super(id);
+            this.value = value;
+        }
+
+        @Override
+        public double getValue() {
+            var number = value.get();
+            return number != null ? number.doubleValue() : Double.NaN;
+        }
+    }
+
+    private static class HistogramImpl extends AbstractMeter implements Histogram {
+        private final long[] bounds;
+        private final LongAdder[] buckets;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder sum = new LongAdder();
+
+        HistogramImpl(MeterId id, long[] bounds) {
+            super(id);
+            this.bounds = bounds;
+            buckets = new LongAdder[bounds.length];
+            for (int i = 0; i < buckets.length; i++) {
+                buckets[i] = new LongAdder();
+            }
+        }
+
+        @Override
+        public void record(long value) {
+            var index = Arrays.binarySearch(bounds, value);
+            if (index < 0) {
+                index = -index - 1;
+            }
+            if (index < buckets.length) {
+                buckets[index].increment();
+            }
+            count.increment();
+            sum.add(value);
+        }
+
+        @Override
+        public long getCount() {
+            return count.sum();
+        }
+
+        @Override
+        public long getSum() {
+            return sum.sum();
+        }
+
+        @Override
+        public long[] getBucketBounds() {
+            return bounds.clone();
+        }
+
+        @Override
+        public long[] getBucketCounts() {
+            return Arrays.stream(buckets).mapToLong(LongAdder::sum).toArray();
+        }
+    }
+
+    private static class TimerImpl extends HistogramImpl implements Timer {
+        TimerImpl(MeterId id, long[] bounds) {
+            super(id, bounds);
+        }
+    }
+}
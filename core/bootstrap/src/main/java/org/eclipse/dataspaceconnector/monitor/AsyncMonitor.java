@@ -0,0 +1,258 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.monitor;
+
+import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
+import org.eclipse.dataspaceconnector.spi.monitor.MonitorFields;
+
+import java.io.BufferedOutputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Monitor that hands messages to a single writer thread through a bounded buffer, so that callers do not contend on
+ * the console. The writer drains the buffer in batches and flushes the output once per batch. The output format is the
+ * same as that of the {@link ConsoleMonitor}; structured fields are rendered by the writer thread.
+ * <p>
+ * When the buffer is full, messages are either dropped or the caller blocks until there is room, depending on the
+ * {@link OverflowPolicy}. Severe messages are never dropped. The number of dropped messages is reported on the output
+ * and through {@link #getDroppedCount()}.
+ * <p>
+ * Once {@link #close() closed}, the remaining messages are written and subsequent messages are written on the calling thread.
+ */
+public class AsyncMonitor implements Monitor, AutoCloseable {
+    public static final int DEFAULT_CAPACITY = 8192;
+    public static final int DEFAULT_BATCH_SIZE = 256;
+
+    private static final long CLOSE_TIMEOUT_MILLIS = 5000;
+    private static final Entry POISON = new Entry(null, 0, null, null, null);
+
+    private final BlockingQueue<Entry> buffer;
+    private final PrintStream out;
+    private final ConsoleMonitor.Level level;
+    private final OverflowPolicy overflowPolicy;
+    private final int batchSize;
+    private final AtomicLong dropped = new AtomicLong();
+    private final Thread writer;
+    private final DateTimeFormatter timeFormatter = DateTimeFormatter.ISO_LOCAL_DATE_TIME.withZone(ZoneId.systemDefault());
+
+    private volatile boolean closed;
+    private long droppedReported;
+
+    public enum OverflowPolicy {
+        /**
+         * Discard the message and count it as dropped.
+         */
+        DROP,
+        /**
+         * Block the caller until the writer has made room.
+         */
+        BLOCK
+    }
+
+    public AsyncMonitor(ConsoleMonitor.Level level, int capacity, OverflowPolicy overflowPolicy) {
+        this(System.out, level, capacity, DEFAULT_BATCH_SIZE, overflowPolicy);
+    }
+
+    public AsyncMonitor(OutputStream out, ConsoleMonitor.Level level, int capacity, int batchSize, OverflowPolicy overflowPolicy) {
+        this.out = new PrintStream(new BufferedOutputStream(out, 64 * 1024), false);
+        this.level = level;
+        this.buffer = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.overflowPolicy = overflowPolicy;
+        writer = new Thread(this::drain, "async-monitor");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @Override
+    public void severe(Supplier<String> supplier, Throwable... errors) {
+        enqueue(ConsoleMonitor.Level.SEVERE, supplier.get(), null, errors);
+    }
+
+    @Override
+    public void severe(String message, Map<String, Object> fields, Throwable... errors) {
+        enqueue(ConsoleMonitor.Level.SEVERE, message, fields, errors);
+    }
+
+    @Override
+    public void warning(Supplier<String> supplier, Throwable... errors) {
+        if (isEnabled(ConsoleMonitor.Level.WARNING)) {
+            enqueue(ConsoleMonitor.Level.WARNING, supplier.get(), null, errors);
+        }
+    }
+
+    @Override
+    public void warning(String message, Map<String, Object> fields, Throwable... errors) {
+        if (isEnabled(ConsoleMonitor.Level.WARNING)) {
+            enqueue(ConsoleMonitor.Level.WARNING, message, fields, errors);
+        }
+    }
+
+    @Override
+    public void info(Supplier<String> supplier, Throwable... errors) {
+        if (isEnabled(ConsoleMonitor.Level.INFO)) {
+            enqueue(ConsoleMonitor.Level.INFO, supplier.get(), null, errors);
+        }
+    }
+
+    @Override
+    public void info(String message, Map<String, Object> fields, Throwable... errors) {
+        if (isEnabled(ConsoleMonitor.Level.INFO)) {
+            enqueue(ConsoleMonitor.Level.INFO, message, fields, errors);
+        }
+    }
+
+    @Override
+    public void debug(Supplier<String> supplier, Throwable... errors) {
+        if (isEnabled(ConsoleMonitor.Level.DEBUG)) {
+            enqueue(ConsoleMonitor.Level.DEBUG, supplier.get(), null, errors);
+        }
+    }
+
+    @Override
+    public void debug(String message, Map<String, Object> fields, Throwable... errors) {
+        if (isEnabled(ConsoleMonitor.Level.DEBUG)) {
+            enqueue(ConsoleMonitor.Level.DEBUG, message, fields, errors);
+        }
+    }
+
+    /**
+     * Returns the number of messages dropped because the buffer was full.
+     */
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    /**
+     * Writes all buffered messages and stops the writer thread.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            buffer.put(POISON);
+            writer.join(CLOSE_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private boolean isEnabled(ConsoleMonitor.Level messageLevel) {
+        return messageLevel.value >= level.value;
+    }
+
+    private void enqueue(ConsoleMonitor.Level messageLevel, String message, Map<String, Object> fields, Throwable[] errors) {
+        var entry = new Entry(messageLevel, System.currentTimeMillis(), message, fields, errors);
+        if (closed) {
+            synchronized (out) {
+                write(entry);
+                out.flush();
+            }
+            return;
+        }
+        if (overflowPolicy == OverflowPolicy.BLOCK || messageLevel == ConsoleMonitor.Level.SEVERE) {
+            try {
+                buffer.put(entry);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                dropped.incrementAndGet();
+            }
+        } else if (!buffer.offer(entry)) {
+            dropped.incrementAndGet();
+        }
+    }
+
+    private void drain() {
+        List<Entry> batch = new ArrayList<>(batchSize);
+        var running = true;
+        while (running) {
+            try {
+                batch.add(buffer.take());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            buffer.drainTo(batch, batchSize - 1);
+            synchronized (out) {
+                for (Entry entry : batch) {
+                    if (entry == POISON) {
+                        running = false;
+                    } else {
+                        write(entry);
+                    }
+                }
+                reportDropped();
+                out.flush();
+            }
+            batch.clear();
+        }
+        // messages enqueued concurrently with close
+        synchronized (out) {
+            buffer.drainTo(batch);
+            batch.forEach(this::write);
+            out.flush();
+        }
+    }
+
+    private void reportDropped() {
+        var count = dropped.get();
+        if (count > droppedReported) {
+            write(new Entry(ConsoleMonitor.Level.WARNING, System.currentTimeMillis(),
+                    String.format("Monitor buffer full, dropped %s messages", count - droppedReported), null, null));
+            droppedReported = count;
+        }
+    }
+
+    private void write(Entry entry) {
+        out.println(entry.level.name() + " " + timeFormatter.format(Instant.ofEpochMilli(entry.timestamp)) + " " + MonitorFields.render(entry.message, entry.fields));
+        if (entry.errors != null) {
+            for (Throwable error : entry.errors) {
+                if (error != null) {
+                    error.printStackTrace(out);
+                }
+            }
+        }
+    }
+
+    private static class Entry {
+        private final ConsoleMonitor.Level level;
+        private final long timestamp;
+        private final String message;
+        private final Map<String, Object> fields;
+        private final Throwable[] errors;
+
+        Entry(ConsoleMonitor.Level level, long timestamp, String message, Map<String, Object> fields, Throwable[] errors) {
+            this.level = level;
+            this.timestamp = timestamp;
+            this.message = message;
+            this.fields = fields;
+            this.errors = errors;
+        }
+    }
+}
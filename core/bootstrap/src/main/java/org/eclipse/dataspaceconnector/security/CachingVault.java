@@ -0,0 +1,114 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.security;
+
+import org.eclipse.dataspaceconnector.common.cache.ExpiringCache;
+import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
+import org.eclipse.dataspaceconnector.spi.security.Vault;
+import org.eclipse.dataspaceconnector.spi.security.VaultListener;
+import org.eclipse.dataspaceconnector.spi.security.VaultResponse;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * Read-through cache in front of another {@link Vault}.
+ * <br/>
+ * Secrets are served from memory until their time-to-live elapses. Writes and deletes go through to the backing vault and
+ * update the cache, and changes reported by the backing vault invalidate the cached secret. If the backing vault fails
+ * while an expired secret is being refreshed, e.g. because it is throttled, the expired secret is served instead of
+ * failing the caller, unless the secret was stored with an expiry that has passed. Missing secrets are not cached.
+ */
+public class CachingVault implements Vault {
+    private final Vault delegate;
+    private final long timeToLiveMillis;
+    private final Clock clock;
+    private final Monitor monitor;
+
+    private final ExpiringCache<String, String> entries;
+
+    public CachingVault(Vault delegate, Duration timeToLive, int maxEntries, Clock clock, Monitor monitor) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate");
+        this.timeToLiveMillis = Objects.requireNonNull(timeToLive, "timeToLive").toMillis();
+        this.clock = Objects.requireNonNull(clock, "clock");
+        this.monitor = Objects.requireNonNull(monitor, "monitor");
+        // evict the least recently loaded secrets
+        entries = new ExpiringCache<>(maxEntries, clock, ExpiringCache.Eviction.OLDEST);
+        delegate.registerListener(entries::remove);
+    }
+
+    @Override
+    public @Nullable String resolveSecret(String key) {
+        var entry = entries.getEntry(key);
+        if (entry != null && clock.millis() - entry.getCreatedAt() < timeToLiveMillis) {
+            return entry.getValue();
+        }
+
+        String value;
+        try {
+            value = delegate.resolveSecret(key);
+        } catch (RuntimeException e) {
+            if (entry == null) {
+                throw e;
+            }
+            monitor.warning(String.format("Vault unavailable, serving expired secret %s: %s", key, e.getMessage()));
+            return entry.getValue();
+        }
+
+        if (value == null) {
+            entries.remove(key);
+        } else {
+            // an unchanged secret keeps the expiry it was stored with
+            entries.put(key, value, entry != null && entry.getValue().equals(value) ? entry.getExpiresAt() : Long.MAX_VALUE);
+        }
+        return value;
+    }
+
+    @Override
+    public VaultResponse storeSecret(String key, String value) {
+        return storeSecret(key, value, null);
+    }
+
+    @Override
+    public VaultResponse storeSecret(String key, String value, @Nullable Instant expiresAt) {
+        var response = delegate.storeSecret(key, value, expiresAt);
+        if (response.success()) {
+            entries.put(key, value, expiresAt != null ? expiresAt.toEpochMilli() : Long.MAX_VALUE);
+        } else {
+            entries.remove(key);
+        }
+        return response;
+    }
+
+    @Override
+    public VaultResponse deleteSecret(String key) {
+        var response = delegate.deleteSecret(key);
+        entries.remove(key);
+        return response;
+    }
+
+    @Override
+    public void registerListener(VaultListener listener) {
+        delegate.registerListener(listener);
+    }
+
+    @Override
+    public void unregisterListener(VaultListener listener) {
+        delegate.unregisterListener(listener);
+    }
+}
@@ -4,45 +4,90 @@ import org.eclipse.dataspaceconnector.spi.EdcException;
 import org.eclipse.dataspaceconnector.spi.security.KeyParser;
 import org.eclipse.dataspaceconnector.spi.security.PrivateKeyResolver;
 import org.eclipse.dataspaceconnector.spi.security.Vault;
+import org.eclipse.dataspaceconnector.spi.security.VaultListener;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.ArrayList;
+import java.time.Clock;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 
-public class VaultPrivateKeyResolver implements PrivateKeyResolver {
-
+/**
+ * Resolves private keys from a {@link Vault} and caches the parsed keys per id and key type.
+ * <br/>
+ * Cached keys are invalidated when the vault reports a change of the underlying secret, and expire after a
+ * time-to-live so that keys rotated outside of the runtime, which not every vault can observe, are eventually picked up.
+ */
+public class VaultPrivateKeyResolver implements PrivateKeyResolver, VaultListener {
+    public static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofMinutes(5);
 
     private final Vault vault;
     private final List<KeyParser<?>> parsers;
+    private final long timeToLiveMillis;
+    private final Clock clock;
+
+    private final Map<CacheKey, CachedKey> keys = new ConcurrentHashMap<>();
+    private final Map<Class<?>, KeyParser<?>> parserCache = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
 
     public VaultPrivateKeyResolver(Vault vault, KeyParser<?>... parsers) {
-        this.vault = vault;
-        this.parsers = Arrays.asList(parsers);
+        this(vault, DEFAULT_TIME_TO_LIVE, Clock.systemUTC(), parsers);
     }
 
     public VaultPrivateKeyResolver(Vault vault) {
-        // can't use this(vault) here because properties are final
-        this.vault = vault;
-        parsers = new ArrayList<>();
+        this(vault, DEFAULT_TIME_TO_LIVE, Clock.systemUTC());
+    }
+
+    public VaultPrivateKeyResolver(Vault vault, Duration timeToLive, Clock clock, KeyParser<?>... parsers) {
+        this.vault = Objects.requireNonNull(vault, "vault");
+        this.parsers = new CopyOnWriteArrayList<>(Arrays.asList(parsers));
+        this.timeToLiveMillis = Objects.requireNonNull(timeToLive, "timeToLive").toMillis();
+        this.clock = Objects.requireNonNull(clock, "clock");
     }
 
     @Override
     public @Nullable <T> T resolvePrivateKey(String id, Class<T> keyType) {
+        var cacheKey = new CacheKey(id, keyType);
+        var cached = keys.get(cacheKey);
+        if (cached != null && clock.millis() < cached.expiresAt) {
+            return keyType.cast(cached.key);
+        }
+
+        // a change notification arriving while the secret is being resolved must not be overwritten by the stale key
+        var currentGeneration = generation.get();
         var encodedKey = vault.resolveSecret(id);
 
         if (encodedKey == null) {
+            keys.remove(cacheKey);
             return null;
         }
 
-        return keyType.cast(getParser(keyType).parse(encodedKey));
+        var key = keyType.cast(getParser(keyType).parse(encodedKey));
+        if (key != null && generation.get() == currentGeneration) {
+            keys.put(cacheKey, new CachedKey(key, clock.millis() + timeToLiveMillis));
+        }
+        return key;
+    }
+
+    /**
+     * Removes all cached keys parsed from the changed secret.
+     */
+    @Override
+    public void secretChanged(String id) {
+        generation.incrementAndGet();
+        keys.keySet().removeIf(k -> k.id.equals(id));
     }
 
     @Override
     public <T> void addParser(KeyParser<T> parser) {
         parsers.add(parser);
+        parserCache.clear();
     }
 
     @Override
@@ -62,11 +107,49 @@ public class VaultPrivateKeyResolver implements PrivateKeyResolver {
         addParser(p);
     }
 
+    @SuppressWarnings("unchecked")
     private <T> KeyParser<T> getParser(Class<T> keytype) {
-        return (KeyParser<T>) parsers.stream().filter(p -> p.canParse(keytype))
+        return (KeyParser<T>) parserCache.computeIfAbsent(keytype, t -> parsers.stream().filter(p -> p.canParse(t))
                 .findFirst().orElseThrow(() -> {
-                            throw new EdcException("Cannot find KeyParser for type " + keytype);
+                            throw new EdcException("Cannot find KeyParser for type " + t);
                         }
-                );
+                ));
+    }
+
+    private static class CacheKey {
+        private final String id;
+        private final Class<?> keyType;
+
+        CacheKey(String id, Class<?> keyType) {
+            this.id = id;
+            this.keyType = keyType;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            CacheKey that = (CacheKey) o;
+            return id.equals(that.id) && keyType.equals(that.keyType);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(id, keyType);
+        }
+    }
+
+    private static class CachedKey {
+        private final Object key;
+        private final long expiresAt;
+
+        CachedKey(Object key, long expiresAt) {
+            this.key = key;
+            this.expiresAt = expiresAt;
+        }
     }
 }
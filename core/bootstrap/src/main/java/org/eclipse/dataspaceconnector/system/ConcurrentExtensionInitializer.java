@@ -0,0 +1,97 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.system;
+
+import org.eclipse.dataspaceconnector.spi.EdcException;
+import org.eclipse.dataspaceconnector.spi.system.ServiceExtension;
+import org.eclipse.dataspaceconnector.spi.system.ServiceExtensionContext;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.eclipse.dataspaceconnector.spi.system.ServiceExtension.LoadPhase.PRIMORDIAL;
+
+/**
+ * Initializes service extensions concurrently, following the dependency graph given by their {@link ServiceExtension#provides()}
+ * and {@link ServiceExtension#requires()} features: an extension is initialized as soon as all extensions providing a feature it
+ * requires are initialized. {@link ServiceExtension.LoadPhase#DEFAULT} extensions are initialized only after all
+ * {@link ServiceExtension.LoadPhase#PRIMORDIAL} extensions.
+ * <p>
+ * Extensions must be passed in topological order, as returned by {@link ServiceExtensionContext#loadServiceExtensions()}.
+ * Extensions that use services registered by other extensions without declaring the corresponding feature must not be
+ * initialized concurrently.
+ */
+class ConcurrentExtensionInitializer {
+    private final int threads;
+
+    ConcurrentExtensionInitializer(int threads) {
+        this.threads = threads;
+    }
+
+    /**
+     * Initializes the extensions and blocks until all are initialized or one of them failed.
+     *
+     * @param extensions  the extensions in topological order
+     * @param initializer initializes a single extension
+     */
+    void initialize(List<ServiceExtension> extensions, Consumer<ServiceExtension> initializer) {
+        var counter = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+            var thread = new Thread(runnable, "extension-init-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            Map<String, List<CompletableFuture<Void>>> providers = new HashMap<>();
+            List<CompletableFuture<Void>> primordial = new ArrayList<>();
+            List<CompletableFuture<Void>> all = new ArrayList<>();
+
+            for (ServiceExtension extension : extensions) {
+                List<CompletableFuture<Void>> dependencies = new ArrayList<>();
+                extension.requires().forEach(feature -> dependencies.addAll(providers.getOrDefault(feature, List.of())));
+                if (extension.phase() != PRIMORDIAL) {
+                    dependencies.addAll(primordial);
+                }
+
+                var future = CompletableFuture.allOf(dependencies.toArray(CompletableFuture[]::new))
+                        .thenRunAsync(() -> initializer.accept(extension), executor);
+
+                extension.provides().forEach(feature -> providers.computeIfAbsent(feature, k -> new ArrayList<>()).add(future));
+                if (extension.phase() == PRIMORDIAL) {
+                    primordial.add(future);
+                }
+                all.add(future);
+            }
+
+            CompletableFuture.allOf(all.toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            var cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new EdcException(cause);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
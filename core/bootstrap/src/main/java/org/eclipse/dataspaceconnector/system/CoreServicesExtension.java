@@ -16,8 +16,10 @@ package org.eclipse.dataspaceconnector.system;
 
 import net.jodah.failsafe.RetryPolicy;
 import okhttp3.OkHttpClient;
+import org.eclipse.dataspaceconnector.metrics.InMemoryMetricRegistry;
 import org.eclipse.dataspaceconnector.spi.EdcException;
 import org.eclipse.dataspaceconnector.spi.EdcSetting;
+import org.eclipse.dataspaceconnector.spi.metrics.MetricRegistry;
 import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
 import org.eclipse.dataspaceconnector.spi.security.PrivateKeyResolver;
 import org.eclipse.dataspaceconnector.spi.system.ServiceExtension;
@@ -51,7 +53,7 @@ public class CoreServicesExtension implements ServiceExtension {
     public Set<String> provides() {
         // the PrivateKeyResolver.FEATURE is not required because it gets registered directly by the
         // ExtensionLoader.
-        return Set.of(FEATURE_HTTP_CLIENT, FEATURE_RETRY_POLICY);
+        return Set.of(FEATURE_HTTP_CLIENT, FEATURE_RETRY_POLICY, MetricRegistry.FEATURE);
     }
 
     @Override
@@ -65,6 +67,7 @@ public class CoreServicesExtension implements ServiceExtension {
         addHttpClient(context);
         addRetryPolicy(context);
         registerParser(context);
+        context.registerService(MetricRegistry.class, new InMemoryMetricRegistry());
         monitor.info("Initialized Core Services extension.");
     }
 
@@ -83,9 +86,10 @@ public class CoreServicesExtension implements ServiceExtension {
 
     private void addRetryPolicy(ServiceExtensionContext context) {
 
-        var maxRetries = Integer.parseInt(context.getSetting(MAX_RETRIES, String.valueOf(5)));
-        var minBackoff = Integer.parseInt(context.getSetting(BACKOFF_MIN_MILLIS, String.valueOf(500)));
-        var maxBackoff = Integer.parseInt(context.getSetting(BACKOFF_MAX_MILLIS, String.valueOf(10_000)));
+        var config = context.getConfig();
+        var maxRetries = config.getInteger(MAX_RETRIES, 5);
+        var minBackoff = config.getLong(BACKOFF_MIN_MILLIS, 500);
+        var maxBackoff = config.getLong(BACKOFF_MAX_MILLIS, 10_000);
 
         var retryPolicy = new RetryPolicy<>()
                 .withMaxRetries(maxRetries)
@@ -15,8 +15,11 @@
 package org.eclipse.dataspaceconnector.system;
 
 import org.eclipse.dataspaceconnector.spi.EdcException;
+import org.eclipse.dataspaceconnector.spi.EdcSetting;
 import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
+import org.eclipse.dataspaceconnector.spi.system.Config;
 import org.eclipse.dataspaceconnector.spi.system.ConfigurationExtension;
+import org.eclipse.dataspaceconnector.spi.system.ConfigurationListener;
 import org.eclipse.dataspaceconnector.spi.system.ServiceExtension;
 import org.eclipse.dataspaceconnector.spi.system.ServiceExtensionContext;
 import org.eclipse.dataspaceconnector.spi.types.TypeManager;
@@ -25,10 +28,17 @@ import org.eclipse.dataspaceconnector.util.TopologicalSort;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import static java.lang.String.format;
@@ -39,14 +49,26 @@ import static org.eclipse.dataspaceconnector.spi.system.ServiceExtension.LoadPha
 /**
  * Base service extension context.
  * <p>Prior to using, {@link #initialize()} must be called.</p>
+ * <p>Settings are resolved from configuration extensions, VM properties and env variables, in that order. Resolved
+ * settings are cached, and the settings the sources enumerate are merged with the same precedence into an immutable
+ * {@link Config} snapshot. If {@link #CONFIG_RELOAD_PERIOD} is set, both are rebuilt periodically and registered
+ * {@link ConfigurationListener}s are notified of changed settings; {@link #shutdown()} stops the reloading.</p>
  */
 public class DefaultServiceExtensionContext implements ServiceExtensionContext {
+    @EdcSetting
+    public static final String CONFIG_RELOAD_PERIOD = "edc.config.reload.period";
+
     private final Monitor monitor;
     private final TypeManager typeManager;
 
-    private final Map<Class<?>, Object> services = new HashMap<>();
+    // synchronized since extensions may be initialized concurrently
+    private final Map<Class<?>, Object> services = Collections.synchronizedMap(new HashMap<>());
     private final ServiceLocator serviceLocator;
-    private List<ConfigurationExtension> configurationExtensions;
+    private final Map<String, List<ConfigurationListener>> configurationListeners = new ConcurrentHashMap<>();
+    private List<ConfigurationExtension> configurationExtensions = List.of();
+    private volatile Config config;
+    private volatile Map<String, Optional<String>> settings = new ConcurrentHashMap<>();
+    private ScheduledExecutorService reloadScheduler;
     private String connectorId;
 
     public DefaultServiceExtensionContext(TypeManager typeManager, Monitor monitor) {
@@ -60,6 +82,7 @@ public class DefaultServiceExtensionContext implements ServiceExtensionContext {
         // register as services
         services.put(TypeManager.class, typeManager);
         services.put(Monitor.class, monitor);
+        config = loadConfig();
     }
 
     @Override
@@ -79,23 +102,52 @@ public class DefaultServiceExtensionContext implements ServiceExtensionContext {
 
     /**
      * Attempts to resolve the setting by delegating to configuration extensions, VM properties, and then env variables, in that order; otherwise
-     * the default value is returned.
+     * the default value is returned. The outcome of the lookup is cached until the configuration is reloaded.
      */
     @Override
     public String getSetting(String key, String defaultValue) {
-        String value;
+        return settings.computeIfAbsent(key, this::resolveSetting).orElse(defaultValue);
+    }
+
+    @Override
+    public Config getConfig(String path) {
+        return config.getConfig(path);
+    }
+
+    @Override
+    public void registerConfigurationListener(String keyPrefix, ConfigurationListener listener) {
+        configurationListeners.computeIfAbsent(keyPrefix, k -> new CopyOnWriteArrayList<>()).add(listener);
+    }
+
+    /**
+     * Reloads all configuration extensions, replaces the configuration snapshot and notifies listeners of changed settings.
+     */
+    public synchronized void reloadConfiguration() {
         for (ConfigurationExtension extension : configurationExtensions) {
-            value = extension.getSetting(key);
-            if (value != null) {
-                return value;
+            try {
+                extension.reload();
+            } catch (RuntimeException e) {
+                monitor.severe("Error reloading configuration from " + extension.getClass().getName(), e);
             }
         }
-        value = System.getProperty(key);
-        if (value != null) {
-            return value;
-        }
-        value = System.getenv(key);
-        return value != null ? value : defaultValue;
+        var previous = config.getEntries();
+        config = loadConfig();
+        settings = new ConcurrentHashMap<>();
+        var current = config.getEntries();
+
+        Set<String> changed = new HashSet<>();
+        current.forEach((key, value) -> {
+            if (!value.equals(previous.get(key))) {
+                changed.add(key);
+            }
+        });
+        previous.keySet().stream().filter(key -> !current.containsKey(key)).forEach(changed::add);
+
+        changed.forEach(key -> configurationListeners.forEach((prefix, listeners) -> {
+            if (key.startsWith(prefix)) {
+                listeners.forEach(listener -> notifyListener(listener, key, current.get(key)));
+            }
+        }));
     }
 
     @Override
@@ -154,7 +206,60 @@ public class DefaultServiceExtensionContext implements ServiceExtensionContext {
     public void initialize() {
         configurationExtensions = loadExtensions(ConfigurationExtension.class, false);
         configurationExtensions.forEach(ext -> ext.initialize(monitor));
+        config = loadConfig();
+        settings = new ConcurrentHashMap<>();
         connectorId = getSetting("edc.connector.name", "edc-" + UUID.randomUUID());
+
+        var reloadPeriod = config.getLong(CONFIG_RELOAD_PERIOD, 0);
+        if (reloadPeriod > 0) {
+            reloadScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                var thread = new Thread(runnable, "config-reload");
+                thread.setDaemon(true);
+                return thread;
+            });
+            reloadScheduler.scheduleWithFixedDelay(this::reloadConfiguration, reloadPeriod, reloadPeriod, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Stops reloading the configuration. Called when the runtime shuts down.
+     */
+    public void shutdown() {
+        if (reloadScheduler != null) {
+            reloadScheduler.shutdownNow();
+        }
+    }
+
+    private Optional<String> resolveSetting(String key) {
+        for (ConfigurationExtension extension : configurationExtensions) {
+            var value = extension.getSetting(key);
+            if (value != null) {
+                return Optional.of(value);
+            }
+        }
+        var value = System.getProperty(key);
+        if (value != null) {
+            return Optional.of(value);
+        }
+        return Optional.ofNullable(System.getenv(key));
+    }
+
+    private Config loadConfig() {
+        Map<String, String> entries = new HashMap<>(System.getenv());
+        System.getProperties().stringPropertyNames().forEach(name -> entries.put(name, System.getProperty(name)));
+        // the first configuration extension takes precedence
+        for (int i = configurationExtensions.size() - 1; i >= 0; i--) {
+            entries.putAll(configurationExtensions.get(i).getEntries());
+        }
+        return new Config(entries);
+    }
+
+    private void notifyListener(ConfigurationListener listener, String key, String value) {
+        try {
+            listener.settingChanged(key, value);
+        } catch (RuntimeException e) {
+            monitor.severe("Error applying changed setting " + key, e);
+        }
     }
 
     private void sortExtensions(List<ServiceExtension> extensions, Set<String> loadedExtensions) {
@@ -14,34 +14,119 @@
 
 package org.eclipse.dataspaceconnector.system;
 
+import org.eclipse.dataspaceconnector.monitor.AsyncMonitor;
 import org.eclipse.dataspaceconnector.monitor.ConsoleMonitor;
+import org.eclipse.dataspaceconnector.security.CachingVault;
 import org.eclipse.dataspaceconnector.security.NullVaultExtension;
+import org.eclipse.dataspaceconnector.spi.EdcException;
+import org.eclipse.dataspaceconnector.spi.EdcSetting;
 import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
 import org.eclipse.dataspaceconnector.spi.monitor.MultiplexingMonitor;
 import org.eclipse.dataspaceconnector.spi.security.CertificateResolver;
 import org.eclipse.dataspaceconnector.spi.security.PrivateKeyResolver;
 import org.eclipse.dataspaceconnector.spi.security.Vault;
+import org.eclipse.dataspaceconnector.spi.security.VaultListener;
 import org.eclipse.dataspaceconnector.spi.system.MonitorExtension;
 import org.eclipse.dataspaceconnector.spi.system.ServiceExtension;
 import org.eclipse.dataspaceconnector.spi.system.ServiceExtensionContext;
 import org.eclipse.dataspaceconnector.spi.system.VaultExtension;
 import org.jetbrains.annotations.NotNull;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
+import static java.lang.String.format;
+
 public class ExtensionLoader {
 
+    @EdcSetting
+    public static final String VAULT_CACHE_TTL = "edc.vault.cache.ttl";
+
+    @EdcSetting
+    public static final String VAULT_CACHE_SIZE = "edc.vault.cache.size";
+
+    /**
+     * Initialize service extensions concurrently along their dependencies, see {@link ConcurrentExtensionInitializer}.
+     */
+    @EdcSetting
+    public static final String BOOT_PARALLEL = "edc.boot.parallel";
+
+    @EdcSetting
+    public static final String BOOT_THREADS = "edc.boot.threads";
+
+    /**
+     * Use an {@link AsyncMonitor} if no monitor extension is present. The monitor is created before the configuration
+     * is loaded, so the monitor settings are read from VM properties or env variables.
+     */
+    @EdcSetting
+    public static final String MONITOR_ASYNC = "edc.monitor.async";
+
+    @EdcSetting
+    public static final String MONITOR_ASYNC_CAPACITY = "edc.monitor.async.capacity";
+
+    @EdcSetting
+    public static final String MONITOR_ASYNC_POLICY = "edc.monitor.async.policy";
+
+    /**
+     * The minimum level of the console monitors, one of SEVERE, WARNING, INFO or DEBUG.
+     */
+    @EdcSetting
+    public static final String MONITOR_LEVEL = "edc.monitor.level";
+
+    private static final int SLOWEST_EXTENSIONS_REPORTED = 5;
+
     private ExtensionLoader() {
     }
 
     /**
-     * Convenience method for loading service extensions.
+     * Convenience method for loading service extensions. Extensions are initialized one after the other unless
+     * {@link #BOOT_PARALLEL} is set, and started one after the other in the given order. The time taken by each extension
+     * is reported to the monitor.
      */
     public static void bootServiceExtensions(List<ServiceExtension> serviceExtensions, ServiceExtensionContext context) {
-        serviceExtensions.forEach(extension -> extension.initialize(context));
-        serviceExtensions.forEach(ServiceExtension::start);
+        var monitor = context.getMonitor();
+        Map<ServiceExtension, Long> timings = new ConcurrentHashMap<>();
+        Consumer<ServiceExtension> initializer = extension -> {
+            var start = System.nanoTime();
+            extension.initialize(context);
+            var millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            timings.put(extension, millis);
+            monitor.debug(() -> format("Initialized %s in %s ms", extension.getClass().getName(), millis));
+        };
+
+        var start = System.nanoTime();
+        if (Boolean.parseBoolean(context.getSetting(BOOT_PARALLEL, "false"))) {
+            var threadsSetting = context.getSetting(BOOT_THREADS, null);
+            var threads = threadsSetting != null ? parseInt(BOOT_THREADS, threadsSetting) : Math.max(4, Runtime.getRuntime().availableProcessors());
+            if (threads < 1) {
+                throw new EdcException(format("Invalid value for %s: %s", BOOT_THREADS, threadsSetting));
+            }
+            new ConcurrentExtensionInitializer(threads).initialize(serviceExtensions, initializer);
+        } else {
+            serviceExtensions.forEach(initializer);
+        }
+        var initMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        var slowest = timings.entrySet().stream()
+                .sorted(Map.Entry.<ServiceExtension, Long>comparingByValue().reversed())
+                .limit(SLOWEST_EXTENSIONS_REPORTED)
+                .map(e -> format("%s %s ms", e.getKey().getClass().getSimpleName(), e.getValue()))
+                .collect(Collectors.joining(", "));
+        monitor.info(format("Initialized %s extensions in %s ms (slowest: %s)", serviceExtensions.size(), initMillis, slowest));
+
+        for (ServiceExtension extension : serviceExtensions) {
+            var extensionStart = System.nanoTime();
+            extension.start();
+            var millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - extensionStart);
+            monitor.debug(() -> format("Started %s in %s ms", extension.getClass().getName(), millis));
+        }
     }
 
     /**
@@ -55,11 +140,34 @@ public class ExtensionLoader {
         }
         vaultExtension.initialize(context.getMonitor());
         vaultExtension.intializeVault(context);
-        context.registerService(Vault.class, vaultExtension.getVault());
-        context.registerService(PrivateKeyResolver.class, vaultExtension.getPrivateKeyResolver());
+        var vault = cacheVault(vaultExtension.getVault(), context);
+        var privateKeyResolver = vaultExtension.getPrivateKeyResolver();
+        if (vault != null && privateKeyResolver instanceof VaultListener) {
+            // resolvers caching parsed keys must learn about rotated secrets
+            vault.registerListener((VaultListener) privateKeyResolver);
+        }
+        context.registerService(Vault.class, vault);
+        context.registerService(PrivateKeyResolver.class, privateKeyResolver);
         context.registerService(CertificateResolver.class, vaultExtension.getCertificateResolver());
     }
 
+    /**
+     * Puts a {@link CachingVault} in front of the vault if a cache time-to-live is configured.
+     */
+    private static Vault cacheVault(Vault vault, ServiceExtensionContext context) {
+        var ttlSetting = context.getSetting(VAULT_CACHE_TTL, null);
+        if (vault == null || ttlSetting == null) {
+            return vault;
+        }
+        var ttl = parseLong(VAULT_CACHE_TTL, ttlSetting);
+        if (ttl <= 0) {
+            return vault;
+        }
+        var size = parseInt(VAULT_CACHE_SIZE, context.getSetting(VAULT_CACHE_SIZE, "1000"));
+        context.getMonitor().info(format("Caching vault secrets for %s ms, at most %s entries", ttl, size));
+        return new CachingVault(vault, Duration.ofMillis(ttl), size, Clock.systemUTC(), context.getMonitor());
+    }
+
     public static @NotNull Monitor loadMonitor() {
         var loader = ServiceLoader.load(MonitorExtension.class);
         return loadMonitor(loader.stream().map(ServiceLoader.Provider::get).collect(Collectors.toList()));
@@ -69,7 +177,13 @@ public class ExtensionLoader {
 
 
         if (availableMonitors.isEmpty()) {
-            return new ConsoleMonitor();
+            var level = parseEnum(ConsoleMonitor.Level.class, MONITOR_LEVEL, propOrEnv(MONITOR_LEVEL, ConsoleMonitor.Level.DEBUG.name()));
+            if (Boolean.parseBoolean(propOrEnv(MONITOR_ASYNC, "false"))) {
+                var capacity = parseInt(MONITOR_ASYNC_CAPACITY, propOrEnv(MONITOR_ASYNC_CAPACITY, String.valueOf(AsyncMonitor.DEFAULT_CAPACITY)));
+                var policy = parseEnum(AsyncMonitor.OverflowPolicy.class, MONITOR_ASYNC_POLICY, propOrEnv(MONITOR_ASYNC_POLICY, AsyncMonitor.OverflowPolicy.BLOCK.name()));
+                return new AsyncMonitor(level, capacity, policy);
+            }
+            return new ConsoleMonitor(null, level);
         }
 
         if (availableMonitors.size() > 1) {
@@ -78,4 +192,36 @@ public class ExtensionLoader {
 
         return availableMonitors.get(0).getMonitor();
     }
+
+    private static int parseInt(String key, String value) {
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw new EdcException(format("Invalid value for %s: %s", key, value));
+        }
+    }
+
+    private static long parseLong(String key, String value) {
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            throw new EdcException(format("Invalid value for %s: %s", key, value));
+        }
+    }
+
+    private static <E extends Enum<E>> E parseEnum(Class<E> type, String key, String value) {
+        try {
+            return Enum.valueOf(type, value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new EdcException(format("Invalid value for %s: %s", key, value));
+        }
+    }
+
+    private static String propOrEnv(String key, String defaultValue) {
+        var value = System.getProperty(key);
+        if (value == null) {
+            value = System.getenv(key.toUpperCase().replace('.', '_'));
+        }
+        return value != null ? value : defaultValue;
+    }
 }
@@ -60,7 +60,10 @@ public class BaseRuntime {
         try {
             initializeVault(context);
             List<ServiceExtension> serviceExtensions = createExtensions(context);
-            java.lang.Runtime.getRuntime().addShutdownHook(new Thread(() -> shutdown(serviceExtensions, monitor)));
+            java.lang.Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                shutdownContext(context);
+                shutdown(serviceExtensions, monitor);
+            }));
             bootExtensions(context, serviceExtensions);
 
         } catch (Exception e) {
@@ -94,6 +97,7 @@ public class BaseRuntime {
      */
     protected void onError(Exception e) {
         monitor.severe("Error booting runtime", e);
+        closeMonitor();
         System.exit(-1);  // stop the process
     }
 
@@ -145,6 +149,31 @@ public class BaseRuntime {
             iter.previous().shutdown();
         }
         monitor.info("Connector shutdown complete");
+        closeMonitor();
+    }
+
+    /**
+     * Writes out messages buffered by a monitor that logs asynchronously.
+     */
+    private void closeMonitor() {
+        if (monitor instanceof AutoCloseable) {
+            try {
+                ((AutoCloseable) monitor).close();
+            } catch (Exception e) {
+                // nothing left to report to
+            }
+        }
+    }
+
+    /**
+     * Stops the background work of the context, e.g. reloading the configuration, before the extensions are shut down.
+     *
+     * @param context The {@code ServiceExtensionContext} that is used in this runtime.
+     */
+    protected void shutdownContext(ServiceExtensionContext context) {
+        if (context instanceof DefaultServiceExtensionContext) {
+            ((DefaultServiceExtensionContext) context).shutdown();
+        }
     }
 
     /**
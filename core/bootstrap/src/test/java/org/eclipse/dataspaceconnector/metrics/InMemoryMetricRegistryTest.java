@@ -0,0 +1,81 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.metrics;
+
+import org.eclipse.dataspaceconnector.spi.EdcException;
+import org.eclipse.dataspaceconnector.spi.metrics.MetricsTextFormat;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InMemoryMetricRegistryTest {
+    private final InMemoryMetricRegistry registry = new InMemoryMetricRegistry();
+
+    @Test
+    void counter_sameNameAndLabelsReturnsSameMeter() {
+        registry.counter("requests_total", Map.of("outcome", "success")).increment();
+        registry.counter("requests_total", Map.of("outcome", "success")).increment(2);
+        registry.counter("requests_total", Map.of("outcome", "failure")).increment();
+
+        assertThat(registry.counter("requests_total", Map.of("outcome", "success")).getCount()).isEqualTo(3);
+        assertThat(registry.getMeters()).hasSize(2);
+    }
+
+    @Test
+    void histogram_recordsIntoBuckets() {
+        var histogram = registry.histogram("sizes", Map.of(), 10, 100);
+
+        histogram.record(5);
+        histogram.record(10);
+        histogram.record(50);
+        histogram.record(1000);
+
+        assertThat(histogram.getBucketCounts()).containsExactly(2, 1);
+        assertThat(histogram.getCount()).isEqualTo(4);
+        assertThat(histogram.getSum()).isEqualTo(1065);
+    }
+
+    @Test
+    void register_conflictingType() {
+        registry.counter("meter");
+
+        assertThatThrownBy(() -> registry.timer("meter")).isInstanceOf(EdcException.class);
+    }
+
+    @Test
+    void register_invalidName() {
+        assertThatThrownBy(() -> registry.counter("invalid-name")).isInstanceOf(EdcException.class);
+    }
+
+    @Test
+    void format_prometheusText() {
+        registry.counter("requests_total", Map.of("outcome", "success")).increment();
+        registry.gauge("queue_size", Map.of(), () -> 3);
+        registry.timer("call_seconds").record(Duration.ofMillis(2));
+
+        var text = MetricsTextFormat.format(registry.getMeters());
+
+        assertThat(text).contains("# TYPE requests_total counter\nrequests_total{outcome=\"success\"} 1\n")
+                .contains("# TYPE queue_size gauge\nqueue_size 3.0\n")
+                .contains("call_seconds_bucket{le=\"0.001\"} 0\n")
+                .contains("call_seconds_bucket{le=\"0.005\"} 1\n")
+                .contains("call_seconds_bucket{le=\"+Inf\"} 1\n")
+                .contains("call_seconds_count 1\n");
+    }
+}
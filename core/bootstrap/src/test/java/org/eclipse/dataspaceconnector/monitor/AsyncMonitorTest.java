@@ -0,0 +1,98 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.monitor;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AsyncMonitorTest {
+
+    @Test
+    void writesMessagesInOrderWithFields() {
+        var out = new ByteArrayOutputStream();
+        var monitor = new AsyncMonitor(out, ConsoleMonitor.Level.INFO, 16, 4, AsyncMonitor.OverflowPolicy.BLOCK);
+
+        for (int i = 0; i < 10; i++) {
+            monitor.info("message " + i);
+        }
+        monitor.debug("filtered");
+        monitor.warning("Process state changed", Map.of("process", "p1"));
+        monitor.close();
+
+        var lines = out.toString(StandardCharsets.UTF_8).split(System.lineSeparator());
+        assertThat(lines).hasSize(11);
+        assertThat(lines[0]).startsWith("INFO ").endsWith(" message 0");
+        assertThat(lines[9]).endsWith(" message 9");
+        assertThat(lines[10]).startsWith("WARNING ").endsWith(" Process state changed process=p1");
+    }
+
+    @Test
+    void dropsMessagesWhenFull() throws InterruptedException {
+        var blocked = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var out = new ByteArrayOutputStream();
+        var blockingOut = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                write(new byte[]{ (byte) b }, 0, 1);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+                blocked.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                out.write(b, off, len);
+            }
+        };
+        var monitor = new AsyncMonitor(blockingOut, ConsoleMonitor.Level.DEBUG, 2, 1, AsyncMonitor.OverflowPolicy.DROP);
+
+        // the writer blocks on the first message, the next two fill the buffer
+        monitor.info("first");
+        blocked.await();
+        monitor.info("second");
+        monitor.info("third");
+        monitor.info("dropped");
+
+        assertThat(monitor.getDroppedCount()).isEqualTo(1);
+        release.countDown();
+        monitor.close();
+
+        var output = out.toString(StandardCharsets.UTF_8);
+        assertThat(output).contains("first", "second", "third", "dropped 1 messages").doesNotContain(" dropped" + System.lineSeparator());
+    }
+
+    @Test
+    void writesSynchronouslyAfterClose() {
+        var out = new ByteArrayOutputStream();
+        var monitor = new AsyncMonitor(out, ConsoleMonitor.Level.DEBUG, 16, 4, AsyncMonitor.OverflowPolicy.BLOCK);
+        monitor.close();
+
+        monitor.severe("after close");
+
+        assertThat(out.toString(StandardCharsets.UTF_8)).contains("SEVERE").contains("after close");
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.security;
+
+import org.eclipse.dataspaceconnector.common.testfixtures.MutableClock;
+import org.eclipse.dataspaceconnector.spi.EdcException;
+import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CachingVaultTest {
+    private RotatingVault backend;
+    private MutableClock clock;
+    private CachingVault vault;
+
+    @BeforeEach
+    void setUp() {
+        backend = new RotatingVault();
+        clock = new MutableClock();
+        vault = new CachingVault(backend, Duration.ofSeconds(10), 2, clock, new Monitor() {
+        });
+    }
+
+    @Test
+    void resolveSecret_servedFromCacheWithinTtl() {
+        backend.storeSecret("key", "value");
+
+        assertThat(vault.resolveSecret("key")).isEqualTo("value");
+        assertThat(vault.resolveSecret("key")).isEqualTo("value");
+        assertThat(backend.getResolveCount()).isEqualTo(1);
+
+        clock.advance(Duration.ofSeconds(11));
+        backend.rotateSilently("key", "rotated");
+        assertThat(vault.resolveSecret("key")).isEqualTo("rotated");
+    }
+
+    @Test
+    void storeSecret_writesThrough() {
+        vault.storeSecret("key", "value");
+
+        assertThat(vault.resolveSecret("key")).isEqualTo("value");
+        assertThat(backend.getResolveCount()).isZero();
+
+        vault.deleteSecret("key");
+        assertThat(vault.resolveSecret("key")).isNull();
+    }
+
+    @Test
+    void resolveSecret_invalidatedOnBackendChange() {
+        backend.storeSecret("key", "value");
+        vault.resolveSecret("key");
+
+        backend.rotate("key", "rotated");
+
+        assertThat(vault.resolveSecret("key")).isEqualTo("rotated");
+    }
+
+    @Test
+    void resolveSecret_servesStaleOnError() {
+        backend.storeSecret("key", "value");
+        vault.resolveSecret("key");
+        clock.advance(Duration.ofSeconds(11));
+        backend.setUnavailable(true);
+
+        assertThat(vault.resolveSecret("key")).isEqualTo("value");
+        assertThatThrownBy(() -> vault.resolveSecret("other")).isInstanceOf(EdcException.class);
+    }
+
+    @Test
+    void evictsOldestEntries() {
+        vault.storeSecret("key1", "value1");
+        clock.advance(Duration.ofSeconds(1));
+        vault.storeSecret("key2", "value2");
+        clock.advance(Duration.ofSeconds(1));
+        vault.storeSecret("key3", "value3");
+
+        vault.resolveSecret("key1");
+        vault.resolveSecret("key3");
+
+        assertThat(backend.getResolveCount()).isEqualTo(1);
+    }
+
+    @Test
+    void evictsLeastRecentlyLoadedBeforeSoonerExpiry() {
+        vault.storeSecret("key1", "value1");
+        clock.advance(Duration.ofSeconds(1));
+        vault.storeSecret("key2", "value2", clock.instant().plusSeconds(5));
+        clock.advance(Duration.ofSeconds(1));
+        vault.storeSecret("key3", "value3");
+
+        vault.resolveSecret("key2");
+        assertThat(backend.getResolveCount()).isZero();
+
+        vault.resolveSecret("key1");
+        assertThat(backend.getResolveCount()).isEqualTo(1);
+    }
+}
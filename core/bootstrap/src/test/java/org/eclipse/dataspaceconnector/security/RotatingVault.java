@@ -0,0 +1,95 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.security;
+
+import org.eclipse.dataspaceconnector.spi.EdcException;
+import org.eclipse.dataspaceconnector.spi.security.Vault;
+import org.eclipse.dataspaceconnector.spi.security.VaultListener;
+import org.eclipse.dataspaceconnector.spi.security.VaultResponse;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-memory vault that simulates secret rotation and outages and counts lookups, for testing components caching vault secrets.
+ */
+class RotatingVault implements Vault {
+    private final Map<String, String> secrets = new ConcurrentHashMap<>();
+    private final Queue<VaultListener> listeners = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger resolveCount = new AtomicInteger();
+    private volatile boolean unavailable;
+
+    /**
+     * Replaces the secret without notifying listeners, as happens when a secret is rotated outside of the runtime.
+     */
+    void rotateSilently(String key, String value) {
+        secrets.put(key, value);
+    }
+
+    /**
+     * Replaces the secret and notifies listeners.
+     */
+    void rotate(String key, String value) {
+        storeSecret(key, value);
+    }
+
+    /**
+     * Makes lookups fail, as they do when the backing service is throttled or down.
+     */
+    void setUnavailable(boolean unavailable) {
+        this.unavailable = unavailable;
+    }
+
+    int getResolveCount() {
+        return resolveCount.get();
+    }
+
+    @Override
+    public @Nullable String resolveSecret(String key) {
+        resolveCount.incrementAndGet();
+        if (unavailable) {
+            throw new EdcException("vault unavailable");
+        }
+        return secrets.get(key);
+    }
+
+    @Override
+    public VaultResponse storeSecret(String key, String value) {
+        secrets.put(key, value);
+        listeners.forEach(l -> l.secretChanged(key));
+        return VaultResponse.OK;
+    }
+
+    @Override
+    public VaultResponse deleteSecret(String key) {
+        secrets.remove(key);
+        listeners.forEach(l -> l.secretChanged(key));
+        return VaultResponse.OK;
+    }
+
+    @Override
+    public void registerListener(VaultListener listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public void unregisterListener(VaultListener listener) {
+        listeners.remove(listener);
+    }
+}
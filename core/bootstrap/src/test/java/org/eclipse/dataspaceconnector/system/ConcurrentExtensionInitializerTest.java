@@ -0,0 +1,114 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.system;
+
+import org.eclipse.dataspaceconnector.spi.EdcException;
+import org.eclipse.dataspaceconnector.spi.system.ServiceExtension;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ConcurrentExtensionInitializerTest {
+
+    @Test
+    void initializesDependenciesFirst() {
+        var provider = new TestExtension(Set.of("feature"), Set.of(), ServiceExtension.LoadPhase.DEFAULT);
+        var dependent = new TestExtension(Set.of(), Set.of("feature"), ServiceExtension.LoadPhase.DEFAULT);
+        var primordial = new TestExtension(Set.of(), Set.of(), ServiceExtension.LoadPhase.PRIMORDIAL);
+        List<ServiceExtension> initialized = new CopyOnWriteArrayList<>();
+
+        new ConcurrentExtensionInitializer(4).initialize(List.of(primordial, provider, dependent), extension -> {
+            sleep();
+            initialized.add(extension);
+        });
+
+        assertThat(initialized).containsExactly(primordial, provider, dependent);
+    }
+
+    @Test
+    void initializesIndependentExtensionsConcurrently() {
+        var latch = new CountDownLatch(2);
+        var first = new TestExtension(Set.of(), Set.of(), ServiceExtension.LoadPhase.DEFAULT);
+        var second = new TestExtension(Set.of(), Set.of(), ServiceExtension.LoadPhase.DEFAULT);
+
+        // would time out if the extensions were initialized one after the other
+        new ConcurrentExtensionInitializer(2).initialize(List.of(first, second), extension -> {
+            latch.countDown();
+            try {
+                assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+            } catch (InterruptedException e) {
+                throw new EdcException(e);
+            }
+        });
+    }
+
+    @Test
+    void propagatesFailure() {
+        var provider = new TestExtension(Set.of("feature"), Set.of(), ServiceExtension.LoadPhase.DEFAULT);
+        var dependent = new TestExtension(Set.of(), Set.of("feature"), ServiceExtension.LoadPhase.DEFAULT);
+        List<ServiceExtension> initialized = new CopyOnWriteArrayList<>();
+
+        assertThatThrownBy(() -> new ConcurrentExtensionInitializer(2).initialize(List.of(provider, dependent), extension -> {
+            if (extension == provider) {
+                throw new EdcException("failed");
+            }
+            initialized.add(extension);
+        })).isInstanceOf(EdcException.class).hasMessage("failed");
+
+        assertThat(initialized).isEmpty();
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(20);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static class TestExtension implements ServiceExtension {
+        private final Set<String> provides;
+        private final Set<String> requires;
+        private final LoadPhase phase;
+
+        TestExtension(Set<String> provides, Set<String> requires, LoadPhase phase) {
+            this.provides = provides;
+            this.requires = requires;
+            this.phase = phase;
+        }
+
+        @Override
+        public Set<String> provides() {
+            return provides;
+        }
+
+        @Override
+        public Set<String> requires() {
+            return requires;
+        }
+
+        @Override
+        public LoadPhase phase() {
+            return phase;
+        }
+    }
+}
@@ -17,15 +17,18 @@ package org.eclipse.dataspaceconnector.system;
 import net.jodah.failsafe.RetryPolicy;
 import okhttp3.OkHttpClient;
 import org.easymock.MockType;
+import org.eclipse.dataspaceconnector.spi.metrics.MetricRegistry;
 import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
 import org.eclipse.dataspaceconnector.spi.security.PrivateKeyResolver;
 import org.eclipse.dataspaceconnector.spi.security.Vault;
+import org.eclipse.dataspaceconnector.spi.system.Config;
 import org.eclipse.dataspaceconnector.spi.system.ServiceExtension;
 import org.eclipse.dataspaceconnector.spi.system.ServiceExtensionContext;
 import org.junit.jupiter.api.Test;
 
+import java.util.Map;
+
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.easymock.EasyMock.anyString;
 import static org.easymock.EasyMock.eq;
 import static org.easymock.EasyMock.expect;
 import static org.easymock.EasyMock.expectLastCall;
@@ -41,7 +44,7 @@ class CoreServicesExtensionTest {
 
     @Test
     void provides() {
-        assertThat(extension.provides()).containsExactlyInAnyOrder("dataspaceconnector:http-client", "edc:retry-policy");
+        assertThat(extension.provides()).containsExactlyInAnyOrder("dataspaceconnector:http-client", "edc:retry-policy", "edc:metrics");
     }
 
     @Test
@@ -64,9 +67,10 @@ class CoreServicesExtensionTest {
         context.registerService(eq(OkHttpClient.class), isA(OkHttpClient.class));
         expectLastCall().times(1);
 
-        expect(context.getSetting(eq("edc.core.retry.retries.max"), anyString())).andReturn("3");
-        expect(context.getSetting(eq("edc.core.retry.backoff.min"), anyString())).andReturn("500");
-        expect(context.getSetting(eq("edc.core.retry.backoff.max"), anyString())).andReturn("10000");
+        expect(context.getConfig()).andReturn(new Config(Map.of(
+                "edc.core.retry.retries.max", "3",
+                "edc.core.retry.backoff.min", "500",
+                "edc.core.retry.backoff.max", "10000")));
 
         context.registerService(eq(RetryPolicy.class), isA(RetryPolicy.class));
         expectLastCall().times(1);
@@ -74,6 +78,9 @@ class CoreServicesExtensionTest {
         expect(context.getService(Vault.class)).andReturn(niceMock(Vault.class)).anyTimes();
         expect(context.getService(eq(PrivateKeyResolver.class))).andReturn(niceMock(PrivateKeyResolver.class));
 
+        context.registerService(eq(MetricRegistry.class), isA(MetricRegistry.class));
+        expectLastCall().times(1);
+
         replay(context);
 
         extension.initialize(context);
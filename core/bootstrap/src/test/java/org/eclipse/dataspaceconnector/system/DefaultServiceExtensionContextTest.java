@@ -16,6 +16,7 @@ package org.eclipse.dataspaceconnector.system;
 
 import org.eclipse.dataspaceconnector.spi.EdcException;
 import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
+import org.eclipse.dataspaceconnector.spi.system.ConfigurationExtension;
 import org.eclipse.dataspaceconnector.spi.system.ServiceExtension;
 import org.eclipse.dataspaceconnector.spi.system.ServiceExtensionContext;
 import org.eclipse.dataspaceconnector.spi.types.TypeManager;
@@ -25,11 +26,15 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
 import static org.easymock.EasyMock.anyBoolean;
 import static org.easymock.EasyMock.eq;
 import static org.easymock.EasyMock.expect;
@@ -232,10 +237,117 @@ class DefaultServiceExtensionContextTest {
         assertThat(services).containsExactly(coreService, depending);
     }
 
+    @Test
+    void getSetting_configurationExtensionTakesPrecedence() {
+        System.setProperty("edc.test.precedence", "property");
+        try {
+            var extension = new TestConfigurationExtension(Map.of("edc.test.precedence", "extension"));
+            expect(serviceLocatorMock.loadImplementors(eq(ConfigurationExtension.class), anyBoolean())).andReturn(mutableListOf(extension));
+            replay(serviceLocatorMock);
+            context.initialize();
+
+            assertThat(context.getSetting("edc.test.precedence", null)).isEqualTo("extension");
+            assertThat(context.getConfig("edc.test").getString("precedence")).isEqualTo("extension");
+            assertThat(context.getSetting("edc.test.missing", "default")).isEqualTo("default");
+        } finally {
+            System.clearProperty("edc.test.precedence");
+        }
+    }
+
+    @Test
+    void reloadConfiguration_notifiesListenersOfChangedSettings() {
+        var extension = new TestConfigurationExtension(Map.of("edc.test.batch-size", "10", "edc.test.other", "a"));
+        expect(serviceLocatorMock.loadImplementors(eq(ConfigurationExtension.class), anyBoolean())).andReturn(mutableListOf(extension));
+        replay(serviceLocatorMock);
+        context.initialize();
+        Map<String, String> changes = new HashMap<>();
+        context.registerConfigurationListener("edc.test.batch", changes::put);
+
+        extension.entries = Map.of("edc.test.batch-size", "20", "edc.test.other", "b");
+        ((DefaultServiceExtensionContext) context).reloadConfiguration();
+
+        assertThat(changes).containsOnly(entry("edc.test.batch-size", "20"));
+        assertThat(context.getConfig().getInteger("edc.test.batch-size")).isEqualTo(20);
+    }
+
+    @Test
+    void getSetting_queriesExtensionWithoutEntriesBeforeProperties() {
+        System.setProperty("edc.test.lookup", "property");
+        try {
+            ConfigurationExtension extension = key -> "edc.test.lookup".equals(key) ? "extension" : null;
+            expect(serviceLocatorMock.loadImplementors(eq(ConfigurationExtension.class), anyBoolean())).andReturn(mutableListOf(extension));
+            replay(serviceLocatorMock);
+            context.initialize();
+
+            assertThat(context.getSetting("edc.test.lookup", null)).isEqualTo("extension");
+        } finally {
+            System.clearProperty("edc.test.lookup");
+        }
+    }
+
+    @Test
+    void reloadConfiguration_refreshesResolvedSettings() {
+        var extension = new TestConfigurationExtension(Map.of("edc.test.value", "1"));
+        expect(serviceLocatorMock.loadImplementors(eq(ConfigurationExtension.class), anyBoolean())).andReturn(mutableListOf(extension));
+        replay(serviceLocatorMock);
+        context.initialize();
+        assertThat(context.getSetting("edc.test.value", null)).isEqualTo("1");
+
+        extension.entries = Map.of("edc.test.value", "2");
+        assertThat(context.getSetting("edc.test.value", null)).isEqualTo("1");
+        ((DefaultServiceExtensionContext) context).reloadConfiguration();
+
+        assertThat(context.getSetting("edc.test.value", null)).isEqualTo("2");
+    }
+
+    @Test
+    void shutdown_stopsReloading() throws InterruptedException {
+        var reloads = new AtomicInteger();
+        var extension = new TestConfigurationExtension(Map.of(DefaultServiceExtensionContext.CONFIG_RELOAD_PERIOD, "10")) {
+            @Override
+            public void reload() {
+                reloads.incrementAndGet();
+            }
+        };
+        expect(serviceLocatorMock.loadImplementors(eq(ConfigurationExtension.class), anyBoolean())).andReturn(mutableListOf(extension));
+        replay(serviceLocatorMock);
+        context.initialize();
+        for (int i = 0; i < 100 && reloads.get() == 0; i++) {
+            Thread.sleep(10);
+        }
+        assertThat(reloads.get()).isPositive();
+
+        ((DefaultServiceExtensionContext) context).shutdown();
+        // a reload may still be running
+        Thread.sleep(50);
+        var count = reloads.get();
+        Thread.sleep(100);
+
+        assertThat(reloads.get()).isEqualTo(count);
+    }
+
     private <T> List<T> mutableListOf(T... elements) {
         return new ArrayList<>(List.of(elements));
     }
 
+    private static class TestConfigurationExtension implements ConfigurationExtension {
+        private Map<String, String> entries;
+
+        TestConfigurationExtension(Map<String, String> entries) {
+            this.entries = entries;
+        }
+
+        @Override
+        public String getSetting(String key) {
+            return entries.get(key);
+        }
+
+        @Override
+        public Map<String, String> getEntries() {
+            return entries;
+        }
+    }
+
     private abstract static class DependingService implements ServiceExtension {
 
         @Override
@@ -15,6 +15,7 @@
 package org.eclipse.dataspaceconnector.system;
 
 import org.eclipse.dataspaceconnector.monitor.ConsoleMonitor;
+import org.eclipse.dataspaceconnector.spi.EdcException;
 import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
 import org.eclipse.dataspaceconnector.spi.monitor.MultiplexingMonitor;
 import org.eclipse.dataspaceconnector.spi.security.CertificateResolver;
@@ -25,7 +26,9 @@ import org.eclipse.dataspaceconnector.spi.system.VaultExtension;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
+import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.easymock.EasyMock.anyObject;
 import static org.easymock.EasyMock.eq;
 import static org.easymock.EasyMock.expect;
@@ -74,6 +77,18 @@ class ExtensionLoaderTest {
 
     }
 
+    @Test
+    void loadMonitor_invalidLevel() {
+        System.setProperty(ExtensionLoader.MONITOR_LEVEL, "verbose");
+        try {
+            assertThatThrownBy(() -> ExtensionLoader.loadMonitor(new ArrayList<>()))
+                    .isInstanceOf(EdcException.class)
+                    .hasMessageContaining(ExtensionLoader.MONITOR_LEVEL);
+        } finally {
+            System.clearProperty(ExtensionLoader.MONITOR_LEVEL);
+        }
+    }
+
     @Test
     void loadVault_whenNotRegistered() {
 
@@ -126,4 +141,49 @@ class ExtensionLoaderTest {
         verify(contextMock);
 
     }
+
+    @Test
+    void loadVault_invalidCacheTtl() {
+        DefaultServiceExtensionContext contextMock = niceMock(DefaultServiceExtensionContext.class);
+        Vault vaultMock = mock(Vault.class);
+        expect(contextMock.getMonitor()).andReturn(new Monitor() {
+        }).anyTimes();
+        expect(contextMock.loadSingletonExtension(VaultExtension.class, false)).andReturn(new VaultExtension() {
+
+            @Override
+            public Vault getVault() {
+                return vaultMock;
+            }
+
+            @Override
+            public PrivateKeyResolver getPrivateKeyResolver() {
+                return null;
+            }
+
+            @Override
+            public CertificateResolver getCertificateResolver() {
+                return null;
+            }
+        });
+        expect(contextMock.getSetting(ExtensionLoader.VAULT_CACHE_TTL, null)).andReturn("1m");
+        replay(contextMock);
+
+        assertThatThrownBy(() -> ExtensionLoader.loadVault(contextMock))
+                .isInstanceOf(EdcException.class)
+                .hasMessageContaining(ExtensionLoader.VAULT_CACHE_TTL);
+    }
+
+    @Test
+    void bootServiceExtensions_nonPositiveThreads() {
+        DefaultServiceExtensionContext contextMock = niceMock(DefaultServiceExtensionContext.class);
+        expect(contextMock.getMonitor()).andReturn(new Monitor() {
+        }).anyTimes();
+        expect(contextMock.getSetting(ExtensionLoader.BOOT_PARALLEL, "false")).andReturn("true");
+        expect(contextMock.getSetting(ExtensionLoader.BOOT_THREADS, null)).andReturn("0");
+        replay(contextMock);
+
+        assertThatThrownBy(() -> ExtensionLoader.bootServiceExtensions(List.of(), contextMock))
+                .isInstanceOf(EdcException.class)
+                .hasMessage("Invalid value for edc.boot.threads: 0");
+    }
 }
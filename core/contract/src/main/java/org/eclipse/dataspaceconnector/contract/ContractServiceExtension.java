@@ -15,30 +15,57 @@
 package org.eclipse.dataspaceconnector.contract;
 
 import org.eclipse.dataspaceconnector.contract.agent.ParticipantAgentServiceImpl;
+import org.eclipse.dataspaceconnector.contract.negotiation.ConsumerContractNegotiationManagerImpl;
+import org.eclipse.dataspaceconnector.contract.negotiation.ProviderContractNegotiationManagerImpl;
 import org.eclipse.dataspaceconnector.contract.offer.ContractDefinitionServiceImpl;
 import org.eclipse.dataspaceconnector.contract.offer.ContractOfferServiceImpl;
 import org.eclipse.dataspaceconnector.contract.policy.PolicyEngineImpl;
 import org.eclipse.dataspaceconnector.contract.validation.ContractValidationServiceImpl;
+import org.eclipse.dataspaceconnector.spi.EdcException;
+import org.eclipse.dataspaceconnector.spi.EdcSetting;
 import org.eclipse.dataspaceconnector.spi.asset.AssetIndex;
 import org.eclipse.dataspaceconnector.spi.contract.agent.ParticipantAgentService;
+import org.eclipse.dataspaceconnector.spi.contract.negotiation.ConsumerContractNegotiationManager;
+import org.eclipse.dataspaceconnector.spi.contract.negotiation.ProviderContractNegotiationManager;
+import org.eclipse.dataspaceconnector.spi.contract.negotiation.store.ContractNegotiationStore;
 import org.eclipse.dataspaceconnector.spi.contract.offer.ContractDefinitionService;
 import org.eclipse.dataspaceconnector.spi.contract.offer.ContractOfferService;
 import org.eclipse.dataspaceconnector.spi.contract.offer.store.ContractDefinitionStore;
 import org.eclipse.dataspaceconnector.spi.contract.offer.store.InMemoryContractDefinitionStore;
 import org.eclipse.dataspaceconnector.spi.contract.policy.PolicyEngine;
 import org.eclipse.dataspaceconnector.spi.contract.validation.ContractValidationService;
+import org.eclipse.dataspaceconnector.spi.message.RemoteMessageDispatcherRegistry;
+import org.eclipse.dataspaceconnector.spi.metrics.MetricRegistry;
+import org.eclipse.dataspaceconnector.spi.metrics.NoopMetricRegistry;
 import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
 import org.eclipse.dataspaceconnector.spi.system.ServiceExtension;
 import org.eclipse.dataspaceconnector.spi.system.ServiceExtensionContext;
+import org.eclipse.dataspaceconnector.spi.transfer.WaitStrategy;
 
 import java.util.Set;
 
+import static java.lang.String.format;
+
 public class ContractServiceExtension implements ServiceExtension {
     private static final String NAME = "Core Contract Service Extension";
 
+    @EdcSetting
+    private static final String NEGOTIATION_BATCH_SIZE = "edc.negotiation.batch.size";
+
+    @EdcSetting
+    private static final String NEGOTIATION_WORKERS = "edc.negotiation.workers";
+
+    @EdcSetting
+    private static final String NEGOTIATION_TIMEOUT = "edc.negotiation.timeout.millis";
+
+    @EdcSetting
+    private static final String NEGOTIATION_WAIT = "edc.negotiation.wait.millis";
+
     private Monitor monitor;
     private ServiceExtensionContext context;
     private ContractDefinitionServiceImpl definitionService;
+    private ConsumerContractNegotiationManagerImpl consumerNegotiationManager;
+    private ProviderContractNegotiationManagerImpl providerNegotiationManager;
 
     @Override
     public final Set<String> provides() {
@@ -66,11 +93,25 @@ public class ContractServiceExtension implements ServiceExtension {
 
         var store = context.getService(ContractDefinitionStore.class);
         definitionService.initialize(store);
+
+        if (consumerNegotiationManager != null) {
+            var negotiationStore = context.getService(ContractNegotiationStore.class, true);
+            if (negotiationStore != null) {
+                consumerNegotiationManager.start(negotiationStore);
+                providerNegotiationManager.start(negotiationStore);
+            } else {
+                monitor.warning("No ContractNegotiationStore registered. Contract negotiations will not be processed.");
+            }
+        }
         monitor.info(String.format("Started %s", NAME));
     }
 
     @Override
     public void shutdown() {
+        if (consumerNegotiationManager != null) {
+            consumerNegotiationManager.stop();
+            providerNegotiationManager.stop();
+        }
         monitor.info(String.format("Shutdown %s", NAME));
     }
 
@@ -85,7 +126,8 @@ public class ContractServiceExtension implements ServiceExtension {
         var agentService = new ParticipantAgentServiceImpl();
         context.registerService(ParticipantAgentService.class, agentService);
 
-        var policyEngine = new PolicyEngineImpl();
+        var metrics = context.getService(MetricRegistry.class, true);
+        var policyEngine = new PolicyEngineImpl(metrics != null ? metrics : NoopMetricRegistry.INSTANCE);
         context.registerService(PolicyEngine.class, policyEngine);
 
         definitionService = new ContractDefinitionServiceImpl(policyEngine, monitor);
@@ -103,6 +145,62 @@ public class ContractServiceExtension implements ServiceExtension {
 
         var validationService = new ContractValidationServiceImpl(agentService, () -> context.getService(ContractDefinitionService.class), assetIndex);
         context.registerService(ContractValidationService.class, validationService);
+
+        registerNegotiationManagers(context, validationService);
     }
 
+    private void registerNegotiationManagers(ServiceExtensionContext context, ContractValidationService validationService) {
+        // the dispatcher registry is provided by the transfer core, which is loaded in the primordial phase if present
+        var dispatcherRegistry = context.getService(RemoteMessageDispatcherRegistry.class, true);
+        if (dispatcherRegistry == null) {
+            monitor.warning("No RemoteMessageDispatcherRegistry registered. Contract negotiations are not available.");
+            return;
+        }
+
+        var batchSize = intSetting(context, NEGOTIATION_BATCH_SIZE, 20);
+        var workers = intSetting(context, NEGOTIATION_WORKERS, 2);
+        var timeout = longSetting(context, NEGOTIATION_TIMEOUT, 600000);
+        var waitMillis = longSetting(context, NEGOTIATION_WAIT, 1000);
+        WaitStrategy waitStrategy = () -> waitMillis;
+
+        consumerNegotiationManager = ConsumerContractNegotiationManagerImpl.Builder.newInstance()
+                .batchSize(batchSize)
+                .workers(workers)
+                .timeoutMillis(timeout)
+                .waitStrategy(waitStrategy)
+                .dispatcherRegistry(dispatcherRegistry)
+                .monitor(monitor)
+                .build();
+        context.registerService(ConsumerContractNegotiationManager.class, consumerNegotiationManager);
+
+        providerNegotiationManager = ProviderContractNegotiationManagerImpl.Builder.newInstance()
+                .validationService(validationService)
+                .participantId(context.getConnectorId())
+                .batchSize(batchSize)
+                .workers(workers)
+                .timeoutMillis(timeout)
+                .waitStrategy(waitStrategy)
+                .dispatcherRegistry(dispatcherRegistry)
+                .monitor(monitor)
+                .build();
+        context.registerService(ProviderContractNegotiationManager.class, providerNegotiationManager);
+    }
+
+    private static int intSetting(ServiceExtensionContext context, String setting, int defaultValue) {
+        var value = context.getSetting(setting, String.valueOf(defaultValue));
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new EdcException(format("Invalid value for %s: %s", setting, value));
+        }
+    }
+
+    private static long longSetting(ServiceExtensionContext context, String setting, long defaultValue) {
+        var value = context.getSetting(setting, String.valueOf(defaultValue));
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new EdcException(format("Invalid value for %s: %s", setting, value));
+        }
+    }
 }
@@ -0,0 +1,353 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+package org.eclipse.dataspaceconnector.contract.negotiation;
+
+import org.eclipse.dataspaceconnector.spi.contract.negotiation.NegotiationResponse;
+import org.eclipse.dataspaceconnector.spi.contract.negotiation.store.ContractNegotiationStore;
+import org.eclipse.dataspaceconnector.spi.message.RemoteMessageDispatcherRegistry;
+import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
+import org.eclipse.dataspaceconnector.spi.transfer.WaitStrategy;
+import org.eclipse.dataspaceconnector.spi.types.domain.contract.negotiation.ContractNegotiation;
+import org.eclipse.dataspaceconnector.spi.types.domain.contract.negotiation.ContractNegotiationStates;
+import org.eclipse.dataspaceconnector.spi.types.domain.message.RemoteMessage;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static java.lang.String.format;
+import static org.eclipse.dataspaceconnector.spi.contract.negotiation.NegotiationResponse.Status.FATAL_ERROR;
+import static org.eclipse.dataspaceconnector.spi.contract.negotiation.NegotiationResponse.Status.INVALID_STATE;
+import static org.eclipse.dataspaceconnector.spi.contract.negotiation.NegotiationResponse.Status.OK;
+
+/**
+ * Drives contract negotiations through their states. A single poller fetches negotiations in the states handled by the subclass from the store in batches and
+ * dispatches them to a pool of workers. A negotiation is only handed to one worker at a time, and workers re-read it before handling so that stale batch entries are
+ * skipped. The poller stops fetching while all workers are busy.
+ * <p>
+ * Workers, incoming messages and the timeout may change the same negotiation concurrently. Each saves the negotiation only if it is still in the state it was read
+ * in, see {@link ContractNegotiationStore#save(ContractNegotiation, int)}.
+ * <p>
+ * Negotiations that wait for a message from the counter-party are moved to {@link ContractNegotiationStates#ERROR} once they have not changed for longer than the
+ * timeout.
+ */
+public abstract class AbstractContractNegotiationManager {
+    private final AtomicBoolean active = new AtomicBoolean();
+    private final Map<ContractNegotiationStates, Consumer<ContractNegotiation>> handlers = new EnumMap<>(ContractNegotiationStates.class);
+    private final Set<ContractNegotiationStates> waitingStates = EnumSet.noneOf(ContractNegotiationStates.class);
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+
+    protected int batchSize = 5;
+    protected int workers = 1;
+    protected WaitStrategy waitStrategy = () -> 5000L;  // default wait five seconds
+    protected long timeoutMillis;
+    protected String protocol = "ids-multipart";
+    protected ContractNegotiationStore negotiationStore;
+    protected RemoteMessageDispatcherRegistry dispatcherRegistry;
+    protected Monitor monitor;
+
+    private Semaphore capacity;
+    private ExecutorService poller;
+    private ExecutorService workerPool;
+    private long nextTimeoutCheck;
+
+    public void start(ContractNegotiationStore store) {
+        negotiationStore = store;
+        capacity = new Semaphore(workers * batchSize);
+        active.set(true);
+        workerPool = Executors.newFixedThreadPool(workers);
+        poller = Executors.newSingleThreadExecutor();
+        poller.submit(this::run);
+    }
+
+    public void stop() {
+        active.set(false);
+        if (poller != null) {
+            poller.shutdownNow();
+        }
+        if (workerPool != null) {
+            workerPool.shutdownNow();
+        }
+    }
+
+    /**
+     * Registers the handler for negotiations in the given state. Handlers are invoked by the workers and must transition and save the negotiation.
+     */
+    protected void handle(ContractNegotiationStates state, Consumer<ContractNegotiation> handler) {
+        handlers.put(state, handler);
+    }
+
+    /**
+     * Marks the state as one in which the negotiation waits for the counter-party, so that it is subject to the timeout.
+     */
+    protected void waitIn(ContractNegotiationStates... states) {
+        waitingStates.addAll(Set.of(states));
+    }
+
+    /**
+     * Saves the negotiation and then sends the message to the counter-party. The negotiation must not be saved after sending, as the response may already have been
+     * processed. If the message cannot be delivered, the negotiation is moved to {@link ContractNegotiationStates#ERROR} unless it has already advanced.
+     * <p>
+     * Nothing is sent if the negotiation is no longer in the state it was read in, e.g. because the counter-party declined it in the meantime.
+     */
+    protected void saveAndSend(ContractNegotiation negotiation, ContractNegotiationStates readState, RemoteMessage message, String processId) {
+        if (!negotiationStore.save(negotiation, readState.code())) {
+            monitor.debug(format("Contract negotiation %s changed concurrently, not sending %s", negotiation.getId(), message.getClass().getSimpleName()));
+            return;
+        }
+        var state = negotiation.getState();
+        dispatcherRegistry.send(Object.class, message, () -> processId).whenComplete((response, throwable) -> {
+            if (throwable == null) {
+                return;
+            }
+            monitor.severe(format("Error sending %s for contract negotiation %s", message.getClass().getSimpleName(), negotiation.getId()), throwable);
+            var current = negotiationStore.find(negotiation.getId());
+            while (current != null && current.getState() == state) {
+                current.transitionError(throwable.getMessage());
+                if (negotiationStore.save(current, state)) {
+                    break;
+                }
+                current = negotiationStore.find(negotiation.getId());
+            }
+        });
+    }
+
+    /**
+     * Applies the update to the negotiation and saves it if the update changed its state. The negotiation is only saved if it is still in the state it was read in,
+     * otherwise it is read again and the update re-applied, so that concurrent messages and the timeout do not overwrite each other.
+     *
+     * @param finder reads the negotiation, returns null if it does not exist
+     * @param update checks and transitions the negotiation, returns the response to the counter-party
+     */
+    protected NegotiationResponse update(Supplier<ContractNegotiation> finder, Function<ContractNegotiation, NegotiationResponse> update) {
+        while (true) {
+            var negotiation = finder.get();
+            if (negotiation == null) {
+                return new NegotiationResponse(FATAL_ERROR);
+            }
+            var state = negotiation.getState();
+            var response = update.apply(negotiation);
+            if (negotiation.getState() == state || negotiationStore.save(negotiation, state)) {
+                return response;
+            }
+        }
+    }
+
+    /**
+     * Checks the hash the counter-party sent against the last offer of the negotiation. A null hash is not checked.
+     */
+    protected boolean hashMatches(ContractNegotiation negotiation, @Nullable String hash) {
+        return hash == null || hash.equals(OfferHash.hash(negotiation.getLastContractOffer()));
+    }
+
+    /**
+     * Returns OK if the negotiation is already in one of the given states, i.e. the message was a duplicate, and INVALID_STATE otherwise.
+     */
+    protected NegotiationResponse duplicateOrInvalid(ContractNegotiation negotiation, ContractNegotiationStates... states) {
+        for (var state : states) {
+            if (negotiation.getState() == state.code()) {
+                return new NegotiationResponse(OK, negotiation);
+            }
+        }
+        return new NegotiationResponse(INVALID_STATE, negotiation);
+    }
+
+    protected static boolean isFinal(ContractNegotiation negotiation) {
+        var state = negotiation.getState();
+        return state == ContractNegotiationStates.CONFIRMED.code() || state == ContractNegotiationStates.DECLINED.code() || state == ContractNegotiationStates.ERROR.code();
+    }
+
+    private void run() {
+        while (active.get()) {
+            try {
+                int processed = 0;
+                for (var entry : handlers.entrySet()) {
+                    processed += process(entry.getKey(), entry.getValue());
+                }
+                processed += expireTimedOut();
+
+                if (processed == 0) {
+                    if (capacity.availablePermits() == 0) {
+                        // all workers are busy, wait until one of them is done
+                        capacity.acquire();
+                        capacity.release();
+                    } else {
+                        Thread.sleep(waitStrategy.waitForMillis());
+                    }
+                }
+                waitStrategy.success();
+            } catch (Error e) {
+                throw e; // let the thread die and don't reschedule as the error is unrecoverable
+            } catch (InterruptedException e) {
+                Thread.interrupted();
+                active.set(false);
+                break;
+            } catch (Throwable e) {
+                monitor.severe("Error caught in contract negotiation manager", e);
+                try {
+                    Thread.sleep(waitStrategy.retryInMillis());
+                } catch (InterruptedException e2) {
+                    Thread.interrupted();
+                    active.set(false);
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Fetches the next batch of negotiations in the state and hands them to the workers.
+     *
+     * @return the number of negotiations dispatched
+     */
+    private int process(ContractNegotiationStates state, Consumer<ContractNegotiation> handler) {
+        var max = Math.min(batchSize, capacity.availablePermits());
+        if (max == 0) {
+            return 0;
+        }
+        var negotiations = negotiationStore.nextForState(state.code(), max);
+        int dispatched = 0;
+        for (var negotiation : negotiations) {
+            if (!capacity.tryAcquire()) {
+                break;
+            }
+            if (!inFlight.add(negotiation.getId())) {
+                // a worker is still handling the negotiation
+                capacity.release();
+                continue;
+            }
+            dispatched++;
+            workerPool.execute(() -> {
+                try {
+                    // the batch may have been fetched before a previous worker or an incoming message advanced the negotiation
+                    var current = negotiationStore.find(negotiation.getId());
+                    if (current != null && current.getState() == state.code()) {
+                        handler.accept(current);
+                    }
+                } catch (Exception e) {
+                    monitor.severe(format("Error handling contract negotiation %s in state %s", negotiation.getId(), state), e);
+                } finally {
+                    inFlight.remove(negotiation.getId());
+                    capacity.release();
+                }
+            });
+        }
+        return dispatched;
+    }
+
+    /**
+     * Moves negotiations that have been waiting for the counter-party for longer than the timeout to the error state. Runs at most ten times per timeout period.
+     *
+     * @return the number of expired negotiations
+     */
+    private int expireTimedOut() {
+        // the same time source as the state timestamps of the negotiations
+        var now = Instant.now().toEpochMilli();
+        if (timeoutMillis <= 0 || now < nextTimeoutCheck) {
+            return 0;
+        }
+        nextTimeoutCheck = now + Math.max(timeoutMillis / 10, 1);
+        int expired = 0;
+        for (var state : waitingStates) {
+            // the query does not lease, so the negotiations remain available to other managers sharing the store
+            for (var negotiation : negotiationStore.findOlderThan(state.code(), now - timeoutMillis, batchSize)) {
+                if (inFlight.contains(negotiation.getId())) {
+                    continue;
+                }
+                negotiation.transitionError(format("Timed out in state %s", state));
+                // a negotiation that advanced since it was read is no longer waiting, so there is nothing to retry
+                if (negotiationStore.save(negotiation, state.code())) {
+                    monitor.info(format("Contract negotiation %s timed out in state %s", negotiation.getId(), state));
+                    expired++;
+                }
+            }
+        }
+        if (expired > 0) {
+            // there may be more expired negotiations
+            nextTimeoutCheck = now;
+        }
+        return expired;
+    }
+
+    @SuppressWarnings("unchecked")
+    protected abstract static class Builder<T extends AbstractContractNegotiationManager, B extends Builder<T, B>> {
+        protected final T manager;
+
+        protected Builder(T manager) {
+            this.manager = manager;
+        }
+
+        public B batchSize(int batchSize) {
+            manager.batchSize = batchSize;
+            return (B) this;
+        }
+
+        /**
+         * The number of threads that handle negotiations concurrently.
+         */
+        public B workers(int workers) {
+            manager.workers = workers;
+            return (B) this;
+        }
+
+        public B waitStrategy(WaitStrategy waitStrategy) {
+            manager.waitStrategy = waitStrategy;
+            return (B) this;
+        }
+
+        /**
+         * The time after which a negotiation waiting for the counter-party is moved to the error state. Zero or less disables the timeout.
+         */
+        public B timeoutMillis(long timeoutMillis) {
+            manager.timeoutMillis = timeoutMillis;
+            return (B) this;
+        }
+
+        public B protocol(String protocol) {
+            manager.protocol = protocol;
+            return (B) this;
+        }
+
+        public B dispatcherRegistry(RemoteMessageDispatcherRegistry dispatcherRegistry) {
+            manager.dispatcherRegistry = dispatcherRegistry;
+            return (B) this;
+        }
+
+        public B monitor(Monitor monitor) {
+            manager.monitor = monitor;
+            return (B) this;
+        }
+
+        public T build() {
+            Objects.requireNonNull(manager.dispatcherRegistry, "dispatcherRegistry");
+            Objects.requireNonNull(manager.monitor, "monitor");
+            if (manager.batchSize < 1 || manager.workers < 1) {
+                throw new IllegalArgumentException("batchSize and workers must be positive");
+            }
+            return manager;
+        }
+    }
+}
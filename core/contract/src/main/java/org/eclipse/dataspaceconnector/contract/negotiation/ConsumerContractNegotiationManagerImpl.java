@@ -15,43 +15,172 @@ package org.eclipse.dataspaceconnector.contract.negotiation;
 
 import org.eclipse.dataspaceconnector.spi.contract.negotiation.ConsumerContractNegotiationManager;
 import org.eclipse.dataspaceconnector.spi.contract.negotiation.NegotiationResponse;
-import org.eclipse.dataspaceconnector.spi.contract.negotiation.store.ContractNegotiationStore;
 import org.eclipse.dataspaceconnector.spi.iam.ClaimToken;
+import org.eclipse.dataspaceconnector.spi.types.domain.asset.Asset;
 import org.eclipse.dataspaceconnector.spi.types.domain.contract.ContractAgreement;
+import org.eclipse.dataspaceconnector.spi.types.domain.contract.ContractRejection;
+import org.eclipse.dataspaceconnector.spi.types.domain.contract.ContractRequest;
 import org.eclipse.dataspaceconnector.spi.types.domain.contract.negotiation.ContractNegotiation;
 import org.eclipse.dataspaceconnector.spi.types.domain.contract.offer.ContractOffer;
 
+import java.util.Objects;
+
+import static java.util.UUID.randomUUID;
+import static java.util.stream.Collectors.toSet;
+import static org.eclipse.dataspaceconnector.spi.contract.negotiation.NegotiationResponse.Status.FATAL_ERROR;
+import static org.eclipse.dataspaceconnector.spi.contract.negotiation.NegotiationResponse.Status.INVALID_STATE;
 import static org.eclipse.dataspaceconnector.spi.contract.negotiation.NegotiationResponse.Status.OK;
+import static org.eclipse.dataspaceconnector.spi.types.domain.contract.negotiation.ContractNegotiationStates.CLIENT_APPROVED;
+import static org.eclipse.dataspaceconnector.spi.types.domain.contract.negotiation.ContractNegotiationStates.CLIENT_APPROVING;
+import static org.eclipse.dataspaceconnector.spi.types.domain.contract.negotiation.ContractNegotiationStates.CLIENT_OFFERED;
+import static org.eclipse.dataspaceconnector.spi.types.domain.contract.negotiation.ContractNegotiationStates.CONFIRMED;
+import static org.eclipse.dataspaceconnector.spi.types.domain.contract.negotiation.ContractNegotiationStates.DECLINED;
+import static org.eclipse.dataspaceconnector.spi.types.domain.contract.negotiation.ContractNegotiationStates.DECLINING;
+import static org.eclipse.dataspaceconnector.spi.types.domain.contract.negotiation.ContractNegotiationStates.PROVIDER_OFFERED;
+import static org.eclipse.dataspaceconnector.spi.types.domain.contract.negotiation.ContractNegotiationStates.REQUESTED;
+import static org.eclipse.dataspaceconnector.spi.types.domain.contract.negotiation.ContractNegotiationStates.REQUESTING;
 
 /**
  * Implementation of the {@link ConsumerContractNegotiationManager}.
+ * <p>
+ * A counter-offer of the provider is approved if it keeps the usage policy of the initial offer and covers a subset of its assets, otherwise the negotiation is
+ * declined. An agreement is only accepted if its terms match the last offer.
  */
-public class ConsumerContractNegotiationManagerImpl implements ConsumerContractNegotiationManager {
-    private ContractNegotiationStore store;
+public class ConsumerContractNegotiationManagerImpl extends AbstractContractNegotiationManager implements ConsumerContractNegotiationManager {
+    private static final String DECLINE_REASON = "Contract negotiation declined";
 
-    public ConsumerContractNegotiationManagerImpl(ContractNegotiationStore store) {
-        this.store = store;
+    private ConsumerContractNegotiationManagerImpl() {
+        handle(REQUESTING, this::sendRequest);
+        handle(CLIENT_APPROVING, this::sendApproval);
+        handle(DECLINING, this::sendRejection);
+        waitIn(REQUESTED, CLIENT_OFFERED, CLIENT_APPROVED);
     }
 
     @Override
     public NegotiationResponse initiate(ContractOffer offer) {
-        var contractNegotiation = new ContractNegotiation();
-        store.save(contractNegotiation);
-        return new NegotiationResponse(OK, contractNegotiation);
+        if (offer.getProvider() == null) {
+            monitor.info("Contract offer " + offer.getId() + " has no provider, cannot initiate a contract negotiation");
+            return new NegotiationResponse(FATAL_ERROR);
+        }
+        var negotiation = ContractNegotiation.Builder.newInstance()
+                .id(randomUUID().toString())
+                .counterPartyId(offer.getProvider().toString())
+                .protocol(protocol)
+                .type(ContractNegotiation.Type.CLIENT)
+                .build();
+        negotiation.addContractOffer(offer);
+        negotiation.transitionRequesting();
+        negotiationStore.save(negotiation);
+        return new NegotiationResponse(OK, negotiation);
     }
 
     @Override
     public NegotiationResponse offerReceived(ClaimToken token, String negotiationId, ContractOffer contractOffer, String hash) {
-        throw new UnsupportedOperationException();
+        return update(() -> negotiationStore.find(negotiationId), negotiation -> {
+            if (negotiation.getState() != REQUESTED.code() && negotiation.getState() != CLIENT_OFFERED.code()) {
+                return duplicateOrInvalid(negotiation, PROVIDER_OFFERED, CLIENT_APPROVING, CLIENT_APPROVED);
+            }
+            if (!hashMatches(negotiation, hash)) {
+                return new NegotiationResponse(INVALID_STATE, negotiation);
+            }
+            var initialOffer = negotiation.getContractOffers().get(0);
+            negotiation.addContractOffer(contractOffer);
+            negotiation.transitionProviderOffered();
+            if (acceptable(initialOffer, contractOffer)) {
+                negotiation.transitionApproving();
+            } else {
+                monitor.debug("Counter-offer " + contractOffer.getId() + " changes the terms, declining contract negotiation " + negotiation.getId());
+                negotiation.transitionDeclining();
+            }
+            return new NegotiationResponse(OK, negotiation);
+        });
     }
 
     @Override
     public NegotiationResponse confirmed(ClaimToken token, String negotiationId, ContractAgreement contract, String hash) {
-        throw new UnsupportedOperationException();
+        return update(() -> negotiationStore.find(negotiationId), negotiation -> {
+            var state = negotiation.getState();
+            if (state != REQUESTED.code() && state != CLIENT_OFFERED.code() && state != CLIENT_APPROVED.code()) {
+                return duplicateOrInvalid(negotiation, CONFIRMED);
+            }
+            if (!hashMatches(negotiation, hash)) {
+                return new NegotiationResponse(INVALID_STATE, negotiation);
+            }
+            if (OfferHash.hash(contract).equals(OfferHash.hash(negotiation.getLastContractOffer()))) {
+                negotiation.setContractAgreement(contract);
+                negotiation.transitionConfirmed();
+            } else {
+                monitor.debug("Agreement " + contract.getId() + " does not match the last offer, declining contract negotiation " + negotiation.getId());
+                negotiation.transitionDeclining();
+            }
+            return new NegotiationResponse(OK, negotiation);
+        });
     }
 
     @Override
     public NegotiationResponse declined(ClaimToken token, String negotiationId) {
-        throw new UnsupportedOperationException();
+        return update(() -> negotiationStore.find(negotiationId), negotiation -> {
+            if (isFinal(negotiation)) {
+                return duplicateOrInvalid(negotiation, DECLINED);
+            }
+            negotiation.transitionDeclined();
+            return new NegotiationResponse(OK, negotiation);
+        });
+    }
+
+    /**
+     * A counter-offer is acceptable if it has the same usage policy as the initial offer and does not add assets.
+     */
+    private boolean acceptable(ContractOffer initialOffer, ContractOffer counterOffer) {
+        if (!Objects.equals(OfferHash.hash(initialOffer.getPolicy()), OfferHash.hash(counterOffer.getPolicy()))) {
+            return false;
+        }
+        var requestedAssets = initialOffer.getAssets().stream().map(Asset::getId).collect(toSet());
+        return !counterOffer.getAssets().isEmpty() && counterOffer.getAssets().stream().map(Asset::getId).allMatch(requestedAssets::contains);
+    }
+
+    private void sendRequest(ContractNegotiation negotiation) {
+        negotiation.transitionRequested();
+        saveAndSend(negotiation, REQUESTING, contractRequest(negotiation), negotiation.getId());
+    }
+
+    /**
+     * Approves the counter-offer of the provider by requesting it, which the provider confirms as its terms are unchanged.
+     */
+    private void sendApproval(ContractNegotiation negotiation) {
+        negotiation.transitionApproved();
+        saveAndSend(negotiation, CLIENT_APPROVING, contractRequest(negotiation), negotiation.getId());
+    }
+
+    private void sendRejection(ContractNegotiation negotiation) {
+        negotiation.transitionDeclined();
+        var rejection = ContractRejection.Builder.newInstance()
+                .protocol(negotiation.getProtocol())
+                .connectorId(negotiation.getCounterPartyId())
+                .connectorAddress(negotiation.getCounterPartyId())
+                .correlatedContractId(negotiation.getId())
+                .rejectionReason(DECLINE_REASON)
+                .build();
+        saveAndSend(negotiation, DECLINING, rejection, negotiation.getId());
+    }
+
+    private ContractRequest contractRequest(ContractNegotiation negotiation) {
+        return ContractRequest.Builder.newInstance()
+                .protocol(negotiation.getProtocol())
+                .connectorId(negotiation.getCounterPartyId())
+                .connectorAddress(negotiation.getCounterPartyId())
+                .contractOffer(negotiation.getLastContractOffer())
+                .build();
+    }
+
+    public static class Builder extends AbstractContractNegotiationManager.Builder<ConsumerContractNegotiationManagerImpl, Builder> {
+
+        private Builder() {
+            super(new ConsumerContractNegotiationManagerImpl());
+        }
+
+        public static Builder newInstance() {
+            return new Builder();
+        }
     }
 }
@@ -0,0 +1,92 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+package org.eclipse.dataspaceconnector.contract.negotiation;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.eclipse.dataspaceconnector.policy.model.Policy;
+import org.eclipse.dataspaceconnector.spi.EdcException;
+import org.eclipse.dataspaceconnector.spi.types.domain.asset.Asset;
+import org.eclipse.dataspaceconnector.spi.types.domain.contract.ContractAgreement;
+import org.eclipse.dataspaceconnector.spi.types.domain.contract.offer.ContractOffer;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.TreeSet;
+
+import static java.util.stream.Collectors.toCollection;
+
+/**
+ * Computes the hash of the terms of an offer or agreement, i.e. its usage policy and the ids of its assets. Two offers with the same terms have the same hash,
+ * regardless of their ids, the order of their assets or the generated id of their policy. Counter-parties use the hash to check that they negotiate on the offer that
+ * was made last.
+ */
+public final class OfferHash {
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .configure(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY, true)
+            .configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
+
+    private OfferHash() {
+    }
+
+    /**
+     * Returns the hash of the offer terms or null if the offer is null.
+     */
+    @Nullable
+    public static String hash(@Nullable ContractOffer offer) {
+        if (offer == null) {
+            return null;
+        }
+        var assetIds = offer.getAssets() != null ? offer.getAssets().stream().map(Asset::getId).collect(toCollection(TreeSet::new)) : new TreeSet<String>();
+        return hash(offer.getPolicy(), assetIds);
+    }
+
+    /**
+     * Returns the hash of the agreement terms, which equals the hash of the offer the agreement was made for.
+     */
+    public static String hash(ContractAgreement agreement) {
+        return hash(agreement.getPolicy(), new TreeSet<>(agreement.getAssetIds()));
+    }
+
+    /**
+     * Returns the hash of the policy alone.
+     */
+    public static String hash(Policy policy) {
+        return hash(policy, new TreeSet<>());
+    }
+
+    private static String hash(Policy policy, Collection<String> sortedAssetIds) {
+        try {
+            var terms = MAPPER.createObjectNode();
+            var policyNode = MAPPER.valueToTree(policy);
+            if (policyNode instanceof ObjectNode) {
+                // the uid is generated if a policy is built without one and is not part of the terms
+                ((ObjectNode) policyNode).remove("uid");
+            }
+            terms.set("policy", policyNode);
+            terms.set("assets", MAPPER.valueToTree(sortedAssetIds));
+            var digest = MessageDigest.getInstance("SHA-256").digest(MAPPER.writeValueAsString(terms).getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException | IllegalArgumentException | JsonProcessingException e) {
+            throw new EdcException("Cannot hash contract terms", e);
+        }
+    }
+}
@@ -13,33 +13,256 @@
  */
 package org.eclipse.dataspaceconnector.contract.negotiation;
 
+import org.eclipse.dataspaceconnector.contract.common.ContractId;
 import org.eclipse.dataspaceconnector.spi.contract.negotiation.NegotiationResponse;
 import org.eclipse.dataspaceconnector.spi.contract.negotiation.ProviderContractNegotiationManager;
+import org.eclipse.dataspaceconnector.spi.contract.validation.ContractValidationService;
 import org.eclipse.dataspaceconnector.spi.iam.ClaimToken;
+import org.eclipse.dataspaceconnector.spi.types.domain.asset.Asset;
+import org.eclipse.dataspaceconnector.spi.types.domain.contract.AgreementRequest;
+import org.eclipse.dataspaceconnector.spi.types.domain.contract.ContractAgreement;
+import org.eclipse.dataspaceconnector.spi.types.domain.contract.ContractRejection;
+import org.eclipse.dataspaceconnector.spi.types.domain.contract.ContractRequest;
+import org.eclipse.dataspaceconnector.spi.types.domain.contract.negotiation.ContractNegotiation;
 import org.eclipse.dataspaceconnector.spi.types.domain.contract.offer.ContractOffer;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+
+import static java.util.UUID.randomUUID;
+import static java.util.stream.Collectors.toList;
+import static org.eclipse.dataspaceconnector.contract.common.ContractId.DEFINITION_PART;
+import static org.eclipse.dataspaceconnector.spi.contract.negotiation.NegotiationResponse.Status.FATAL_ERROR;
+import static org.eclipse.dataspaceconnector.spi.contract.negotiation.NegotiationResponse.Status.INVALID_STATE;
+import static org.eclipse.dataspaceconnector.spi.contract.negotiation.NegotiationResponse.Status.OK;
+import static org.eclipse.dataspaceconnector.spi.types.domain.contract.negotiation.ContractNegotiationStates.CLIENT_OFFERED;
+import static org.eclipse.dataspaceconnector.spi.types.domain.contract.negotiation.ContractNegotiationStates.CONFIRMED;
+import static org.eclipse.dataspaceconnector.spi.types.domain.contract.negotiation.ContractNegotiationStates.CONFIRMING;
+import static org.eclipse.dataspaceconnector.spi.types.domain.contract.negotiation.ContractNegotiationStates.DECLINED;
+import static org.eclipse.dataspaceconnector.spi.types.domain.contract.negotiation.ContractNegotiationStates.DECLINING;
+import static org.eclipse.dataspaceconnector.spi.types.domain.contract.negotiation.ContractNegotiationStates.PROVIDER_OFFERED;
+import static org.eclipse.dataspaceconnector.spi.types.domain.contract.negotiation.ContractNegotiationStates.PROVIDER_OFFERING;
 
 /**
  * Implementation of the {@link ProviderContractNegotiationManager}.
+ * <p>
+ * Every offer of the consumer is re-evaluated against the contract definitions. If the validated offer has the same terms as the consumer offer, the negotiation is
+ * confirmed, otherwise the validated offer is sent back as counter-offer. Offers that fail validation are declined. The consumer approves a counter-offer by
+ * requesting it again with the same correlation id, which confirms the negotiation.
  */
-public class ProviderContractNegotiationManagerImpl implements ProviderContractNegotiationManager {
+public class ProviderContractNegotiationManagerImpl extends AbstractContractNegotiationManager implements ProviderContractNegotiationManager {
+    private static final String DECLINE_REASON = "Contract negotiation declined";
 
-    @Override
-    public NegotiationResponse declined(ClaimToken token, String negotiationId) {
-        throw new UnsupportedOperationException();
+    private ContractValidationService validationService;
+    private String participantId;
+    private Duration contractValidity = Duration.ofDays(365);
+
+    private ProviderContractNegotiationManagerImpl() {
+        handle(PROVIDER_OFFERING, this::sendOffer);
+        handle(CONFIRMING, this::sendAgreement);
+        handle(DECLINING, this::sendRejection);
+        waitIn(PROVIDER_OFFERED);
     }
 
     @Override
     public NegotiationResponse requested(ClaimToken token, String correlationId, ContractOffer offer) {
-        throw new UnsupportedOperationException();
+        if (negotiationStore.findForCorrelationId(correlationId) != null) {
+            return update(() -> negotiationStore.findForCorrelationId(correlationId), existing -> {
+                if (existing.getState() == PROVIDER_OFFERED.code() && OfferHash.hash(offer).equals(OfferHash.hash(existing.getLastContractOffer()))) {
+                    // the consumer approves the counter-offer by requesting it unchanged
+                    existing.transitionConfirming();
+                }
+                // otherwise the request is a duplicate: return the negotiation
+                return new NegotiationResponse(OK, existing);
+            });
+        }
+        if (offer.getConsumer() == null) {
+            monitor.info("Contract offer " + offer.getId() + " has no consumer, rejecting contract request " + correlationId);
+            return new NegotiationResponse(FATAL_ERROR);
+        }
+        var negotiation = ContractNegotiation.Builder.newInstance()
+                .id(randomUUID().toString())
+                .correlationId(correlationId)
+                .counterPartyId(offer.getConsumer().toString())
+                .protocol(protocol)
+                .type(ContractNegotiation.Type.PROVIDER)
+                .build();
+        negotiation.addContractOffer(offer);
+        negotiation.transitionRequested();
+        evaluate(token, negotiation, offer);
+        negotiationStore.save(negotiation);
+        return new NegotiationResponse(OK, negotiation);
     }
 
     @Override
     public NegotiationResponse offerReceived(ClaimToken token, String negotiationId, ContractOffer offer, String hash) {
-        throw new UnsupportedOperationException();
+        return update(() -> findNegotiation(negotiationId), negotiation -> {
+            if (negotiation.getState() != PROVIDER_OFFERED.code()) {
+                return duplicateOrInvalid(negotiation, CLIENT_OFFERED, CONFIRMING, CONFIRMED);
+            }
+            if (!hashMatches(negotiation, hash)) {
+                return new NegotiationResponse(INVALID_STATE, negotiation);
+            }
+            negotiation.addContractOffer(offer);
+            negotiation.transitionClientOffered();
+            evaluate(token, negotiation, offer);
+            return new NegotiationResponse(OK, negotiation);
+        });
     }
 
     @Override
     public NegotiationResponse consumerApproved(String negotiationId, String hash) {
-        throw new UnsupportedOperationException();
+        return update(() -> findNegotiation(negotiationId), negotiation -> {
+            if (negotiation.getState() != PROVIDER_OFFERED.code()) {
+                return duplicateOrInvalid(negotiation, CONFIRMING, CONFIRMED);
+            }
+            if (!hashMatches(negotiation, hash)) {
+                return new NegotiationResponse(INVALID_STATE, negotiation);
+            }
+            negotiation.transitionConfirming();
+            return new NegotiationResponse(OK, negotiation);
+        });
+    }
+
+    @Override
+    public NegotiationResponse declined(ClaimToken token, String negotiationId) {
+        return update(() -> findNegotiation(negotiationId), negotiation -> {
+            if (isFinal(negotiation)) {
+                return duplicateOrInvalid(negotiation, DECLINED);
+            }
+            negotiation.transitionDeclined();
+            return new NegotiationResponse(OK, negotiation);
+        });
+    }
+
+    /**
+     * Re-evaluates the consumer offer. An offer whose terms survive validation unchanged is confirmed, otherwise the validated offer is made as counter-offer.
+     */
+    private void evaluate(ClaimToken token, ContractNegotiation negotiation, ContractOffer offer) {
+        var result = validationService.validate(token, offer);
+        if (result.invalid()) {
+            monitor.debug("Contract offer " + offer.getId() + " is invalid, declining contract negotiation " + negotiation.getId());
+            negotiation.transitionDeclining();
+            return;
+        }
+        var validated = result.getValidatedOffer();
+        if (Objects.equals(OfferHash.hash(validated), OfferHash.hash(offer))) {
+            negotiation.transitionConfirming();
+        } else {
+            var counterOffer = ContractOffer.Builder.newInstance()
+                    .id(validated.getId())
+                    .policy(validated.getPolicy())
+                    .assets(validated.getAssets())
+                    .provider(offer.getProvider())
+                    .consumer(offer.getConsumer())
+                    .contractStart(offer.getContractStart())
+                    .contractEnd(offer.getContractEnd())
+                    .build();
+            negotiation.addContractOffer(counterOffer);
+            negotiation.transitionProviderOffering();
+        }
+    }
+
+    private void sendOffer(ContractNegotiation negotiation) {
+        negotiation.transitionProviderOffered();
+        var request = ContractRequest.Builder.newInstance()
+                .protocol(negotiation.getProtocol())
+                .connectorId(negotiation.getCounterPartyId())
+                .connectorAddress(negotiation.getCounterPartyId())
+                .contractOffer(negotiation.getLastContractOffer())
+                .build();
+        saveAndSend(negotiation, PROVIDER_OFFERING, request, negotiation.getCorrelationId());
+    }
+
+    private void sendAgreement(ContractNegotiation negotiation) {
+        var agreement = createAgreement(negotiation, negotiation.getLastContractOffer());
+        negotiation.setContractAgreement(agreement);
+        negotiation.transitionConfirmed();
+        var request = AgreementRequest.Builder.newInstance()
+                .protocol(negotiation.getProtocol())
+                .connectorId(negotiation.getCounterPartyId())
+                .connectorAddress(negotiation.getCounterPartyId())
+                .contractAgreement(agreement)
+                .build();
+        saveAndSend(negotiation, CONFIRMING, request, negotiation.getCorrelationId());
+    }
+
+    private void sendRejection(ContractNegotiation negotiation) {
+        negotiation.transitionDeclined();
+        var rejection = ContractRejection.Builder.newInstance()
+                .protocol(negotiation.getProtocol())
+                .connectorId(negotiation.getCounterPartyId())
+                .connectorAddress(negotiation.getCounterPartyId())
+                .correlatedContractId(negotiation.getCorrelationId())
+                .rejectionReason(DECLINE_REASON)
+                .build();
+        saveAndSend(negotiation, DECLINING, rejection, negotiation.getCorrelationId());
+    }
+
+    private ContractAgreement createAgreement(ContractNegotiation negotiation, ContractOffer offer) {
+        var now = Instant.now();
+        var start = offer.getContractStart() != null ? offer.getContractStart().toInstant() : now;
+        var end = offer.getContractEnd() != null ? offer.getContractEnd().toInstant() : now.plus(contractValidity);
+        var definitionId = ContractId.parseContractId(offer.getId())[DEFINITION_PART];
+        return ContractAgreement.Builder.newInstance()
+                .id(ContractId.createContractId(definitionId))
+                .providerAgentId(participantId)
+                .consumerAgentId(negotiation.getCounterPartyId())
+                .contractSigningDate(now.getEpochSecond())
+                .contractStartDate(start.getEpochSecond())
+                .contractEndDate(end.getEpochSecond())
+                .assetIds(offer.getAssets().stream().map(Asset::getId).collect(toList()))
+                .policy(offer.getPolicy())
+                .build();
+    }
+
+    /**
+     * Finds the negotiation by its id or, as the consumer may only know its own id, by the correlation id.
+     */
+    @Nullable
+    private ContractNegotiation findNegotiation(String negotiationId) {
+        var negotiation = negotiationStore.find(negotiationId);
+        return negotiation != null ? negotiation : negotiationStore.findForCorrelationId(negotiationId);
+    }
+
+    public static class Builder extends AbstractContractNegotiationManager.Builder<ProviderContractNegotiationManagerImpl, Builder> {
+
+        private Builder() {
+            super(new ProviderContractNegotiationManagerImpl());
+        }
+
+        public static Builder newInstance() {
+            return new Builder();
+        }
+
+        public Builder validationService(ContractValidationService validationService) {
+            manager.validationService = validationService;
+            return this;
+        }
+
+        /**
+         * The id of this connector, which is recorded as provider in agreements.
+         */
+        public Builder participantId(String participantId) {
+            manager.participantId = participantId;
+            return this;
+        }
+
+        /**
+         * The validity of agreements for offers that do not specify an end date.
+         */
+        public Builder contractValidity(Duration contractValidity) {
+            manager.contractValidity = contractValidity;
+            return this;
+        }
+
+        @Override
+        public ProviderContractNegotiationManagerImpl build() {
+            Objects.requireNonNull(manager.validationService, "validationService");
+            Objects.requireNonNull(manager.participantId, "participantId");
+            return super.build();
+        }
     }
 }
@@ -51,16 +51,14 @@ public class ContractDefinitionServiceImpl implements ContractDefinitionService
         return definitionStore.findAll().stream().filter(definition -> evaluatePolicies(definition, agent));
     }
 
+    /**
+     * Looks up the definition by id, so that only the policies of the requested definition are evaluated.
+     */
     @Nullable
+    @Override
     public ContractDefinition definitionFor(ParticipantAgent agent, String definitionId) {
-        var definitionOptional = definitionStore.findAll().stream().filter(d -> d.getId().equals(definitionId)).findFirst();
-        if (definitionOptional.isPresent()) {
-            var definition = definitionOptional.get();
-            if (evaluatePolicies(definition, agent)) {
-                return definition;
-            }
-        }
-        return null;
+        var definition = definitionStore.findById(definitionId);
+        return definition != null && evaluatePolicies(definition, agent) ? definition : null;
     }
 
     /**
@@ -16,6 +16,8 @@ package org.eclipse.dataspaceconnector.contract.policy;
 import org.eclipse.dataspaceconnector.policy.engine.PolicyEvaluator;
 import org.eclipse.dataspaceconnector.policy.engine.RuleProblem;
 import org.eclipse.dataspaceconnector.policy.model.Duty;
+import org.eclipse.dataspaceconnector.policy.model.Operand;
+import org.eclipse.dataspaceconnector.policy.model.Operator;
 import org.eclipse.dataspaceconnector.policy.model.Permission;
 import org.eclipse.dataspaceconnector.policy.model.Policy;
 import org.eclipse.dataspaceconnector.policy.model.Prohibition;
@@ -26,9 +28,13 @@ import org.eclipse.dataspaceconnector.spi.contract.policy.PolicyContext;
 import org.eclipse.dataspaceconnector.spi.contract.policy.PolicyEngine;
 import org.eclipse.dataspaceconnector.spi.contract.policy.PolicyResult;
 import org.eclipse.dataspaceconnector.spi.contract.policy.RuleFunction;
+import org.eclipse.dataspaceconnector.spi.metrics.MetricRegistry;
+import org.eclipse.dataspaceconnector.spi.metrics.NoopMetricRegistry;
+import org.eclipse.dataspaceconnector.spi.metrics.Timer;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.function.BiFunction;
 
 import static java.util.stream.Collectors.toList;
@@ -41,9 +47,28 @@ public class PolicyEngineImpl implements PolicyEngine {
     private List<RuleFunctionEntry<Rule>> ruleFunctions = new ArrayList<>();
     private List<BiFunction<Policy, PolicyContext, Boolean>> preValidators = new ArrayList<>();
     private List<BiFunction<Policy, PolicyContext, Boolean>> postValidators = new ArrayList<>();
+    private final Timer grantedTimer;
+    private final Timer deniedTimer;
+
+    public PolicyEngineImpl() {
+        this(NoopMetricRegistry.INSTANCE);
+    }
+
+    public PolicyEngineImpl(MetricRegistry metrics) {
+        grantedTimer = metrics.timer("edc_policy_evaluation_seconds", Map.of("outcome", "granted"));
+        deniedTimer = metrics.timer("edc_policy_evaluation_seconds", Map.of("outcome", "denied"));
+    }
 
     @Override
     public PolicyResult evaluate(Policy policy, ParticipantAgent agent) {
+        var start = System.nanoTime();
+        var result = evaluatePolicy(policy, agent);
+        var timer = result.valid() ? grantedTimer : deniedTimer;
+        timer.record(System.nanoTime() - start);
+        return result;
+    }
+
+    private PolicyResult evaluatePolicy(Policy policy, ParticipantAgent agent) {
         var context = new PolicyContextImpl(agent);
 
         for (BiFunction<Policy, PolicyContext, Boolean> validator : preValidators) {
@@ -66,11 +91,11 @@ public class PolicyEngineImpl implements PolicyEngine {
 
         constraintFunctions.forEach(entry -> {
             if (Duty.class.isAssignableFrom(entry.type)) {
-                evalBuilder.dutyFunction(entry.key, (operator, value, duty) -> entry.function.evaluate(operator, value, duty, context));
+                evalBuilder.dutyFunction(entry.key, new ContextualConstraintFunction<>(entry.function, context));
             } else if (Permission.class.isAssignableFrom(entry.type)) {
-                evalBuilder.permissionFunction(entry.key, (operator, value, permission) -> entry.function.evaluate(operator, value, permission, context));
+                evalBuilder.permissionFunction(entry.key, new ContextualConstraintFunction<>(entry.function, context));
             } else if (Prohibition.class.isAssignableFrom(entry.type)) {
-                evalBuilder.prohibitionFunction(entry.key, (operator, value, prohibition) -> entry.function.evaluate(operator, value, prohibition, context));
+                evalBuilder.prohibitionFunction(entry.key, new ContextualConstraintFunction<>(entry.function, context));
             }
         });
 
@@ -122,6 +147,29 @@ public class PolicyEngineImpl implements PolicyEngine {
         }
     }
 
+    /**
+     * Binds a constraint function to the context of an evaluation, passing on the right operand as converted when the policy was loaded.
+     */
+    private static class ContextualConstraintFunction<R extends Rule> implements org.eclipse.dataspaceconnector.policy.model.AtomicConstraintFunction<Object, R, Boolean> {
+        private final AtomicConstraintFunction<? super R> function;
+        private final PolicyContext context;
+
+        ContextualConstraintFunction(AtomicConstraintFunction<? super R> function, PolicyContext context) {
+            this.function = function;
+            this.context = context;
+        }
+
+        @Override
+        public Boolean evaluate(Operator operator, Object rightValue, R rule) {
+            return function.evaluate(operator, rightValue, rule, context);
+        }
+
+        @Override
+        public Boolean evaluate(Operator operator, Operand rightOperand, R rule) {
+            return function.evaluate(operator, rightOperand, rule, context);
+        }
+    }
+
     private static class RuleFunctionEntry<R extends Rule> {
         Class<R> type;
         RuleFunction<R> function;
@@ -14,7 +14,7 @@
 package org.eclipse.dataspaceconnector.contract.validation;
 
 import org.eclipse.dataspaceconnector.spi.asset.AssetIndex;
-import org.eclipse.dataspaceconnector.spi.asset.Criterion;
+import org.eclipse.dataspaceconnector.spi.asset.CriterionToPredicateConverter;
 import org.eclipse.dataspaceconnector.spi.contract.agent.ParticipantAgentService;
 import org.eclipse.dataspaceconnector.spi.contract.offer.ContractDefinitionService;
 import org.eclipse.dataspaceconnector.spi.contract.validation.ContractValidationService;
@@ -27,11 +27,10 @@ import org.eclipse.dataspaceconnector.spi.types.domain.contract.offer.ContractOf
 import org.jetbrains.annotations.NotNull;
 
 import java.time.Instant;
-import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.function.Supplier;
 
-import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toList;
 import static org.eclipse.dataspaceconnector.contract.common.ContractId.DEFINITION_PART;
 import static org.eclipse.dataspaceconnector.contract.common.ContractId.parseContractId;
@@ -44,6 +43,7 @@ public class ContractValidationServiceImpl implements ContractValidationService
     private final ParticipantAgentService agentService;
     private final Supplier<ContractDefinitionService> definitionServiceSupplier;
     private final AssetIndex assetIndex;
+    private final CriterionToPredicateConverter predicateConverter = new CriterionToPredicateConverter();
 
     public ContractValidationServiceImpl(ParticipantAgentService agentService, Supplier<ContractDefinitionService> definitionServiceSupplier, AssetIndex assetIndex) {
         this.agentService = Objects.requireNonNull(agentService);
@@ -65,13 +65,12 @@ public class ContractValidationServiceImpl implements ContractValidationService
         if (contractDefinition == null) {
             return OfferValidationResult.INVALID;
         }
-        var criteria = createCriteria(offer, contractDefinition);
 
         // sanitize the assets
-        var assets = assetIndex.queryAssets(criteria);
+        var assets = selectedAssets(offer, contractDefinition);
 
         var sanitizedUsagePolicy = contractDefinition.getContractPolicy();
-        var validatedOffer = ContractOffer.Builder.newInstance().id(offer.getId()).assets(assets.collect(toList())).policy(sanitizedUsagePolicy).build();
+        var validatedOffer = ContractOffer.Builder.newInstance().id(offer.getId()).assets(assets).policy(sanitizedUsagePolicy).build();
         return new OfferValidationResult(validatedOffer);
     }
 
@@ -96,13 +95,20 @@ public class ContractValidationServiceImpl implements ContractValidationService
         // TODO validate counter-party
     }
 
+    /**
+     * Returns the offered assets that exist and are selected by the definition. Each asset is looked up by id and tested against the selector expression, so the cost does not
+     * depend on the number of assets in the index.
+     */
     @NotNull
-    private ArrayList<Criterion> createCriteria(ContractOffer offer, ContractDefinition contractDefinition) {
-        var assetIds = offer.getAssets().stream().map(Asset::getId).collect(joining(","));
-        var criteria = new ArrayList<>(contractDefinition.getSelectorExpression().getCriteria());
-        var criterion = new Criterion("id", "IN", assetIds);
-        criteria.add(criterion);
-        return criteria;
+    private List<Asset> selectedAssets(ContractOffer offer, ContractDefinition contractDefinition) {
+        var selected = predicateConverter.convert(contractDefinition.getSelectorExpression());
+        return offer.getAssets().stream()
+                .map(Asset::getId)
+                .distinct()
+                .map(assetIndex::findById)
+                .filter(Objects::nonNull)
+                .filter(selected)
+                .collect(toList());
     }
 
     private boolean isExpired(ContractAgreement contractAgreement) {
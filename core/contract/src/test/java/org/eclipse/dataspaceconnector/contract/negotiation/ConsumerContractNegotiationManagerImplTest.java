@@ -0,0 +1,287 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+package org.eclipse.dataspaceconnector.contract.negotiation;
+
+import org.easymock.Capture;
+import org.easymock.EasyMock;
+import org.eclipse.dataspaceconnector.policy.model.Policy;
+import org.eclipse.dataspaceconnector.spi.contract.negotiation.NegotiationResponse;
+import org.eclipse.dataspaceconnector.spi.contract.negotiation.store.ContractNegotiationStore;
+import org.eclipse.dataspaceconnector.spi.iam.ClaimToken;
+import org.eclipse.dataspaceconnector.spi.message.RemoteMessageDispatcherRegistry;
+import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
+import org.eclipse.dataspaceconnector.spi.types.domain.asset.Asset;
+import org.eclipse.dataspaceconnector.spi.types.domain.contract.ContractAgreement;
+import org.eclipse.dataspaceconnector.spi.types.domain.contract.negotiation.ContractNegotiation;
+import org.eclipse.dataspaceconnector.spi.types.domain.contract.negotiation.ContractNegotiationStates;
+import org.eclipse.dataspaceconnector.spi.types.domain.contract.offer.ContractOffer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.easymock.EasyMock.anyInt;
+import static org.easymock.EasyMock.anyLong;
+import static org.easymock.EasyMock.capture;
+import static org.easymock.EasyMock.isA;
+import static org.easymock.EasyMock.newCapture;
+import static org.eclipse.dataspaceconnector.spi.contract.negotiation.NegotiationResponse.Status.FATAL_ERROR;
+import static org.eclipse.dataspaceconnector.spi.contract.negotiation.NegotiationResponse.Status.INVALID_STATE;
+import static org.eclipse.dataspaceconnector.spi.contract.negotiation.NegotiationResponse.Status.OK;
+
+class ConsumerContractNegotiationManagerImplTest {
+    private final ClaimToken token = ClaimToken.Builder.newInstance().build();
+    private final Policy policy = Policy.Builder.newInstance().assignee("consumer").build();
+    private ContractNegotiationStore store;
+    private ConsumerContractNegotiationManagerImpl.Builder builder;
+    private ConsumerContractNegotiationManagerImpl manager;
+
+    @Test
+    void initiate_savesRequestingNegotiation() {
+        Capture<ContractNegotiation> saved = newCapture();
+        store.save(capture(saved));
+        replayAndStart();
+
+        var response = manager.initiate(offer(policy, "asset-1"));
+
+        assertThat(response.getStatus()).isEqualTo(OK);
+        assertThat(saved.getValue().getState()).isEqualTo(ContractNegotiationStates.REQUESTING.code());
+        assertThat(saved.getValue().getCounterPartyId()).isEqualTo("https://provider.example.com");
+        assertThat(saved.getValue().getType()).isEqualTo(ContractNegotiation.Type.CLIENT);
+        EasyMock.verify(store);
+    }
+
+    @Test
+    void initiate_requiresProvider() {
+        replayAndStart();
+
+        var offer = ContractOffer.Builder.newInstance().id("1:2").policy(policy).build();
+
+        assertThat(manager.initiate(offer).getStatus()).isEqualTo(FATAL_ERROR);
+    }
+
+    @Test
+    void offerReceived_approvesNarrowedOffer() {
+        var negotiation = negotiation(ContractNegotiationStates.REQUESTED, offer(policy, "asset-1", "asset-2"));
+        EasyMock.expect(store.find(negotiation.getId())).andReturn(negotiation);
+        EasyMock.expect(store.save(negotiation, ContractNegotiationStates.REQUESTED.code())).andReturn(true);
+        replayAndStart();
+
+        var response = manager.offerReceived(token, negotiation.getId(), offer(policy, "asset-1"), OfferHash.hash(negotiation.getLastContractOffer()));
+
+        assertThat(response.getStatus()).isEqualTo(OK);
+        assertThat(negotiation.getState()).isEqualTo(ContractNegotiationStates.CLIENT_APPROVING.code());
+        EasyMock.verify(store);
+    }
+
+    @Test
+    void offerReceived_declinesChangedPolicy() {
+        var negotiation = negotiation(ContractNegotiationStates.REQUESTED, offer(policy, "asset-1"));
+        EasyMock.expect(store.find(negotiation.getId())).andReturn(negotiation);
+        EasyMock.expect(store.save(negotiation, ContractNegotiationStates.REQUESTED.code())).andReturn(true);
+        replayAndStart();
+
+        var counterOffer = offer(Policy.Builder.newInstance().assignee("someone-else").build(), "asset-1");
+        manager.offerReceived(token, negotiation.getId(), counterOffer, null);
+
+        assertThat(negotiation.getState()).isEqualTo(ContractNegotiationStates.DECLINING.code());
+        EasyMock.verify(store);
+    }
+
+    @Test
+    void confirmed_acceptsMatchingAgreement() {
+        var offer = offer(policy, "asset-1");
+        var negotiation = negotiation(ContractNegotiationStates.REQUESTED, offer);
+        EasyMock.expect(store.find(negotiation.getId())).andReturn(negotiation);
+        EasyMock.expect(store.save(negotiation, ContractNegotiationStates.REQUESTED.code())).andReturn(true);
+        replayAndStart();
+
+        var agreement = agreement(policy, "asset-1");
+        var response = manager.confirmed(token, negotiation.getId(), agreement, OfferHash.hash(offer));
+
+        assertThat(response.getStatus()).isEqualTo(OK);
+        assertThat(negotiation.getState()).isEqualTo(ContractNegotiationStates.CONFIRMED.code());
+        assertThat(negotiation.getContractAgreement()).isSameAs(agreement);
+        EasyMock.verify(store);
+    }
+
+    @Test
+    void confirmed_rejectsStaleHash() {
+        var negotiation = negotiation(ContractNegotiationStates.REQUESTED, offer(policy, "asset-1"));
+        EasyMock.expect(store.find(negotiation.getId())).andReturn(negotiation);
+        replayAndStart();
+
+        var response = manager.confirmed(token, negotiation.getId(), agreement(policy, "asset-1"), "stale");
+
+        assertThat(response.getStatus()).isEqualTo(INVALID_STATE);
+        assertThat(negotiation.getContractAgreement()).isNull();
+        EasyMock.verify(store);
+    }
+
+    @Test
+    void waitingNegotiation_timesOut() throws InterruptedException {
+        var negotiation = ContractNegotiation.Builder.newInstance()
+                .id("negotiation-id")
+                .counterPartyId("https://provider.example.com")
+                .protocol("ids-multipart")
+                .state(ContractNegotiationStates.REQUESTED.code())
+                .stateTimestamp(Instant.now().minus(Duration.ofMinutes(2)).toEpochMilli())
+                .build();
+        EasyMock.expect(store.nextForState(anyInt(), anyInt())).andReturn(emptyList()).anyTimes();
+        EasyMock.expect(store.findOlderThan(anyInt(), anyLong(), anyInt())).andAnswer(() -> {
+            var state = (int) EasyMock.getCurrentArguments()[0];
+            var olderThan = (long) EasyMock.getCurrentArguments()[1];
+            return state == negotiation.getState() && negotiation.getStateTimestamp() < olderThan ? List.of(negotiation) : emptyList();
+        }).anyTimes();
+        var latch = new CountDownLatch(1);
+        EasyMock.expect(store.save(negotiation, ContractNegotiationStates.REQUESTED.code())).andAnswer(() -> {
+            latch.countDown();
+            return true;
+        });
+        EasyMock.replay(store);
+
+        manager = builder.timeoutMillis(Duration.ofMinutes(1).toMillis()).build();
+        manager.start(store);
+
+        assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(negotiation.getState()).isEqualTo(ContractNegotiationStates.ERROR.code());
+        EasyMock.verify(store);
+    }
+
+    @Test
+    void confirmedWhileTimingOut_isNotOverwritten() throws InterruptedException {
+        var offer = offer(policy, "asset-1");
+        var stored = new AtomicReference<>(negotiation(ContractNegotiationStates.REQUESTED, offer));
+        var negotiationId = stored.get().getId();
+        var response = new AtomicReference<NegotiationResponse>();
+        var timeoutSaved = new CountDownLatch(1);
+        // the store is called from another thread while the timeout check is inside the mock
+        EasyMock.makeThreadSafe(store, false);
+        EasyMock.expect(store.nextForState(anyInt(), anyInt())).andReturn(emptyList()).anyTimes();
+        EasyMock.expect(store.find(negotiationId)).andAnswer(() -> stored.get().copy()).anyTimes();
+        EasyMock.expect(store.save(isA(ContractNegotiation.class), anyInt())).andAnswer(() -> {
+            var negotiation = (ContractNegotiation) EasyMock.getCurrentArguments()[0];
+            var expectedState = (int) EasyMock.getCurrentArguments()[1];
+            boolean saved;
+            synchronized (stored) {
+                saved = stored.get().getState() == expectedState;
+                if (saved) {
+                    stored.set(negotiation.copy());
+                }
+            }
+            if (negotiation.getState() == ContractNegotiationStates.ERROR.code()) {
+                timeoutSaved.countDown();
+            }
+            return saved;
+        }).anyTimes();
+        EasyMock.expect(store.findOlderThan(anyInt(), anyLong(), anyInt())).andAnswer(() -> {
+            var state = (int) EasyMock.getCurrentArguments()[0];
+            if (state != ContractNegotiationStates.REQUESTED.code() || stored.get().getState() != state) {
+                return emptyList();
+            }
+            var timedOut = stored.get().copy();
+            // the agreement arrives on another thread after the timeout check has read the negotiation
+            var confirmation = CompletableFuture.supplyAsync(() -> manager.confirmed(token, negotiationId, agreement(policy, "asset-1"), OfferHash.hash(offer)));
+            response.set(confirmation.join());
+            return List.of(timedOut);
+        }).anyTimes();
+        EasyMock.replay(store);
+
+        manager = builder.timeoutMillis(1).build();
+        manager.start(store);
+
+        assertThat(timeoutSaved.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(response.get().getStatus()).isEqualTo(OK);
+        assertThat(stored.get().getState()).isEqualTo(ContractNegotiationStates.CONFIRMED.code());
+        assertThat(stored.get().getContractAgreement()).isNotNull();
+    }
+
+    @BeforeEach
+    void setUp() {
+        store = EasyMock.createMock(ContractNegotiationStore.class);
+        Monitor monitor = EasyMock.createNiceMock(Monitor.class);
+        EasyMock.replay(monitor);
+        builder = ConsumerContractNegotiationManagerImpl.Builder.newInstance()
+                .dispatcherRegistry(EasyMock.createMock(RemoteMessageDispatcherRegistry.class))
+                .waitStrategy(() -> 10L)
+                .monitor(monitor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (manager != null) {
+            manager.stop();
+        }
+    }
+
+    /**
+     * Starts the manager with a store that has no negotiations to process.
+     */
+    private void replayAndStart() {
+        EasyMock.expect(store.nextForState(anyInt(), anyInt())).andReturn(emptyList()).anyTimes();
+        EasyMock.replay(store);
+        manager = builder.build();
+        manager.start(store);
+    }
+
+    private ContractNegotiation negotiation(ContractNegotiationStates state, ContractOffer offer) {
+        var negotiation = ContractNegotiation.Builder.newInstance()
+                .id("negotiation-id")
+                .counterPartyId("https://provider.example.com")
+                .protocol("ids-multipart")
+                .state(state.code())
+                .stateTimestamp(Instant.now().toEpochMilli())
+                .build();
+        negotiation.addContractOffer(offer);
+        return negotiation;
+    }
+
+    private ContractOffer offer(Policy policy, String... assetIds) {
+        var assets = new ArrayList<Asset>();
+        for (String assetId : assetIds) {
+            assets.add(Asset.Builder.newInstance().id(assetId).build());
+        }
+        return ContractOffer.Builder.newInstance()
+                .id("1:2")
+                .policy(policy)
+                .assets(assets)
+                .provider(URI.create("https://provider.example.com"))
+                .build();
+    }
+
+    private ContractAgreement agreement(Policy policy, String... assetIds) {
+        var now = Instant.now().getEpochSecond();
+        return ContractAgreement.Builder.newInstance()
+                .id("1:3")
+                .providerAgentId("provider")
+                .consumerAgentId("consumer")
+                .contractSigningDate(now)
+                .contractStartDate(now)
+                .contractEndDate(now + 3600)
+                .assetIds(List.of(assetIds))
+                .policy(policy)
+                .build();
+    }
+}
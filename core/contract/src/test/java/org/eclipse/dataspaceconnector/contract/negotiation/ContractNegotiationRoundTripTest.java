@@ -0,0 +1,276 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+package org.eclipse.dataspaceconnector.contract.negotiation;
+
+import org.easymock.EasyMock;
+import org.eclipse.dataspaceconnector.policy.model.Policy;
+import org.eclipse.dataspaceconnector.spi.contract.negotiation.store.ContractNegotiationStore;
+import org.eclipse.dataspaceconnector.spi.contract.validation.ContractValidationService;
+import org.eclipse.dataspaceconnector.spi.contract.validation.OfferValidationResult;
+import org.eclipse.dataspaceconnector.spi.iam.ClaimToken;
+import org.eclipse.dataspaceconnector.spi.message.MessageContext;
+import org.eclipse.dataspaceconnector.spi.message.RemoteMessageDispatcher;
+import org.eclipse.dataspaceconnector.spi.message.RemoteMessageDispatcherRegistry;
+import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
+import org.eclipse.dataspaceconnector.spi.types.domain.asset.Asset;
+import org.eclipse.dataspaceconnector.spi.types.domain.contract.AgreementRequest;
+import org.eclipse.dataspaceconnector.spi.types.domain.contract.ContractAgreement;
+import org.eclipse.dataspaceconnector.spi.types.domain.contract.ContractRejection;
+import org.eclipse.dataspaceconnector.spi.types.domain.contract.ContractRequest;
+import org.eclipse.dataspaceconnector.spi.types.domain.contract.negotiation.ContractNegotiation;
+import org.eclipse.dataspaceconnector.spi.types.domain.contract.negotiation.ContractNegotiationStates;
+import org.eclipse.dataspaceconnector.spi.types.domain.contract.offer.ContractOffer;
+import org.eclipse.dataspaceconnector.spi.types.domain.message.RemoteMessage;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs negotiations between a consumer and a provider manager that deliver their messages to each other in memory.
+ */
+class ContractNegotiationRoundTripTest {
+    private final ClaimToken token = ClaimToken.Builder.newInstance().build();
+    private final Policy policy = Policy.Builder.newInstance().assignee("consumer").build();
+    private final FakeStore consumerStore = new FakeStore();
+    private final FakeStore providerStore = new FakeStore();
+    private ConsumerContractNegotiationManagerImpl consumer;
+    private ProviderContractNegotiationManagerImpl provider;
+
+    @Test
+    void counterOffer_isApprovedAndConfirmed() throws InterruptedException {
+        // the provider narrows the offer to the first asset, which the consumer approves as the policy is unchanged
+        start(offer -> new OfferValidationResult(offer(offer.getPolicy(), "asset-1")));
+
+        var negotiationId = consumer.initiate(offer(policy, "asset-1", "asset-2")).getContractNegotiation().getId();
+
+        var consumerNegotiation = awaitState(consumerStore, negotiationId, ContractNegotiationStates.CONFIRMED);
+        var providerNegotiation = awaitState(providerStore, negotiationId, ContractNegotiationStates.CONFIRMED);
+        assertThat(consumerNegotiation.getContractAgreement().getAssetIds()).containsExactly("asset-1");
+        assertThat(providerNegotiation.getContractAgreement().getId()).isEqualTo(consumerNegotiation.getContractAgreement().getId());
+        assertThat(providerNegotiation.getContractOffers()).hasSize(2);
+    }
+
+    @Test
+    void unchangedOffer_isConfirmed() throws InterruptedException {
+        start(OfferValidationResult::new);
+
+        var negotiationId = consumer.initiate(offer(policy, "asset-1")).getContractNegotiation().getId();
+
+        var consumerNegotiation = awaitState(consumerStore, negotiationId, ContractNegotiationStates.CONFIRMED);
+        awaitState(providerStore, negotiationId, ContractNegotiationStates.CONFIRMED);
+        assertThat(OfferHash.hash(consumerNegotiation.getContractAgreement())).isEqualTo(OfferHash.hash(consumerNegotiation.getLastContractOffer()));
+    }
+
+    @Test
+    void counterOfferWithChangedPolicy_isDeclined() throws InterruptedException {
+        start(offer -> new OfferValidationResult(offer(Policy.Builder.newInstance().assignee("someone-else").build(), "asset-1")));
+
+        var negotiationId = consumer.initiate(offer(policy, "asset-1")).getContractNegotiation().getId();
+
+        awaitState(consumerStore, negotiationId, ContractNegotiationStates.DECLINED);
+        awaitState(providerStore, negotiationId, ContractNegotiationStates.DECLINED);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (consumer != null) {
+            consumer.stop();
+        }
+        if (provider != null) {
+            provider.stop();
+        }
+    }
+
+    private void start(Function<ContractOffer, OfferValidationResult> validation) {
+        Monitor monitor = EasyMock.createNiceMock(Monitor.class);
+        EasyMock.replay(monitor);
+        consumer = ConsumerContractNegotiationManagerImpl.Builder.newInstance()
+                .dispatcherRegistry(new Dispatcher(this::deliverToProvider))
+                .waitStrategy(() -> 10L)
+                .monitor(monitor)
+                .build();
+        provider = ProviderContractNegotiationManagerImpl.Builder.newInstance()
+                .validationService(new ValidationService(validation))
+                .participantId("provider")
+                .dispatcherRegistry(new Dispatcher(this::deliverToConsumer))
+                .waitStrategy(() -> 10L)
+                .monitor(monitor)
+                .build();
+        consumer.start(consumerStore);
+        provider.start(providerStore);
+    }
+
+    /**
+     * Delivers a message of the consumer, whose process id is the consumer negotiation id, i.e. the correlation id of the provider.
+     */
+    private Object deliverToProvider(RemoteMessage message, String processId) {
+        if (message instanceof ContractRequest) {
+            return provider.requested(token, processId, ((ContractRequest) message).getContractOffer());
+        } else if (message instanceof ContractRejection) {
+            return provider.declined(token, processId);
+        }
+        throw new IllegalArgumentException("Unexpected message " + message);
+    }
+
+    /**
+     * Delivers a message of the provider, whose process id is the consumer negotiation id.
+     */
+    private Object deliverToConsumer(RemoteMessage message, String processId) {
+        var negotiation = consumerStore.find(processId);
+        var hash = negotiation != null ? OfferHash.hash(negotiation.getLastContractOffer()) : null;
+        if (message instanceof ContractRequest) {
+            return consumer.offerReceived(token, processId, ((ContractRequest) message).getContractOffer(), hash);
+        } else if (message instanceof AgreementRequest) {
+            return consumer.confirmed(token, processId, ((AgreementRequest) message).getContractAgreement(), hash);
+        } else if (message instanceof ContractRejection) {
+            return consumer.declined(token, processId);
+        }
+        throw new IllegalArgumentException("Unexpected message " + message);
+    }
+
+    /**
+     * Waits for the negotiation with the id or correlation id to reach the state.
+     */
+    private ContractNegotiation awaitState(FakeStore store, String id, ContractNegotiationStates state) throws InterruptedException {
+        for (int i = 0; i < 1000; i++) {
+            var negotiation = store.find(id);
+            if (negotiation == null) {
+                negotiation = store.findForCorrelationId(id);
+            }
+            if (negotiation != null && negotiation.getState() == state.code()) {
+                return negotiation;
+            }
+            Thread.sleep(10);
+        }
+        throw new AssertionError("Contract negotiation " + id + " did not reach state " + state);
+    }
+
+    private ContractOffer offer(Policy policy, String... assetIds) {
+        var assets = new ArrayList<Asset>();
+        for (String assetId : assetIds) {
+            assets.add(Asset.Builder.newInstance().id(assetId).build());
+        }
+        return ContractOffer.Builder.newInstance()
+                .id("1:2")
+                .policy(policy)
+                .assets(assets)
+                .provider(URI.create("https://provider.example.com"))
+                .consumer(URI.create("https://consumer.example.com"))
+                .build();
+    }
+
+    private static class Dispatcher implements RemoteMessageDispatcherRegistry {
+        private final BiFunction<RemoteMessage, String, Object> delivery;
+
+        Dispatcher(BiFunction<RemoteMessage, String, Object> delivery) {
+            this.delivery = delivery;
+        }
+
+        @Override
+        public void register(RemoteMessageDispatcher dispatcher) {
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> CompletableFuture<T> send(Class<T> responseType, RemoteMessage message, MessageContext context) {
+            return CompletableFuture.supplyAsync(() -> (T) delivery.apply(message, context.getProcessId()));
+        }
+    }
+
+    private static class ValidationService implements ContractValidationService {
+        private final Function<ContractOffer, OfferValidationResult> validation;
+
+        ValidationService(Function<ContractOffer, OfferValidationResult> validation) {
+            this.validation = validation;
+        }
+
+        @Override
+        public @NotNull OfferValidationResult validate(ClaimToken token, ContractOffer offer) {
+            return validation.apply(offer);
+        }
+
+        @Override
+        public boolean validate(ClaimToken token, ContractAgreement agreement) {
+            return true;
+        }
+    }
+
+    /**
+     * Keeps copies of the negotiations so that the managers cannot share instances.
+     */
+    private static class FakeStore implements ContractNegotiationStore {
+        private final Map<String, ContractNegotiation> negotiations = new ConcurrentHashMap<>();
+
+        @Override
+        public @Nullable ContractNegotiation find(String negotiationId) {
+            var negotiation = negotiations.get(negotiationId);
+            return negotiation != null ? negotiation.copy() : null;
+        }
+
+        @Override
+        public @Nullable ContractNegotiation findForCorrelationId(String correlationId) {
+            return negotiations.values().stream().filter(n -> correlationId.equals(n.getCorrelationId())).findFirst().map(ContractNegotiation::copy).orElse(null);
+        }
+
+        @Override
+        public @Nullable ContractAgreement findContractAgreement(String contractId) {
+            return null;
+        }
+
+        @Override
+        public void save(ContractNegotiation negotiation) {
+            negotiations.put(negotiation.getId(), negotiation.copy());
+        }
+
+        @Override
+        public boolean save(ContractNegotiation negotiation, int expectedState) {
+            var saved = new AtomicBoolean();
+            negotiations.computeIfPresent(negotiation.getId(), (id, stored) -> {
+                saved.set(stored.getState() == expectedState);
+                return saved.get() ? negotiation.copy() : stored;
+            });
+            return saved.get();
+        }
+
+        @Override
+        public void delete(String negotiationId) {
+            negotiations.remove(negotiationId);
+        }
+
+        @Override
+        public @NotNull List<ContractNegotiation> nextForState(int state, int max) {
+            return negotiations.values().stream().filter(n -> n.getState() == state).limit(max).map(ContractNegotiation::copy).collect(toList());
+        }
+
+        @Override
+        public @NotNull List<ContractNegotiation> findOlderThan(int state, long stateTimestamp, int max) {
+            return negotiations.values().stream().filter(n -> n.getState() == state && n.getStateTimestamp() < stateTimestamp).limit(max).map(ContractNegotiation::copy)
+                    .collect(toList());
+        }
+    }
+}
@@ -0,0 +1,284 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+package org.eclipse.dataspaceconnector.contract.negotiation;
+
+import org.easymock.Capture;
+import org.easymock.EasyMock;
+import org.eclipse.dataspaceconnector.policy.model.Policy;
+import org.eclipse.dataspaceconnector.spi.contract.negotiation.store.ContractNegotiationStore;
+import org.eclipse.dataspaceconnector.spi.contract.validation.ContractValidationService;
+import org.eclipse.dataspaceconnector.spi.contract.validation.OfferValidationResult;
+import org.eclipse.dataspaceconnector.spi.iam.ClaimToken;
+import org.eclipse.dataspaceconnector.spi.message.MessageContext;
+import org.eclipse.dataspaceconnector.spi.message.RemoteMessageDispatcherRegistry;
+import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
+import org.eclipse.dataspaceconnector.spi.types.domain.asset.Asset;
+import org.eclipse.dataspaceconnector.spi.types.domain.contract.AgreementRequest;
+import org.eclipse.dataspaceconnector.spi.types.domain.contract.negotiation.ContractNegotiation;
+import org.eclipse.dataspaceconnector.spi.types.domain.contract.negotiation.ContractNegotiationStates;
+import org.eclipse.dataspaceconnector.spi.types.domain.contract.offer.ContractOffer;
+import org.eclipse.dataspaceconnector.spi.types.domain.message.RemoteMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.easymock.EasyMock.anyInt;
+import static org.easymock.EasyMock.anyObject;
+import static org.easymock.EasyMock.capture;
+import static org.easymock.EasyMock.eq;
+import static org.easymock.EasyMock.isA;
+import static org.easymock.EasyMock.newCapture;
+import static org.eclipse.dataspaceconnector.spi.contract.negotiation.NegotiationResponse.Status.INVALID_STATE;
+import static org.eclipse.dataspaceconnector.spi.contract.negotiation.NegotiationResponse.Status.OK;
+
+class ProviderContractNegotiationManagerImplTest {
+    private final ClaimToken token = ClaimToken.Builder.newInstance().build();
+    private ContractNegotiationStore store;
+    private ContractValidationService validationService;
+    private RemoteMessageDispatcherRegistry dispatcherRegistry;
+    private ProviderContractNegotiationManagerImpl manager;
+
+    @Test
+    void requested_confirmsOfferWithUnchangedTerms() {
+        var offer = offer(Policy.Builder.newInstance().assignee("consumer").build(), "asset-1");
+        EasyMock.expect(store.findForCorrelationId("correlation")).andReturn(null);
+        EasyMock.expect(validationService.validate(token, offer)).andReturn(new OfferValidationResult(offer));
+        Capture<ContractNegotiation> saved = newCapture();
+        store.save(capture(saved));
+        replayAndStart();
+
+        var response = manager.requested(token, "correlation", offer);
+
+        assertThat(response.getStatus()).isEqualTo(OK);
+        var negotiation = saved.getValue();
+        assertThat(negotiation.getState()).isEqualTo(ContractNegotiationStates.CONFIRMING.code());
+        assertThat(negotiation.getCorrelationId()).isEqualTo("correlation");
+        assertThat(negotiation.getCounterPartyId()).isEqualTo("https://consumer.example.com");
+        EasyMock.verify(store, validationService);
+    }
+
+    @Test
+    void requested_counterOffersChangedTerms() {
+        var offer = offer(Policy.Builder.newInstance().assignee("consumer").build(), "asset-1", "asset-2");
+        var validated = offer(Policy.Builder.newInstance().assignee("provider").build(), "asset-1");
+        EasyMock.expect(store.findForCorrelationId("correlation")).andReturn(null);
+        EasyMock.expect(validationService.validate(token, offer)).andReturn(new OfferValidationResult(validated));
+        store.save(isA(ContractNegotiation.class));
+        replayAndStart();
+
+        var negotiation = manager.requested(token, "correlation", offer).getContractNegotiation();
+
+        assertThat(negotiation.getState()).isEqualTo(ContractNegotiationStates.PROVIDER_OFFERING.code());
+        assertThat(negotiation.getContractOffers()).hasSize(2);
+        assertThat(OfferHash.hash(negotiation.getLastContractOffer())).isEqualTo(OfferHash.hash(validated));
+        assertThat(negotiation.getLastContractOffer().getConsumer()).isEqualTo(offer.getConsumer());
+        EasyMock.verify(store, validationService);
+    }
+
+    @Test
+    void requested_declinesInvalidOffer() {
+        var offer = offer(Policy.Builder.newInstance().build(), "asset-1");
+        EasyMock.expect(store.findForCorrelationId("correlation")).andReturn(null);
+        EasyMock.expect(validationService.validate(token, offer)).andReturn(OfferValidationResult.INVALID);
+        store.save(isA(ContractNegotiation.class));
+        replayAndStart();
+
+        var negotiation = manager.requested(token, "correlation", offer).getContractNegotiation();
+
+        assertThat(negotiation.getState()).isEqualTo(ContractNegotiationStates.DECLINING.code());
+        EasyMock.verify(store, validationService);
+    }
+
+    @Test
+    void requested_isIdempotent() {
+        var existing = negotiation(ContractNegotiationStates.CONFIRMING);
+        EasyMock.expect(store.findForCorrelationId("correlation")).andReturn(existing).times(2);
+        replayAndStart();
+
+        var response = manager.requested(token, "correlation", offer(Policy.Builder.newInstance().build(), "asset-1"));
+
+        assertThat(response.getStatus()).isEqualTo(OK);
+        assertThat(response.getContractNegotiation()).isSameAs(existing);
+        EasyMock.verify(store, validationService);
+    }
+
+    @Test
+    void requested_confirmsApprovedCounterOffer() {
+        var existing = negotiation(ContractNegotiationStates.PROVIDER_OFFERED);
+        EasyMock.expect(store.findForCorrelationId("consumer-id")).andReturn(existing).times(2);
+        EasyMock.expect(store.save(existing, ContractNegotiationStates.PROVIDER_OFFERED.code())).andReturn(true);
+        replayAndStart();
+
+        var response = manager.requested(token, "consumer-id", offer(Policy.Builder.newInstance().assignee("consumer").build(), "asset-1"));
+
+        assertThat(response.getStatus()).isEqualTo(OK);
+        assertThat(existing.getState()).isEqualTo(ContractNegotiationStates.CONFIRMING.code());
+        EasyMock.verify(store, validationService);
+    }
+
+    @Test
+    void requested_ignoresChangedOfferWhileOffered() {
+        var existing = negotiation(ContractNegotiationStates.PROVIDER_OFFERED);
+        EasyMock.expect(store.findForCorrelationId("consumer-id")).andReturn(existing).times(2);
+        replayAndStart();
+
+        var response = manager.requested(token, "consumer-id", offer(Policy.Builder.newInstance().assignee("consumer").build(), "asset-1", "asset-2"));
+
+        assertThat(response.getStatus()).isEqualTo(OK);
+        assertThat(existing.getState()).isEqualTo(ContractNegotiationStates.PROVIDER_OFFERED.code());
+        EasyMock.verify(store, validationService);
+    }
+
+    @Test
+    void consumerApproved_rejectsStaleHash() {
+        var negotiation = negotiation(ContractNegotiationStates.PROVIDER_OFFERED);
+        EasyMock.expect(store.find(negotiation.getId())).andReturn(negotiation);
+        replayAndStart();
+
+        var response = manager.consumerApproved(negotiation.getId(), "stale");
+
+        assertThat(response.getStatus()).isEqualTo(INVALID_STATE);
+        assertThat(negotiation.getState()).isEqualTo(ContractNegotiationStates.PROVIDER_OFFERED.code());
+        EasyMock.verify(store, validationService);
+    }
+
+    @Test
+    void consumerApproved_confirmsWithMatchingHash() {
+        var negotiation = negotiation(ContractNegotiationStates.PROVIDER_OFFERED);
+        EasyMock.expect(store.find("consumer-id")).andReturn(null);
+        EasyMock.expect(store.findForCorrelationId("consumer-id")).andReturn(negotiation);
+        EasyMock.expect(store.save(negotiation, ContractNegotiationStates.PROVIDER_OFFERED.code())).andReturn(true);
+        replayAndStart();
+
+        var response = manager.consumerApproved("consumer-id", OfferHash.hash(negotiation.getLastContractOffer()));
+
+        assertThat(response.getStatus()).isEqualTo(OK);
+        assertThat(negotiation.getState()).isEqualTo(ContractNegotiationStates.CONFIRMING.code());
+        EasyMock.verify(store, validationService);
+    }
+
+    @Test
+    void consumerApproved_rereadsConcurrentlyChangedNegotiation() {
+        var negotiation = negotiation(ContractNegotiationStates.PROVIDER_OFFERED);
+        var declined = negotiation(ContractNegotiationStates.DECLINED);
+        EasyMock.expect(store.find(negotiation.getId())).andReturn(negotiation).andReturn(declined);
+        // the negotiation was declined after it was read
+        EasyMock.expect(store.save(negotiation, ContractNegotiationStates.PROVIDER_OFFERED.code())).andReturn(false);
+        replayAndStart();
+
+        var response = manager.consumerApproved(negotiation.getId(), OfferHash.hash(negotiation.getLastContractOffer()));
+
+        assertThat(response.getStatus()).isEqualTo(INVALID_STATE);
+        assertThat(response.getContractNegotiation()).isSameAs(declined);
+        EasyMock.verify(store, validationService);
+    }
+
+    @Test
+    void confirming_sendsAgreement() throws InterruptedException {
+        var negotiation = negotiation(ContractNegotiationStates.CONFIRMING);
+        var fetched = new AtomicBoolean();
+        EasyMock.expect(store.nextForState(anyInt(), anyInt())).andAnswer(() -> {
+            var state = (int) EasyMock.getCurrentArguments()[0];
+            return state == ContractNegotiationStates.CONFIRMING.code() && !fetched.getAndSet(true) ? List.of(negotiation) : emptyList();
+        }).anyTimes();
+        EasyMock.expect(store.find(negotiation.getId())).andReturn(negotiation).anyTimes();
+        EasyMock.expect(store.save(negotiation, ContractNegotiationStates.CONFIRMING.code())).andReturn(true).anyTimes();
+        var latch = new CountDownLatch(1);
+        var sent = new AtomicReference<RemoteMessage>();
+        EasyMock.expect(dispatcherRegistry.send(eq(Object.class), anyObject(RemoteMessage.class), anyObject(MessageContext.class))).andAnswer(() -> {
+            sent.set((RemoteMessage) EasyMock.getCurrentArguments()[1]);
+            latch.countDown();
+            return CompletableFuture.completedFuture(null);
+        });
+        EasyMock.replay(store, validationService, dispatcherRegistry);
+        manager.start(store);
+
+        assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(sent.get()).isInstanceOf(AgreementRequest.class);
+        var agreement = ((AgreementRequest) sent.get()).getContractAgreement();
+        assertThat(agreement.getId()).startsWith("1:");
+        assertThat(agreement.getProviderAgentId()).isEqualTo("provider");
+        assertThat(OfferHash.hash(agreement)).isEqualTo(OfferHash.hash(negotiation.getLastContractOffer()));
+        assertThat(negotiation.getState()).isEqualTo(ContractNegotiationStates.CONFIRMED.code());
+        EasyMock.verify(dispatcherRegistry);
+    }
+
+    @BeforeEach
+    void setUp() {
+        store = EasyMock.createMock(ContractNegotiationStore.class);
+        validationService = EasyMock.createMock(ContractValidationService.class);
+        dispatcherRegistry = EasyMock.createMock(RemoteMessageDispatcherRegistry.class);
+        Monitor monitor = EasyMock.createNiceMock(Monitor.class);
+        EasyMock.replay(monitor);
+        manager = ProviderContractNegotiationManagerImpl.Builder.newInstance()
+                .validationService(validationService)
+                .participantId("provider")
+                .dispatcherRegistry(dispatcherRegistry)
+                .waitStrategy(() -> 10L)
+                .monitor(monitor)
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        manager.stop();
+    }
+
+    /**
+     * Starts the manager with a store that has no negotiations to process.
+     */
+    private void replayAndStart() {
+        EasyMock.expect(store.nextForState(anyInt(), anyInt())).andReturn(emptyList()).anyTimes();
+        EasyMock.replay(store, validationService);
+        manager.start(store);
+    }
+
+    private ContractNegotiation negotiation(ContractNegotiationStates state) {
+        var negotiation = ContractNegotiation.Builder.newInstance()
+                .id("negotiation-id")
+                .correlationId("consumer-id")
+                .counterPartyId("https://consumer.example.com")
+                .protocol("ids-multipart")
+                .type(ContractNegotiation.Type.PROVIDER)
+                .state(state.code())
+                .build();
+        negotiation.addContractOffer(offer(Policy.Builder.newInstance().assignee("consumer").build(), "asset-1"));
+        return negotiation;
+    }
+
+    private ContractOffer offer(Policy policy, String... assetIds) {
+        var assets = new ArrayList<Asset>();
+        for (String assetId : assetIds) {
+            assets.add(Asset.Builder.newInstance().id(assetId).build());
+        }
+        return ContractOffer.Builder.newInstance()
+                .id("1:2")
+                .policy(policy)
+                .assets(assets)
+                .provider(URI.create("https://provider.example.com"))
+                .consumer(URI.create("https://consumer.example.com"))
+                .build();
+    }
+}
@@ -99,6 +99,24 @@ class ContractDefinitionServiceImplTest {
         verify(policyEngine);
     }
 
+    @Test
+    void verifyDefinitionFor_evaluatesOnlyRequestedDefinition() {
+        var agent = new ParticipantAgent(Map.of(), Map.of());
+
+        expect(policyEngine.evaluate(isA(Policy.class), isA(ParticipantAgent.class))).andReturn(new PolicyResult()).times(2); // access and usage policy of "2" only
+
+        replay(policyEngine);
+
+        var policy = Policy.Builder.newInstance().build();
+        for (var id : List.of("1", "2", "3")) {
+            definitionStore.save(ContractDefinition.Builder.newInstance().id(id).accessPolicy(policy).contractPolicy(policy).selectorExpression(SELECT_ALL).build());
+        }
+
+        assertThat(definitionService.definitionFor(agent, "2")).extracting(ContractDefinition::getId).isEqualTo("2");
+
+        verify(policyEngine);
+    }
+
     @BeforeEach
     void setUp() {
         policyEngine = createMock(PolicyEngine.class);
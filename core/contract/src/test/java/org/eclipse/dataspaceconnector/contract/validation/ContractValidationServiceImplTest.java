@@ -8,6 +8,7 @@ import org.eclipse.dataspaceconnector.spi.contract.agent.ParticipantAgent;
 import org.eclipse.dataspaceconnector.spi.contract.agent.ParticipantAgentService;
 import org.eclipse.dataspaceconnector.spi.contract.offer.ContractDefinitionService;
 import org.eclipse.dataspaceconnector.spi.iam.ClaimToken;
+import org.eclipse.dataspaceconnector.spi.types.domain.asset.Asset;
 import org.eclipse.dataspaceconnector.spi.types.domain.contract.ContractAgreement;
 import org.eclipse.dataspaceconnector.spi.types.domain.contract.offer.ContractDefinition;
 import org.eclipse.dataspaceconnector.spi.types.domain.contract.offer.ContractOffer;
@@ -17,7 +18,6 @@ import org.junit.jupiter.api.Test;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.util.List;
-import java.util.stream.Stream;
 
 import static java.util.Collections.emptyMap;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -45,9 +45,6 @@ class ContractValidationServiceImplTest {
 
         EasyMock.expect(definitionService.definitionFor(EasyMock.isA(ParticipantAgent.class), EasyMock.eq("1"))).andReturn(contractDefinition);
 
-        //noinspection unchecked
-        EasyMock.expect(assetIndex.queryAssets(EasyMock.isA(List.class))).andReturn(Stream.of());
-
         EasyMock.replay(agentService, definitionService, assetIndex);
 
         var claimToken = ClaimToken.Builder.newInstance().build();
@@ -61,6 +58,71 @@ class ContractValidationServiceImplTest {
         EasyMock.verify(agentService, definitionService, assetIndex);
     }
 
+    @Test
+    void verifyContractOfferValidation_onlySelectedAssets() {
+        EasyMock.expect(agentService.createFor(EasyMock.isA(ClaimToken.class))).andReturn(new ParticipantAgent(emptyMap(), emptyMap()));
+
+        var contractDefinition = ContractDefinition.Builder.newInstance()
+                .id("1")
+                .accessPolicy(Policy.Builder.newInstance().build())
+                .contractPolicy(Policy.Builder.newInstance().build())
+                .selectorExpression(AssetSelectorExpression.Builder.newInstance().whenEquals("category", "public").build())
+                .build();
+        EasyMock.expect(definitionService.definitionFor(EasyMock.isA(ParticipantAgent.class), EasyMock.eq("1"))).andReturn(contractDefinition);
+
+        var publicAsset = Asset.Builder.newInstance().id("public").property("category", "public").build();
+        var privateAsset = Asset.Builder.newInstance().id("private").property("category", "private").build();
+        EasyMock.expect(assetIndex.findById("public")).andReturn(publicAsset);
+        EasyMock.expect(assetIndex.findById("private")).andReturn(privateAsset);
+        EasyMock.expect(assetIndex.findById("unknown")).andReturn(null);
+
+        EasyMock.replay(agentService, definitionService, assetIndex);
+
+        var offeredAssets = List.of(Asset.Builder.newInstance().id("public").build(), Asset.Builder.newInstance().id("private").build(), Asset.Builder.newInstance().id("unknown").build());
+        var offer = ContractOffer.Builder.newInstance().policy(Policy.Builder.newInstance().build()).id("1:2").assets(offeredAssets).build();
+
+        var result = validationService.validate(ClaimToken.Builder.newInstance().build(), offer);
+
+        assertThat(result.getValidatedOffer().getAssets()).containsExactly(publicAsset);
+        EasyMock.verify(agentService, definitionService, assetIndex);
+    }
+
+    @Test
+    void verifyContractOfferValidation_selectorWithQueryOperators() {
+        EasyMock.expect(agentService.createFor(EasyMock.isA(ClaimToken.class))).andReturn(new ParticipantAgent(emptyMap(), emptyMap()));
+
+        var selector = AssetSelectorExpression.Builder.newInstance()
+                .constraint(Asset.PROPERTY_ID, "LIKE", "'asset-%'")
+                .constraint("size", ">=", "10")
+                .constraint("tags", "CONTAINS", "'public'")
+                .constraint("owner", "!=", "'someone-else'")
+                .build();
+        var contractDefinition = ContractDefinition.Builder.newInstance()
+                .id("1")
+                .accessPolicy(Policy.Builder.newInstance().build())
+                .contractPolicy(Policy.Builder.newInstance().build())
+                .selectorExpression(selector)
+                .build();
+        EasyMock.expect(definitionService.definitionFor(EasyMock.isA(ParticipantAgent.class), EasyMock.eq("1"))).andReturn(contractDefinition);
+
+        var selected = Asset.Builder.newInstance().id("asset-1").property("size", 20).property("tags", List.of("public")).property("owner", "provider").build();
+        var tooSmall = Asset.Builder.newInstance().id("asset-2").property("size", 5).property("tags", List.of("public")).property("owner", "provider").build();
+        var notTagged = Asset.Builder.newInstance().id("asset-3").property("size", 20).property("tags", List.of("internal")).property("owner", "provider").build();
+        EasyMock.expect(assetIndex.findById("asset-1")).andReturn(selected);
+        EasyMock.expect(assetIndex.findById("asset-2")).andReturn(tooSmall);
+        EasyMock.expect(assetIndex.findById("asset-3")).andReturn(notTagged);
+
+        EasyMock.replay(agentService, definitionService, assetIndex);
+
+        var offeredAssets = List.of(Asset.Builder.newInstance().id("asset-1").build(), Asset.Builder.newInstance().id("asset-2").build(), Asset.Builder.newInstance().id("asset-3").build());
+        var offer = ContractOffer.Builder.newInstance().policy(Policy.Builder.newInstance().build()).id("1:2").assets(offeredAssets).build();
+
+        var result = validationService.validate(ClaimToken.Builder.newInstance().build(), offer);
+
+        assertThat(result.getValidatedOffer().getAssets()).containsExactly(selected);
+        EasyMock.verify(agentService, definitionService, assetIndex);
+    }
+
     @Test
     void verifyContractAgreementValidation() {
         EasyMock.expect(agentService.createFor(EasyMock.isA(ClaimToken.class))).andReturn(new ParticipantAgent(emptyMap(), emptyMap()));
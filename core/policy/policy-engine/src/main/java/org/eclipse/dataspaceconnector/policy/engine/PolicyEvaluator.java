@@ -21,6 +21,9 @@ import org.eclipse.dataspaceconnector.policy.model.Constraint;
 import org.eclipse.dataspaceconnector.policy.model.Duty;
 import org.eclipse.dataspaceconnector.policy.model.Expression;
 import org.eclipse.dataspaceconnector.policy.model.LiteralExpression;
+import org.eclipse.dataspaceconnector.policy.model.Operand;
+import org.eclipse.dataspaceconnector.policy.model.Operands;
+import org.eclipse.dataspaceconnector.policy.model.Operator;
 import org.eclipse.dataspaceconnector.policy.model.OrConstraint;
 import org.eclipse.dataspaceconnector.policy.model.Permission;
 import org.eclipse.dataspaceconnector.policy.model.Policy;
@@ -33,7 +36,6 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 
 /**
  * Evaluates a policy.
@@ -41,6 +43,9 @@ import java.util.Objects;
  * A policy evaluator is used to build evaluation engines that perform tasks such as verifying if a {@link Policy} is satisfied by a client system presenting signed credentials.
  * Implementation-specific functionality is contributed by registering {@link AtomicConstraintFunction}s using {@link Builder#permissionFunction(String, AtomicConstraintFunction)},
  * {@link Builder#prohibitionFunction(String, AtomicConstraintFunction)}, and  {@link Builder#dutyFunction(String, AtomicConstraintFunction)}.
+ *
+ * Atomic constraints without a function are evaluated by comparing the operands with {@link Operands#evaluate(Operator, Object, Object)}, which supports numbers, ISO-8601
+ * date-times and durations for the ordering operators.
  */
 public class PolicyEvaluator implements Policy.Visitor<Boolean>, Rule.Visitor<Boolean>, Constraint.Visitor<Boolean>, Expression.Visitor<Object> {
     private final List<RuleProblem> ruleProblems = new ArrayList<>();
@@ -164,30 +169,12 @@ public class PolicyEvaluator implements Policy.Visitor<Boolean>, Rule.Visitor<Bo
                 function = (AtomicConstraintFunction<Object, Rule, Boolean>) dutyFunctions.get(leftRawValue);
             }
             if (function != null) {
-                return function.evaluate(constraint.getOperator(), rightValue, ruleContext);
+                return function.evaluate(constraint.getOperator(), operand(constraint.getRightExpression(), rightValue), ruleContext);
             }
         }
 
         // TODO handle expression eval errors
-        switch (constraint.getOperator()) {
-            case EQ:
-                return Objects.equals(leftRawValue, rightValue);
-            case IN:
-                return Objects.equals(leftRawValue, rightValue);
-            case NEQ:
-                return !Objects.equals(leftRawValue, rightValue);
-            case GT:
-                break;
-            case GEQ:
-                break;
-            case LT:
-                break;
-            case LEQ:
-                break;
-            default:
-                break;
-        }
-        return null;
+        return Operands.evaluate(constraint.getOperator(), operand(constraint.getLeftExpression(), leftRawValue), operand(constraint.getRightExpression(), rightValue));
     }
 
     @Override
@@ -195,6 +182,13 @@ public class PolicyEvaluator implements Policy.Visitor<Boolean>, Rule.Visitor<Bo
         return expression.getValue();
     }
 
+    /**
+     * Returns the operand of literal expressions as converted when the policy was loaded, so that operands are not parsed on every evaluation.
+     */
+    private Operand operand(Expression expression, Object value) {
+        return expression instanceof LiteralExpression ? ((LiteralExpression) expression).getOperand() : Operand.of(value);
+    }
+
     private Boolean visitRule(Rule rule) {
         var valid = true;
         RuleProblem.Builder problemBuilder = null;
@@ -16,7 +16,13 @@ package org.eclipse.dataspaceconnector.policy.engine.model;
 
 import org.eclipse.dataspaceconnector.policy.engine.PolicyEvaluator;
 import org.eclipse.dataspaceconnector.policy.model.Action;
+import org.eclipse.dataspaceconnector.policy.model.AtomicConstraint;
+import org.eclipse.dataspaceconnector.policy.model.AtomicConstraintFunction;
 import org.eclipse.dataspaceconnector.policy.model.Duty;
+import org.eclipse.dataspaceconnector.policy.model.LiteralExpression;
+import org.eclipse.dataspaceconnector.policy.model.Operand;
+import org.eclipse.dataspaceconnector.policy.model.Operands;
+import org.eclipse.dataspaceconnector.policy.model.Operator;
 import org.eclipse.dataspaceconnector.policy.model.Permission;
 import org.eclipse.dataspaceconnector.policy.model.Policy;
 import org.eclipse.dataspaceconnector.policy.model.Prohibition;
@@ -61,6 +67,35 @@ class PolicyEvaluatorTest {
         assertFalse(evaluator.evaluate(policy).valid());
     }
 
+    @Test
+    void verifyOrderingOperators() {
+        var quota = AtomicConstraint.Builder.newInstance()
+                .leftExpression(new LiteralExpression(999))
+                .operator(Operator.LT)
+                .rightExpression(new LiteralExpression("1000"))
+                .build();
+        var expiry = AtomicConstraint.Builder.newInstance()
+                .leftExpression(new LiteralExpression("2021-10-01T10:00:00Z"))
+                .operator(Operator.LEQ)
+                .rightExpression(new LiteralExpression("2021-12-31"))
+                .build();
+
+        var permission = Permission.Builder.newInstance().constraint(quota).constraint(expiry).build();
+        var policy = Policy.Builder.newInstance().permission(permission).build();
+
+        var evaluator = PolicyEvaluator.Builder.newInstance().build();
+        assertTrue(evaluator.evaluate(policy).valid());
+
+        var exceeded = AtomicConstraint.Builder.newInstance()
+                .leftExpression(new LiteralExpression("PT2H"))
+                .operator(Operator.LT)
+                .rightExpression(new LiteralExpression("PT1H"))
+                .build();
+        permission = Permission.Builder.newInstance().constraint(exceeded).build();
+        policy = Policy.Builder.newInstance().permission(permission).build();
+        assertFalse(evaluator.evaluate(policy).valid());
+    }
+
     @Test
     void verifyPermissionFunctions() {
         var constraint = createLiteralAtomicConstraint("toResolve", "foo");
@@ -72,6 +107,28 @@ class PolicyEvaluatorTest {
         assertTrue(evaluator.evaluate(policy).valid());
     }
 
+    @Test
+    void verifyPermissionFunctionsReceiveTypedOperand() {
+        var limit = new LiteralExpression("1000");
+        var constraint = AtomicConstraint.Builder.newInstance().leftExpression(new LiteralExpression("quota")).operator(Operator.LT).rightExpression(limit).build();
+
+        var permission = Permission.Builder.newInstance().constraint(constraint).build();
+        var policy = Policy.Builder.newInstance().permission(permission).build();
+
+        var evaluator = PolicyEvaluator.Builder.newInstance().permissionFunction("quota", new AtomicConstraintFunction<>() {
+            @Override
+            public Boolean evaluate(Operator operator, Object value, Permission rule) {
+                return false;
+            }
+
+            @Override
+            public Boolean evaluate(Operator operator, Operand operand, Permission rule) {
+                return operand == limit.getOperand() && Operands.evaluate(operator, 999, operand);
+            }
+        }).build();
+        assertTrue(evaluator.evaluate(policy).valid());
+    }
+
     @Test
     void verifyDutyFunctions() {
         var constraint = createLiteralAtomicConstraint("toResolve", "foo");
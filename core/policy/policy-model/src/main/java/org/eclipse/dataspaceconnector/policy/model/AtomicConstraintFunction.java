@@ -28,4 +28,16 @@ public interface AtomicConstraintFunction<RIGHT_VALUE, RULE_TYPE extends Rule, R
      */
     RESULT evaluate(Operator operator, RIGHT_VALUE rightValue, RULE_TYPE rule);
 
+    /**
+     * Performs the evaluation on the right operand as converted when the policy was loaded. Functions comparing operands should override this method, so that the
+     * right operand is not converted on every evaluation. The default passes on the raw value.
+     *
+     * @param operator     the operation
+     * @param rightOperand the right-side expression for the constraint
+     */
+    @SuppressWarnings("unchecked")
+    default RESULT evaluate(Operator operator, Operand rightOperand, RULE_TYPE rule) {
+        return evaluate(operator, (RIGHT_VALUE) rightOperand.getValue(), rule);
+    }
+
 }
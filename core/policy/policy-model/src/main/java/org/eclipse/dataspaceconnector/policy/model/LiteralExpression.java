@@ -14,6 +14,7 @@
 
 package org.eclipse.dataspaceconnector.policy.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonTypeName;
 import org.jetbrains.annotations.NotNull;
@@ -24,15 +25,33 @@ import org.jetbrains.annotations.NotNull;
 @JsonTypeName("dataspaceconnector:literalexpression")
 public class LiteralExpression extends Expression {
     private final Object value;
+    private final transient Operand operand;
 
     public LiteralExpression(@JsonProperty("value") Object value) {
         this.value = value;
+        operand = Operand.of(value);
     }
 
     public Object getValue() {
         return value;
     }
 
+    /**
+     * Returns the value converted by {@link Operands#typed(Object)}. The conversion is done once when the expression is created, e.g. when a policy is loaded.
+     */
+    @JsonIgnore
+    public Object getTypedValue() {
+        return operand.getTypedValue();
+    }
+
+    /**
+     * Returns the value together with its typed value, to be evaluated by {@link Operands#evaluate(Operator, Object, Operand)}.
+     */
+    @JsonIgnore
+    public Operand getOperand() {
+        return operand;
+    }
+
     @Override
     public String toString() {
         return value + "'";
@@ -0,0 +1,53 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.policy.model;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A constraint operand together with its value as converted by {@link Operands#typed(Object)}. The raw value is kept, since equality is decided on it when
+ * either operand is a string.
+ */
+public final class Operand {
+    private final Object value;
+    private final Object typedValue;
+
+    private Operand(Object value, Object typedValue) {
+        this.value = value;
+        this.typedValue = typedValue;
+    }
+
+    /**
+     * Converts the value once, so that the operand may be evaluated repeatedly without being parsed again.
+     */
+    public static Operand of(@Nullable Object value) {
+        return new Operand(value, Operands.typed(value));
+    }
+
+    @Nullable
+    public Object getValue() {
+        return value;
+    }
+
+    @Nullable
+    public Object getTypedValue() {
+        return typedValue;
+    }
+
+    @Override
+    public String toString() {
+        return String.valueOf(value);
+    }
+}
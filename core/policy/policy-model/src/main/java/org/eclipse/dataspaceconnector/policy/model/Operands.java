@@ -0,0 +1,196 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.policy.model;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.math.BigDecimal;
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Objects;
+
+/**
+ * Converts constraint operands to typed values and evaluates {@link Operator}s on them.
+ * <p>
+ * Numbers and numeric strings are converted to {@link BigDecimal}, ISO-8601 date-times and dates to {@link Instant} (date-times without an offset are in UTC, dates
+ * are the start of the day) and ISO-8601 durations such as {@code PT1H} to {@link Duration}. All other values are kept as they are. Collections are converted element by element.
+ * <p>
+ * The ordering operators {@link Operator#GT}, {@link Operator#GEQ}, {@link Operator#LT} and {@link Operator#LEQ} are only satisfied if both operands convert to the
+ * same type. {@link Operator#EQ}, {@link Operator#NEQ} and {@link Operator#IN} compare strings exactly, so {@code "0123"} does not equal {@code "123"}; only if
+ * neither operand is a string are typed values compared by their value, e.g. {@code 1000} equals {@code 1000.0}.
+ */
+public final class Operands {
+    private static final Operand NULL = Operand.of(null);
+
+    private Operands() {
+    }
+
+    /**
+     * Converts the value to its typed representation. Values that are already typed are returned as they are.
+     */
+    public static Object typed(@Nullable Object value) {
+        if (value instanceof String) {
+            return parse((String) value);
+        } else if (value instanceof BigDecimal) {
+            return value;
+        } else if (value instanceof Double || value instanceof Float) {
+            var number = ((Number) value).doubleValue();
+            return Double.isFinite(number) ? BigDecimal.valueOf(number) : value;
+        } else if (value instanceof Number) {
+            return new BigDecimal(value.toString());
+        } else if (value instanceof Collection) {
+            var collection = (Collection<?>) value;
+            var elements = new ArrayList<>(collection.size());
+            for (var element : collection) {
+                elements.add(typed(element));
+            }
+            return Collections.unmodifiableList(elements);
+        }
+        return value;
+    }
+
+    /**
+     * Evaluates the operator on the raw operands.
+     */
+    public static boolean evaluate(Operator operator, @Nullable Object left, @Nullable Object right) {
+        return evaluate(operator, left, left, Operand.of(right));
+    }
+
+    /**
+     * Evaluates the operator on a raw left operand and a right operand that has already been converted, e.g. the literal of a policy. A null operand is
+     * evaluated as the null value.
+     */
+    public static boolean evaluate(Operator operator, @Nullable Object left, @Nullable Operand right) {
+        return evaluate(operator, left, left, right != null ? right : NULL);
+    }
+
+    /**
+     * Evaluates the operator on operands that have already been converted. A null operand is evaluated as the null value.
+     */
+    public static boolean evaluate(Operator operator, @Nullable Operand left, @Nullable Operand right) {
+        left = left != null ? left : NULL;
+        return evaluate(operator, left.getValue(), left.getTypedValue(), right != null ? right : NULL);
+    }
+
+    /**
+     * Evaluates the operator; the left operand is only converted if the operator needs its typed value.
+     */
+    private static boolean evaluate(Operator operator, Object left, Object typedLeft, Operand right) {
+        switch (operator) {
+            case EQ:
+                return matches(left, typedLeft, right.getValue(), right.getTypedValue());
+            case NEQ:
+                return !matches(left, typedLeft, right.getValue(), right.getTypedValue());
+            case IN:
+                return contains(left, typedLeft, right);
+            default:
+                break;
+        }
+        var comparison = compare(typed(typedLeft), right.getTypedValue());
+        if (comparison == Integer.MIN_VALUE) {
+            return false;
+        }
+        switch (operator) {
+            case GT:
+                return comparison > 0;
+            case GEQ:
+                return comparison >= 0;
+            case LT:
+                return comparison < 0;
+            case LEQ:
+                return comparison <= 0;
+            default:
+                return false;
+        }
+    }
+
+    private static boolean matches(Object left, Object typedLeft, Object right, Object typedRight) {
+        if (left instanceof String || right instanceof String) {
+            return Objects.equals(left, right);
+        }
+        typedLeft = typed(typedLeft);
+        var comparison = compare(typedLeft, typedRight);
+        return comparison != Integer.MIN_VALUE ? comparison == 0 : Objects.equals(typedLeft, typedRight);
+    }
+
+    private static boolean contains(Object left, Object typedLeft, Operand right) {
+        if (!(right.getValue() instanceof Collection)) {
+            return matches(left, typedLeft, right.getValue(), right.getTypedValue());
+        }
+        // typed collections hold the converted elements in iteration order
+        var typedElements = ((Collection<?>) right.getTypedValue()).iterator();
+        for (var element : (Collection<?>) right.getValue()) {
+            if (matches(left, typedLeft, element, typedElements.next())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Compares two typed values of the same type, returning {@link Integer#MIN_VALUE} if they are not comparable.
+     */
+    private static int compare(Object left, Object right) {
+        int comparison;
+        if (left instanceof BigDecimal && right instanceof BigDecimal) {
+            comparison = ((BigDecimal) left).compareTo((BigDecimal) right);
+        } else if (left instanceof Instant && right instanceof Instant) {
+            comparison = ((Instant) left).compareTo((Instant) right);
+        } else if (left instanceof Duration && right instanceof Duration) {
+            comparison = ((Duration) left).compareTo((Duration) right);
+        } else {
+            return Integer.MIN_VALUE;
+        }
+        // normalize, so that MIN_VALUE is never a valid comparison result
+        return Integer.signum(comparison);
+    }
+
+    /**
+     * Parses the string by looking at its shape first, so that plain strings do not pay for failed parse attempts.
+     */
+    private static Object parse(String value) {
+        var length = value.length();
+        if (length == 0) {
+            return value;
+        }
+        var first = value.charAt(0);
+        try {
+            if (first == 'P' || (first == '-' && length > 1 && value.charAt(1) == 'P')) {
+                return Duration.parse(value);
+            } else if (length >= 10 && value.charAt(4) == '-' && value.charAt(7) == '-' && Character.isDigit(first)) {
+                return length == 10 ? LocalDate.parse(value).atStartOfDay(ZoneOffset.UTC).toInstant() : parseDateTime(value);
+            } else if (Character.isDigit(first) || first == '-' || first == '+' || first == '.') {
+                return new BigDecimal(value);
+            }
+        } catch (DateTimeException | NumberFormatException e) {
+            // not a typed value
+        }
+        return value;
+    }
+
+    private static Instant parseDateTime(String value) {
+        var parsed = DateTimeFormatter.ISO_DATE_TIME.parseBest(value, OffsetDateTime::from, LocalDateTime::from);
+        return parsed instanceof OffsetDateTime ? ((OffsetDateTime) parsed).toInstant() : ((LocalDateTime) parsed).toInstant(ZoneOffset.UTC);
+    }
+}
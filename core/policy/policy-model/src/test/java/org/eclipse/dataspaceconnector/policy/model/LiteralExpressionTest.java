@@ -17,6 +17,8 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 class LiteralExpressionTest {
@@ -28,5 +30,16 @@ class LiteralExpressionTest {
         assertThat(mapper.readValue(serialized, LiteralExpression.class).getValue()).isEqualTo("foo");
     }
 
+    @Test
+    void verifyTypedValueIsNotSerialized() throws JsonProcessingException {
+        var mapper = new ObjectMapper();
+        var serialized = mapper.writeValueAsString(new LiteralExpression("PT1H"));
+        assertThat(serialized).doesNotContain("typedValue");
+
+        var deserialized = mapper.readValue(serialized, LiteralExpression.class);
+        assertThat(deserialized.getValue()).isEqualTo("PT1H");
+        assertThat(deserialized.getTypedValue()).isEqualTo(Duration.ofHours(1));
+    }
+
 
 }
@@ -0,0 +1,112 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.policy.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.dataspaceconnector.policy.model.Operator.EQ;
+import static org.eclipse.dataspaceconnector.policy.model.Operator.GEQ;
+import static org.eclipse.dataspaceconnector.policy.model.Operator.GT;
+import static org.eclipse.dataspaceconnector.policy.model.Operator.IN;
+import static org.eclipse.dataspaceconnector.policy.model.Operator.LEQ;
+import static org.eclipse.dataspaceconnector.policy.model.Operator.LT;
+import static org.eclipse.dataspaceconnector.policy.model.Operator.NEQ;
+
+class OperandsTest {
+
+    @Test
+    void verifyTyped() {
+        assertThat(Operands.typed(1000)).isEqualTo(new BigDecimal("1000"));
+        assertThat(Operands.typed("12.5")).isEqualTo(new BigDecimal("12.5"));
+        assertThat(Operands.typed("2021-10-01T12:00:00+02:00")).isEqualTo(Instant.parse("2021-10-01T10:00:00Z"));
+        assertThat(Operands.typed("2021-10-01T10:00:00")).isEqualTo(Instant.parse("2021-10-01T10:00:00Z"));
+        assertThat(Operands.typed("2021-10-01")).isEqualTo(Instant.parse("2021-10-01T00:00:00Z"));
+        assertThat(Operands.typed("PT1H")).isEqualTo(Duration.ofHours(1));
+        assertThat(Operands.typed(List.of("1", "eu"))).isEqualTo(List.of(BigDecimal.ONE, "eu"));
+        assertThat(Operands.typed("Paris")).isEqualTo("Paris");
+        assertThat(Operands.typed("1:2")).isEqualTo("1:2");
+        assertThat(Operands.typed(Double.NaN)).isEqualTo(Double.NaN);
+    }
+
+    @Test
+    void verifyNumbers() {
+        assertThat(Operands.evaluate(LT, 999, "1000")).isTrue();
+        assertThat(Operands.evaluate(LEQ, 1000L, "1000.0")).isTrue();
+        assertThat(Operands.evaluate(GT, 1000.5, 1000)).isTrue();
+        assertThat(Operands.evaluate(GEQ, "-1", 0)).isFalse();
+        assertThat(Operands.evaluate(EQ, 1000, 1000.0)).isTrue();
+        assertThat(Operands.evaluate(NEQ, 1000, 1001L)).isTrue();
+    }
+
+    @Test
+    void verifyStringsAreEqualExactly() {
+        assertThat(Operands.evaluate(EQ, "0123", "123")).isFalse();
+        assertThat(Operands.evaluate(EQ, "1e3", "1000")).isFalse();
+        assertThat(Operands.evaluate(EQ, 1000, "1000.0")).isFalse();
+        assertThat(Operands.evaluate(NEQ, "0123", "123")).isTrue();
+        assertThat(Operands.evaluate(NEQ, "1e3", Operand.of("1000"))).isTrue();
+        assertThat(Operands.evaluate(IN, "123", List.of("0123", "1e3"))).isFalse();
+        assertThat(Operands.evaluate(EQ, "123", Operand.of("123"))).isTrue();
+    }
+
+    @Test
+    void verifyTypedOperands() {
+        var limit = Operand.of("1000");
+        assertThat(limit.getValue()).isEqualTo("1000");
+        assertThat(limit.getTypedValue()).isEqualTo(new BigDecimal("1000"));
+
+        assertThat(Operands.evaluate(LT, "999", limit)).isTrue();
+        assertThat(Operands.evaluate(GEQ, Operand.of("1e3"), limit)).isTrue();
+        assertThat(Operands.evaluate(EQ, Operand.of("1e3"), limit)).isFalse();
+        assertThat(Operands.evaluate(IN, 2, Operand.of(List.of(1, 2)))).isTrue();
+    }
+
+    @Test
+    void verifyInstants() {
+        assertThat(Operands.evaluate(LT, "2021-10-01T10:00:00Z", "2021-10-01T12:00:01+02:00")).isTrue();
+        assertThat(Operands.evaluate(GEQ, Instant.parse("2022-01-01T00:00:00Z"), "2022-01-01")).isTrue();
+        assertThat(Operands.evaluate(GT, "2021-12-31", "2022-01-01")).isFalse();
+    }
+
+    @Test
+    void verifyDurations() {
+        assertThat(Operands.evaluate(LEQ, "PT30M", "PT1H")).isTrue();
+        assertThat(Operands.evaluate(GT, Duration.ofDays(2), "P1D")).isTrue();
+    }
+
+    @Test
+    void verifyIn() {
+        assertThat(Operands.evaluate(IN, "eu", List.of("us", "eu"))).isTrue();
+        assertThat(Operands.evaluate(IN, 2, List.of(1L, 2.0))).isTrue();
+        assertThat(Operands.evaluate(IN, 2, List.of("1", "2"))).isFalse();
+        assertThat(Operands.evaluate(IN, "eu", List.of("us"))).isFalse();
+    }
+
+    @Test
+    void verifyIncomparableOperands() {
+        assertThat(Operands.evaluate(LT, "eu", "us")).isFalse();
+        assertThat(Operands.evaluate(GEQ, "eu", "eu")).isFalse();
+        assertThat(Operands.evaluate(LT, 1, "PT1H")).isFalse();
+        assertThat(Operands.evaluate(LT, null, 1)).isFalse();
+        assertThat(Operands.evaluate(EQ, "eu", "eu")).isTrue();
+        assertThat(Operands.evaluate(EQ, null, null)).isTrue();
+    }
+}
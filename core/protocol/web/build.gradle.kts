@@ -28,6 +28,7 @@ dependencies {
     implementation("org.eclipse.jetty:jetty-webapp:${jettyVersion}") {
         exclude("jetty-xml")
     }
+    implementation("org.eclipse.jetty.http2:http2-server:${jettyVersion}")
 
     implementation("org.glassfish.jersey.core:jersey-server:${jerseyVersion}")
     implementation("org.glassfish.jersey.containers:jersey-container-servlet-core:${jerseyVersion}")
@@ -14,11 +14,14 @@
 
 package org.eclipse.dataspaceconnector.web;
 
+import org.eclipse.dataspaceconnector.spi.EdcSetting;
+import org.eclipse.dataspaceconnector.spi.metrics.MetricRegistry;
 import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
 import org.eclipse.dataspaceconnector.spi.protocol.web.WebService;
 import org.eclipse.dataspaceconnector.spi.system.ServiceExtension;
 import org.eclipse.dataspaceconnector.spi.system.ServiceExtensionContext;
 import org.eclipse.dataspaceconnector.spi.types.TypeManager;
+import org.eclipse.dataspaceconnector.web.metrics.MetricsServlet;
 import org.eclipse.dataspaceconnector.web.rest.JerseyRestService;
 import org.eclipse.dataspaceconnector.web.transport.JettyService;
 
@@ -32,6 +35,13 @@ import static org.eclipse.dataspaceconnector.spi.system.ServiceExtension.LoadPha
  * TODO create keystore to support HTTPS
  */
 public class WebServiceExtension implements ServiceExtension {
+
+    /**
+     * Context path serving the metrics in the Prometheus text format, e.g. {@code /metrics}. Not served if unset.
+     */
+    @EdcSetting
+    private static final String METRICS_PATH = "edc.metrics.endpoint";
+
     private Monitor monitor;
     private JettyService jettyService;
     private JerseyRestService jerseyRestService;
@@ -41,6 +51,11 @@ public class WebServiceExtension implements ServiceExtension {
         return Set.of("edc:webservice");
     }
 
+    @Override
+    public Set<String> requires() {
+        return Set.of(MetricRegistry.FEATURE);
+    }
+
     @Override
     public LoadPhase phase() {
         return PRIMORDIAL;
@@ -58,6 +73,12 @@ public class WebServiceExtension implements ServiceExtension {
 
         context.registerService(WebService.class, jerseyRestService);
 
+        var metricsPath = context.getSetting(METRICS_PATH, null);
+        if (metricsPath != null) {
+            jettyService.registerServlet(metricsPath, "/*", new MetricsServlet(context.getService(MetricRegistry.class)));
+            monitor.info("Serving metrics at " + metricsPath);
+        }
+
         monitor.info("Initialized Web extension");
     }
 
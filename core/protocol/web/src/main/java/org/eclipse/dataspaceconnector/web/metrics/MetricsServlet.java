@@ -0,0 +1,41 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.web.metrics;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.eclipse.dataspaceconnector.spi.metrics.MetricRegistry;
+import org.eclipse.dataspaceconnector.spi.metrics.MetricsTextFormat;
+
+import java.io.IOException;
+
+/**
+ * Serves the metrics of a {@link MetricRegistry} in the Prometheus text format.
+ */
+public class MetricsServlet extends HttpServlet {
+    private final transient MetricRegistry registry;
+
+    public MetricsServlet(MetricRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    protected void doGet(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(MetricsTextFormat.CONTENT_TYPE);
+        response.getWriter().write(MetricsTextFormat.format(registry.getMeters()));
+    }
+}
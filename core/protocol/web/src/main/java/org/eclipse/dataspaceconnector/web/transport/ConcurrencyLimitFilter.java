@@ -0,0 +1,107 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.web.transport;
+
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Bounds the number of requests processed concurrently per path prefix, so that a burst of requests to one API cannot
+ * occupy all threads of the server and starve the other APIs. A request that does not get a permit within the wait time
+ * is rejected with 503. Requests matching no prefix are not limited.
+ */
+class ConcurrencyLimitFilter implements Filter {
+    private static final String RETRY_AFTER_SECONDS = "1";
+
+    private final List<Partition> partitions;
+    private final long waitMillis;
+
+    /**
+     * Creates the filter.
+     *
+     * @param limits     the maximum number of concurrent requests keyed by path prefix, the longest matching prefix applies
+     * @param waitMillis the time a request waits for a permit before it is rejected
+     */
+    ConcurrencyLimitFilter(Map<String, Integer> limits, long waitMillis) {
+        this.waitMillis = waitMillis;
+        partitions = limits.entrySet().stream()
+                .map(e -> new Partition(e.getKey(), e.getValue()))
+                .sorted(Comparator.comparingInt((Partition p) -> p.prefix.length()).reversed())
+                .collect(toList());
+    }
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws IOException, ServletException {
+        var partition = partitionFor(((HttpServletRequest) request).getRequestURI());
+        if (partition == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+        boolean acquired;
+        try {
+            acquired = partition.permits.tryAcquire(waitMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            var httpResponse = (HttpServletResponse) response;
+            httpResponse.setHeader("Retry-After", RETRY_AFTER_SECONDS);
+            httpResponse.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            return;
+        }
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            partition.permits.release();
+        }
+    }
+
+    private Partition partitionFor(String path) {
+        if (path == null) {
+            return null;
+        }
+        for (Partition partition : partitions) {
+            if (path.startsWith(partition.prefix)) {
+                return partition;
+            }
+        }
+        return null;
+    }
+
+    private static class Partition {
+        private final String prefix;
+        private final Semaphore permits;
+
+        Partition(String prefix, int limit) {
+            this.prefix = prefix;
+            permits = new Semaphore(limit);
+        }
+    }
+}
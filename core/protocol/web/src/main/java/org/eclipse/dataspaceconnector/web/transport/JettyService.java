@@ -14,10 +14,12 @@
 
 package org.eclipse.dataspaceconnector.web.transport;
 
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.Servlet;
 import org.eclipse.dataspaceconnector.spi.EdcException;
 import org.eclipse.dataspaceconnector.spi.EdcSetting;
 import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
+import org.eclipse.jetty.http2.server.HTTP2CServerConnectionFactory;
 import org.eclipse.jetty.server.Connector;
 import org.eclipse.jetty.server.Handler;
 import org.eclipse.jetty.server.HttpConfiguration;
@@ -26,14 +28,24 @@ import org.eclipse.jetty.server.Server;
 import org.eclipse.jetty.server.ServerConnector;
 import org.eclipse.jetty.server.SslConnectionFactory;
 import org.eclipse.jetty.server.handler.ContextHandlerCollection;
+import org.eclipse.jetty.server.handler.gzip.GzipHandler;
+import org.eclipse.jetty.servlet.FilterHolder;
 import org.eclipse.jetty.servlet.ServletContextHandler;
 import org.eclipse.jetty.servlet.ServletHolder;
 import org.eclipse.jetty.servlet.Source;
+import org.eclipse.jetty.util.BlockingArrayQueue;
 import org.eclipse.jetty.util.ssl.SslContextFactory;
+import org.eclipse.jetty.util.thread.QueuedThreadPool;
+import org.eclipse.jetty.util.thread.ThreadPool;
 
 import java.security.KeyStore;
+import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+
+import static java.lang.String.format;
 
 /**
  * Provides HTTP(S) support using Jetty.
@@ -42,6 +54,92 @@ public class JettyService {
     @EdcSetting
     private static final String HTTP_PORT = "web.http.port";
 
+    /**
+     * Handles requests on virtual threads, if supported by the JVM. Replaces the thread pool settings.
+     */
+    @EdcSetting
+    private static final String VIRTUAL_THREADS = "web.http.threads.virtual";
+
+    @EdcSetting
+    private static final String MAX_THREADS = "web.http.threads.max";
+
+    @EdcSetting
+    private static final String MIN_THREADS = "web.http.threads.min";
+
+    /**
+     * Milliseconds after which threads above the minimum are released when idle.
+     */
+    @EdcSetting
+    private static final String THREAD_IDLE_TIMEOUT = "web.http.threads.idle";
+
+    /**
+     * Maximum number of tasks waiting for a thread, unbounded if not positive. Connections are closed once the queue is
+     * full.
+     */
+    @EdcSetting
+    private static final String QUEUE_CAPACITY = "web.http.threads.queue";
+
+    /**
+     * Number of threads accepting connections, Jetty chooses depending on the number of cores if negative.
+     */
+    @EdcSetting
+    private static final String ACCEPTORS = "web.http.acceptors";
+
+    /**
+     * Number of threads selecting on connections, Jetty chooses depending on the number of cores if negative.
+     */
+    @EdcSetting
+    private static final String SELECTORS = "web.http.selectors";
+
+    /**
+     * Milliseconds after which idle connections are closed.
+     */
+    @EdcSetting
+    private static final String IDLE_TIMEOUT = "web.http.idle";
+
+    @EdcSetting
+    private static final String REQUEST_HEADER_SIZE = "web.http.request.header.max";
+
+    /**
+     * Maximum content length of requests in bytes, unlimited if not positive.
+     */
+    @EdcSetting
+    private static final String MAX_REQUEST_SIZE = "web.http.request.max";
+
+    /**
+     * Compresses responses with gzip for clients accepting it. Disabled by default, as compression costs CPU on every
+     * response and does not pay off on fast networks.
+     */
+    @EdcSetting
+    private static final String COMPRESSION = "web.http.compression";
+
+    @EdcSetting
+    private static final String COMPRESSION_MIN_SIZE = "web.http.compression.min";
+
+    /**
+     * Comma-separated content types of the responses to compress.
+     */
+    @EdcSetting
+    private static final String COMPRESSION_MIME_TYPES = "web.http.compression.types";
+
+    /**
+     * Accepts HTTP/2 without TLS on the plain HTTP connector.
+     */
+    @EdcSetting
+    private static final String H2C = "web.http.h2c";
+
+    /**
+     * Maximum number of concurrent requests per path prefix, e.g. {@code /api/ids=150,/api/control=50}.
+     */
+    @EdcSetting
+    private static final String CONCURRENCY_LIMITS = "web.http.limits";
+
+    /**
+     * Milliseconds a request waits for its concurrency limit before it is rejected.
+     */
+    @EdcSetting
+    private static final String CONCURRENCY_LIMITS_WAIT = "web.http.limits.wait";
+
     private static final String LOG_ANNOUNCE = "org.eclipse.jetty.util.log.announce";
     private final JettyConfiguration configuration;
     private final Monitor monitor;
@@ -67,8 +165,14 @@ public class JettyService {
         var port = configuration.getSetting(HTTP_PORT, "8181");
 
         try {
+            server = new Server(createThreadPool());
+            var httpConfiguration = new HttpConfiguration();
+            httpConfiguration.setRequestHeaderSize(intSetting(REQUEST_HEADER_SIZE, 8192));
+            var acceptors = intSetting(ACCEPTORS, -1);
+            var selectors = intSetting(SELECTORS, -1);
+
+            ServerConnector connector;
             if (keyStore != null) {
-                server = new Server();
                 var storePassword = configuration.getSetting("keystore.password", "password");
                 var managerPassword = configuration.getSetting("keymanager.password", "password");
 
@@ -77,26 +181,30 @@ public class JettyService {
                 contextFactory.setKeyStorePassword(storePassword);
                 contextFactory.setKeyManagerPassword(managerPassword);
 
-                HttpConfiguration https = new HttpConfiguration();
                 SslConnectionFactory connectionFactory = new SslConnectionFactory(contextFactory, "http/1.1");
-                ServerConnector sslConnector = new ServerConnector(server, connectionFactory, new HttpConnectionFactory(https));
-                sslConnector.setPort(Integer.parseInt(port));
-                server.setConnectors(new Connector[]{sslConnector});
+                connector = new ServerConnector(server, acceptors, selectors, connectionFactory, new HttpConnectionFactory(httpConfiguration));
                 monitor.info("HTTPS listening on " + port);
+            } else if (Boolean.parseBoolean(configuration.getSetting(H2C, "false"))) {
+                // HTTP/1.1 connections may upgrade to HTTP/2, and clients with prior knowledge may use HTTP/2 right away
+                connector = new ServerConnector(server, acceptors, selectors, new HttpConnectionFactory(httpConfiguration), new HTTP2CServerConnectionFactory(httpConfiguration));
+                monitor.info("HTTP and HTTP/2 cleartext listening on " + port);
             } else {
-                server = new Server(Integer.parseInt(port));
-                ServerConnector connector = new ServerConnector(server, new HttpConnectionFactory(new HttpConfiguration()));
-                connector.setPort(Integer.parseInt(port));
-                server.setConnectors(new Connector[]{connector});
+                connector = new ServerConnector(server, acceptors, selectors, new HttpConnectionFactory(httpConfiguration));
                 monitor.info("HTTP listening on " + port);
             }
+            connector.setPort(Integer.parseInt(port));
+            connector.setIdleTimeout(longSetting(IDLE_TIMEOUT, 30_000));
+            server.setConnectors(new Connector[]{connector});
 
             server.setErrorHandler(new JettyErrorHandler());
+            addFilters();
             ContextHandlerCollection contexts = new ContextHandlerCollection();
             contexts.setHandlers(handlers.values().toArray(new Handler[0]));
-            server.setHandler(contexts);
+            server.setHandler(createGzipHandler(contexts));
 
             server.start();
+        } catch (EdcException e) {
+            throw e;
         } catch (Exception e) {
             throw new EdcException("Error starting Jetty service", e);
         }
@@ -133,6 +241,102 @@ public class JettyService {
         handlers.put(handler.getContextPath(), handler);
     }
 
+    /**
+     * Creates the pool the server runs on: virtual threads if requested and supported by the JVM, otherwise a pool
+     * whose number of threads and queued tasks are bounded.
+     */
+    private ThreadPool createThreadPool() {
+        if (Boolean.parseBoolean(configuration.getSetting(VIRTUAL_THREADS, "false"))) {
+            var pool = VirtualThreadPool.create();
+            if (pool != null) {
+                monitor.info("HTTP requests are handled on virtual threads");
+                return pool;
+            }
+            monitor.warning("Virtual threads are not supported by this JVM, using a bounded thread pool");
+        }
+        var maxThreads = intSetting(MAX_THREADS, 200);
+        var minThreads = Math.min(intSetting(MIN_THREADS, 8), maxThreads);
+        var queueCapacity = intSetting(QUEUE_CAPACITY, -1);
+        BlockingQueue<Runnable> queue = queueCapacity > 0
+                ? new BlockingArrayQueue<>(Math.min(queueCapacity, minThreads), minThreads, queueCapacity)
+                : new BlockingArrayQueue<>(minThreads, minThreads);
+        var pool = new QueuedThreadPool(maxThreads, minThreads, intSetting(THREAD_IDLE_TIMEOUT, 60_000), queue);
+        pool.setName("edc-http");
+        return pool;
+    }
+
+    /**
+     * Adds the request size and concurrency limits to all contexts.
+     */
+    private void addFilters() {
+        var maxRequestSize = longSetting(MAX_REQUEST_SIZE, -1);
+        var limits = parseLimits(configuration.getSetting(CONCURRENCY_LIMITS, null));
+        var concurrencyLimitFilter = limits.isEmpty() ? null : new ConcurrencyLimitFilter(limits, longSetting(CONCURRENCY_LIMITS_WAIT, 0));
+        for (ServletContextHandler handler : handlers.values()) {
+            if (maxRequestSize > 0) {
+                handler.addFilter(new FilterHolder(new RequestSizeFilter(maxRequestSize)), "/*", EnumSet.of(DispatcherType.REQUEST));
+            }
+            if (concurrencyLimitFilter != null) {
+                handler.addFilter(new FilterHolder(concurrencyLimitFilter), "/*", EnumSet.of(DispatcherType.REQUEST));
+            }
+        }
+        if (!limits.isEmpty()) {
+            monitor.info("HTTP concurrency limits: " + limits);
+        }
+    }
+
+    private Handler createGzipHandler(Handler handler) {
+        if (!Boolean.parseBoolean(configuration.getSetting(COMPRESSION, "false"))) {
+            return handler;
+        }
+        var gzipHandler = new GzipHandler();
+        gzipHandler.setMinGzipSize(intSetting(COMPRESSION_MIN_SIZE, 1024));
+        gzipHandler.setIncludedMimeTypes(configuration.getSetting(COMPRESSION_MIME_TYPES, "application/json").split(","));
+        // IDS messages are exchanged using POST
+        gzipHandler.setIncludedMethods("GET", "POST");
+        gzipHandler.setHandler(handler);
+        return gzipHandler;
+    }
+
+    /**
+     * Parses limits of the form {@code /api/ids=150,/api/control=50}.
+     */
+    private Map<String, Integer> parseLimits(String value) {
+        var limits = new LinkedHashMap<String, Integer>();
+        if (value == null || value.isBlank()) {
+            return limits;
+        }
+        for (String entry : value.split(",")) {
+            var parts = entry.split("=");
+            if (parts.length != 2) {
+                throw new EdcException(format("Invalid value for %s: %s", CONCURRENCY_LIMITS, entry));
+            }
+            limits.put(parts[0].trim(), parseInt(CONCURRENCY_LIMITS, parts[1].trim()));
+        }
+        return limits;
+    }
+
+    private int intSetting(String setting, int defaultValue) {
+        return parseInt(setting, configuration.getSetting(setting, String.valueOf(defaultValue)));
+    }
+
+    private long longSetting(String setting, long defaultValue) {
+        var value = configuration.getSetting(setting, String.valueOf(defaultValue));
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new EdcException(format("Invalid value for %s: %s", setting, value));
+        }
+    }
+
+    private static int parseInt(String setting, String value) {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new EdcException(format("Invalid value for %s: %s", setting, value));
+        }
+    }
+
     private ServletContextHandler getOrCreate(String contextPath) {
         return handlers.computeIfAbsent(contextPath, k -> {
             ServletContextHandler handler = new ServletContextHandler(ServletContextHandler.NO_SESSIONS);
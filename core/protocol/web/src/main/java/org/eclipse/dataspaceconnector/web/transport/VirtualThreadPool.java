@@ -0,0 +1,105 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.web.transport;
+
+import org.eclipse.jetty.util.component.AbstractLifeCycle;
+import org.eclipse.jetty.util.thread.ThreadPool;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs every task on a new virtual thread. Virtual threads are looked up reflectively, as the connector is built for
+ * Java 11: the pool can only be created when running on a JVM that supports them.
+ */
+class VirtualThreadPool extends AbstractLifeCycle implements ThreadPool {
+    private final Method executorFactory;
+    private final AtomicInteger active = new AtomicInteger();
+    private volatile ExecutorService executor;
+
+    private VirtualThreadPool(Method executorFactory) {
+        this.executorFactory = executorFactory;
+    }
+
+    /**
+     * Returns a pool, or null if the JVM does not support virtual threads.
+     */
+    static VirtualThreadPool create() {
+        return create(Executors.class);
+    }
+
+    /**
+     * Returns a pool whose executor is created by the {@code newVirtualThreadPerTaskExecutor} method of the given class,
+     * or null if there is no such method or it fails.
+     */
+    static VirtualThreadPool create(Class<?> executors) {
+        try {
+            var factory = executors.getMethod("newVirtualThreadPerTaskExecutor");
+            // fails if virtual threads are a preview feature that is not enabled
+            ((ExecutorService) factory.invoke(null)).shutdown();
+            return new VirtualThreadPool(factory);
+        } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException | UnsupportedOperationException e) {
+            return null;
+        }
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        executor = (ExecutorService) executorFactory.invoke(null);
+        super.doStart();
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        executor.shutdown();
+        super.doStop();
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        executor.execute(() -> {
+            active.incrementAndGet();
+            try {
+                task.run();
+            } finally {
+                active.decrementAndGet();
+            }
+        });
+    }
+
+    @Override
+    public void join() throws InterruptedException {
+        executor.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public int getThreads() {
+        return active.get();
+    }
+
+    @Override
+    public int getIdleThreads() {
+        return 0;
+    }
+
+    @Override
+    public boolean isLowOnThreads() {
+        return false;
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.web.transport;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.easymock.EasyMock;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.easymock.EasyMock.expect;
+import static org.easymock.EasyMock.replay;
+import static org.easymock.EasyMock.verify;
+
+class ConcurrencyLimitFilterTest {
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+    }
+
+    @Test
+    void doFilter_rejectsWhenLimitIsReached() throws Exception {
+        var filter = new ConcurrencyLimitFilter(Map.of("/api/ids", 1), 0);
+        hold(filter, "/api/ids/data");
+
+        HttpServletResponse response = EasyMock.createMock(HttpServletResponse.class);
+        response.setHeader("Retry-After", "1");
+        response.sendError(503);
+        FilterChain chain = EasyMock.createMock(FilterChain.class);
+        replay(response, chain);
+
+        filter.doFilter(request("/api/ids/data"), response, chain);
+
+        verify(response, chain);
+    }
+
+    @Test
+    void doFilter_releasesPermitAfterRequest() throws Exception {
+        var filter = new ConcurrencyLimitFilter(Map.of("/api/ids", 1), 0);
+
+        assertThat(passes(filter, "/api/ids/data")).isTrue();
+        assertThat(passes(filter, "/api/ids/data")).isTrue();
+    }
+
+    @Test
+    void doFilter_appliesLongestMatchingPrefix() throws Exception {
+        var filter = new ConcurrencyLimitFilter(Map.of("/api", 1, "/api/ids", 1), 0);
+        hold(filter, "/api/ids/data");
+
+        assertThat(passes(filter, "/api/ids/description")).isFalse();
+        assertThat(passes(filter, "/api/control/catalog")).isTrue();
+        // paths matching no prefix are not limited
+        assertThat(passes(filter, "/metrics")).isTrue();
+    }
+
+    /**
+     * Starts a request on the path that keeps its permit until the test ends, and waits until it holds the permit.
+     */
+    private void hold(ConcurrencyLimitFilter filter, String path) throws Exception {
+        var entered = new CountDownLatch(1);
+        FilterChain chain = (request, response) -> {
+            entered.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        HttpServletResponse response = EasyMock.createNiceMock(HttpServletResponse.class);
+        replay(response);
+        var request = request(path);
+        CompletableFuture.runAsync(() -> {
+            try {
+                filter.doFilter(request, response, chain);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    /**
+     * Returns whether a request on the path is passed on to the chain.
+     */
+    private boolean passes(ConcurrencyLimitFilter filter, String path) throws Exception {
+        var passed = new AtomicBoolean();
+        HttpServletResponse response = EasyMock.createNiceMock(HttpServletResponse.class);
+        replay(response);
+
+        filter.doFilter(request(path), response, (request, resp) -> passed.set(true));
+
+        return passed.get();
+    }
+
+    private HttpServletRequest request(String path) {
+        HttpServletRequest request = EasyMock.createMock(HttpServletRequest.class);
+        expect(request.getRequestURI()).andStubReturn(path);
+        replay(request);
+        return request;
+    }
+}
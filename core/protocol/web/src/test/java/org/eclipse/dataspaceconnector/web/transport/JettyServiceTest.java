@@ -0,0 +1,142 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.web.transport;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.eclipse.dataspaceconnector.spi.EdcException;
+import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JettyServiceTest {
+    private final Map<String, String> settings = new HashMap<>();
+    private final HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    private JettyService service;
+
+    @AfterEach
+    void tearDown() {
+        if (service != null) {
+            service.shutdown();
+        }
+    }
+
+    @Test
+    void start_rejectsInvalidNumber() {
+        settings.put("web.http.threads.max", "many");
+
+        assertThatThrownBy(() -> start()).isInstanceOf(EdcException.class).hasMessage("Invalid value for web.http.threads.max: many");
+    }
+
+    @Test
+    void start_rejectsInvalidLimits() {
+        settings.put("web.http.limits", "/api/ids=150,/api/control");
+
+        assertThatThrownBy(() -> start()).isInstanceOf(EdcException.class).hasMessage("Invalid value for web.http.limits: /api/control");
+    }
+
+    @Test
+    void start_rejectsInvalidLimit() {
+        settings.put("web.http.limits", "/api/ids=all");
+
+        assertThatThrownBy(() -> start()).isInstanceOf(EdcException.class).hasMessage("Invalid value for web.http.limits: all");
+    }
+
+    @Test
+    void request_notCompressedByDefault() throws Exception {
+        start();
+
+        var response = get("/data");
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue("Content-Encoding")).isEmpty();
+    }
+
+    @Test
+    void request_compressedIfEnabled() throws Exception {
+        settings.put("web.http.compression", "true");
+        start();
+
+        var response = get("/data");
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue("Content-Encoding")).hasValue("gzip");
+    }
+
+    @Test
+    void request_rejectedIfTooLarge() throws Exception {
+        settings.put("web.http.request.max", "16");
+        start();
+
+        var request = HttpRequest.newBuilder(uri("/data")).POST(HttpRequest.BodyPublishers.ofString("a body of more than sixteen bytes")).build();
+        var response = client.send(request, HttpResponse.BodyHandlers.discarding());
+
+        assertThat(response.statusCode()).isEqualTo(413);
+    }
+
+    @Test
+    void request_handledWithVirtualThreadsEnabled() throws Exception {
+        // falls back to the bounded pool on a JVM without virtual threads
+        settings.put("web.http.threads.virtual", "true");
+        start();
+
+        assertThat(get("/data").statusCode()).isEqualTo(200);
+    }
+
+    private void start() throws IOException {
+        try (var socket = new ServerSocket(0)) {
+            settings.put("web.http.port", String.valueOf(socket.getLocalPort()));
+        }
+        service = new JettyService((setting, defaultValue) -> settings.getOrDefault(setting, defaultValue), new Monitor() {
+        });
+        service.registerServlet("/", "/data", new JsonServlet());
+        service.start();
+    }
+
+    private HttpResponse<Void> get(String path) throws Exception {
+        var request = HttpRequest.newBuilder(uri(path)).header("Accept-Encoding", "gzip").GET().build();
+        return client.send(request, HttpResponse.BodyHandlers.discarding());
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + settings.get("web.http.port") + path);
+    }
+
+    private static class JsonServlet extends HttpServlet {
+        @Override
+        protected void doGet(HttpServletRequest request, HttpServletResponse response) throws IOException {
+            response.setContentType("application/json");
+            response.getWriter().write("{\"value\":\"" + "x".repeat(4096) + "\"}");
+        }
+
+        @Override
+        protected void doPost(HttpServletRequest request, HttpServletResponse response) {
+            response.setStatus(200);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.web.transport;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.easymock.EasyMock;
+import org.junit.jupiter.api.Test;
+
+import static org.easymock.EasyMock.expect;
+import static org.easymock.EasyMock.replay;
+import static org.easymock.EasyMock.verify;
+
+class RequestSizeFilterTest {
+    private final RequestSizeFilter filter = new RequestSizeFilter(1024);
+
+    @Test
+    void doFilter_rejectsLargeRequest() throws Exception {
+        var request = request(1025);
+        HttpServletResponse response = EasyMock.createMock(HttpServletResponse.class);
+        response.sendError(413);
+        FilterChain chain = EasyMock.createMock(FilterChain.class);
+        replay(response, chain);
+
+        filter.doFilter(request, response, chain);
+
+        verify(response, chain);
+    }
+
+    @Test
+    void doFilter_passesRequestWithinLimit() throws Exception {
+        verifyPasses(request(1024));
+    }
+
+    @Test
+    void doFilter_passesRequestWithoutContentLength() throws Exception {
+        verifyPasses(request(-1));
+    }
+
+    private void verifyPasses(HttpServletRequest request) throws Exception {
+        HttpServletResponse response = EasyMock.createMock(HttpServletResponse.class);
+        FilterChain chain = EasyMock.createMock(FilterChain.class);
+        chain.doFilter(request, response);
+        replay(response, chain);
+
+        filter.doFilter(request, response, chain);
+
+        verify(response, chain);
+    }
+
+    private HttpServletRequest request(long contentLength) {
+        HttpServletRequest request = EasyMock.createMock(HttpServletRequest.class);
+        expect(request.getContentLengthLong()).andStubReturn(contentLength);
+        replay(request);
+        return request;
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.web.transport;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class VirtualThreadPoolTest {
+
+    @Test
+    void create_returnsNullWithoutVirtualThreads() {
+        assertThat(VirtualThreadPool.create(Object.class)).isNull();
+    }
+
+    @Test
+    void create_returnsNullIfVirtualThreadsAreDisabled() {
+        assertThat(VirtualThreadPool.create(FailingExecutors.class)).isNull();
+    }
+
+    @Test
+    void execute_runsTasksOnVirtualThreads() throws Exception {
+        var pool = VirtualThreadPool.create();
+        assumeTrue(pool != null, "virtual threads are not supported by this JVM");
+
+        pool.start();
+        try {
+            var result = new CompletableFuture<String>();
+            pool.execute(() -> result.complete(Thread.currentThread().toString()));
+
+            assertThat(result.get(5, TimeUnit.SECONDS)).startsWith("VirtualThread");
+        } finally {
+            pool.stop();
+        }
+    }
+
+    /**
+     * Behaves like {@link Executors} on a JVM that has virtual threads as a preview feature that is not enabled.
+     */
+    public static class FailingExecutors {
+        public static Object newVirtualThreadPerTaskExecutor() {
+            throw new UnsupportedOperationException("Preview features are not enabled");
+        }
+    }
+}
@@ -15,6 +15,7 @@
 package org.eclipse.dataspaceconnector.transfer.core;
 
 import org.eclipse.dataspaceconnector.spi.message.RemoteMessageDispatcherRegistry;
+import org.eclipse.dataspaceconnector.spi.metrics.MetricRegistry;
 import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
 import org.eclipse.dataspaceconnector.spi.security.Vault;
 import org.eclipse.dataspaceconnector.spi.system.ServiceExtension;
@@ -56,6 +57,11 @@ public class CoreTransferExtension implements ServiceExtension {
         return Set.of("dataspaceconnector:statuschecker", "dataspaceconnector:dispatcher", "dataspaceconnector:manifestgenerator", "dataspaceconnector:transfer-process-manager", "dataspaceconnector:transfer-process-observable");
     }
 
+    @Override
+    public Set<String> requires() {
+        return Set.of(MetricRegistry.FEATURE);
+    }
+
     @Override
     public LoadPhase phase() {
         return LoadPhase.PRIMORDIAL;
@@ -73,7 +79,9 @@ public class CoreTransferExtension implements ServiceExtension {
         var dataFlowManager = new DataFlowManagerImpl();
         context.registerService(DataFlowManager.class, dataFlowManager);
 
-        var dispatcherRegistry = new RemoteMessageDispatcherRegistryImpl();
+        var metrics = context.getService(MetricRegistry.class);
+
+        var dispatcherRegistry = new RemoteMessageDispatcherRegistryImpl(metrics);
         context.registerService(RemoteMessageDispatcherRegistry.class, dispatcherRegistry);
 
         var manifestGenerator = new ResourceManifestGeneratorImpl();
@@ -97,6 +105,7 @@ public class CoreTransferExtension implements ServiceExtension {
                 .dispatcherRegistry(dispatcherRegistry)
                 .statusCheckerRegistry(statusCheckerRegistry)
                 .monitor(monitor)
+                .metrics(metrics)
                 .build();
 
         context.registerService(TransferProcessManager.class, processManager);
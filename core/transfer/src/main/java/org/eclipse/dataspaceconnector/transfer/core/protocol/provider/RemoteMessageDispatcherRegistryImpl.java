@@ -18,6 +18,9 @@ import org.eclipse.dataspaceconnector.spi.EdcException;
 import org.eclipse.dataspaceconnector.spi.message.MessageContext;
 import org.eclipse.dataspaceconnector.spi.message.RemoteMessageDispatcher;
 import org.eclipse.dataspaceconnector.spi.message.RemoteMessageDispatcherRegistry;
+import org.eclipse.dataspaceconnector.spi.metrics.MetricRegistry;
+import org.eclipse.dataspaceconnector.spi.metrics.NoopMetricRegistry;
+import org.eclipse.dataspaceconnector.spi.metrics.Timer;
 import org.eclipse.dataspaceconnector.spi.types.domain.message.RemoteMessage;
 import org.jetbrains.annotations.Nullable;
 
@@ -25,9 +28,23 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * Dispatches messages by protocol and records the duration of each call per protocol, message type and outcome.
+ */
 public class RemoteMessageDispatcherRegistryImpl implements RemoteMessageDispatcherRegistry {
     private final Map<String, RemoteMessageDispatcher> dispatchers = new HashMap<>();
+    private final Map<String, Map<Class<?>, CallTimers>> callTimers = new ConcurrentHashMap<>();
+    private final MetricRegistry metrics;
+
+    public RemoteMessageDispatcherRegistryImpl() {
+        this(NoopMetricRegistry.INSTANCE);
+    }
+
+    public RemoteMessageDispatcherRegistryImpl(MetricRegistry metrics) {
+        this.metrics = metrics;
+    }
 
     @Override
     public void register(RemoteMessageDispatcher dispatcher) {
@@ -44,7 +61,20 @@ public class RemoteMessageDispatcherRegistryImpl implements RemoteMessageDispatc
             future.completeExceptionally(new EdcException("No provider dispatcher registered for protocol: " + protocol));
             return future;
         }
-        return dispatcher.send(responseType, message, context);
+        var timers = callTimers(dispatcher.protocol(), message.getClass());
+        var start = System.nanoTime();
+        return dispatcher.send(responseType, message, context).whenComplete((result, error) -> {
+            (error == null ? timers.success : timers.failure).record(System.nanoTime() - start);
+        });
+    }
+
+    /**
+     * Returns the timers of the protocol and message type, looking them up in the metric registry only once.
+     */
+    private CallTimers callTimers(String protocol, Class<?> messageType) {
+        var byType = callTimers.computeIfAbsent(protocol, p -> new ConcurrentHashMap<>());
+        var timers = byType.get(messageType);
+        return timers != null ? timers : byType.computeIfAbsent(messageType, type -> new CallTimers(protocol, type));
     }
 
     @Nullable
@@ -57,4 +87,18 @@ public class RemoteMessageDispatcherRegistryImpl implements RemoteMessageDispatc
         }
         return dispatchers.get(protocol);
     }
+
+    private class CallTimers {
+        private final Timer success;
+        private final Timer failure;
+
+        CallTimers(String protocol, Class<?> messageType) {
+            success = timer(protocol, messageType, "success");
+            failure = timer(protocol, messageType, "failure");
+        }
+
+        private Timer timer(String protocol, Class<?> messageType, String outcome) {
+            return metrics.timer("edc_dispatcher_call_seconds", Map.of("protocol", protocol, "message", messageType.getSimpleName(), "outcome", outcome));
+        }
+    }
 }
@@ -30,8 +30,10 @@ import org.eclipse.dataspaceconnector.spi.types.domain.transfer.TransferProcess;
 import org.eclipse.dataspaceconnector.spi.types.domain.transfer.TransferProcessStates;
 import org.jetbrains.annotations.NotNull;
 
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import static java.lang.String.format;
 
@@ -97,7 +99,7 @@ public class ProvisionManagerImpl implements ProvisionManager {
             if (transferProcess != null) {
                 transferProcess.transitionDeprovisioned();
                 processStore.update(transferProcess);
-                monitor.debug("Process " + transferProcess.getId() + " is now " + TransferProcessStates.from(transferProcess.getState()));
+                monitor.debug("Process state changed", Map.of("process", transferProcess.getId(), "state", TransferProcessStates.from(transferProcess.getState())));
             } else {
                 monitor.severe("ProvisionManager: no TransferProcess found for deprovisioned resource");
             }
@@ -119,7 +121,9 @@ public class ProvisionManagerImpl implements ProvisionManager {
 
         if (secretToken != null) {
             String keyName = destinationResource.getResourceName();
-            vault.storeSecret(keyName, typeManager.writeValueAsString(secretToken));
+            // the token is only valid for the transfer, let vaults supporting expiry discard it afterwards
+            var expiresAt = secretToken.getExpiration() > 0 ? Instant.ofEpochMilli(secretToken.getExpiration()) : null;
+            vault.storeSecret(keyName, typeManager.writeValueAsString(secretToken), expiresAt);
             transferProcess.getDataRequest().getDataDestination().setKeyName(keyName);
 
         }
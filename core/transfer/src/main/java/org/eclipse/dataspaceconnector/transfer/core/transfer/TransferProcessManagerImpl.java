@@ -15,6 +15,10 @@
 package org.eclipse.dataspaceconnector.transfer.core.transfer;
 
 import org.eclipse.dataspaceconnector.spi.message.RemoteMessageDispatcherRegistry;
+import org.eclipse.dataspaceconnector.spi.metrics.Counter;
+import org.eclipse.dataspaceconnector.spi.metrics.MetricRegistry;
+import org.eclipse.dataspaceconnector.spi.metrics.NoopMetricRegistry;
+import org.eclipse.dataspaceconnector.spi.metrics.Timer;
 import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
 import org.eclipse.dataspaceconnector.spi.transfer.TransferInitiateResponse;
 import org.eclipse.dataspaceconnector.spi.transfer.TransferProcessListener;
@@ -33,7 +37,9 @@ import org.eclipse.dataspaceconnector.spi.types.domain.transfer.TransferProcess;
 import org.eclipse.dataspaceconnector.spi.types.domain.transfer.TransferProcessStates;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -52,6 +58,8 @@ import static org.eclipse.dataspaceconnector.spi.types.domain.transfer.TransferP
 
 public class TransferProcessManagerImpl extends TransferProcessObservable implements TransferProcessManager {
     private final AtomicBoolean active = new AtomicBoolean();
+    private final Map<Integer, Counter> transitionCounters = new ConcurrentHashMap<>();
+    private final Map<Integer, Timer> nextForStateTimers = new ConcurrentHashMap<>();
 
     private int batchSize = 5;
     private TransferWaitStrategy waitStrategy = () -> 5000L;  // default wait five seconds
@@ -63,6 +71,7 @@ public class TransferProcessManagerImpl extends TransferProcessObservable implem
     private Monitor monitor;
     private ExecutorService executor;
     private StatusCheckerRegistry statusCheckerRegistry;
+    private MetricRegistry metrics = NoopMetricRegistry.INSTANCE;
 
     private TransferProcessManagerImpl() {
 
@@ -148,14 +157,14 @@ public class TransferProcessManagerImpl extends TransferProcessObservable implem
 
 
     private int checkDeprovisioned() {
-        var deprovisionedProcesses = transferProcessStore.nextForState(DEPROVISIONED.code(), batchSize);
+        var deprovisionedProcesses = nextForState(DEPROVISIONED.code());
 
         for (var process : deprovisionedProcesses) {
             invokeForEach(l -> l.deprovisioned(process));
             process.transitionEnded();
-            transferProcessStore.update(process);
+            updateProcess(process, DEPROVISIONED.code());
             invokeForEach(l -> l.ended(process));
-            monitor.debug("Process " + process.getId() + " is now " + TransferProcessStates.from(process.getState()));
+            monitor.debug("Process state changed", Map.of("process", process.getId(), "state", TransferProcessStates.from(process.getState())));
         }
         return deprovisionedProcesses.size();
     }
@@ -167,13 +176,13 @@ public class TransferProcessManagerImpl extends TransferProcessObservable implem
      * @return the number of transfer processes in DEPROVISIONING_REQ
      */
     private int checkDeprovisioningRequested() {
-        List<TransferProcess> processesDeprovisioning = transferProcessStore.nextForState(DEPROVISIONING_REQ.code(), batchSize);
+        List<TransferProcess> processesDeprovisioning = nextForState(DEPROVISIONING_REQ.code());
 
         for (var process : processesDeprovisioning) {
             process.transitionDeprovisioning();
-            transferProcessStore.update(process);
+            updateProcess(process, DEPROVISIONING_REQ.code());
             invokeForEach(l -> l.deprovisioning(process));
-            monitor.debug("Process " + process.getId() + " is now " + TransferProcessStates.from(process.getState()));
+            monitor.debug("Process state changed", Map.of("process", process.getId(), "state", TransferProcessStates.from(process.getState())));
             provisionManager.deprovision(process);
         }
 
@@ -187,7 +196,7 @@ public class TransferProcessManagerImpl extends TransferProcessObservable implem
      * If a process does not have provisioned resources, it will remain in REQUESTED_ACK.
      */
     private int checkProvisioned() {
-        var requestAcked = transferProcessStore.nextForState(TransferProcessStates.REQUESTED_ACK.code(), batchSize);
+        var requestAcked = nextForState(TransferProcessStates.REQUESTED_ACK.code());
 
         for (var process : requestAcked) {
             // process must either have a non-empty list of provisioned resources, or not have managed resources at all.
@@ -199,11 +208,11 @@ public class TransferProcessManagerImpl extends TransferProcessObservable implem
                     process.transitionStreaming();
                 }
                 invokeForEach(l -> l.inProgress(process));
-                monitor.debug("Process " + process.getId() + " is now " + TransferProcessStates.from(process.getState()));
+                monitor.debug("Process state changed", Map.of("process", process.getId(), "state", TransferProcessStates.from(process.getState())));
             } else {
                 monitor.debug("Process " + process.getId() + " does not yet have provisioned resources, will stay in " + TransferProcessStates.REQUESTED_ACK);
             }
-            transferProcessStore.update(process);
+            updateProcess(process, TransferProcessStates.REQUESTED_ACK.code());
         }
 
         return requestAcked.size();
@@ -217,7 +226,7 @@ public class TransferProcessManagerImpl extends TransferProcessObservable implem
     private int checkCompleted() {
 
         //deal with all the consumer processes
-        var processesInProgress = transferProcessStore.nextForState(TransferProcessStates.IN_PROGRESS.code(), batchSize);
+        var processesInProgress = nextForState(TransferProcessStates.IN_PROGRESS.code());
 
         for (var process : processesInProgress.stream().filter(p -> p.getType() == CONSUMER).collect(Collectors.toList())) {
             if (process.getDataRequest().isManagedResources()) {
@@ -241,14 +250,14 @@ public class TransferProcessManagerImpl extends TransferProcessObservable implem
                     transitionToCompleted(process);
                 }
             }
-            transferProcessStore.update(process);
+            updateProcess(process, TransferProcessStates.IN_PROGRESS.code());
         }
         return processesInProgress.size();
     }
 
     private void transitionToCompleted(TransferProcess process) {
         process.transitionCompleted();
-        monitor.debug("Process " + process.getId() + " is now " + TransferProcessStates.COMPLETED);
+        monitor.debug("Process state changed", Map.of("process", process.getId(), "state", TransferProcessStates.COMPLETED));
         invokeForEach(listener -> listener.completed(process));
     }
 
@@ -260,7 +269,7 @@ public class TransferProcessManagerImpl extends TransferProcessObservable implem
      * map involve preprocessing data or other operations.
      */
     private int provisionInitialProcesses() {
-        var processes = transferProcessStore.nextForState(INITIAL.code(), batchSize);
+        var processes = nextForState(INITIAL.code());
         for (TransferProcess process : processes) {
             DataRequest dataRequest = process.getDataRequest();
             ResourceManifest manifest;
@@ -271,7 +280,7 @@ public class TransferProcessManagerImpl extends TransferProcessObservable implem
                 manifest = manifestGenerator.generateProviderManifest(process);
             }
             process.transitionProvisioning(manifest);
-            transferProcessStore.update(process);
+            updateProcess(process, INITIAL.code());
             invokeForEach(l -> l.provisioning(process));
             provisionManager.provision(process);
         }
@@ -284,13 +293,14 @@ public class TransferProcessManagerImpl extends TransferProcessObservable implem
      * @return the number of requests processed
      */
     private int sendOrProcessProvisionedRequests() {
-        var processes = transferProcessStore.nextForState(PROVISIONED.code(), batchSize);
+        var processes = nextForState(PROVISIONED.code());
         for (TransferProcess process : processes) {
             DataRequest dataRequest = process.getDataRequest();
             if (CONSUMER == process.getType()) {
                 process.transitionRequested();
-                transferProcessStore.update(process);   // update before sending to accommodate synchronous transports; reliability will be managed by retry and idempotency
+                updateProcess(process, PROVISIONED.code());   // update before sending to accommodate synchronous transports; reliability will be managed by retry and idempotency
                 invokeForEach(l -> l.requested(process));
+                // the process must not be updated after sending, as the acknowledgement may already have been stored
                 dispatcherRegistry.send(Void.class, dataRequest, process::getId);
             } else {
                 var response = dataFlowManager.initiate(dataRequest);
@@ -310,8 +320,8 @@ public class TransferProcessManagerImpl extends TransferProcessObservable implem
                     }
                     invokeForEach(l -> l.inProgress(process));
                 }
+                updateProcess(process, PROVISIONED.code());
             }
-            transferProcessStore.update(process);
         }
         return processes.size();
     }
@@ -321,6 +331,28 @@ public class TransferProcessManagerImpl extends TransferProcessObservable implem
         getListeners().forEach(action);
     }
 
+    /**
+     * Fetches the next batch of processes in the state, recording the latency of the store.
+     */
+    private List<TransferProcess> nextForState(int state) {
+        var timer = nextForStateTimers.computeIfAbsent(state, s -> metrics.timer("edc_transfer_process_next_for_state_seconds", stateLabel(s)));
+        return timer.time(() -> transferProcessStore.nextForState(state, batchSize));
+    }
+
+    /**
+     * Persists the process and, if it left the state it was fetched in, counts its transition into the current state.
+     */
+    private void updateProcess(TransferProcess process, int previousState) {
+        transferProcessStore.update(process);
+        if (process.getState() != previousState) {
+            transitionCounters.computeIfAbsent(process.getState(), s -> metrics.counter("edc_transfer_process_transitions_total", stateLabel(s))).increment();
+        }
+    }
+
+    private static Map<String, String> stateLabel(int state) {
+        return Map.of("state", String.valueOf(TransferProcessStates.from(state)));
+    }
+
     public static class Builder {
         private final TransferProcessManagerImpl manager;
 
@@ -367,6 +399,11 @@ public class TransferProcessManagerImpl extends TransferProcessObservable implem
             return this;
         }
 
+        public Builder metrics(MetricRegistry metrics) {
+            manager.metrics = metrics;
+            return this;
+        }
+
         public Builder statusCheckerRegistry(StatusCheckerRegistry statusCheckerRegistry) {
             manager.statusCheckerRegistry = statusCheckerRegistry;
             return this;
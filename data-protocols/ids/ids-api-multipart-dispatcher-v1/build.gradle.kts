@@ -30,6 +30,7 @@ dependencies {
     implementation("org.glassfish.jersey.media:jersey-media-multipart:${jerseyVersion}")
 
     testImplementation(testFixtures(project(":launchers:junit")))
+    testImplementation(testFixtures(project(":common:util")))
     testImplementation(project(":core:protocol:web"))
     testImplementation(project(":data-protocols:ids:ids-api-multipart-endpoint-v1"))
 }
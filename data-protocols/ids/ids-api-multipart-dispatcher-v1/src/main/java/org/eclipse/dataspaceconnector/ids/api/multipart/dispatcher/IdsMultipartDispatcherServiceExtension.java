@@ -19,7 +19,11 @@ import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
 import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import org.eclipse.dataspaceconnector.ids.api.multipart.dispatcher.http.PeerCircuitBreakerInterceptor;
 import org.eclipse.dataspaceconnector.ids.api.multipart.dispatcher.sender.MultipartArtifactRequestSender;
 import org.eclipse.dataspaceconnector.ids.api.multipart.dispatcher.sender.MultipartCatalogDescriptionRequestSender;
 import org.eclipse.dataspaceconnector.ids.api.multipart.dispatcher.sender.MultipartContractAgreementSender;
@@ -41,8 +45,12 @@ import org.eclipse.dataspaceconnector.spi.system.ServiceExtensionContext;
 import org.jetbrains.annotations.NotNull;
 
 import java.text.SimpleDateFormat;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 public class IdsMultipartDispatcherServiceExtension implements ServiceExtension {
 
@@ -50,6 +58,36 @@ public class IdsMultipartDispatcherServiceExtension implements ServiceExtension
     public static final String EDC_IDS_ID = "edc.ids.id";
     public static final String DEFAULT_EDC_IDS_ID = "urn:connector:edc";
 
+    @EdcSetting
+    public static final String EDC_IDS_CLIENT_MAX_REQUESTS = "edc.ids.client.requests.max";
+
+    @EdcSetting
+    public static final String EDC_IDS_CLIENT_MAX_REQUESTS_PER_PEER = "edc.ids.client.requests.max.peer";
+
+    @EdcSetting
+    public static final String EDC_IDS_CLIENT_POOL_IDLE = "edc.ids.client.pool.idle";
+
+    @EdcSetting
+    public static final String EDC_IDS_CLIENT_POOL_KEEP_ALIVE = "edc.ids.client.pool.keepalive";
+
+    @EdcSetting
+    public static final String EDC_IDS_CLIENT_HTTP2 = "edc.ids.client.http2";
+
+    @EdcSetting
+    public static final String EDC_IDS_CLIENT_TIMEOUT_CONNECT = "edc.ids.client.timeout.connect";
+
+    @EdcSetting
+    public static final String EDC_IDS_CLIENT_TIMEOUT_READ = "edc.ids.client.timeout.read";
+
+    @EdcSetting
+    public static final String EDC_IDS_CLIENT_TIMEOUT_CALL = "edc.ids.client.timeout.call";
+
+    @EdcSetting
+    public static final String EDC_IDS_CLIENT_BREAKER_FAILURES = "edc.ids.client.breaker.failures";
+
+    @EdcSetting
+    public static final String EDC_IDS_CLIENT_BREAKER_COOLDOWN = "edc.ids.client.breaker.cooldown";
+
     private static final String NAME = "IDS Multipart Dispatcher API extension";
 
     private Monitor monitor;
@@ -71,7 +109,7 @@ public class IdsMultipartDispatcherServiceExtension implements ServiceExtension
         monitor = context.getMonitor();
 
         var connectorId = resolveConnectorId(context);
-        var httpClient = context.getService(OkHttpClient.class);
+        var httpClient = createHttpClient(context);
         var identityService = context.getService(IdentityService.class);
         var vault = context.getService(Vault.class);
 
@@ -112,6 +150,51 @@ public class IdsMultipartDispatcherServiceExtension implements ServiceExtension
         monitor.info(String.format("Shutdown %s", NAME));
     }
 
+    /**
+     * Derives the client used for IDS messages from the runtime's shared client. It gets its own dispatcher and
+     * connection pool, so that the per-peer limits apply to IDS traffic only and a slow peer cannot exhaust the
+     * connections of other extensions.
+     */
+    private OkHttpClient createHttpClient(ServiceExtensionContext context) {
+        var dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(resolveInt(context, EDC_IDS_CLIENT_MAX_REQUESTS, 128));
+        dispatcher.setMaxRequestsPerHost(resolveInt(context, EDC_IDS_CLIENT_MAX_REQUESTS_PER_PEER, 32));
+
+        var connectionPool = new ConnectionPool(
+                resolveInt(context, EDC_IDS_CLIENT_POOL_IDLE, 32),
+                resolveInt(context, EDC_IDS_CLIENT_POOL_KEEP_ALIVE, 300_000),
+                TimeUnit.MILLISECONDS);
+
+        // HTTP/2 is negotiated via ALPN on TLS connections, requests to the same peer are then multiplexed over one connection
+        var protocols = Boolean.parseBoolean(context.getSetting(EDC_IDS_CLIENT_HTTP2, "true")) ?
+                List.of(Protocol.HTTP_2, Protocol.HTTP_1_1) :
+                List.of(Protocol.HTTP_1_1);
+
+        var breakerInterceptor = new PeerCircuitBreakerInterceptor(
+                resolveInt(context, EDC_IDS_CLIENT_BREAKER_FAILURES, 5),
+                Duration.ofMillis(resolveInt(context, EDC_IDS_CLIENT_BREAKER_COOLDOWN, 30_000)),
+                Clock.systemUTC());
+
+        return context.getService(OkHttpClient.class).newBuilder()
+                .dispatcher(dispatcher)
+                .connectionPool(connectionPool)
+                .protocols(protocols)
+                .connectTimeout(resolveInt(context, EDC_IDS_CLIENT_TIMEOUT_CONNECT, 30_000), TimeUnit.MILLISECONDS)
+                .readTimeout(resolveInt(context, EDC_IDS_CLIENT_TIMEOUT_READ, 30_000), TimeUnit.MILLISECONDS)
+                .callTimeout(resolveInt(context, EDC_IDS_CLIENT_TIMEOUT_CALL, 0), TimeUnit.MILLISECONDS)
+                .addInterceptor(breakerInterceptor)
+                .build();
+    }
+
+    private int resolveInt(ServiceExtensionContext context, String key, int defaultValue) {
+        var value = context.getSetting(key, String.valueOf(defaultValue));
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new EdcException(String.format("IDS Settings: Expected a number for setting '%s', but was '%s'", key, value));
+        }
+    }
+
     private String resolveConnectorId(@NotNull ServiceExtensionContext context) {
         Objects.requireNonNull(context);
 
@@ -0,0 +1,118 @@
+/*
+ *  Copyright (c) 2021 Fraunhofer Institute for Software and Systems Engineering
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Fraunhofer Institute for Software and Systems Engineering - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.ids.api.multipart.dispatcher.http;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Circuit breaker guarding the calls to a single peer connector.
+ * <br/>
+ * The breaker opens after the configured number of consecutive failures. While open, calls are rejected without
+ * contacting the peer. Once the cooldown has elapsed, a single trial call is let through: if it succeeds the breaker
+ * closes, otherwise it stays open for another cooldown period.
+ * <br/>
+ * Outcomes are reported through the {@link Permit} of the call and only count while the breaker is still in the state
+ * the permit was handed out in, so that a call which completes late cannot close the breaker, end the trial of another
+ * call or extend the cooldown.
+ */
+public class CircuitBreaker {
+    private final int failureThreshold;
+    private final long cooldownMillis;
+    private final Clock clock;
+
+    private int failures;
+    private long openedAt;
+    private boolean trialInFlight;
+    private long generation;
+
+    public CircuitBreaker(int failureThreshold, Duration cooldown, Clock clock) {
+        if (failureThreshold <= 0) {
+            throw new IllegalArgumentException("failureThreshold must be positive");
+        }
+        this.failureThreshold = failureThreshold;
+        this.cooldownMillis = Objects.requireNonNull(cooldown, "cooldown").toMillis();
+        this.clock = Objects.requireNonNull(clock, "clock");
+    }
+
+    /**
+     * Returns a permit if a call may be made to the peer, or null if the breaker is open. Callers that were permitted
+     * must report the outcome via {@link Permit#recordSuccess()} or {@link Permit#recordFailure()}.
+     */
+    @Nullable
+    public synchronized Permit tryAcquire() {
+        if (failures < failureThreshold) {
+            return new Permit(generation, false);
+        }
+        if (trialInFlight || clock.millis() - openedAt < cooldownMillis) {
+            return null;
+        }
+        trialInFlight = true;
+        return new Permit(generation, true);
+    }
+
+    public synchronized boolean isOpen() {
+        return failures >= failureThreshold;
+    }
+
+    private synchronized void recordSuccess(Permit permit) {
+        if (permit.generation != generation) {
+            return;
+        }
+        if (permit.trial) {
+            trialInFlight = false;
+            generation++;
+        }
+        failures = 0;
+    }
+
+    private synchronized void recordFailure(Permit permit) {
+        if (permit.generation != generation) {
+            return;
+        }
+        if (permit.trial) {
+            trialInFlight = false;
+            openedAt = clock.millis();
+            generation++;
+        } else if (++failures >= failureThreshold) {
+            openedAt = clock.millis();
+            generation++;
+        }
+    }
+
+    /**
+     * Permission to make a single call, handed out by {@link #tryAcquire()}.
+     */
+    public class Permit {
+        private final long generation;
+        private final boolean trial;
+
+        private Permit(long generation, boolean trial) {
+            this.generation = generation;
+            this.trial = trial;
+        }
+
+        public void recordSuccess() {
+            CircuitBreaker.this.recordSuccess(this);
+        }
+
+        public void recordFailure() {
+            CircuitBreaker.this.recordFailure(this);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ *  Copyright (c) 2021 Fraunhofer Institute for Software and Systems Engineering
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Fraunhofer Institute for Software and Systems Engineering - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.ids.api.multipart.dispatcher.http;
+
+import okhttp3.Interceptor;
+import okhttp3.Response;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Applies a {@link CircuitBreaker} per peer, identified by host and port. Connection errors and server errors (5xx)
+ * count as failures. Calls to a peer whose breaker is open fail immediately with an {@link IOException}, so that an
+ * unresponsive connector does not tie up the dispatcher's per-host slots until its timeouts elapse.
+ */
+public class PeerCircuitBreakerInterceptor implements Interceptor {
+    private final int failureThreshold;
+    private final Duration cooldown;
+    private final Clock clock;
+    private final Map<String, CircuitBreaker> breakers = new ConcurrentHashMap<>();
+
+    public PeerCircuitBreakerInterceptor(int failureThreshold, Duration cooldown, Clock clock) {
+        this.failureThreshold = failureThreshold;
+        this.cooldown = cooldown;
+        this.clock = clock;
+    }
+
+    @NotNull
+    @Override
+    public Response intercept(@NotNull Chain chain) throws IOException {
+        var url = chain.request().url();
+        var peer = url.host() + ":" + url.port();
+        var breaker = breakers.computeIfAbsent(peer, k -> new CircuitBreaker(failureThreshold, cooldown, clock));
+
+        var permit = breaker.tryAcquire();
+        if (permit == null) {
+            throw new IOException(String.format("Circuit open for peer %s, not sending request", peer));
+        }
+
+        boolean success = false;
+        try {
+            var response = chain.proceed(chain.request());
+            success = response.code() < 500;
+            return response;
+        } finally {
+            if (success) {
+                permit.recordSuccess();
+            } else {
+                permit.recordFailure();
+            }
+        }
+    }
+}
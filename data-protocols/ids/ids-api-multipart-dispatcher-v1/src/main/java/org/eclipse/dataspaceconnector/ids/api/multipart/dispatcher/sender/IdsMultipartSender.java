@@ -14,7 +14,12 @@
 
 package org.eclipse.dataspaceconnector.ids.api.multipart.dispatcher.sender;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.util.JsonParserSequence;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 import de.fraunhofer.iais.eis.DynamicAttributeToken;
 import de.fraunhofer.iais.eis.DynamicAttributeTokenBuilder;
 import de.fraunhofer.iais.eis.Message;
@@ -28,6 +33,7 @@ import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import okhttp3.RequestBody;
 import okhttp3.ResponseBody;
+import okio.BufferedSink;
 import org.eclipse.dataspaceconnector.ids.core.message.FutureCallback;
 import org.eclipse.dataspaceconnector.ids.core.message.IdsMessageSender;
 import org.eclipse.dataspaceconnector.ids.spi.IdsIdParser;
@@ -48,6 +54,7 @@ import java.net.URI;
 import java.net.http.HttpHeaders;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 
 /**
  * Abstract class for sending IDS multipart messages.
@@ -56,6 +63,8 @@ import java.util.concurrent.CompletableFuture;
  * @param <R> the response type returned by the sub class.
  */
 abstract class IdsMultipartSender<M extends RemoteMessage, R> implements IdsMessageSender<M, R> {
+    private static final String TYPE = "@type";
+
     private final URI connectorId;
     private final OkHttpClient httpClient;
     private final ObjectMapper objectMapper;
@@ -100,6 +109,42 @@ abstract class IdsMultipartSender<M extends RemoteMessage, R> implements IdsMess
         return connectorId;
     }
 
+    /**
+     * Reads a JSON-LD object into the class that the given function selects for its {@code @type}. The class is decided
+     * while the object is streamed, so that the object is bound directly instead of through an intermediate tree: only the
+     * properties preceding {@code @type}, usually {@code @context} and {@code @id}, are buffered.
+     *
+     * @param objectMapper the mapper binding the object.
+     * @param stream       the JSON object.
+     * @param types        returns the class for a type, or throws if the type is not supported.
+     * @return the object.
+     * @throws IOException if reading the object fails.
+     */
+    protected static <T> T readTypedValue(ObjectMapper objectMapper, InputStream stream, Function<String, Class<? extends T>> types) throws IOException {
+        try (var parser = objectMapper.getFactory().createParser(stream)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new EdcException("Expected a JSON object");
+            }
+            var buffer = new TokenBuffer(parser);
+            buffer.writeStartObject();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                var name = parser.getCurrentName();
+                // copies the name and the value
+                buffer.copyCurrentStructure(parser);
+                if (TYPE.equals(name)) {
+                    if (parser.currentToken() != JsonToken.VALUE_STRING) {
+                        throw new EdcException("Expected a single @type");
+                    }
+                    var type = types.apply(parser.getText());
+                    // continue with the remaining properties on the stream
+                    var sequence = JsonParserSequence.createFlattened(false, buffer.asParser(parser), parser);
+                    return objectMapper.readValue(sequence, type);
+                }
+            }
+            throw new EdcException("Missing @type");
+        }
+    }
+
     /**
      * Returns the ID of the recipient connector.
      *
@@ -128,18 +173,20 @@ abstract class IdsMultipartSender<M extends RemoteMessage, R> implements IdsMess
     protected abstract Message buildMessageHeader(M request, DynamicAttributeToken token) throws Exception;
 
     /**
-     * Builds the IDS multipart payload for the request.
+     * Builds the IDS multipart payload for the request. Strings are sent as-is, any other object is serialized to JSON
+     * while the request is written, i.e. without materializing the serialized form in memory.
      *
      * @param request the request.
      * @return the message payload.
      * @throws Exception if building the message payload fails.
      */
-    protected String buildMessagePayload(M request) throws Exception {
+    protected Object buildMessagePayload(M request) throws Exception {
         return null;
     }
 
     /**
-     * Reads and parses the IDS multipart response.
+     * Reads and parses the IDS multipart response. The payload stream is read directly from the HTTP response and is only
+     * valid for the duration of this call.
      *
      * @param parts container object for response header and payload {@link InputStream}s.
      * @return an instance of the sub class's return type.
@@ -192,20 +239,10 @@ abstract class IdsMultipartSender<M extends RemoteMessage, R> implements IdsMess
                 .add("Content-Disposition", "form-data; name=\"header\"")
                 .build();
 
-        RequestBody headerRequestBody;
-        try {
-            headerRequestBody = RequestBody.create(
-                    objectMapper.writeValueAsString(message),
-                    okhttp3.MediaType.get(MediaType.APPLICATION_JSON));
-        } catch (IOException exception) {
-            future.completeExceptionally(exception);
-            return future;
-        }
-
-        var headerPart = MultipartBody.Part.create(headerPartHeaders, headerRequestBody);
+        var headerPart = MultipartBody.Part.create(headerPartHeaders, new JsonRequestBody(objectMapper, message));
 
         // Build IDS message payload
-        String payload;
+        Object payload;
         try {
             payload = buildMessagePayload(request);
         } catch (Exception e) {
@@ -216,8 +253,9 @@ abstract class IdsMultipartSender<M extends RemoteMessage, R> implements IdsMess
         // Build multipart payload part
         MultipartBody.Part payloadPart = null;
         if (payload != null) {
-            var payloadRequestBody = RequestBody.create(payload,
-                    okhttp3.MediaType.get(MediaType.APPLICATION_JSON));
+            var payloadRequestBody = payload instanceof String ?
+                    RequestBody.create((String) payload, okhttp3.MediaType.get(MediaType.APPLICATION_JSON)) :
+                    new JsonRequestBody(objectMapper, payload);
 
             var payloadPartHeaders = new Headers.Builder()
                     .add("Content-Disposition", "form-data; name=\"payload\"")
@@ -253,8 +291,7 @@ abstract class IdsMultipartSender<M extends RemoteMessage, R> implements IdsMess
                         if (body == null) {
                             future.completeExceptionally(new EdcException("Received an empty body response from connector"));
                         } else {
-                            IdsMultipartParts parts = extractResponseParts(body);
-                            return getResponseContent(parts);
+                            return readResponse(body);
                         }
                     } catch (Exception e) {
                         future.completeExceptionally(e);
@@ -275,16 +312,18 @@ abstract class IdsMultipartSender<M extends RemoteMessage, R> implements IdsMess
     }
 
     /**
-     * Parses the multipart response. Extracts header and payload as input stream and wraps them
-     * in a container object.
+     * Parses the multipart response. The header part is small and buffered, the payload part is handed to
+     * {@link #getResponseContent(IdsMultipartParts)} as a stream on the response body, so that it can be deserialized
+     * without intermediate copies. Only if the payload precedes the header, which IDS connectors do not do in practice, it
+     * has to be buffered as well.
      *
      * @param body the response body.
-     * @return a container holding the {@link InputStream}s for response header and payload.
+     * @return an instance of the sub class's return type.
      * @throws Exception if parsing the response fails.
      */
-    private IdsMultipartParts extractResponseParts(ResponseBody body) throws Exception {
-        InputStream header = null;
-        InputStream payload = null;
+    R readResponse(ResponseBody body) throws Exception {
+        byte[] header = null;
+        byte[] payload = null;
         try (var multipartReader = new MultipartReader(Objects.requireNonNull(body))) {
             MultipartReader.Part part;
             while ((part = multipartReader.nextPart()) != null) {
@@ -302,17 +341,48 @@ abstract class IdsMultipartSender<M extends RemoteMessage, R> implements IdsMess
                 var multipartName = contentDisposition.getParameters().get("name");
 
                 if ("header".equalsIgnoreCase(multipartName)) {
-                    header = new ByteArrayInputStream(part.body().readByteArray());
+                    header = part.body().readByteArray();
                 } else if ("payload".equalsIgnoreCase(multipartName)) {
-                    payload = new ByteArrayInputStream(part.body().readByteArray());
+                    if (header != null) {
+                        return getResponseContent(IdsMultipartParts.Builder.newInstance()
+                                .header(new ByteArrayInputStream(header))
+                                .payload(part.body().inputStream())
+                                .build());
+                    }
+                    payload = part.body().readByteArray();
                 }
             }
         }
 
-        return IdsMultipartParts.Builder.newInstance()
-                .header(header)
-                .payload(payload)
-                .build();
+        return getResponseContent(IdsMultipartParts.Builder.newInstance()
+                .header(header != null ? new ByteArrayInputStream(header) : null)
+                .payload(payload != null ? new ByteArrayInputStream(payload) : null)
+                .build());
     }
 
+    /**
+     * A request body that serializes its value to JSON directly into the connection's sink when the request is written.
+     */
+    static class JsonRequestBody extends RequestBody {
+        private static final okhttp3.MediaType JSON = okhttp3.MediaType.get(MediaType.APPLICATION_JSON);
+
+        private final ObjectWriter writer;
+        private final Object value;
+
+        JsonRequestBody(ObjectMapper objectMapper, Object value) {
+            // the sink belongs to the multipart body and must stay open for the following parts
+            this.writer = objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            this.value = value;
+        }
+
+        @Override
+        public okhttp3.MediaType contentType() {
+            return JSON;
+        }
+
+        @Override
+        public void writeTo(@NotNull BufferedSink sink) throws IOException {
+            writer.writeValue(sink.outputStream(), value);
+        }
+    }
 }
@@ -93,7 +93,7 @@ public class MultipartCatalogDescriptionRequestSender extends IdsMultipartSender
 
         BaseConnector baseConnector;
         try {
-            baseConnector = objectMapper.readValue(parts.getPayload().readAllBytes(), BaseConnector.class);
+            baseConnector = objectMapper.readValue(parts.getPayload(), BaseConnector.class);
         } catch (IOException exception) {
             throw new EdcException(String.format("Could not deserialize connector self-description: %s", exception.getMessage()));
         }
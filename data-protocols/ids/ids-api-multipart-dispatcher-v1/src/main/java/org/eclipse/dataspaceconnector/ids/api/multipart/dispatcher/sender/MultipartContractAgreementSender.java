@@ -75,7 +75,7 @@ public class MultipartContractAgreementSender extends IdsMultipartSender<Agreeme
     }
 
     @Override
-    protected String buildMessagePayload(AgreementRequest request) throws Exception {
+    protected Object buildMessagePayload(AgreementRequest request) throws Exception {
         var contractAgreement = request.getContractAgreement();
         var transformationResult = getTransformerRegistry().transform(contractAgreement, ContractAgreement.class);
         if (transformationResult.hasProblems()) {
@@ -83,7 +83,7 @@ public class MultipartContractAgreementSender extends IdsMultipartSender<Agreeme
         }
 
         var idsContractAgreement = transformationResult.getOutput();
-        return getObjectMapper().writeValueAsString(idsContractAgreement);
+        return idsContractAgreement;
     }
 
     @Override
@@ -80,7 +80,7 @@ public class MultipartContractRequestSender extends IdsMultipartSender<ContractR
     }
 
     @Override
-    protected String buildMessagePayload(ContractRequest request) throws Exception {
+    protected Object buildMessagePayload(ContractRequest request) throws Exception {
         var contractOffer = request.getContractOffer();
         var transformationResult = transformerRegistry.transform(contractOffer, ContractOffer.class);
         if (transformationResult.hasProblems()) {
@@ -88,7 +88,7 @@ public class MultipartContractRequestSender extends IdsMultipartSender<ContractR
         }
 
         var idsContractOffer = transformationResult.getOutput();
-        return getObjectMapper().writeValueAsString(idsContractOffer);
+        return idsContractOffer;
     }
 
     @Override
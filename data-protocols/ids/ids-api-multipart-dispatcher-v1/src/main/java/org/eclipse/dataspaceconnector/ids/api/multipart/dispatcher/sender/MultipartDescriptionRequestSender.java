@@ -14,7 +14,6 @@
 
 package org.eclipse.dataspaceconnector.ids.api.multipart.dispatcher.sender;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import de.fraunhofer.iais.eis.Artifact;
 import de.fraunhofer.iais.eis.BaseConnector;
@@ -38,12 +37,19 @@ import org.jetbrains.annotations.NotNull;
 
 import java.net.URI;
 import java.util.Collections;
+import java.util.Map;
 
 /**
  * IdsMultipartSender implementation for metadata requests. Sends IDS DescriptionRequestMessages and
  * expects an IDS DescriptionResponseMessage as the response.
  */
 public class MultipartDescriptionRequestSender extends IdsMultipartSender<MetadataRequest, MultipartDescriptionResponse> {
+    private static final Map<String, Class<? extends ModelClass>> PAYLOAD_TYPES = Map.of(
+            "ids:BaseConnector", BaseConnector.class,
+            "ids:ResourceCatalog", ResourceCatalog.class,
+            "ids:Resource", Resource.class,
+            "ids:Representation", Representation.class,
+            "ids:Artifact", Artifact.class);
 
     public MultipartDescriptionRequestSender(@NotNull String connectorId,
                                              @NotNull OkHttpClient httpClient,
@@ -90,28 +96,7 @@ public class MultipartDescriptionRequestSender extends IdsMultipartSender<Metada
 
         ModelClass payload = null;
         if (parts.getPayload() != null) {
-            String payloadString = new String(parts.getPayload().readAllBytes());
-            JsonNode payloadJson = objectMapper.readTree(payloadString);
-            JsonNode type = payloadJson.get("@type");
-            switch (type.textValue()) {
-                case "ids:BaseConnector":
-                    payload = objectMapper.readValue(payloadString, BaseConnector.class);
-                    break;
-                case "ids:ResourceCatalog":
-                    payload = objectMapper.readValue(payloadString, ResourceCatalog.class);
-                    break;
-                case "ids:Resource":
-                    payload = objectMapper.readValue(payloadString, Resource.class);
-                    break;
-                case "ids:Representation":
-                    payload = objectMapper.readValue(payloadString, Representation.class);
-                    break;
-                case "ids:Artifact":
-                    payload = objectMapper.readValue(payloadString, Artifact.class);
-                    break;
-                default:
-                    throw new EdcException(String.format("Unknown type: %s", type.textValue()));
-            }
+            payload = readTypedValue(objectMapper, parts.getPayload(), MultipartDescriptionRequestSender::payloadType);
         }
 
         return MultipartDescriptionResponse.Builder.newInstance()
@@ -119,4 +104,12 @@ public class MultipartDescriptionRequestSender extends IdsMultipartSender<Metada
                 .payload(payload)
                 .build();
     }
+
+    private static Class<? extends ModelClass> payloadType(String type) {
+        var payloadType = PAYLOAD_TYPES.get(type);
+        if (payloadType == null) {
+            throw new EdcException(String.format("Unknown type: %s", type));
+        }
+        return payloadType;
+    }
 }
@@ -33,6 +33,7 @@ import org.eclipse.dataspaceconnector.spi.message.RemoteMessageDispatcher;
 import org.eclipse.dataspaceconnector.spi.message.RemoteMessageDispatcherRegistry;
 import org.eclipse.dataspaceconnector.spi.system.ServiceExtension;
 import org.eclipse.dataspaceconnector.spi.system.ServiceExtensionContext;
+import org.eclipse.dataspaceconnector.spi.transfer.store.TransferProcessQuery;
 import org.eclipse.dataspaceconnector.spi.transfer.store.TransferProcessStore;
 import org.eclipse.dataspaceconnector.spi.types.domain.asset.Asset;
 import org.eclipse.dataspaceconnector.spi.types.domain.contract.ContractAgreement;
@@ -147,6 +148,11 @@ class IdsApiMultipartDispatcherV1IntegrationTestServiceExtension implements Serv
             return null;
         }
 
+        @Override
+        public @NotNull List<TransferProcess> query(TransferProcessQuery query) {
+            return Collections.emptyList();
+        }
+
         @Override
         public void create(TransferProcess process) {
         }
@@ -222,6 +228,11 @@ class IdsApiMultipartDispatcherV1IntegrationTestServiceExtension implements Serv
             return contractDefinitions;
         }
 
+        @Override
+        public ContractDefinition findById(String definitionId) {
+            return contractDefinitions.stream().filter(d -> d.getId().equals(definitionId)).findFirst().orElse(null);
+        }
+
         @Override
         public void save(Collection<ContractDefinition> definitions) {
             contractDefinitions.addAll(definitions);
@@ -0,0 +1,123 @@
+/*
+ *  Copyright (c) 2021 Fraunhofer Institute for Software and Systems Engineering
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Fraunhofer Institute for Software and Systems Engineering - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.ids.api.multipart.dispatcher.http;
+
+import org.eclipse.dataspaceconnector.common.testfixtures.MutableClock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CircuitBreakerTest {
+    private MutableClock clock;
+    private CircuitBreaker breaker;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock();
+        breaker = new CircuitBreaker(2, Duration.ofSeconds(10), clock);
+    }
+
+    @Test
+    void opensAfterConsecutiveFailures() {
+        breaker.tryAcquire().recordFailure();
+        assertThat(breaker.tryAcquire()).isNotNull();
+
+        breaker.tryAcquire().recordFailure();
+        assertThat(breaker.isOpen()).isTrue();
+        assertThat(breaker.tryAcquire()).isNull();
+    }
+
+    @Test
+    void successResetsFailureCount() {
+        breaker.tryAcquire().recordFailure();
+        breaker.tryAcquire().recordSuccess();
+        breaker.tryAcquire().recordFailure();
+
+        assertThat(breaker.isOpen()).isFalse();
+        assertThat(breaker.tryAcquire()).isNotNull();
+    }
+
+    @Test
+    void permitsSingleTrialAfterCooldown() {
+        open();
+
+        clock.advance(Duration.ofSeconds(11));
+        var trial = breaker.tryAcquire();
+        assertThat(trial).isNotNull();
+        assertThat(breaker.tryAcquire()).isNull();
+
+        trial.recordSuccess();
+        assertThat(breaker.isOpen()).isFalse();
+        assertThat(breaker.tryAcquire()).isNotNull();
+    }
+
+    @Test
+    void failedTrialReopens() {
+        open();
+
+        clock.advance(Duration.ofSeconds(11));
+        breaker.tryAcquire().recordFailure();
+
+        assertThat(breaker.tryAcquire()).isNull();
+    }
+
+    @Test
+    void lateFailureDoesNotEndTrialOrExtendCooldown() {
+        var late = breaker.tryAcquire();
+        open();
+
+        clock.advance(Duration.ofSeconds(11));
+        var trial = breaker.tryAcquire();
+        late.recordFailure();
+
+        assertThat(breaker.tryAcquire()).isNull();
+        trial.recordFailure();
+        clock.advance(Duration.ofSeconds(11));
+        assertThat(breaker.tryAcquire()).isNotNull();
+    }
+
+    @Test
+    void lateSuccessDoesNotClose() {
+        var late = breaker.tryAcquire();
+        open();
+
+        late.recordSuccess();
+
+        assertThat(breaker.isOpen()).isTrue();
+        assertThat(breaker.tryAcquire()).isNull();
+    }
+
+    @Test
+    void lateFailureDoesNotCountAfterTrialClosed() {
+        var late = breaker.tryAcquire();
+        open();
+        clock.advance(Duration.ofSeconds(11));
+        breaker.tryAcquire().recordSuccess();
+
+        late.recordFailure();
+        breaker.tryAcquire().recordFailure();
+
+        assertThat(breaker.isOpen()).isFalse();
+    }
+
+    private void open() {
+        breaker.tryAcquire().recordFailure();
+        breaker.tryAcquire().recordFailure();
+        assertThat(breaker.isOpen()).isTrue();
+    }
+}
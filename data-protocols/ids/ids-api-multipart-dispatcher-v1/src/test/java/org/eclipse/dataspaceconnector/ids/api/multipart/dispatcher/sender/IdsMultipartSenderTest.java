@@ -0,0 +1,219 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.ids.api.multipart.dispatcher.sender;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.fraunhofer.iais.eis.DynamicAttributeToken;
+import de.fraunhofer.iais.eis.Message;
+import okhttp3.Headers;
+import okhttp3.MediaType;
+import okhttp3.MultipartBody;
+import okhttp3.MultipartReader;
+import okhttp3.OkHttpClient;
+import okhttp3.RequestBody;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import org.easymock.EasyMock;
+import org.eclipse.dataspaceconnector.ids.spi.transform.TransformerRegistry;
+import org.eclipse.dataspaceconnector.spi.EdcException;
+import org.eclipse.dataspaceconnector.spi.iam.IdentityService;
+import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
+import org.eclipse.dataspaceconnector.spi.types.domain.metadata.MetadataRequest;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class IdsMultipartSenderTest {
+    private static final MediaType JSON = MediaType.get("application/json");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void jsonRequestBody_writesJsonAndKeepsMultipartOpen() throws IOException {
+        var body = new MultipartBody.Builder()
+                .setType(MultipartBody.FORM)
+                .addFormDataPart("header", null, new IdsMultipartSender.JsonRequestBody(objectMapper, Map.of("@type", "ids:Message")))
+                .addFormDataPart("payload", null, new IdsMultipartSender.JsonRequestBody(objectMapper, Map.of("value", "payload")))
+                .build();
+        var buffer = new Buffer();
+
+        body.writeTo(buffer);
+
+        var parts = readParts(buffer, body.boundary());
+        assertThat(parts).containsExactly("{\"@type\":\"ids:Message\"}", "{\"value\":\"payload\"}");
+    }
+
+    @Test
+    void readResponse_streamsPayloadFollowingHeader() throws Exception {
+        var sender = new TestSender();
+
+        var content = sender.readResponse(multipart(part("header", "{\"header\":true}"), part("payload", "{\"payload\":true}")));
+
+        assertThat(content.header).isEqualTo("{\"header\":true}");
+        assertThat(content.payload).isEqualTo("{\"payload\":true}");
+        assertThat(content.payloadBuffered).isFalse();
+    }
+
+    @Test
+    void readResponse_buffersPayloadPrecedingHeader() throws Exception {
+        var sender = new TestSender();
+
+        var content = sender.readResponse(multipart(part("payload", "{\"payload\":true}"), part("header", "{\"header\":true}")));
+
+        assertThat(content.header).isEqualTo("{\"header\":true}");
+        assertThat(content.payload).isEqualTo("{\"payload\":true}");
+        assertThat(content.payloadBuffered).isTrue();
+    }
+
+    @Test
+    void readResponse_withoutPayload() throws Exception {
+        var sender = new TestSender();
+
+        var content = sender.readResponse(multipart(part("header", "{\"header\":true}")));
+
+        assertThat(content.header).isEqualTo("{\"header\":true}");
+        assertThat(content.payload).isNull();
+    }
+
+    @Test
+    void readTypedValue_bindsClassOfType() throws IOException {
+        var json = "{\"@context\":{\"ids\":\"https://w3id.org/idsa/core/\"},\"@id\":\"urn:artifact:1\",\"@type\":\"ids:Artifact\",\"fileName\":\"data.csv\"}";
+
+        var value = IdsMultipartSender.readTypedValue(objectMapper, stream(json), type -> "ids:Artifact".equals(type) ? Artifact.class : Resource.class);
+
+        assertThat(value).isInstanceOf(Artifact.class);
+        var artifact = (Artifact) value;
+        assertThat(artifact.id).isEqualTo("urn:artifact:1");
+        assertThat(artifact.type).isEqualTo("ids:Artifact");
+        assertThat(artifact.fileName).isEqualTo("data.csv");
+        assertThat(artifact.context).containsEntry("ids", "https://w3id.org/idsa/core/");
+    }
+
+    @Test
+    void readTypedValue_rejectsUnsupportedType() {
+        var json = "{\"@type\":\"ids:Unknown\"}";
+
+        assertThatThrownBy(() -> IdsMultipartSender.readTypedValue(objectMapper, stream(json), type -> {
+            throw new EdcException("Unknown type: " + type);
+        })).isInstanceOf(EdcException.class).hasMessage("Unknown type: ids:Unknown");
+    }
+
+    @Test
+    void readTypedValue_rejectsMissingType() {
+        assertThatThrownBy(() -> IdsMultipartSender.readTypedValue(objectMapper, stream("{\"@id\":\"urn:artifact:1\"}"), type -> Artifact.class))
+                .isInstanceOf(EdcException.class).hasMessage("Missing @type");
+    }
+
+    private static InputStream stream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static MultipartBody.Part part(String name, String json) {
+        return MultipartBody.Part.create(Headers.of("Content-Disposition", "form-data; name=\"" + name + "\""), RequestBody.create(json, JSON));
+    }
+
+    private static ResponseBody multipart(MultipartBody.Part... parts) throws IOException {
+        var builder = new MultipartBody.Builder().setType(MultipartBody.FORM);
+        for (var part : parts) {
+            builder.addPart(part);
+        }
+        var body = builder.build();
+        var buffer = new Buffer();
+        body.writeTo(buffer);
+        return ResponseBody.create(buffer.readByteArray(), body.contentType());
+    }
+
+    private static List<String> readParts(Buffer buffer, String boundary) throws IOException {
+        var parts = new ArrayList<String>();
+        try (var reader = new MultipartReader(buffer, boundary)) {
+            MultipartReader.Part part;
+            while ((part = reader.nextPart()) != null) {
+                parts.add(part.body().readUtf8());
+            }
+        }
+        return parts;
+    }
+
+    private static class Content {
+        private final String header;
+        private final String payload;
+        private final boolean payloadBuffered;
+
+        Content(String header, String payload, boolean payloadBuffered) {
+            this.header = header;
+            this.payload = payload;
+            this.payloadBuffered = payloadBuffered;
+        }
+    }
+
+    private static class Artifact {
+        @JsonProperty("@context")
+        private Map<String, String> context;
+        @JsonProperty("@id")
+        private String id;
+        @JsonProperty("@type")
+        private String type;
+        @JsonProperty("fileName")
+        private String fileName;
+    }
+
+    private static class Resource {
+    }
+
+    private static class TestSender extends IdsMultipartSender<MetadataRequest, Content> {
+        TestSender() {
+            super("connector", new OkHttpClient(), new ObjectMapper(), EasyMock.createNiceMock(Monitor.class), EasyMock.createNiceMock(IdentityService.class),
+                    EasyMock.createNiceMock(TransformerRegistry.class));
+        }
+
+        @Override
+        public Class<MetadataRequest> messageType() {
+            return MetadataRequest.class;
+        }
+
+        @Override
+        protected String retrieveRemoteConnectorId(MetadataRequest request) {
+            return request.getConnectorId();
+        }
+
+        @Override
+        protected String retrieveRemoteConnectorAddress(MetadataRequest request) {
+            return request.getConnectorAddress();
+        }
+
+        @Override
+        protected Message buildMessageHeader(MetadataRequest request, DynamicAttributeToken token) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        protected Content getResponseContent(IdsMultipartParts parts) throws IOException {
+            var payload = parts.getPayload();
+            return new Content(new String(parts.getHeader().readAllBytes(), StandardCharsets.UTF_8),
+                    payload != null ? new String(payload.readAllBytes(), StandardCharsets.UTF_8) : null,
+                    payload instanceof ByteArrayInputStream);
+        }
+    }
+}
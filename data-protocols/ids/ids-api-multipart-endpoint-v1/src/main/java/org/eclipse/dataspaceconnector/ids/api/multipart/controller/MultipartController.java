@@ -14,6 +14,7 @@
 
 package org.eclipse.dataspaceconnector.ids.api.multipart.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import de.fraunhofer.iais.eis.DynamicAttributeToken;
@@ -24,6 +25,7 @@ import jakarta.ws.rs.Path;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
 import org.eclipse.dataspaceconnector.ids.api.multipart.handler.Handler;
 import org.eclipse.dataspaceconnector.ids.api.multipart.message.MultipartRequest;
 import org.eclipse.dataspaceconnector.ids.api.multipart.message.MultipartResponse;
@@ -156,7 +158,8 @@ public class MultipartController {
         }
 
         if (payload != null) {
-            multiPart.bodyPart(new FormDataBodyPart(PAYLOAD, toJson(payload), MediaType.APPLICATION_JSON_TYPE));
+            // the payload, e.g. a catalog, can be large: serialize it straight into the response instead of buffering it
+            multiPart.bodyPart(new FormDataBodyPart(PAYLOAD, streamJson(objectMapper, payload), MediaType.APPLICATION_JSON_TYPE));
         }
 
         return multiPart;
@@ -172,6 +175,12 @@ public class MultipartController {
         return null;
     }
 
+    static StreamingOutput streamJson(ObjectMapper objectMapper, Object object) {
+        // the output stream is owned by the multipart writer, which still has to write the closing boundary
+        var writer = objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        return outputStream -> writer.writeValue(outputStream, object);
+    }
+
     private byte[] toJson(Object object) {
         try {
             return objectMapper.writeValueAsBytes(object);
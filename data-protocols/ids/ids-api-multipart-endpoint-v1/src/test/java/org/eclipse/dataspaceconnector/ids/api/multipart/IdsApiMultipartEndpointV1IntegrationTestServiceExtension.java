@@ -35,6 +35,7 @@ import org.eclipse.dataspaceconnector.spi.message.RemoteMessageDispatcher;
 import org.eclipse.dataspaceconnector.spi.message.RemoteMessageDispatcherRegistry;
 import org.eclipse.dataspaceconnector.spi.system.ServiceExtension;
 import org.eclipse.dataspaceconnector.spi.system.ServiceExtensionContext;
+import org.eclipse.dataspaceconnector.spi.transfer.store.TransferProcessQuery;
 import org.eclipse.dataspaceconnector.spi.transfer.store.TransferProcessStore;
 import org.eclipse.dataspaceconnector.spi.types.domain.asset.Asset;
 import org.eclipse.dataspaceconnector.spi.types.domain.contract.ContractAgreement;
@@ -160,6 +161,11 @@ class IdsApiMultipartEndpointV1IntegrationTestServiceExtension implements Servic
             return emptyList();
         }
 
+        @Override
+        public @NotNull List<TransferProcess> query(TransferProcessQuery query) {
+            return emptyList();
+        }
+
         @Override
         public void create(TransferProcess process) {
         }
@@ -215,6 +221,11 @@ class IdsApiMultipartEndpointV1IntegrationTestServiceExtension implements Servic
             return contractDefinitions;
         }
 
+        @Override
+        public ContractDefinition findById(String definitionId) {
+            return contractDefinitions.stream().filter(d -> d.getId().equals(definitionId)).findFirst().orElse(null);
+        }
+
         @Override
         public void save(Collection<ContractDefinition> definitions) {
             contractDefinitions.addAll(definitions);
@@ -0,0 +1,49 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.ids.api.multipart.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MultipartControllerTest {
+
+    @Test
+    void streamJson_writesJsonWithoutClosingStream() throws IOException {
+        var output = new TrackingOutputStream();
+
+        MultipartController.streamJson(new ObjectMapper(), Map.of("@type", "ids:Artifact")).write(output);
+
+        assertThat(output.toString(StandardCharsets.UTF_8)).isEqualTo("{\"@type\":\"ids:Artifact\"}");
+        // the multipart writer still has to write the closing boundary
+        assertThat(output.closed).isFalse();
+    }
+
+    private static class TrackingOutputStream extends ByteArrayOutputStream {
+        private boolean closed;
+
+        @Override
+        public void close() throws IOException {
+            closed = true;
+            super.close();
+        }
+    }
+}
@@ -14,6 +14,7 @@
 
 val infoModelVersion: String by project
 val rsApi: String by project
+val jerseyVersion: String by project
 
 plugins {
     `java-library`
@@ -26,8 +27,13 @@ dependencies {
 
     api("de.fraunhofer.iais.eis.ids.infomodel:java:${infoModelVersion}")
 
+    implementation(project(":common:util"))
     implementation("jakarta.ws.rs:jakarta.ws.rs-api:${rsApi}")
 
+    testImplementation(testFixtures(project(":common:util")))
+    // provides the JAX-RS runtime that builds responses in tests
+    testImplementation("org.glassfish.jersey.core:jersey-common:${jerseyVersion}")
+
 }
 
 publishing {
@@ -14,26 +14,42 @@
 
 package org.eclipse.dataspaceconnector.ids.api.transfer;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import de.fraunhofer.iais.eis.ArtifactRequestMessage;
 import de.fraunhofer.iais.eis.ArtifactResponseMessageBuilder;
 import de.fraunhofer.iais.eis.RejectionMessageBuilder;
+import de.fraunhofer.iais.eis.RejectionReason;
 import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.container.AsyncResponse;
+import jakarta.ws.rs.container.Suspended;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
+import org.eclipse.dataspaceconnector.common.cache.ExpiringCache;
 import org.eclipse.dataspaceconnector.ids.spi.daps.DapsService;
 import org.eclipse.dataspaceconnector.ids.spi.policy.IdsPolicyService;
+import org.eclipse.dataspaceconnector.policy.model.Policy;
 import org.eclipse.dataspaceconnector.spi.asset.AssetIndex;
+import org.eclipse.dataspaceconnector.spi.iam.VerificationResult;
 import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
 import org.eclipse.dataspaceconnector.spi.policy.PolicyRegistry;
 import org.eclipse.dataspaceconnector.spi.security.Vault;
 import org.eclipse.dataspaceconnector.spi.transfer.TransferProcessManager;
+import org.eclipse.dataspaceconnector.spi.types.domain.asset.Asset;
 import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataAddress;
 import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataRequest;
+import org.jetbrains.annotations.Nullable;
 
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Base64;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 
 import static de.fraunhofer.iais.eis.RejectionReason.BAD_PARAMETERS;
 import static de.fraunhofer.iais.eis.RejectionReason.NOT_AUTHENTICATED;
@@ -45,6 +61,14 @@ import static org.eclipse.dataspaceconnector.ids.spi.Protocols.IDS_REST;
 
 /**
  * Receives incoming data transfer requests and processes them.
+ * <p>
+ * Requests are processed on a bounded executor, so that request threads of the web server are released immediately. When the executor is saturated, requests
+ * are rejected as temporarily not available. Provisioning and the transfer itself continue asynchronously in the {@link TransferProcessManager} after the
+ * response has been sent.
+ * <p>
+ * Verified tokens are reused until the cache period or the {@code exp} claim of the token has passed, whichever comes first. Tokens without an {@code exp}
+ * claim are verified on every request. Assets and their resolved policies are cached for the same period, so changes to an asset or its policy take effect once
+ * the cached resolution has expired. Tokens that fail verification and assets that are not found are not cached.
  */
 @Consumes({ MediaType.APPLICATION_JSON })
 @Produces({ MediaType.APPLICATION_JSON })
@@ -52,6 +76,8 @@ import static org.eclipse.dataspaceconnector.ids.spi.Protocols.IDS_REST;
 public class ArtifactRequestController {
     private static final String TOKEN_KEY = "dataspaceconnector-destination-token";
     private static final String DESTINATION_KEY = "dataspaceconnector-data-destination";
+    private static final String EXPIRATION_CLAIM = "exp";
+    private static final ObjectMapper MAPPER = new ObjectMapper();
 
     private final DapsService dapsService;
     private final AssetIndex assetIndex;
@@ -60,6 +86,11 @@ public class ArtifactRequestController {
     private final PolicyRegistry policyRegistry;
     private final Vault vault;
     private final Monitor monitor;
+    private final Executor executor;
+    private final long cacheMillis;
+    private final Clock clock;
+    private final ExpiringCache<String, VerificationResult> tokenCache;
+    private final ExpiringCache<String, ResolvedAsset> assetCache;
 
     public ArtifactRequestController(DapsService dapsService,
                                      AssetIndex assetIndex,
@@ -67,7 +98,11 @@ public class ArtifactRequestController {
                                      IdsPolicyService policyService,
                                      PolicyRegistry policyRegistry,
                                      Vault vault,
-                                     Monitor monitor) {
+                                     Monitor monitor,
+                                     Executor executor,
+                                     Duration cachePeriod,
+                                     int cacheSize,
+                                     Clock clock) {
         this.dapsService = dapsService;
         this.assetIndex = assetIndex;
         this.processManager = processManager;
@@ -75,39 +110,65 @@ public class ArtifactRequestController {
         this.policyRegistry = policyRegistry;
         this.vault = vault;
         this.monitor = monitor;
+        this.executor = executor;
+        this.cacheMillis = cachePeriod.toMillis();
+        this.clock = clock;
+        tokenCache = new ExpiringCache<>(cacheSize, clock);
+        assetCache = new ExpiringCache<>(cacheSize, clock);
     }
 
     @POST
     @Path("request")
-    public Response request(ArtifactRequestMessage message) {
-        var verificationResult = dapsService.verifyAndConvertToken(message.getSecurityToken().getTokenValue());
+    public void request(ArtifactRequestMessage message, @Suspended AsyncResponse asyncResponse) {
+        try {
+            CompletableFuture.supplyAsync(() -> process(message), executor).whenComplete((response, error) -> {
+                if (error != null) {
+                    monitor.severe("Processing artifact request " + message.getId() + " failed", error);
+                    asyncResponse.resume(rejection(Response.Status.INTERNAL_SERVER_ERROR, TEMPORARILY_NOT_AVAILABLE));
+                } else {
+                    asyncResponse.resume(response);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            monitor.warning("Artifact request rejected, too many requests in progress: " + message.getId());
+            asyncResponse.resume(rejection(Response.Status.SERVICE_UNAVAILABLE, TEMPORARILY_NOT_AVAILABLE));
+        }
+    }
+
+    private Response process(ArtifactRequestMessage message) {
+        var verificationResult = verify(message.getSecurityToken().getTokenValue());
         if (!verificationResult.valid()) {
             monitor.info(() -> "verification failed for request " + message.getId());
-            return Response.status(Response.Status.FORBIDDEN).entity(new RejectionMessageBuilder()._rejectionReason_(NOT_AUTHENTICATED).build()).build();
+            return rejection(Response.Status.FORBIDDEN, NOT_AUTHENTICATED);
         }
 
         var dataUrn = message.getRequestedArtifact().toString();
         monitor.debug(() -> "Received artifact request for: " + dataUrn);
 
-        var asset = assetIndex.findById(dataUrn);
+        var resolved = assetCache.get(dataUrn);
+        if (resolved == null) {
+            var asset = assetIndex.findById(dataUrn);
 
-        if (asset == null) {
-            return Response.status(Response.Status.BAD_REQUEST).entity(new RejectionMessageBuilder()._rejectionReason_(NOT_FOUND).build()).build();
-        }
+            if (asset == null) {
+                return rejection(Response.Status.BAD_REQUEST, NOT_FOUND);
+            }
 
-        var policy = policyRegistry.resolvePolicy(asset.getPolicyId());
-        if (policy == null) {
-            monitor.severe("Policy not found for artifact: " + dataUrn);
-            return Response.status(Response.Status.INTERNAL_SERVER_ERROR).entity(new RejectionMessageBuilder()._rejectionReason_(TEMPORARILY_NOT_AVAILABLE).build()).build();
+            var policy = policyRegistry.resolvePolicy(asset.getPolicyId());
+            if (policy == null) {
+                monitor.severe("Policy not found for artifact: " + dataUrn);
+                return rejection(Response.Status.INTERNAL_SERVER_ERROR, TEMPORARILY_NOT_AVAILABLE);
+            }
+            resolved = new ResolvedAsset(asset, policy);
+            assetCache.put(dataUrn, resolved, clock.millis() + cacheMillis);
         }
 
         var consumerConnectorId = message.getIssuerConnector().toString();
         var correlationId = message.getId().toString();
-        var policyResult = policyService.evaluateRequest(consumerConnectorId, correlationId, verificationResult.token(), policy);
+        var policyResult = policyService.evaluateRequest(consumerConnectorId, correlationId, verificationResult.token(), resolved.policy);
 
         if (!policyResult.valid()) {
             monitor.info("Policy evaluation failed");
-            return Response.status(Response.Status.FORBIDDEN).entity(new RejectionMessageBuilder()._rejectionReason_(NOT_AUTHORIZED).build()).build();
+            return rejection(Response.Status.FORBIDDEN, NOT_AUTHORIZED);
         }
 
 
@@ -120,7 +181,7 @@ public class ArtifactRequestController {
 
         var dataDestination = DataAddress.Builder.newInstance().type(type).properties(properties).keyName(secretName).build();
 
-        var dataRequest = DataRequest.Builder.newInstance().id(randomUUID().toString()).assetId(asset.getId()).dataDestination(dataDestination).protocol(IDS_REST).build();
+        var dataRequest = DataRequest.Builder.newInstance().id(randomUUID().toString()).assetId(resolved.asset.getId()).dataDestination(dataDestination).protocol(IDS_REST).build();
 
         var destinationToken = (String) message.getProperties().get(ArtifactRequestController.TOKEN_KEY);
 
@@ -136,10 +197,62 @@ public class ArtifactRequestController {
                 ArtifactResponseMessageBuilder messageBuilder = new ArtifactResponseMessageBuilder();
                 return Response.ok().entity(messageBuilder.build()).build();
             case FATAL_ERROR:
-                return Response.status(Response.Status.BAD_REQUEST).entity(new RejectionMessageBuilder()._rejectionReason_(BAD_PARAMETERS).build()).build();
+                return rejection(Response.Status.BAD_REQUEST, BAD_PARAMETERS);
             default:
-                return Response.status(Response.Status.INTERNAL_SERVER_ERROR).entity(new RejectionMessageBuilder()._rejectionReason_(TEMPORARILY_NOT_AVAILABLE).build()).build();
+                return rejection(Response.Status.INTERNAL_SERVER_ERROR, TEMPORARILY_NOT_AVAILABLE);
+        }
+    }
+
+    /**
+     * Verifies the token, reusing the result of an earlier verification of the same token.
+     */
+    private VerificationResult verify(@Nullable String token) {
+        if (token == null) {
+            return dapsService.verifyAndConvertToken(null);
+        }
+        var cached = tokenCache.get(token);
+        if (cached != null) {
+            return cached;
+        }
+        var result = dapsService.verifyAndConvertToken(token);
+        if (result.valid()) {
+            tokenCache.put(token, result, tokenExpiry(token));
         }
+        return result;
     }
 
+    /**
+     * Returns the end of the cache period, or the expiration of the token if it is earlier. The expiration is read from the payload of the JWT, as the claims of
+     * the verification result hold it in a format that depends on the identity service. Returns zero, so that the result is not cached, if the token has no
+     * readable expiration.
+     */
+    private long tokenExpiry(String token) {
+        var parts = token.split("\\.");
+        if (parts.length != 3) {
+            return 0;
+        }
+        try {
+            var exp = MAPPER.readTree(Base64.getUrlDecoder().decode(parts[1])).get(EXPIRATION_CLAIM);
+            if (exp == null || !exp.isNumber()) {
+                return 0;
+            }
+            return Math.min(clock.millis() + cacheMillis, exp.asLong() * 1000);
+        } catch (IllegalArgumentException | IOException e) {
+            return 0;
+        }
+    }
+
+    private static Response rejection(Response.Status status, RejectionReason reason) {
+        return Response.status(status).entity(new RejectionMessageBuilder()._rejectionReason_(reason).build()).build();
+    }
+
+    private static class ResolvedAsset {
+        private final Asset asset;
+        private final Policy policy;
+
+        ResolvedAsset(Asset asset, Policy policy) {
+            this.asset = asset;
+            this.policy = policy;
+        }
+    }
 }
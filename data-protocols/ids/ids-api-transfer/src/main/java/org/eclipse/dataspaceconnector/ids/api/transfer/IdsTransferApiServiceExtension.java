@@ -16,6 +16,7 @@ package org.eclipse.dataspaceconnector.ids.api.transfer;
 
 import org.eclipse.dataspaceconnector.ids.spi.daps.DapsService;
 import org.eclipse.dataspaceconnector.ids.spi.policy.IdsPolicyService;
+import org.eclipse.dataspaceconnector.spi.EdcSetting;
 import org.eclipse.dataspaceconnector.spi.asset.AssetIndex;
 import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
 import org.eclipse.dataspaceconnector.spi.policy.PolicyRegistry;
@@ -25,13 +26,37 @@ import org.eclipse.dataspaceconnector.spi.system.ServiceExtension;
 import org.eclipse.dataspaceconnector.spi.system.ServiceExtensionContext;
 import org.eclipse.dataspaceconnector.spi.transfer.TransferProcessManager;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Implements the IDS Controller REST API for data transfer services.
  */
 public class IdsTransferApiServiceExtension implements ServiceExtension {
+
+    @EdcSetting
+    public static final String EDC_IDS_TRANSFER_THREADS = "edc.ids.transfer.threads";
+
+    @EdcSetting
+    public static final String EDC_IDS_TRANSFER_QUEUE = "edc.ids.transfer.queue";
+    public static final int EDC_IDS_TRANSFER_QUEUE_DEFAULT = 1000;
+
+    @EdcSetting
+    public static final String EDC_IDS_TRANSFER_CACHE_PERIOD = "edc.ids.transfer.cache.period";
+    public static final long EDC_IDS_TRANSFER_CACHE_PERIOD_DEFAULT = 60_000;
+
+    @EdcSetting
+    public static final String EDC_IDS_TRANSFER_CACHE_SIZE = "edc.ids.transfer.cache.size";
+    public static final int EDC_IDS_TRANSFER_CACHE_SIZE_DEFAULT = 1000;
+
     private Monitor monitor;
+    private ExecutorService executor;
 
     @Override
     public Set<String> requires() {
@@ -54,6 +79,9 @@ public class IdsTransferApiServiceExtension implements ServiceExtension {
 
     @Override
     public void shutdown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
         monitor.info("Shutdown IDS Transfer API extension");
     }
 
@@ -75,7 +103,36 @@ public class IdsTransferApiServiceExtension implements ServiceExtension {
 
         var policyRegistry = context.getService(PolicyRegistry.class);
 
-        webService.registerController(new ArtifactRequestController(dapService, assetIndex, transferManager, policyService, policyRegistry, vault, monitor));
+        executor = createExecutor(context);
+        var cachePeriod = Duration.ofMillis(resolveLong(context, EDC_IDS_TRANSFER_CACHE_PERIOD, EDC_IDS_TRANSFER_CACHE_PERIOD_DEFAULT));
+        var cacheSize = (int) resolveLong(context, EDC_IDS_TRANSFER_CACHE_SIZE, EDC_IDS_TRANSFER_CACHE_SIZE_DEFAULT);
+
+        webService.registerController(new ArtifactRequestController(dapService, assetIndex, transferManager, policyService, policyRegistry, vault, monitor,
+                executor, cachePeriod, cacheSize, Clock.systemUTC()));
+    }
+
+    /**
+     * Creates a fixed-size pool with a bounded queue, which rejects requests once the queue is full instead of accumulating them.
+     */
+    private ExecutorService createExecutor(ServiceExtensionContext context) {
+        var threads = (int) Math.max(1, resolveLong(context, EDC_IDS_TRANSFER_THREADS, Runtime.getRuntime().availableProcessors()));
+        var queueSize = (int) Math.max(1, resolveLong(context, EDC_IDS_TRANSFER_QUEUE, EDC_IDS_TRANSFER_QUEUE_DEFAULT));
+        var counter = new AtomicInteger();
+        return new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueSize), runnable -> {
+            var thread = new Thread(runnable, "ids-artifact-request-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private long resolveLong(ServiceExtensionContext context, String key, long defaultValue) {
+        var value = context.getSetting(key, String.valueOf(defaultValue));
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            monitor.warning(String.format("Settings: Invalid value '%s' for key '%s'. Using default value '%s'", value, key, defaultValue));
+            return defaultValue;
+        }
     }
 
 
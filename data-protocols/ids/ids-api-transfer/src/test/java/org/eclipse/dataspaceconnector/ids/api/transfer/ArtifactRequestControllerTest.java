@@ -0,0 +1,231 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.ids.api.transfer;
+
+import de.fraunhofer.iais.eis.ArtifactRequestMessage;
+import de.fraunhofer.iais.eis.DynamicAttributeToken;
+import de.fraunhofer.iais.eis.RejectionMessage;
+import de.fraunhofer.iais.eis.RejectionReason;
+import jakarta.ws.rs.container.AsyncResponse;
+import jakarta.ws.rs.core.Response;
+import org.easymock.Capture;
+import org.easymock.EasyMock;
+import org.eclipse.dataspaceconnector.common.testfixtures.MutableClock;
+import org.eclipse.dataspaceconnector.ids.spi.daps.DapsService;
+import org.eclipse.dataspaceconnector.ids.spi.policy.IdsPolicyService;
+import org.eclipse.dataspaceconnector.policy.engine.PolicyEvaluationResult;
+import org.eclipse.dataspaceconnector.policy.model.Policy;
+import org.eclipse.dataspaceconnector.spi.asset.AssetIndex;
+import org.eclipse.dataspaceconnector.spi.iam.ClaimToken;
+import org.eclipse.dataspaceconnector.spi.iam.VerificationResult;
+import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
+import org.eclipse.dataspaceconnector.spi.policy.PolicyRegistry;
+import org.eclipse.dataspaceconnector.spi.security.Vault;
+import org.eclipse.dataspaceconnector.spi.transfer.TransferInitiateResponse;
+import org.eclipse.dataspaceconnector.spi.transfer.TransferProcessManager;
+import org.eclipse.dataspaceconnector.spi.transfer.response.ResponseStatus;
+import org.eclipse.dataspaceconnector.spi.types.domain.asset.Asset;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.easymock.EasyMock.anyObject;
+import static org.easymock.EasyMock.anyString;
+import static org.easymock.EasyMock.capture;
+import static org.easymock.EasyMock.expect;
+import static org.easymock.EasyMock.newCapture;
+import static org.easymock.EasyMock.replay;
+import static org.easymock.EasyMock.verify;
+
+class ArtifactRequestControllerTest {
+    private static final String ASSET_ID = "urn:artifact:asset-1";
+
+    private final MutableClock clock = new MutableClock();
+    private DapsService dapsService;
+    private AssetIndex assetIndex;
+    private PolicyRegistry policyRegistry;
+    private ArtifactRequestController controller;
+
+    @Test
+    void request_rejectsWhenExecutorIsSaturated() {
+        replayAll();
+        controller = controller(command -> {
+            throw new RejectedExecutionException();
+        });
+
+        var response = send("token");
+
+        assertThat(response.getStatus()).isEqualTo(503);
+        assertThat(((RejectionMessage) response.getEntity()).getRejectionReason()).isEqualTo(RejectionReason.TEMPORARILY_NOT_AVAILABLE);
+        // the request is rejected before the token is verified
+        verify(dapsService, assetIndex, policyRegistry);
+    }
+
+    @Test
+    void verify_reusesResultForSameToken() {
+        var token = jwt(clock.instant().plusSeconds(3600));
+        expect(dapsService.verifyAndConvertToken(token)).andReturn(valid()).once();
+        replayAll();
+
+        assertThat(send(token).getStatus()).isEqualTo(200);
+        assertThat(send(token).getStatus()).isEqualTo(200);
+
+        verify(dapsService);
+    }
+
+    @Test
+    void verify_doesNotCacheFailedVerification() {
+        var token = jwt(clock.instant().plusSeconds(3600));
+        expect(dapsService.verifyAndConvertToken(token)).andReturn(new VerificationResult("invalid token")).times(2);
+        replayAll();
+
+        var response = send(token);
+        assertThat(response.getStatus()).isEqualTo(403);
+        assertThat(((RejectionMessage) response.getEntity()).getRejectionReason()).isEqualTo(RejectionReason.NOT_AUTHENTICATED);
+        assertThat(send(token).getStatus()).isEqualTo(403);
+
+        verify(dapsService);
+    }
+
+    @Test
+    void process_resolvesAssetOncePerCachePeriod() {
+        var token = jwt(clock.instant().plusSeconds(3600));
+        expect(dapsService.verifyAndConvertToken(token)).andStubReturn(valid());
+        expect(assetIndex.findById(ASSET_ID)).andReturn(asset()).times(2);
+        expect(policyRegistry.resolvePolicy("policy-id")).andReturn(Policy.Builder.newInstance().build()).times(2);
+        replay(dapsService, assetIndex, policyRegistry);
+
+        send(token);
+        send(token);
+        clock.advance(Duration.ofSeconds(30));
+        send(token);
+
+        // the cache period of one minute has passed
+        clock.advance(Duration.ofSeconds(30));
+        send(token);
+        send(token);
+
+        verify(assetIndex, policyRegistry);
+    }
+
+    @Test
+    void verify_cachesTokenUntilItExpires() {
+        var token = jwt(clock.instant().plusSeconds(10));
+        expect(dapsService.verifyAndConvertToken(token)).andReturn(valid()).times(2);
+        replayAll();
+
+        assertThat(send(token).getStatus()).isEqualTo(200);
+        assertThat(send(token).getStatus()).isEqualTo(200);
+
+        // the token expires before the cache period ends
+        clock.advance(Duration.ofSeconds(10));
+
+        assertThat(send(token).getStatus()).isEqualTo(200);
+        verify(dapsService);
+    }
+
+    @Test
+    void verify_doesNotCacheTokenWithoutExpiration() {
+        expect(dapsService.verifyAndConvertToken("opaque-token")).andReturn(valid()).times(2);
+        replayAll();
+
+        send("opaque-token");
+        send("opaque-token");
+
+        verify(dapsService);
+    }
+
+    @BeforeEach
+    void setUp() {
+        dapsService = EasyMock.createMock(DapsService.class);
+        assetIndex = EasyMock.createMock(AssetIndex.class);
+        policyRegistry = EasyMock.createMock(PolicyRegistry.class);
+        controller = controller(Runnable::run);
+    }
+
+    private ArtifactRequestController controller(Executor executor) {
+        IdsPolicyService policyService = EasyMock.createMock(IdsPolicyService.class);
+        expect(policyService.evaluateRequest(anyString(), anyString(), anyObject(), anyObject())).andStubReturn(new PolicyEvaluationResult());
+        TransferProcessManager processManager = EasyMock.createMock(TransferProcessManager.class);
+        expect(processManager.initiateProviderRequest(anyObject(DataRequest.class)))
+                .andStubReturn(TransferInitiateResponse.Builder.newInstance().id("process-id").status(ResponseStatus.OK).build());
+        Monitor monitor = EasyMock.createNiceMock(Monitor.class);
+        replay(policyService, processManager, monitor);
+        return new ArtifactRequestController(dapsService, assetIndex, processManager, policyService, policyRegistry, EasyMock.createNiceMock(Vault.class), monitor,
+                executor, Duration.ofMinutes(1), 100, clock);
+    }
+
+    /**
+     * Expects any number of lookups of the asset and its policy, and replays the mocks.
+     */
+    private void replayAll() {
+        expect(assetIndex.findById(ASSET_ID)).andStubReturn(asset());
+        expect(policyRegistry.resolvePolicy("policy-id")).andStubReturn(Policy.Builder.newInstance().build());
+        replay(dapsService, assetIndex, policyRegistry);
+    }
+
+    private Response send(String token) {
+        DynamicAttributeToken securityToken = EasyMock.createNiceMock(DynamicAttributeToken.class);
+        expect(securityToken.getTokenValue()).andStubReturn(token);
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("dataspaceconnector-data-destination", Map.of("type", "test", "properties", Map.of(), "keyName", "key"));
+        ArtifactRequestMessage message = EasyMock.createNiceMock(ArtifactRequestMessage.class);
+        expect(message.getSecurityToken()).andStubReturn(securityToken);
+        expect(message.getRequestedArtifact()).andStubReturn(URI.create(ASSET_ID));
+        expect(message.getIssuerConnector()).andStubReturn(URI.create("urn:connector:consumer"));
+        expect(message.getId()).andStubReturn(URI.create("urn:message:" + UUID.randomUUID()));
+        expect(message.getProperties()).andStubReturn(properties);
+
+        Capture<Object> response = newCapture();
+        AsyncResponse asyncResponse = EasyMock.createMock(AsyncResponse.class);
+        expect(asyncResponse.resume(capture(response))).andReturn(true);
+        replay(securityToken, message, asyncResponse);
+
+        controller.request(message, asyncResponse);
+
+        verify(asyncResponse);
+        return (Response) response.getValue();
+    }
+
+    private static Asset asset() {
+        return Asset.Builder.newInstance().id(ASSET_ID).policyId("policy-id").build();
+    }
+
+    private static VerificationResult valid() {
+        return new VerificationResult(ClaimToken.Builder.newInstance().build());
+    }
+
+    /**
+     * Returns an unsigned JWT with the given expiration.
+     */
+    private static String jwt(Instant expiration) {
+        var encoder = Base64.getUrlEncoder().withoutPadding();
+        var header = encoder.encodeToString("{\"alg\":\"none\"}".getBytes(StandardCharsets.UTF_8));
+        var payload = encoder.encodeToString(("{\"exp\":" + expiration.getEpochSecond() + "}").getBytes(StandardCharsets.UTF_8));
+        return header + "." + payload + ".signature";
+    }
+}
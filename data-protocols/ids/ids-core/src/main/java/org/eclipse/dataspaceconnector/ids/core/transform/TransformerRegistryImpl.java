@@ -22,28 +22,36 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Implements a {@link TransformerRegistry} that recursively dispatches to transformers for type conversion.
+ * <br/>
+ * The registry is safe for concurrent use. Transformers are resolved by walking the class hierarchy of the input object;
+ * the result is memoized per concrete input and output class, so the walk happens once per type pair rather than once per
+ * transformed object. Registering a transformer replaces the memoized resolutions with an empty map; a resolution still
+ * in flight against the registered transformers of before is written to the discarded map and never served.
  */
 public class TransformerRegistryImpl implements TransformerRegistry {
-    private final Map<TransformKey, IdsTypeTransformer<?, ?>> transformers = new HashMap<>();
+    private final Map<TransformKey, IdsTypeTransformer<?, ?>> transformers = new ConcurrentHashMap<>();
+    private volatile Map<Class<?>, Map<Class<?>, IdsTypeTransformer<?, ?>>> resolved = new ConcurrentHashMap<>();
 
     @Override
     public void register(IdsTypeTransformer<?, ?> transformer) {
         Objects.requireNonNull(transformer);
         transformers.put(new TransformKey(transformer.getInputType(), transformer.getOutputType()), transformer);
+        resolved = new ConcurrentHashMap<>();
     }
 
     @Override
     public <INPUT, OUTPUT> TransformResult<OUTPUT> transform(@NotNull INPUT object, @NotNull Class<OUTPUT> outputType) {
         var context = new TransformerContextImpl(this);
         var output = transform(object, outputType, context);
-        return context.hasProblems() ? new TransformResult<>(context.problems) : new TransformResult<>(output);
+        return context.hasProblems() ? new TransformResult<>(context.getProblems()) : new TransformResult<>(output);
     }
 
     @SuppressWarnings({ "rawtypes", "unchecked" })
@@ -59,14 +67,27 @@ public class TransformerRegistryImpl implements TransformerRegistry {
 
     @SuppressWarnings({ "unchecked" })
     private <INPUT, OUTPUT> IdsTypeTransformer<INPUT, OUTPUT> findEligibleTransformer(INPUT object, Class<OUTPUT> outputType) {
-        IdsTypeTransformer<INPUT, OUTPUT> idsTypeTransformer;
+        // the map is read once, so that a resolution can only be memoized in the map it was looked up in
+        var byOutputType = resolved.computeIfAbsent(object.getClass(), k -> new ConcurrentHashMap<>());
+        var idsTypeTransformer = byOutputType.get(outputType);
+        if (idsTypeTransformer == null) {
+            idsTypeTransformer = resolveTransformer(object.getClass(), outputType);
+            if (idsTypeTransformer != null) {
+                byOutputType.put(outputType, idsTypeTransformer);
+            }
+        }
+        return (IdsTypeTransformer<INPUT, OUTPUT>) idsTypeTransformer;
+    }
+
+    private IdsTypeTransformer<?, ?> resolveTransformer(Class<?> objectClass, Class<?> outputType) {
+        IdsTypeTransformer<?, ?> idsTypeTransformer;
 
-        Class<?> inputClass = object.getClass();
+        Class<?> inputClass = objectClass;
         do {
-            idsTypeTransformer = (IdsTypeTransformer<INPUT, OUTPUT>) transformers.get(new TransformKey(inputClass, outputType));
+            idsTypeTransformer = transformers.get(new TransformKey(inputClass, outputType));
             if (idsTypeTransformer == null) {
                 for (Class<?> anInterface : inputClass.getInterfaces()) {
-                    idsTypeTransformer = (IdsTypeTransformer<INPUT, OUTPUT>) transformers.get(new TransformKey(anInterface, outputType));
+                    idsTypeTransformer = transformers.get(new TransformKey(anInterface, outputType));
                     if (idsTypeTransformer != null) {
                         break;
                     }
@@ -112,9 +133,13 @@ public class TransformerRegistryImpl implements TransformerRegistry {
         }
     }
 
+    /**
+     * A single context is created per top-level transformation and passed down to all nested transformations. The problem
+     * list is only allocated once a problem is reported, since the vast majority of transformations succeed.
+     */
     private static class TransformerContextImpl implements TransformerContext {
-        private final List<String> problems = new ArrayList<>();
         private final TransformerRegistryImpl registry;
+        private List<String> problems;
 
         public TransformerContextImpl(TransformerRegistryImpl registry) {
             this.registry = registry;
@@ -122,16 +147,19 @@ public class TransformerRegistryImpl implements TransformerRegistry {
 
         @Override
         public boolean hasProblems() {
-            return !problems.isEmpty();
+            return problems != null && !problems.isEmpty();
         }
 
         @Override
         public List<String> getProblems() {
-            return problems;
+            return problems != null ? problems : Collections.emptyList();
         }
 
         @Override
         public void reportProblem(String problem) {
+            if (problems == null) {
+                problems = new ArrayList<>();
+            }
             problems.add(problem);
         }
 
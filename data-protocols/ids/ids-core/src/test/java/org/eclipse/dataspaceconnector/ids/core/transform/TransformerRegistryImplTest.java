@@ -19,6 +19,7 @@ import org.eclipse.dataspaceconnector.ids.spi.transform.TransformerContext;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -69,6 +70,68 @@ class TransformerRegistryImplTest {
     }
 
 
+    @Test
+    void verifyDispatchToSuperclassTransformer() {
+        var fooBarTransformer = createMock(Foo.class, Bar.class);
+        EasyMock.expect(fooBarTransformer.transform(EasyMock.isA(Foo.class), EasyMock.isA(TransformerContext.class))).andReturn(new Bar()).times(2);
+
+        EasyMock.replay(fooBarTransformer);
+
+        registry.register(fooBarTransformer);
+
+        // the transformer registered for the superclass handles the subclass, also once its resolution is memoized
+        assertNotNull(registry.transform(new SubFoo(), Bar.class).getOutput());
+        assertNotNull(registry.transform(new SubFoo(), Bar.class).getOutput());
+
+        EasyMock.verify(fooBarTransformer);
+    }
+
+    @Test
+    void verifyRegistrationInvalidatesResolvedTypes() {
+        var fooBarTransformer = createMock(Foo.class, Bar.class);
+        EasyMock.expect(fooBarTransformer.transform(EasyMock.isA(Foo.class), EasyMock.isA(TransformerContext.class))).andReturn(new Bar()).once();
+
+        var subFooBarTransformer = createMock(SubFoo.class, Bar.class);
+        EasyMock.expect(subFooBarTransformer.transform(EasyMock.isA(SubFoo.class), EasyMock.isA(TransformerContext.class))).andReturn(new Bar()).once();
+
+        EasyMock.replay(fooBarTransformer, subFooBarTransformer);
+
+        registry.register(fooBarTransformer);
+        assertNotNull(registry.transform(new SubFoo(), Bar.class).getOutput());
+
+        registry.register(subFooBarTransformer);
+        assertNotNull(registry.transform(new SubFoo(), Bar.class).getOutput());
+
+        EasyMock.verify(fooBarTransformer, subFooBarTransformer);
+    }
+
+    @Test
+    void verifyNestedTransformationsShareContext() {
+        var fooBarTransformer = createMock(Foo.class, Bar.class);
+        EasyMock.expect(fooBarTransformer.transform(EasyMock.isA(Foo.class), EasyMock.isA(TransformerContext.class))).andStubAnswer(() -> {
+            TransformerContext context = EasyMock.getCurrentArgument(1);
+            context.transform(new Foo(), Baz.class);
+            return new Bar();
+        });
+        var fooBazTransformer = createMock(Foo.class, Baz.class);
+        EasyMock.expect(fooBazTransformer.transform(EasyMock.isA(Foo.class), EasyMock.isA(TransformerContext.class))).andStubAnswer(() -> {
+            TransformerContext context = EasyMock.getCurrentArgument(1);
+            context.reportProblem("nested problem");
+            return null;
+        });
+
+        EasyMock.replay(fooBarTransformer, fooBazTransformer);
+
+        registry.register(fooBarTransformer);
+        registry.register(fooBazTransformer);
+
+        var result = registry.transform(new Foo(), Bar.class);
+        assertTrue(result.hasProblems());
+        assertEquals("nested problem", result.getProblems().get(0));
+
+        EasyMock.verify(fooBarTransformer, fooBazTransformer);
+    }
+
     @BeforeEach
     void setUp() {
         registry = new TransformerRegistryImpl();
@@ -85,6 +148,10 @@ class TransformerRegistryImplTest {
 
     }
 
+    private static class SubFoo extends Foo {
+
+    }
+
     private static class Bar {
 
     }
@@ -0,0 +1,111 @@
+/*
+ *  Copyright (c) 2021 Daimler TSS GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Daimler TSS GmbH - Initial API and Implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.api.control;
+
+import org.eclipse.dataspaceconnector.common.cache.ExpiringCache;
+import org.eclipse.dataspaceconnector.spi.message.RemoteMessageDispatcherRegistry;
+import org.eclipse.dataspaceconnector.spi.types.domain.catalog.CatalogRequest;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Consumer-side cache of remote catalogs, keyed by provider address.
+ * <br/>
+ * Catalogs younger than the time-to-live are served from memory. Concurrent requests for a provider whose catalog is not
+ * cached share a single in-flight remote request. Once a catalog is older than the time-to-live but still within the
+ * stale period, it is served as-is while it is revalidated in the background, so that clients never wait for a provider
+ * they have recently received a catalog from. Failed requests are not cached.
+ */
+public class CatalogCache {
+    private final RemoteMessageDispatcherRegistry dispatcherRegistry;
+    private final Duration timeToLive;
+    private final Duration stalePeriod;
+    private final Clock clock;
+
+    private final ExpiringCache<String, Object> entries;
+    private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    public CatalogCache(@NotNull RemoteMessageDispatcherRegistry dispatcherRegistry, Duration timeToLive, Duration stalePeriod, int maxEntries, Clock clock) {
+        this.dispatcherRegistry = Objects.requireNonNull(dispatcherRegistry, "dispatcherRegistry");
+        this.timeToLive = Objects.requireNonNull(timeToLive, "timeToLive");
+        this.stalePeriod = Objects.requireNonNull(stalePeriod, "stalePeriod");
+        this.clock = Objects.requireNonNull(clock, "clock");
+        entries = new ExpiringCache<>(maxEntries, clock, ExpiringCache.Eviction.OLDEST);
+    }
+
+    /**
+     * Returns the catalog of the given provider, either from the cache or by requesting it from the remote connector.
+     */
+    public CompletableFuture<Object> get(String provider) {
+        var entry = entries.getEntry(provider);
+        if (entry == null) {
+            return fetch(provider);
+        }
+        if (clock.millis() - entry.getCreatedAt() >= timeToLive.toMillis()) {
+            fetch(provider); // stale, revalidate in the background
+        }
+        return CompletableFuture.completedFuture(entry.getValue());
+    }
+
+    /**
+     * Removes the cached catalog of the given provider, e.g. after a client knows it has changed.
+     */
+    public void invalidate(String provider) {
+        entries.remove(provider);
+    }
+
+    private CompletableFuture<Object> fetch(String provider) {
+        var created = new CompletableFuture<Object>();
+        var existing = inFlight.putIfAbsent(provider, created);
+        if (existing != null) {
+            return existing; // coalesce with the request already on its way
+        }
+
+        CatalogRequest request = CatalogRequest.Builder.newInstance()
+                .protocol("ids-multipart")
+                .connectorAddress(provider)
+                .connectorId(provider)
+                .build();
+
+        try {
+            dispatcherRegistry.send(Object.class, request, () -> null).whenComplete((catalog, error) -> {
+                if (error == null) {
+                    store(provider, catalog);
+                }
+                inFlight.remove(provider, created);
+                if (error != null) {
+                    created.completeExceptionally(error);
+                } else {
+                    created.complete(catalog);
+                }
+            });
+        } catch (RuntimeException e) {
+            inFlight.remove(provider, created);
+            created.completeExceptionally(e);
+        }
+        return created;
+    }
+
+    private void store(String provider, Object catalog) {
+        // kept until the stale period has passed as well
+        entries.put(provider, catalog, clock.millis() + timeToLive.toMillis() + stalePeriod.toMillis());
+    }
+}
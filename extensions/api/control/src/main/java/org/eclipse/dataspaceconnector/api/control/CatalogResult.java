@@ -0,0 +1,60 @@
+/*
+ *  Copyright (c) 2021 Daimler TSS GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Daimler TSS GmbH - Initial API and Implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.api.control;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * The catalog of a single provider, or the reason it could not be retrieved.
+ */
+public class CatalogResult {
+    private final String provider;
+    private final Object catalog;
+    private final String error;
+
+    private CatalogResult(String provider, Object catalog, String error) {
+        this.provider = provider;
+        this.catalog = catalog;
+        this.error = error;
+    }
+
+    public static CatalogResult success(String provider, Object catalog) {
+        return new CatalogResult(provider, catalog, null);
+    }
+
+    public static CatalogResult failure(String provider, Throwable error) {
+        var cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        var message = cause instanceof TimeoutException ? "Timeout waiting for provider" : cause.getMessage();
+        return new CatalogResult(provider, null, message);
+    }
+
+    @JsonProperty
+    public String getProvider() {
+        return provider;
+    }
+
+    @JsonProperty
+    public Object getCatalog() {
+        return catalog;
+    }
+
+    @JsonProperty
+    public String getError() {
+        return error;
+    }
+}
@@ -9,23 +9,31 @@ import jakarta.ws.rs.container.AsyncResponse;
 import jakarta.ws.rs.container.Suspended;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
-import org.eclipse.dataspaceconnector.spi.message.RemoteMessageDispatcherRegistry;
-import org.eclipse.dataspaceconnector.spi.types.domain.catalog.CatalogRequest;
 import org.jetbrains.annotations.NotNull;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
 
 @Consumes({ MediaType.APPLICATION_JSON })
 @Produces({ MediaType.APPLICATION_JSON })
 @Path("/control")
 public class ClientControlCatalogApiController {
 
-    private final RemoteMessageDispatcherRegistry remoteMessageDispatcherRegistry;
+    static final int MAX_PROVIDERS = 50;
 
-    public ClientControlCatalogApiController(@NotNull RemoteMessageDispatcherRegistry remoteMessageDispatcherRegistry) {
-        this.remoteMessageDispatcherRegistry = Objects.requireNonNull(remoteMessageDispatcherRegistry, "remoteMessageDispatcherRegistry");
+    private final CatalogCache catalogCache;
+    private final Duration providerTimeout;
+
+    public ClientControlCatalogApiController(@NotNull CatalogCache catalogCache, @NotNull Duration providerTimeout) {
+        this.catalogCache = Objects.requireNonNull(catalogCache, "catalogCache");
+        this.providerTimeout = Objects.requireNonNull(providerTimeout, "providerTimeout");
     }
 
     @GET
@@ -36,18 +44,40 @@ public class ClientControlCatalogApiController {
             return;
         }
 
-        CatalogRequest metadataRequest = CatalogRequest.Builder.newInstance()
-                .protocol("ids-multipart")
-                .connectorAddress(provider)
-                .connectorId(provider)
-                .build();
-
-        CompletableFuture<Object> future = remoteMessageDispatcherRegistry
-                .send(Object.class, metadataRequest, () -> null);
+        CompletableFuture<Object> future = catalogCache.get(provider);
 
         future.whenComplete(fillResponse(asyncResponse));
     }
 
+    /**
+     * Fetches the catalogs of several providers in parallel. Every provider is subject to its own timeout, and a failing or
+     * slow provider is reported in its result entry instead of failing the whole request.
+     */
+    @GET
+    @Path("/catalogs")
+    public void getDescriptions(@QueryParam("provider") List<String> providers, @Suspended AsyncResponse asyncResponse) {
+        if (providers == null || providers.isEmpty()) {
+            asyncResponse.resume(badRequest("provider required"));
+            return;
+        }
+        var distinctProviders = new ArrayList<>(new LinkedHashSet<>(providers));
+        if (distinctProviders.size() > MAX_PROVIDERS) {
+            asyncResponse.resume(badRequest("at most " + MAX_PROVIDERS + " providers allowed"));
+            return;
+        }
+
+        List<CompletableFuture<CatalogResult>> futures = distinctProviders.stream()
+                .map(provider -> catalogCache.get(provider)
+                        .copy() // the future may be shared with other requests, so the timeout must not complete it
+                        .orTimeout(providerTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                        .handle((catalog, error) -> error == null ? CatalogResult.success(provider, catalog) : CatalogResult.failure(provider, error)))
+                .collect(Collectors.toList());
+
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                .thenApply(v -> futures.stream().map(CompletableFuture::join).collect(Collectors.toList()))
+                .whenComplete(fillResponse(asyncResponse));
+    }
+
     private static <T> BiConsumer<T, Throwable> fillResponse(AsyncResponse asyncResponse) {
         return (result, error) -> {
             if (error != null) {
@@ -16,28 +16,50 @@
 package org.eclipse.dataspaceconnector.api.control;
 
 import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.DefaultValue;
+import jakarta.ws.rs.GET;
 import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.container.AsyncResponse;
+import jakarta.ws.rs.container.Suspended;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import org.eclipse.dataspaceconnector.spi.transfer.TransferInitiateResponse;
 import org.eclipse.dataspaceconnector.spi.transfer.TransferProcessManager;
+import org.eclipse.dataspaceconnector.spi.transfer.response.ResponseStatus;
+import org.eclipse.dataspaceconnector.spi.transfer.store.TransferProcessQuery;
+import org.eclipse.dataspaceconnector.spi.transfer.store.TransferProcessStore;
 import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataRequest;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.TransferProcessStates;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 
 
 @Consumes({ MediaType.APPLICATION_JSON })
 @Produces({ MediaType.APPLICATION_JSON })
 @Path("/control")
 public class ClientController {
+    static final int MAX_BATCH_SIZE = 1000;
+    static final int MAX_PAGE_SIZE = 1000;
+    static final long MAX_POLL_TIMEOUT = 60_000;
 
     private final TransferProcessManager transferProcessManager;
+    private final TransferProcessStore transferProcessStore;
+    private final TransferProcessEventFeed eventFeed;
 
-    public ClientController(@NotNull TransferProcessManager transferProcessManager) {
+    public ClientController(@NotNull TransferProcessManager transferProcessManager, @NotNull TransferProcessStore transferProcessStore, @NotNull TransferProcessEventFeed eventFeed) {
         this.transferProcessManager = Objects.requireNonNull(transferProcessManager);
+        this.transferProcessStore = Objects.requireNonNull(transferProcessStore);
+        this.eventFeed = Objects.requireNonNull(eventFeed);
     }
 
     @POST
@@ -51,4 +73,110 @@ public class ClientController {
         TransferInitiateResponse response = transferProcessManager.initiateConsumerRequest(dataRequest);
         return Response.ok(response.getId()).build();
     }
+
+    /**
+     * Submits a batch of data requests. Every request is initiated independently, so a failing request does not affect
+     * the others; the response contains one result per request, in submission order.
+     */
+    @POST
+    @Path("transfer/batch")
+    public Response addTransfers(List<DataRequest> dataRequests) {
+        if (dataRequests == null || dataRequests.isEmpty()) {
+            return Response.status(Response.Status.BAD_REQUEST).entity("data requests required").build();
+        }
+        if (dataRequests.size() > MAX_BATCH_SIZE) {
+            return Response.status(Response.Status.BAD_REQUEST).entity("at most " + MAX_BATCH_SIZE + " data requests allowed per batch").build();
+        }
+
+        var results = new ArrayList<TransferRequestResult>(dataRequests.size());
+        for (DataRequest dataRequest : dataRequests) {
+            if (dataRequest == null) {
+                results.add(new TransferRequestResult(null, null, ResponseStatus.FATAL_ERROR, "data request required"));
+                continue;
+            }
+            try {
+                var response = transferProcessManager.initiateConsumerRequest(dataRequest);
+                results.add(new TransferRequestResult(dataRequest.getId(), response.getId(), response.getStatus(), response.getError()));
+            } catch (Exception e) {
+                results.add(new TransferRequestResult(dataRequest.getId(), null, ResponseStatus.ERROR_RETRY, e.getMessage()));
+            }
+        }
+        return Response.ok(results).build();
+    }
+
+    @GET
+    @Path("transfer/{id}")
+    public Response getTransfer(@PathParam("id") String id) {
+        var process = transferProcessStore.find(id);
+        if (process == null) {
+            return Response.status(Response.Status.NOT_FOUND).build();
+        }
+        return Response.ok(process).build();
+    }
+
+    /**
+     * Returns a page of transfer processes, optionally filtered by state name, asset id and a state timestamp range given
+     * in epoch millis.
+     */
+    @GET
+    @Path("transfer")
+    public Response queryTransfers(@QueryParam("state") String state,
+                                   @QueryParam("assetId") String assetId,
+                                   @QueryParam("from") Long from,
+                                   @QueryParam("to") Long to,
+                                   @QueryParam("offset") @DefaultValue("0") int offset,
+                                   @QueryParam("limit") @DefaultValue("50") int limit) {
+        TransferProcessStates processState = null;
+        if (state != null) {
+            try {
+                processState = TransferProcessStates.valueOf(state.toUpperCase());
+            } catch (IllegalArgumentException e) {
+                return Response.status(Response.Status.BAD_REQUEST).entity("unknown state: " + state).build();
+            }
+        }
+
+        TransferProcessQuery query;
+        try {
+            query = TransferProcessQuery.Builder.newInstance()
+                    .state(processState != null ? processState.code() : null)
+                    .assetId(assetId)
+                    .from(from)
+                    .to(to)
+                    .offset(offset)
+                    .limit(Math.min(limit, MAX_PAGE_SIZE))
+                    .build();
+        } catch (IllegalArgumentException e) {
+            return Response.status(Response.Status.BAD_REQUEST).entity(e.getMessage()).build();
+        }
+
+        return Response.ok(transferProcessStore.query(query)).build();
+    }
+
+    /**
+     * Long-polls for transfer process state changes. Returns the events following the {@code after} sequence immediately if
+     * there are any, otherwise waits until one is published or the timeout elapses, in which case an empty list is returned.
+     */
+    @GET
+    @Path("transfer/events")
+    public void pollEvents(@QueryParam("after") @DefaultValue("-1") long after,
+                           @QueryParam("processId") List<String> processIds,
+                           @QueryParam("timeout") @DefaultValue("30000") long timeout,
+                           @QueryParam("limit") @DefaultValue("100") int limit,
+                           @Suspended AsyncResponse asyncResponse) {
+        if (timeout < 0 || limit <= 0) {
+            asyncResponse.resume(Response.status(Response.Status.BAD_REQUEST).entity("timeout and limit must be positive").build());
+            return;
+        }
+
+        var filter = processIds == null ? Collections.<String>emptySet() : new HashSet<>(processIds);
+        eventFeed.next(after, filter, Math.min(limit, MAX_PAGE_SIZE))
+                .completeOnTimeout(Collections.emptyList(), Math.min(timeout, MAX_POLL_TIMEOUT), TimeUnit.MILLISECONDS)
+                .whenComplete((events, error) -> {
+                    if (error != null) {
+                        asyncResponse.resume(Response.serverError().entity(error.getMessage()).build());
+                    } else {
+                        asyncResponse.resume(Response.ok(events).build());
+                    }
+                });
+    }
 }
@@ -8,9 +8,13 @@ import org.eclipse.dataspaceconnector.spi.protocol.web.WebService;
 import org.eclipse.dataspaceconnector.spi.system.ServiceExtension;
 import org.eclipse.dataspaceconnector.spi.system.ServiceExtensionContext;
 import org.eclipse.dataspaceconnector.spi.transfer.TransferProcessManager;
+import org.eclipse.dataspaceconnector.spi.transfer.TransferProcessObservable;
+import org.eclipse.dataspaceconnector.spi.transfer.store.TransferProcessStore;
 import org.jetbrains.annotations.NotNull;
 
 import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
 import java.util.Set;
 import java.util.function.Predicate;
 
@@ -25,11 +29,32 @@ public class ControlApiServiceExtension implements ServiceExtension {
     @EdcSetting
     public static final String EDC_API_CONTROL_AUTH_APIKEY_VALUE = "edc.api.control.auth.apikey.value";
 
+    @EdcSetting
+    public static final String EDC_API_CONTROL_EVENTS_CAPACITY = "edc.api.control.events.capacity";
+    public static final int EDC_API_CONTROL_EVENTS_CAPACITY_DEFAULT = 10_000;
+
+    @EdcSetting
+    public static final String EDC_API_CONTROL_CATALOG_CACHE_TTL = "edc.api.control.catalog.cache.ttl";
+    public static final long EDC_API_CONTROL_CATALOG_CACHE_TTL_DEFAULT = 30_000;
+
+    @EdcSetting
+    public static final String EDC_API_CONTROL_CATALOG_CACHE_STALE = "edc.api.control.catalog.cache.stale";
+    public static final long EDC_API_CONTROL_CATALOG_CACHE_STALE_DEFAULT = 300_000;
+
+    @EdcSetting
+    public static final String EDC_API_CONTROL_CATALOG_CACHE_SIZE = "edc.api.control.catalog.cache.size";
+    public static final int EDC_API_CONTROL_CATALOG_CACHE_SIZE_DEFAULT = 1000;
+
+    @EdcSetting
+    public static final String EDC_API_CONTROL_CATALOG_TIMEOUT = "edc.api.control.catalog.timeout";
+    public static final long EDC_API_CONTROL_CATALOG_TIMEOUT_DEFAULT = 10_000;
+
     private Monitor monitor;
 
     @Override
     public Set<String> requires() {
-        return Set.of("edc:webservice", "dataspaceconnector:transfer-process-manager", "dataspaceconnector:dispatcher");
+        return Set.of("edc:webservice", "dataspaceconnector:transfer-process-manager", "dataspaceconnector:transfer-process-observable",
+                "dataspaceconnector:transferprocessstore", "dataspaceconnector:dispatcher");
     }
 
     @Override
@@ -38,10 +63,20 @@ public class ControlApiServiceExtension implements ServiceExtension {
 
         WebService webService = serviceExtensionContext.getService(WebService.class);
         TransferProcessManager transferProcessManager = serviceExtensionContext.getService(TransferProcessManager.class);
+        TransferProcessStore transferProcessStore = serviceExtensionContext.getService(TransferProcessStore.class);
         RemoteMessageDispatcherRegistry remoteMessageDispatcherRegistry = serviceExtensionContext.getService(RemoteMessageDispatcherRegistry.class);
 
-        webService.registerController(new ClientController(transferProcessManager));
-        webService.registerController(new ClientControlCatalogApiController(remoteMessageDispatcherRegistry));
+        TransferProcessEventFeed eventFeed = new TransferProcessEventFeed((int) resolveLong(serviceExtensionContext, EDC_API_CONTROL_EVENTS_CAPACITY, EDC_API_CONTROL_EVENTS_CAPACITY_DEFAULT));
+        serviceExtensionContext.getService(TransferProcessObservable.class).registerListener(eventFeed);
+
+        webService.registerController(new ClientController(transferProcessManager, transferProcessStore, eventFeed));
+        CatalogCache catalogCache = new CatalogCache(remoteMessageDispatcherRegistry,
+                Duration.ofMillis(resolveLong(serviceExtensionContext, EDC_API_CONTROL_CATALOG_CACHE_TTL, EDC_API_CONTROL_CATALOG_CACHE_TTL_DEFAULT)),
+                Duration.ofMillis(resolveLong(serviceExtensionContext, EDC_API_CONTROL_CATALOG_CACHE_STALE, EDC_API_CONTROL_CATALOG_CACHE_STALE_DEFAULT)),
+                (int) resolveLong(serviceExtensionContext, EDC_API_CONTROL_CATALOG_CACHE_SIZE, EDC_API_CONTROL_CATALOG_CACHE_SIZE_DEFAULT),
+                Clock.systemUTC());
+        Duration catalogTimeout = Duration.ofMillis(resolveLong(serviceExtensionContext, EDC_API_CONTROL_CATALOG_TIMEOUT, EDC_API_CONTROL_CATALOG_TIMEOUT_DEFAULT));
+        webService.registerController(new ClientControlCatalogApiController(catalogCache, catalogTimeout));
 
         /*
          * Registers a API-Key authentication filter
@@ -75,6 +110,16 @@ public class ControlApiServiceExtension implements ServiceExtension {
         return key;
     }
 
+    private long resolveLong(@NotNull ServiceExtensionContext context, String key, long defaultValue) {
+        String value = context.getSetting(key, String.valueOf(defaultValue));
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            monitor.warning(String.format("Settings: Invalid value '%s' for key '%s'. Using default value '%s'", value, key, defaultValue));
+            return defaultValue;
+        }
+    }
+
     private String resolveApiKeyHeaderValue(@NotNull ServiceExtensionContext context) {
         String value = context.getSetting(EDC_API_CONTROL_AUTH_APIKEY_VALUE, null);
         if (value == null) {
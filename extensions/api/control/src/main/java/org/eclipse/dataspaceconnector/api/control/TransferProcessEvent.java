@@ -0,0 +1,68 @@
+/*
+ *  Copyright (c) 2021 Daimler TSS GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Daimler TSS GmbH - Initial API and Implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.api.control;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * A state change of a transfer process as published by the {@link TransferProcessEventFeed}.
+ */
+public class TransferProcessEvent {
+    private final long sequence;
+    private final String processId;
+    private final String requestId;
+    private final String state;
+    private final long timestamp;
+
+    public TransferProcessEvent(long sequence, String processId, String requestId, String state, long timestamp) {
+        this.sequence = sequence;
+        this.processId = processId;
+        this.requestId = requestId;
+        this.state = state;
+        this.timestamp = timestamp;
+    }
+
+    /**
+     * Monotonically increasing position of this event in the feed. Clients pass the last sequence they have seen to
+     * receive subsequent events.
+     */
+    @JsonProperty
+    public long getSequence() {
+        return sequence;
+    }
+
+    @JsonProperty
+    public String getProcessId() {
+        return processId;
+    }
+
+    /**
+     * The id of the {@link org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataRequest} that created the process.
+     */
+    @JsonProperty
+    public String getRequestId() {
+        return requestId;
+    }
+
+    @JsonProperty
+    public String getState() {
+        return state;
+    }
+
+    @JsonProperty
+    public long getTimestamp() {
+        return timestamp;
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ *  Copyright (c) 2021 Daimler TSS GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Daimler TSS GmbH - Initial API and Implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.api.control;
+
+import org.eclipse.dataspaceconnector.spi.transfer.TransferProcessListener;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.TransferProcess;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.TransferProcessStates;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+/**
+ * Records transfer process state changes into a bounded, in-memory buffer which clients can consume with long-polling.
+ * <br/>
+ * Every event gets a sequence number. A client asks for all events after the last sequence it has seen; if there are none,
+ * the returned future completes as soon as a matching event is published. When the buffer is full, the oldest events are
+ * discarded, i.e. clients that poll too infrequently may miss state changes and should fall back to querying the store.
+ */
+public class TransferProcessEventFeed implements TransferProcessListener {
+    private final int capacity;
+    private final Deque<TransferProcessEvent> events = new ArrayDeque<>();
+    private final List<Subscription> subscriptions = new ArrayList<>();
+    private long sequence;
+
+    public TransferProcessEventFeed(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be greater than zero");
+        }
+        this.capacity = capacity;
+    }
+
+    /**
+     * Returns a future that completes with the events that were published after the given sequence and that belong to one
+     * of the given processes. The future completes immediately if such events are buffered already.
+     *
+     * @param after      the last sequence the caller has seen, or a negative number to start at the oldest buffered event
+     * @param processIds the processes of interest, or an empty set for all processes
+     * @param max        the maximum number of events to return
+     */
+    public synchronized CompletableFuture<List<TransferProcessEvent>> next(long after, Set<String> processIds, int max) {
+        var buffered = eventsAfter(after, processIds, max);
+        if (!buffered.isEmpty()) {
+            return CompletableFuture.completedFuture(buffered);
+        }
+        subscriptions.removeIf(s -> s.future.isDone());
+        var subscription = new Subscription(processIds);
+        subscriptions.add(subscription);
+        return subscription.future;
+    }
+
+    @Override
+    public void created(TransferProcess process) {
+        publish(process);
+    }
+
+    @Override
+    public void provisioning(TransferProcess process) {
+        publish(process);
+    }
+
+    @Override
+    public void provisioned(TransferProcess process) {
+        publish(process);
+    }
+
+    @Override
+    public void requested(TransferProcess process) {
+        publish(process);
+    }
+
+    @Override
+    public void inProgress(TransferProcess process) {
+        publish(process);
+    }
+
+    @Override
+    public void completed(TransferProcess process) {
+        publish(process);
+    }
+
+    @Override
+    public void deprovisioning(TransferProcess process) {
+        publish(process);
+    }
+
+    @Override
+    public void deprovisioned(TransferProcess process) {
+        publish(process);
+    }
+
+    @Override
+    public void ended(TransferProcess process) {
+        publish(process);
+    }
+
+    @Override
+    public void error(TransferProcess process) {
+        publish(process);
+    }
+
+    private void publish(TransferProcess process) {
+        var state = TransferProcessStates.from(process.getState());
+        var requestId = process.getDataRequest() != null ? process.getDataRequest().getId() : null;
+        List<Subscription> notified = new ArrayList<>();
+        TransferProcessEvent event;
+        synchronized (this) {
+            event = new TransferProcessEvent(++sequence, process.getId(), requestId, state != null ? state.name() : String.valueOf(process.getState()), process.getStateTimestamp());
+            if (events.size() == capacity) {
+                events.removeFirst();
+            }
+            events.addLast(event);
+
+            for (Iterator<Subscription> iterator = subscriptions.iterator(); iterator.hasNext(); ) {
+                var subscription = iterator.next();
+                if (subscription.future.isDone()) {
+                    iterator.remove();
+                } else if (subscription.matches(event)) {
+                    iterator.remove();
+                    notified.add(subscription);
+                }
+            }
+        }
+        // complete outside the lock since completion runs the response callbacks of the waiting requests
+        notified.forEach(s -> s.future.complete(List.of(event)));
+    }
+
+    private List<TransferProcessEvent> eventsAfter(long after, Set<String> processIds, int max) {
+        if (events.isEmpty() || events.peekLast().getSequence() <= after) {
+            return Collections.emptyList();
+        }
+        return events.stream()
+                .filter(e -> e.getSequence() > after)
+                .filter(e -> processIds.isEmpty() || processIds.contains(e.getProcessId()))
+                .limit(max)
+                .collect(Collectors.toList());
+    }
+
+    private static class Subscription {
+        private final Set<String> processIds;
+        private final CompletableFuture<List<TransferProcessEvent>> future = new CompletableFuture<>();
+
+        Subscription(Set<String> processIds) {
+            this.processIds = processIds;
+        }
+
+        boolean matches(TransferProcessEvent event) {
+            return processIds.isEmpty() || processIds.contains(event.getProcessId());
+        }
+    }
+}
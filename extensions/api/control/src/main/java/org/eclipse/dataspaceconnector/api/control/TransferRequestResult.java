@@ -0,0 +1,55 @@
+/*
+ *  Copyright (c) 2021 Daimler TSS GmbH
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Daimler TSS GmbH - Initial API and Implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.api.control;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.eclipse.dataspaceconnector.spi.transfer.response.ResponseStatus;
+
+/**
+ * The outcome of a single data request submitted through the bulk transfer endpoint.
+ */
+public class TransferRequestResult {
+    private final String requestId;
+    private final String processId;
+    private final ResponseStatus status;
+    private final String error;
+
+    public TransferRequestResult(String requestId, String processId, ResponseStatus status, String error) {
+        this.requestId = requestId;
+        this.processId = processId;
+        this.status = status;
+        this.error = error;
+    }
+
+    @JsonProperty
+    public String getRequestId() {
+        return requestId;
+    }
+
+    @JsonProperty
+    public String getProcessId() {
+        return processId;
+    }
+
+    @JsonProperty
+    public ResponseStatus getStatus() {
+        return status;
+    }
+
+    @JsonProperty
+    public String getError() {
+        return error;
+    }
+}
@@ -0,0 +1,90 @@
+package org.eclipse.dataspaceconnector.api.control;
+
+import org.eclipse.dataspaceconnector.common.testfixtures.MutableClock;
+import org.eclipse.dataspaceconnector.spi.message.MessageContext;
+import org.eclipse.dataspaceconnector.spi.message.RemoteMessageDispatcherRegistry;
+import org.eclipse.dataspaceconnector.spi.types.domain.message.RemoteMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.easymock.EasyMock.anyObject;
+import static org.easymock.EasyMock.eq;
+import static org.easymock.EasyMock.expect;
+import static org.easymock.EasyMock.mock;
+import static org.easymock.EasyMock.replay;
+import static org.easymock.EasyMock.verify;
+
+class CatalogCacheTest {
+    private static final String PROVIDER = "http://provider/api/ids/multipart";
+
+    private RemoteMessageDispatcherRegistry registry;
+    private MutableClock clock;
+    private CatalogCache cache;
+
+    @BeforeEach
+    void setUp() {
+        registry = mock(RemoteMessageDispatcherRegistry.class);
+        clock = new MutableClock();
+        cache = new CatalogCache(registry, Duration.ofSeconds(10), Duration.ofSeconds(60), 10, clock);
+    }
+
+    @Test
+    void get_coalescesConcurrentRequests() {
+        var response = new CompletableFuture<Object>();
+        expect(registry.send(eq(Object.class), anyObject(RemoteMessage.class), anyObject(MessageContext.class))).andReturn(response).once();
+        replay(registry);
+
+        var first = cache.get(PROVIDER);
+        var second = cache.get(PROVIDER);
+        assertThat(first).isNotDone();
+        assertThat(second).isNotDone();
+
+        response.complete("catalog");
+
+        assertThat(first.join()).isEqualTo("catalog");
+        assertThat(second.join()).isEqualTo("catalog");
+        verify(registry);
+    }
+
+    @Test
+    void get_servesFromCacheWithinTtl() {
+        expect(registry.send(eq(Object.class), anyObject(RemoteMessage.class), anyObject(MessageContext.class))).andReturn(CompletableFuture.<Object>completedFuture("catalog")).once();
+        replay(registry);
+
+        assertThat(cache.get(PROVIDER).join()).isEqualTo("catalog");
+        clock.advance(Duration.ofSeconds(5));
+        assertThat(cache.get(PROVIDER).join()).isEqualTo("catalog");
+        verify(registry);
+    }
+
+    @Test
+    void get_servesStaleEntryWhileRevalidating() {
+        var revalidation = new CompletableFuture<Object>();
+        expect(registry.send(eq(Object.class), anyObject(RemoteMessage.class), anyObject(MessageContext.class))).andReturn(CompletableFuture.<Object>completedFuture("v1"));
+        expect(registry.send(eq(Object.class), anyObject(RemoteMessage.class), anyObject(MessageContext.class))).andReturn(revalidation);
+        replay(registry);
+
+        cache.get(PROVIDER).join();
+        clock.advance(Duration.ofSeconds(20));
+
+        assertThat(cache.get(PROVIDER).join()).isEqualTo("v1");
+        revalidation.complete("v2");
+        assertThat(cache.get(PROVIDER).join()).isEqualTo("v2");
+        verify(registry);
+    }
+
+    @Test
+    void get_doesNotCacheFailures() {
+        expect(registry.send(eq(Object.class), anyObject(RemoteMessage.class), anyObject(MessageContext.class))).andReturn(CompletableFuture.<Object>failedFuture(new RuntimeException("boom")));
+        expect(registry.send(eq(Object.class), anyObject(RemoteMessage.class), anyObject(MessageContext.class))).andReturn(CompletableFuture.<Object>completedFuture("catalog"));
+        replay(registry);
+
+        assertThat(cache.get(PROVIDER)).isCompletedExceptionally();
+        assertThat(cache.get(PROVIDER).join()).isEqualTo("catalog");
+        verify(registry);
+    }
+}
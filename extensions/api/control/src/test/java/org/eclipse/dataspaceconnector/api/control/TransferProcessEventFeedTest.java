@@ -0,0 +1,66 @@
+package org.eclipse.dataspaceconnector.api.control;
+
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataRequest;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.TransferProcess;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.TransferProcessStates;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TransferProcessEventFeedTest {
+    private TransferProcessEventFeed feed;
+
+    @BeforeEach
+    void setUp() {
+        feed = new TransferProcessEventFeed(3);
+    }
+
+    @Test
+    void next_returnsBufferedEvents() {
+        feed.created(process("p1", TransferProcessStates.INITIAL));
+        feed.provisioning(process("p1", TransferProcessStates.PROVISIONING));
+
+        var future = feed.next(-1, Set.of(), 10);
+
+        assertThat(future).isCompleted();
+        assertThat(future.join()).extracting(TransferProcessEvent::getState).containsExactly("INITIAL", "PROVISIONING");
+        assertThat(future.join()).extracting(TransferProcessEvent::getRequestId).containsOnly("request-p1");
+    }
+
+    @Test
+    void next_waitsForMatchingEvent() {
+        feed.created(process("p1", TransferProcessStates.INITIAL));
+
+        var future = feed.next(1, Set.of("p2"), 10);
+        assertThat(future).isNotDone();
+
+        feed.created(process("p3", TransferProcessStates.INITIAL));
+        assertThat(future).isNotDone();
+
+        feed.created(process("p2", TransferProcessStates.INITIAL));
+        assertThat(future).isCompleted();
+        assertThat(future.join()).hasSize(1).allMatch(e -> e.getProcessId().equals("p2") && e.getSequence() == 3);
+    }
+
+    @Test
+    void buffer_discardsOldestEvents() {
+        for (int i = 0; i < 5; i++) {
+            feed.created(process("p" + i, TransferProcessStates.INITIAL));
+        }
+
+        var events = feed.next(-1, Set.of(), 10).join();
+
+        assertThat(events).extracting(TransferProcessEvent::getSequence).containsExactly(3L, 4L, 5L);
+    }
+
+    private TransferProcess process(String id, TransferProcessStates state) {
+        return TransferProcess.Builder.newInstance()
+                .id(id)
+                .state(state.code())
+                .dataRequest(DataRequest.Builder.newInstance().id("request-" + id).destinationType("test").build())
+                .build();
+    }
+}
@@ -18,22 +18,33 @@ import com.azure.cosmos.models.SqlQuerySpec;
 import net.jodah.failsafe.RetryPolicy;
 import org.eclipse.dataspaceconnector.assetindex.azure.model.AssetDocument;
 import org.eclipse.dataspaceconnector.cosmos.azure.CosmosDbApi;
+import org.eclipse.dataspaceconnector.cosmos.azure.CosmosDocument;
 import org.eclipse.dataspaceconnector.dataloading.AssetEntry;
 import org.eclipse.dataspaceconnector.dataloading.AssetLoader;
 import org.eclipse.dataspaceconnector.spi.asset.AssetIndex;
 import org.eclipse.dataspaceconnector.spi.asset.AssetSelectorExpression;
+import org.eclipse.dataspaceconnector.spi.asset.Criterion;
 import org.eclipse.dataspaceconnector.spi.asset.DataAddressResolver;
 import org.eclipse.dataspaceconnector.spi.types.TypeManager;
 import org.eclipse.dataspaceconnector.spi.types.domain.asset.Asset;
 import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataAddress;
 
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static net.jodah.failsafe.Failsafe.with;
 
 public class CosmosAssetIndex implements AssetIndex, DataAddressResolver, AssetLoader {
+    private static final int PAGE_SIZE = 100;
 
     private final CosmosDbApi assetDb;
     private final String partitionKey;
@@ -57,17 +68,29 @@ public class CosmosAssetIndex implements AssetIndex, DataAddressResolver, AssetL
         queryBuilder = new CosmosAssetQueryBuilder();
     }
 
+    /**
+     * Queries the assets page by page. Pages are only fetched while the returned stream is consumed, and each page is retried on its own, so that large
+     * result sets are never held in memory as a whole.
+     */
     @Override
     public Stream<Asset> queryAssets(AssetSelectorExpression expression) {
         Objects.requireNonNull(expression, "AssetSelectorExpression can not be null!");
+        if (expression != AssetSelectorExpression.SELECT_ALL && expression.getCriteria().isEmpty()) {
+            return Stream.empty();
+        }
 
         SqlQuerySpec query = queryBuilder.from(expression);
 
-        var response = with(retryPolicy).get(() -> assetDb.queryItems(query));
-        return response.map(this::convertObject)
+        return pages(query).flatMap(List::stream)
+                .map(this::convertObject)
                 .map(AssetDocument::getWrappedAsset);
     }
 
+    @Override
+    public Stream<Asset> queryAssets(List<Criterion> criteria) {
+        return queryAssets(AssetSelectorExpression.Builder.newInstance().criteria(criteria).build());
+    }
+
     @Override
     public Asset findById(String assetId) {
         var result = queryByIdInternal(assetId);
@@ -90,12 +113,44 @@ public class CosmosAssetIndex implements AssetIndex, DataAddressResolver, AssetL
         accept(item.getAsset(), item.getDataAddress());
     }
 
+    @Override
+    public void acceptAll(Collection<AssetEntry> items) {
+        var documents = items.stream()
+                .map(item -> new AssetDocument(item.getAsset(), partitionKey, item.getDataAddress()))
+                .collect(Collectors.<CosmosDocument<?>>toList());
+        with(retryPolicy).run(() -> assetDb.createItems(documents));
+    }
+
     // we need to read the AssetDocument as Object, because no custom JSON deserialization can be registered
     // with the CosmosDB SDK, so it would not know about subtypes, etc.
     private AssetDocument convertObject(Object databaseDocument) {
         return typeManager.readValue(typeManager.writeValueAsString(databaseDocument), AssetDocument.class);
     }
 
+    private Stream<List<Object>> pages(SqlQuerySpec query) {
+        var pages = new Iterator<List<Object>>() {
+            private String continuationToken;
+            private boolean last;
+
+            @Override
+            public boolean hasNext() {
+                return !last;
+            }
+
+            @Override
+            public List<Object> next() {
+                if (last) {
+                    throw new NoSuchElementException();
+                }
+                var page = with(retryPolicy).get(() -> assetDb.queryItems(query, continuationToken, PAGE_SIZE));
+                continuationToken = page.getContinuationToken();
+                last = continuationToken == null;
+                return page.getItems();
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(pages, Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
     private Optional<AssetDocument> queryByIdInternal(String assetId) {
         var result = with(retryPolicy).get(() -> assetDb.queryItemById(assetId));
         return Optional.ofNullable(result).map(this::convertObject);
@@ -11,7 +11,12 @@ import org.jetbrains.annotations.NotNull;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 public class CosmosAssetQueryBuilder {
 
@@ -50,8 +55,18 @@ public class CosmosAssetQueryBuilder {
         return new SqlQuerySpec("SELECT * FROM " + AssetDocument.class.getSimpleName() + whereClause.getWhere(), whereClause.getParameters());
     }
 
+    /**
+     * Translates criteria into a parameterized WHERE clause, so that all filtering happens in the database. Right operands are either values or Cosmos SQL
+     * literals: {@code 'text'} is the string {@code text}, numbers and booleans are typed, and {@code IN} takes a list such as {@code ('a', 'b')}.
+     * <p>
+     * Supported operators are {@code =}, {@code !=}, {@code <}, {@code <=}, {@code >}, {@code >=}, {@code IN}, {@code LIKE}, whose pattern is executed as a
+     * {@code STARTSWITH} if it only has a trailing wildcard, and {@code CONTAINS}, which matches array properties that contain the operand.
+     */
     private static class WhereClause {
-        private static final List<String> SUPPORTED_OPERATOR = List.of("=", "IN");
+        private static final Set<String> COMPARISON_OPERATORS = Set.of("=", "!=", "<", "<=", ">", ">=");
+        private static final Pattern IDENTIFIER = Pattern.compile("[A-Za-z_][A-Za-z0-9_]*");
+        private static final Pattern NUMBER = Pattern.compile("-?\\d+(\\.\\d+)?([eE][-+]?\\d+)?");
+        private static final Pattern BARE_VALUE = Pattern.compile("[^\\s'\",;()]+");
         private final List<SqlParameter> parameters = new ArrayList<>();
         private String where = "";
 
@@ -61,7 +76,6 @@ public class CosmosAssetQueryBuilder {
             }
         }
 
-
         public String getWhere() {
             return where;
         }
@@ -71,16 +85,112 @@ public class CosmosAssetQueryBuilder {
         }
 
         private void criterion(Criterion criterion) {
-            if (!SUPPORTED_OPERATOR.contains(criterion.getOperator())) {
+            var operator = criterion.getOperator().toUpperCase(Locale.ROOT);
+            var path = path(AssetDocument.sanitize(criterion.getOperandLeft().toString()));
+            String condition;
+            if (COMPARISON_OPERATORS.contains(operator)) {
+                condition = path + " " + operator + " " + parameter(value(criterion.getOperandRight()));
+            } else if ("IN".equals(operator)) {
+                condition = path + " IN (" + values(criterion.getOperandRight()).stream().map(this::parameter).collect(Collectors.joining(", ")) + ")";
+            } else if ("LIKE".equals(operator)) {
+                condition = like(path, String.valueOf(value(criterion.getOperandRight())));
+            } else if ("CONTAINS".equals(operator)) {
+                condition = "ARRAY_CONTAINS(" + path + ", " + parameter(value(criterion.getOperandRight())) + ")";
+            } else {
                 throw new EdcException("Cannot build SqlParameter for operator: " + criterion.getOperator());
             }
-            String field = AssetDocument.sanitize(criterion.getOperandLeft().toString());
-            String param = "@" + field;
-            where += parameters.isEmpty() ? " WHERE" : " AND";
-            parameters.add(new SqlParameter(param, criterion.getOperandRight().toString()));
-            where += String.join(" " + criterion.getOperator() + " ",
-                    " " + PATH_TO_PROPERTIES + "." + field,
-                    (String) criterion.getOperandRight());
+            where += (where.isEmpty() ? " WHERE " : " AND ") + condition;
+        }
+
+        /**
+         * A pattern that only ends with a wildcard is a prefix match, which STARTSWITH evaluates with the range index.
+         */
+        private String like(String path, String pattern) {
+            if (pattern.endsWith("%")) {
+                var prefix = pattern.substring(0, pattern.length() - 1);
+                if (prefix.indexOf('%') < 0 && prefix.indexOf('_') < 0) {
+                    return "STARTSWITH(" + path + ", " + parameter(prefix) + ")";
+                }
+            }
+            return path + " LIKE " + parameter(pattern);
+        }
+
+        private String parameter(Object value) {
+            var name = "@p" + parameters.size();
+            parameters.add(new SqlParameter(name, value));
+            return name;
+        }
+
+        /**
+         * Property names that are not valid identifiers are accessed by quoted name, so they cannot alter the query.
+         */
+        private String path(String property) {
+            if (IDENTIFIER.matcher(property).matches()) {
+                return PATH_TO_PROPERTIES + "." + property;
+            }
+            return PATH_TO_PROPERTIES + "[\"" + property.replace("\\", "\\\\").replace("\"", "\\\"") + "\"]";
+        }
+
+        private List<Object> values(Object operand) {
+            if (operand instanceof Collection) {
+                return ((Collection<?>) operand).stream().map(this::value).collect(Collectors.toList());
+            }
+            var list = String.valueOf(operand).trim();
+            if (!list.startsWith("(") || !list.endsWith(")")) {
+                throw new EdcException("The operand of IN must be a list in parentheses: " + operand);
+            }
+            var values = new ArrayList<>();
+            for (var item : split(list.substring(1, list.length() - 1))) {
+                var value = literal(item.trim());
+                if (value == null) {
+                    throw new EdcException("Invalid value in list: " + item);
+                }
+                values.add(value);
+            }
+            return values;
+        }
+
+        private Object value(Object operand) {
+            if (!(operand instanceof String)) {
+                return operand;
+            }
+            var value = literal(((String) operand).trim());
+            return value != null ? value : operand;
+        }
+
+        /**
+         * Parses a Cosmos SQL literal, returning null if the text is not a single literal.
+         */
+        private Object literal(String text) {
+            if (text.length() >= 2 && text.startsWith("'") && text.endsWith("'")) {
+                var content = text.substring(1, text.length() - 1);
+                return content.replace("''", "").contains("'") ? null : content.replace("''", "'");
+            } else if (NUMBER.matcher(text).matches()) {
+                return text.contains(".") || text.contains("e") || text.contains("E") ? (Object) Double.valueOf(text) : (Object) Long.valueOf(text);
+            } else if ("true".equals(text) || "false".equals(text)) {
+                return Boolean.valueOf(text);
+            }
+            return BARE_VALUE.matcher(text).matches() ? text : null;
+        }
+
+        /**
+         * Splits a list at commas that are not part of a quoted string.
+         */
+        private List<String> split(String list) {
+            var items = new ArrayList<String>();
+            var quoted = false;
+            var start = 0;
+            for (var i = 0; i < list.length(); i++) {
+                var c = list.charAt(i);
+                if (c == '\'') {
+                    quoted = !quoted;
+                } else if (c == ',' && !quoted) {
+                    items.add(list.substring(start, i));
+                    start = i + 1;
+                }
+            }
+            items.add(list.substring(start));
+            return items;
         }
     }
 }
@@ -18,7 +18,6 @@ import com.azure.cosmos.ConsistencyLevel;
 import com.azure.cosmos.CosmosClientBuilder;
 import com.azure.cosmos.CosmosContainer;
 import com.azure.cosmos.CosmosDatabase;
-import com.azure.cosmos.CosmosException;
 import com.azure.cosmos.models.CosmosContainerResponse;
 import com.azure.cosmos.models.CosmosDatabaseResponse;
 import net.jodah.failsafe.RetryPolicy;
@@ -26,7 +25,9 @@ import org.eclipse.dataspaceconnector.assetindex.azure.model.AssetDocument;
 import org.eclipse.dataspaceconnector.common.annotations.IntegrationTest;
 import org.eclipse.dataspaceconnector.cosmos.azure.CosmosDbApi;
 import org.eclipse.dataspaceconnector.cosmos.azure.CosmosDbApiImpl;
+import org.eclipse.dataspaceconnector.spi.EdcException;
 import org.eclipse.dataspaceconnector.spi.asset.AssetSelectorExpression;
+import org.eclipse.dataspaceconnector.spi.asset.CriterionToPredicateConverter;
 import org.eclipse.dataspaceconnector.spi.types.TypeManager;
 import org.eclipse.dataspaceconnector.spi.types.domain.asset.Asset;
 import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataAddress;
@@ -260,7 +261,7 @@ class CosmosAssetIndexIntegrationTest {
                 .build();
 
         // collecting is necessary, otherwise the cosmos query is not executed
-        assertThatThrownBy(() -> assetIndex.queryAssets(selector).collect(Collectors.toList())).isInstanceOf(CosmosException.class);
+        assertThatThrownBy(() -> assetIndex.queryAssets(selector).collect(Collectors.toList())).isInstanceOf(EdcException.class);
 
     }
 
@@ -285,7 +286,61 @@ class CosmosAssetIndexIntegrationTest {
                 .build();
 
         // collecting is necessary, otherwise the cosmos query is not executed
-        assertThatThrownBy(() -> assetIndex.queryAssets(selector).collect(Collectors.toList())).isInstanceOf(CosmosException.class);
+        assertThatThrownBy(() -> assetIndex.queryAssets(selector).collect(Collectors.toList())).isInstanceOf(EdcException.class);
+    }
+
+    @Test
+    void queryAssets_rangeLikeAndContains() {
+        Asset asset1 = Asset.Builder.newInstance()
+                .id("123")
+                .property("size", 10)
+                .property("tags", List.of("red", "blue"))
+                .build();
+
+        Asset asset2 = Asset.Builder.newInstance()
+                .id("456")
+                .property("size", 20)
+                .property("tags", List.of("green"))
+                .build();
+
+        container.createItem(new AssetDocument(asset1, TEST_PARTITION_KEY, dataAddress));
+        container.createItem(new AssetDocument(asset2, TEST_PARTITION_KEY, dataAddress));
+
+        var range = AssetSelectorExpression.Builder.newInstance().constraint("size", ">", "15").build();
+        assertThat(assetIndex.queryAssets(range)).extracting(Asset::getId).containsExactly("456");
+
+        var prefix = AssetSelectorExpression.Builder.newInstance().constraint(Asset.PROPERTY_ID, "LIKE", "'12%'").build();
+        assertThat(assetIndex.queryAssets(prefix)).extracting(Asset::getId).containsExactly("123");
+
+        var contains = AssetSelectorExpression.Builder.newInstance().constraint("tags", "CONTAINS", "'green'").build();
+        assertThat(assetIndex.queryAssets(contains)).extracting(Asset::getId).containsExactly("456");
+
+        var notEquals = AssetSelectorExpression.Builder.newInstance().constraint(Asset.PROPERTY_ID, "!=", "'123'").build();
+        assertThat(assetIndex.queryAssets(notEquals)).extracting(Asset::getId).containsExactly("456");
+    }
+
+    /**
+     * Contract validation checks offered assets against the selector in memory, so it must select the same assets as the query.
+     */
+    @Test
+    void queryAssets_selectsSameAssetsAsInMemoryConverter() {
+        var assets = List.of(
+                Asset.Builder.newInstance().id("123").property("size", 10).property("tags", List.of("red", "blue")).build(),
+                Asset.Builder.newInstance().id("456").property("size", 20).property("tags", List.of("green")).build(),
+                Asset.Builder.newInstance().id("789").property("size", 15).property("tags", List.of("blue")).build());
+        assets.forEach(asset -> container.createItem(new AssetDocument(asset, TEST_PARTITION_KEY, dataAddress)));
+
+        var selectors = List.of(
+                AssetSelectorExpression.Builder.newInstance().constraint("size", ">", "10").constraint("size", "<=", "15").build(),
+                AssetSelectorExpression.Builder.newInstance().constraint(Asset.PROPERTY_ID, "LIKE", "'%5%'").build(),
+                AssetSelectorExpression.Builder.newInstance().constraint(Asset.PROPERTY_ID, "IN", "('123', '789')").constraint("tags", "CONTAINS", "'blue'").build(),
+                AssetSelectorExpression.Builder.newInstance().constraint(Asset.PROPERTY_ID, "!=", "'123'").constraint("size", ">=", "15").build());
+
+        var converter = new CriterionToPredicateConverter();
+        for (var selector : selectors) {
+            var expected = assets.stream().filter(converter.convert(selector)).map(Asset::getId).collect(Collectors.toList());
+            assertThat(assetIndex.queryAssets(selector)).extracting(Asset::getId).containsExactlyInAnyOrderElementsOf(expected);
+        }
     }
 
     @Test
@@ -19,6 +19,7 @@ import net.jodah.failsafe.RetryPolicy;
 import org.easymock.Capture;
 import org.eclipse.dataspaceconnector.assetindex.azure.model.AssetDocument;
 import org.eclipse.dataspaceconnector.cosmos.azure.CosmosDbApi;
+import org.eclipse.dataspaceconnector.cosmos.azure.CosmosQueryPage;
 import org.eclipse.dataspaceconnector.spi.EdcException;
 import org.eclipse.dataspaceconnector.spi.asset.AssetSelectorExpression;
 import org.eclipse.dataspaceconnector.spi.types.TypeManager;
@@ -30,14 +31,15 @@ import org.junit.jupiter.api.Test;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.easymock.EasyMock.anyInt;
 import static org.easymock.EasyMock.anyObject;
 import static org.easymock.EasyMock.capture;
 import static org.easymock.EasyMock.eq;
 import static org.easymock.EasyMock.expect;
+import static org.easymock.EasyMock.isNull;
 import static org.easymock.EasyMock.newCapture;
 import static org.easymock.EasyMock.replay;
 import static org.easymock.EasyMock.reset;
@@ -134,7 +136,7 @@ class CosmosAssetIndexTest {
     void queryAssets() {
         String id1 = UUID.randomUUID().toString();
         String id2 = UUID.randomUUID().toString();
-        expect(api.queryItems(anyObject(SqlQuerySpec.class))).andReturn(Stream.of(createDocument(id1), createDocument(id2)));
+        expect(api.queryItems(anyObject(SqlQuerySpec.class), isNull(), anyInt())).andReturn(new CosmosQueryPage(List.of(createDocument(id1), createDocument(id2)), null));
 
         replay(api);
 
@@ -153,7 +155,7 @@ class CosmosAssetIndexTest {
         String id1 = UUID.randomUUID().toString();
         String id2 = UUID.randomUUID().toString();
         Capture<SqlQuerySpec> queryCapture = newCapture();
-        expect(api.queryItems(capture(queryCapture))).andReturn(Stream.of(createDocument(id1), createDocument(id2)));
+        expect(api.queryItems(capture(queryCapture), isNull(), anyInt())).andReturn(new CosmosQueryPage(List.of(createDocument(id1), createDocument(id2)), null));
 
         replay(api);
 
@@ -170,7 +172,8 @@ class CosmosAssetIndexTest {
                 .anyMatch(asset -> asset.getId().equals(id2));
 
         assertThat(queryCapture.hasCaptured()).isTrue();
-        assertThat(queryCapture.getValue().getQueryText()).contains("WHERE AssetDocument.wrappedInstance.asset_prop_id IN (" + id1 + "," + id2 + ")");
+        assertThat(queryCapture.getValue().getQueryText()).contains("WHERE AssetDocument.wrappedInstance.asset_prop_id IN (@p0, @p1)");
+        assertThat(queryCapture.getValue().getParameters()).extracting(p -> p.getValue(Object.class)).containsExactly(id1, id2);
 
         verify(api);
     }
@@ -181,7 +184,7 @@ class CosmosAssetIndexTest {
         String id2 = UUID.randomUUID().toString();
         // let's verify that the query actually contains the proper WHERE clause
         Capture<SqlQuerySpec> specCapture = newCapture();
-        expect(api.queryItems(capture(specCapture))).andReturn(Stream.of(createDocument(id1), createDocument(id2)));
+        expect(api.queryItems(capture(specCapture), isNull(), anyInt())).andReturn(new CosmosQueryPage(List.of(createDocument(id1), createDocument(id2)), null));
         replay(api);
 
         CosmosAssetIndex assetIndex = new CosmosAssetIndex(api, TEST_PARTITION_KEY, typeManager, retryPolicy);
@@ -193,8 +196,36 @@ class CosmosAssetIndexTest {
                 .anyMatch(asset -> asset.getId().equals(id2));
 
         assertThat(specCapture.hasCaptured()).isTrue();
-        assertThat(specCapture.getValue().getQueryText()).matches(".*WHERE AssetDocument.* = 'somename'");
+        assertThat(specCapture.getValue().getQueryText()).matches(".*WHERE AssetDocument.* = @p0");
+        assertThat(specCapture.getValue().getParameters()).extracting(p -> p.getValue(Object.class)).containsExactly("somename");
 
         verify(api);
     }
+
+    @Test
+    void queryAssets_fetchesPagesLazily() {
+        String id1 = UUID.randomUUID().toString();
+        String id2 = UUID.randomUUID().toString();
+        expect(api.queryItems(anyObject(SqlQuerySpec.class), isNull(), anyInt())).andReturn(new CosmosQueryPage(List.of(createDocument(id1)), "token"));
+        expect(api.queryItems(anyObject(SqlQuerySpec.class), eq("token"), anyInt())).andReturn(new CosmosQueryPage(List.of(createDocument(id2)), null));
+        replay(api);
+
+        CosmosAssetIndex assetIndex = new CosmosAssetIndex(api, TEST_PARTITION_KEY, typeManager, retryPolicy);
+
+        // only the first page is needed to find the first asset
+        assertThat(assetIndex.queryAssets(AssetSelectorExpression.SELECT_ALL).findFirst()).hasValueSatisfying(asset -> assertThat(asset.getId()).isEqualTo(id1));
+        assertThat(assetIndex.queryAssets(AssetSelectorExpression.SELECT_ALL).map(Asset::getId)).containsExactly(id1, id2);
+
+        verify(api);
+    }
+
+    @Test
+    void queryAssets_noCriteria() {
+        replay(api);
+
+        CosmosAssetIndex assetIndex = new CosmosAssetIndex(api, TEST_PARTITION_KEY, typeManager, retryPolicy);
+
+        assertThat(assetIndex.queryAssets(AssetSelectorExpression.Builder.newInstance().build())).isEmpty();
+        verify(api);
+    }
 }
@@ -1,5 +1,6 @@
 package org.eclipse.dataspaceconnector.assetindex.azure;
 
+import com.azure.cosmos.models.SqlParameter;
 import com.azure.cosmos.models.SqlQuerySpec;
 import org.eclipse.dataspaceconnector.spi.EdcException;
 import org.eclipse.dataspaceconnector.spi.asset.AssetSelectorExpression;
@@ -34,7 +35,9 @@ class CosmosAssetQueryBuilderTest {
 
         SqlQuerySpec query = builder.from(expression);
 
-        assertThat(query.getQueryText()).isEqualTo("SELECT * FROM AssetDocument WHERE AssetDocument.wrappedInstance.id = 'id-test' AND AssetDocument.wrappedInstance.name = 'name-test'");
+        assertThat(query.getQueryText()).isEqualTo("SELECT * FROM AssetDocument WHERE AssetDocument.wrappedInstance.id = @p0 AND AssetDocument.wrappedInstance.name = @p1");
+        assertThat(query.getParameters()).extracting(SqlParameter::getName).containsExactly("@p0", "@p1");
+        assertThat(query.getParameters()).extracting(p -> p.getValue(Object.class)).containsExactly("id-test", "name-test");
     }
 
     @Test
@@ -46,17 +49,69 @@ class CosmosAssetQueryBuilderTest {
 
         SqlQuerySpec query = builder.from(expression);
 
-        assertThat(query.getQueryText()).isEqualTo("SELECT * FROM AssetDocument WHERE AssetDocument.wrappedInstance.test_id = 'id-test' AND AssetDocument.wrappedInstance.test_name = 'name-test'");
+        assertThat(query.getQueryText()).isEqualTo("SELECT * FROM AssetDocument WHERE AssetDocument.wrappedInstance.test_id = @p0 AND AssetDocument.wrappedInstance.test_name = @p1");
+    }
+
+    @Test
+    void queryWithComparisonOperators() {
+        AssetSelectorExpression expression = AssetSelectorExpression.Builder.newInstance()
+                .constraint("size", ">=", "10")
+                .constraint("size", "<", "20.5")
+                .constraint("name", "!=", "'it''s'")
+                .build();
+
+        SqlQuerySpec query = builder.from(expression);
+
+        assertThat(query.getQueryText()).isEqualTo("SELECT * FROM AssetDocument WHERE AssetDocument.wrappedInstance.size >= @p0 AND AssetDocument.wrappedInstance.size < @p1 " +
+                "AND AssetDocument.wrappedInstance.name != @p2");
+        assertThat(query.getParameters()).extracting(p -> p.getValue(Object.class)).containsExactly(10L, 20.5, "it's");
+    }
+
+    @Test
+    void queryWithIn() {
+        AssetSelectorExpression expression = AssetSelectorExpression.Builder.newInstance()
+                .constraint("id", "in", "('id-1', 'id,2', 3)")
+                .build();
+
+        SqlQuerySpec query = builder.from(expression);
+
+        assertThat(query.getQueryText()).isEqualTo("SELECT * FROM AssetDocument WHERE AssetDocument.wrappedInstance.id IN (@p0, @p1, @p2)");
+        assertThat(query.getParameters()).extracting(p -> p.getValue(Object.class)).containsExactly("id-1", "id,2", 3L);
+    }
+
+    @Test
+    void queryWithLikeAndContains() {
+        AssetSelectorExpression expression = AssetSelectorExpression.Builder.newInstance()
+                .constraint("name", "LIKE", "'test%'")
+                .constraint("description", "like", "'%test%'")
+                .constraint("tags", "contains", "'red'")
+                .build();
+
+        SqlQuerySpec query = builder.from(expression);
+
+        assertThat(query.getQueryText()).isEqualTo("SELECT * FROM AssetDocument WHERE STARTSWITH(AssetDocument.wrappedInstance.name, @p0) " +
+                "AND AssetDocument.wrappedInstance.description LIKE @p1 AND ARRAY_CONTAINS(AssetDocument.wrappedInstance.tags, @p2)");
+        assertThat(query.getParameters()).extracting(p -> p.getValue(Object.class)).containsExactly("test", "%test%", "red");
+    }
+
+    @Test
+    void throwEdcExceptionIfInOperandIsNotAList() {
+        AssetSelectorExpression expression = AssetSelectorExpression.Builder.newInstance()
+                .constraint("name", "in", "name-test")
+                .build();
+
+        assertThatExceptionOfType(EdcException.class).isThrownBy(() -> builder.from(expression))
+                .withMessage("The operand of IN must be a list in parentheses: name-test");
     }
 
     @Test
     void throwEdcExceptionIfCriterionOperationNotHandled() {
         AssetSelectorExpression expression = AssetSelectorExpression.Builder.newInstance()
                 .whenEquals("id", "id-test")
-                .constraint("name", "in", "name-test")
+                .constraint("name", "matches", "name-test")
                 .build();
 
         assertThatExceptionOfType(EdcException.class).isThrownBy(() -> builder.from(expression))
-                .withMessage("Cannot build SqlParameter for operator: in");
+                .withMessage("Cannot build SqlParameter for operator: matches");
     }
 }
\ No newline at end of file
@@ -1,5 +1,7 @@
 package org.eclipse.dataspaceconnector.contract.definition.store;
 
+import com.azure.cosmos.models.SqlParameter;
+import com.azure.cosmos.models.SqlQuerySpec;
 import net.jodah.failsafe.RetryPolicy;
 import net.jodah.failsafe.function.CheckedSupplier;
 import org.eclipse.dataspaceconnector.contract.definition.store.model.ContractDefinitionDocument;
@@ -8,6 +10,7 @@ import org.eclipse.dataspaceconnector.spi.contract.offer.store.ContractDefinitio
 import org.eclipse.dataspaceconnector.spi.types.TypeManager;
 import org.eclipse.dataspaceconnector.spi.types.domain.contract.offer.ContractDefinition;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.Collection;
 import java.util.List;
@@ -21,15 +24,27 @@ import static net.jodah.failsafe.Failsafe.with;
 
 /**
  * Implementation of the {@link ContractDefinitionStore} based on CosmosDB. This store implements simple write-through
- * caching mechanics: read operations (e.g. findAll) hit the cache, while write operations affect both the cache AND the
- * database.
+ * caching mechanics: read operations (e.g. findAll, findById) hit the cache, which is indexed by definition id, while write
+ * operations affect both the cache AND the database.
+ * <p>
+ * The first {@link #reload()} loads all definitions. Subsequent reloads only query the documents that were modified since
+ * the last one, using the {@code _ts} system property Cosmos DB maintains for every document. Documents deleted by other
+ * runtimes do not show up in that query, so the store then compares its size and latest timestamp with the document count
+ * and the latest {@code _ts} of the container, and falls back to a full reload if either differs. The count alone would
+ * miss a deletion offset by an insertion that was committed after the query for modified documents.
  */
 public class CosmosContractDefinitionStore implements ContractDefinitionStore {
+    private static final String TIMESTAMP_PROPERTY = "_ts";
+    private static final String MODIFIED_SINCE_QUERY = "SELECT * FROM c WHERE c._ts >= @ts";
+    private static final String COUNT_QUERY = "SELECT VALUE COUNT(1) FROM c";
+    private static final String LAST_MODIFIED_QUERY = "SELECT VALUE MAX(c._ts) FROM c";
+
     private final CosmosDbApi cosmosDbApi;
     private final TypeManager typeManager;
     private final RetryPolicy<Object> retryPolicy;
     private final AtomicReference<Map<String, ContractDefinition>> objectCache;
     private final ReentrantReadWriteLock lock; //used to synchronize write operations to the cache and the DB
+    private long lastModified = -1; // the highest _ts seen in the database, -1 until the first reload
 
     public CosmosContractDefinitionStore(CosmosDbApi cosmosDbApi, TypeManager typeManager, RetryPolicy<Object> retryPolicy) {
         this.cosmosDbApi = cosmosDbApi;
@@ -44,6 +59,11 @@ public class CosmosContractDefinitionStore implements ContractDefinitionStore {
         return objectCache.get().values();
     }
 
+    @Override
+    public @Nullable ContractDefinition findById(String definitionId) {
+        return objectCache.get().get(definitionId);
+    }
+
     @Override
     public void save(Collection<ContractDefinition> definitions) {
         lock.writeLock().lock();
@@ -68,37 +88,77 @@ public class CosmosContractDefinitionStore implements ContractDefinitionStore {
 
     @Override
     public void update(ContractDefinition definition) {
+        save(definition); //cosmos db api internally uses "upsert" semantics
+    }
+
+    @Override
+    public void delete(String id) {
         lock.writeLock().lock();
         try {
-            save(definition); //cosmos db api internally uses "upsert" semantics
-            storeInCache(definition);
+            // the partition key of a cached definition is known, so it can be deleted without querying it first
+            var cached = objectCache.get().get(id);
+            if (cached != null) {
+                cosmosDbApi.deleteItem(id, convertToDocument(cached).getPartitionKey());
+            } else {
+                cosmosDbApi.deleteItem(id);
+            }
+            objectCache.get().remove(id);
         } finally {
             lock.writeLock().unlock();
         }
     }
 
-    @Override
-    public void delete(String id) {
-        cosmosDbApi.deleteItem(id);
-    }
-
     @Override
     public void reload() {
-        lock.readLock().lock();
+        // the write lock prevents a reload from resurrecting a definition that is deleted concurrently
+        lock.writeLock().lock();
         try {
-            // this reloads ALL items from the database. We might want something more elaborate in the future, especially
-            // if large amounts of ContractDefinitions need to be held in memory
-            var databaseObjects = with(retryPolicy)
-                    .get((CheckedSupplier<List<Object>>) cosmosDbApi::queryAllItems)
-                    .stream()
-                    .map(this::convert)
-                    .collect(Collectors.toMap(ContractDefinition::getId, cd -> cd));
-
-            objectCache.set(databaseObjects);
+            if (lastModified < 0 || !reloadModified()) {
+                reloadAll();
+            }
         } finally {
-            lock.readLock().unlock();
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Merges the documents modified since the last reload into the cache. Queries from the last timestamp inclusively, as
+     * {@code _ts} has a resolution of one second.
+     *
+     * @return false if the cache may still differ from the database, e.g. documents have been deleted by another runtime
+     */
+    private boolean reloadModified() {
+        var query = new SqlQuerySpec(MODIFIED_SINCE_QUERY, new SqlParameter("@ts", lastModified));
+        var modified = with(retryPolicy).get((CheckedSupplier<List<Object>>) () -> cosmosDbApi.queryItems(query).collect(Collectors.toList()));
+        var cache = objectCache.get();
+        for (var object : modified) {
+            var definition = convert(object);
+            cache.put(definition.getId(), definition);
+            lastModified = Math.max(lastModified, timestamp(object));
         }
+        var count = queryLong(COUNT_QUERY);
+        var databaseLastModified = queryLong(LAST_MODIFIED_QUERY);
+        return count == cache.size() && databaseLastModified == lastModified;
+    }
 
+    /**
+     * Runs a query for a single number, returning 0 if the query has no result, e.g. an aggregate over an empty container.
+     */
+    private long queryLong(String query) {
+        return with(retryPolicy).get((CheckedSupplier<Long>) () -> cosmosDbApi.queryItems(query).findFirst().map(c -> ((Number) c).longValue()).orElse(0L));
+    }
+
+    private void reloadAll() {
+        var databaseObjects = with(retryPolicy).get((CheckedSupplier<List<Object>>) cosmosDbApi::queryAllItems);
+        var definitions = new ConcurrentHashMap<String, ContractDefinition>();
+        long timestamp = 0;
+        for (var object : databaseObjects) {
+            var definition = convert(object);
+            definitions.put(definition.getId(), definition);
+            timestamp = Math.max(timestamp, timestamp(object));
+        }
+        objectCache.set(definitions);
+        lastModified = timestamp;
     }
 
     private void storeInCache(ContractDefinition definition) {
@@ -115,4 +175,17 @@ public class CosmosContractDefinitionStore implements ContractDefinitionStore {
         var json = typeManager.writeValueAsString(object);
         return typeManager.readValue(json, ContractDefinitionDocument.class).getWrappedInstance();
     }
+
+    /**
+     * Returns the Cosmos DB modification timestamp of a queried document, or 0 if it has none.
+     */
+    private long timestamp(Object object) {
+        if (object instanceof Map) {
+            var timestamp = ((Map<?, ?>) object).get(TIMESTAMP_PROPERTY);
+            if (timestamp instanceof Number) {
+                return ((Number) timestamp).longValue();
+            }
+        }
+        return 0;
+    }
 }
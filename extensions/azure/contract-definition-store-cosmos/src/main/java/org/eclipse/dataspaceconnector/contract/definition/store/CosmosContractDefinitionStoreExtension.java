@@ -24,7 +24,9 @@ import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
 import org.eclipse.dataspaceconnector.spi.security.Vault;
 import org.eclipse.dataspaceconnector.spi.system.ServiceExtension;
 import org.eclipse.dataspaceconnector.spi.system.ServiceExtensionContext;
+import org.eclipse.dataspaceconnector.spi.types.domain.contract.offer.ContractDefinition;
 
+import java.util.Collection;
 import java.util.Set;
 
 public class CosmosContractDefinitionStoreExtension implements ServiceExtension {
@@ -50,7 +52,17 @@ public class CosmosContractDefinitionStoreExtension implements ServiceExtension
         var store = new CosmosContractDefinitionStore(cosmosDbApi, context.getTypeManager(), (RetryPolicy<Object>) context.getService(RetryPolicy.class));
         context.registerService(ContractDefinitionStore.class, store);
 
-        ContractDefinitionLoader loader = store::save;
+        var loader = new ContractDefinitionLoader() {
+            @Override
+            public void accept(ContractDefinition item) {
+                store.save(item);
+            }
+
+            @Override
+            public void acceptAll(Collection<ContractDefinition> items) {
+                store.save(items);
+            }
+        };
         context.registerService(ContractDefinitionLoader.class, loader);
 
         context.getTypeManager().registerTypes(ContractDefinitionDocument.class);
@@ -1,5 +1,6 @@
 package org.eclipse.dataspaceconnector.contract.definition.store;
 
+import com.azure.cosmos.models.SqlQuerySpec;
 import net.jodah.failsafe.RetryPolicy;
 import org.easymock.Capture;
 import org.eclipse.dataspaceconnector.contract.definition.store.model.ContractDefinitionDocument;
@@ -9,11 +10,14 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.easymock.EasyMock.capture;
 import static org.easymock.EasyMock.expect;
 import static org.easymock.EasyMock.expectLastCall;
+import static org.easymock.EasyMock.isA;
 import static org.easymock.EasyMock.newCapture;
 import static org.easymock.EasyMock.notNull;
 import static org.easymock.EasyMock.replay;
@@ -25,11 +29,12 @@ import static org.eclipse.dataspaceconnector.contract.definition.store.TestFunct
 class CosmosContractDefinitionStoreTest {
     private CosmosContractDefinitionStore store;
     private CosmosDbApi cosmosDbApiMock;
+    private TypeManager typeManager;
 
     @BeforeEach
     void setup() {
         cosmosDbApiMock = strictMock(CosmosDbApi.class);
-        var typeManager = new TypeManager();
+        typeManager = new TypeManager();
         var retryPolicy = new RetryPolicy<>();
         store = new CosmosContractDefinitionStore(cosmosDbApiMock, typeManager, retryPolicy);
     }
@@ -47,6 +52,19 @@ class CosmosContractDefinitionStoreTest {
         verify(cosmosDbApiMock);
     }
 
+    @Test
+    void findById() {
+        var doc1 = generateDocument();
+        var doc2 = generateDocument();
+        expect(cosmosDbApiMock.queryAllItems()).andReturn(List.of(doc1, doc2));
+        replay(cosmosDbApiMock);
+
+        store.reload();
+        assertThat(store.findById(doc2.getId())).isEqualTo(doc2.getWrappedInstance());
+        assertThat(store.findById("not-exist")).isNull();
+        verify(cosmosDbApiMock);
+    }
+
     @Test
     void findAll_noReload() {
         replay(cosmosDbApiMock);
@@ -107,9 +125,83 @@ class CosmosContractDefinitionStoreTest {
         verify(cosmosDbApiMock);
     }
 
+    @Test
+    void delete_removesFromCache() {
+        var def = generateDefinition();
+        cosmosDbApiMock.saveItem(isA(ContractDefinitionDocument.class));
+        cosmosDbApiMock.deleteItem(def.getId(), def.getAccessPolicy().getUid());
+        replay(cosmosDbApiMock);
+
+        store.save(def);
+        store.delete(def.getId());
+        assertThat(store.findById(def.getId())).isNull();
+        verify(cosmosDbApiMock);
+    }
+
+    @Test
+    void reload_onlyQueriesModifiedDocuments() {
+        var doc1 = generateDocument();
+        var doc2 = generateDocument();
+        expect(cosmosDbApiMock.queryAllItems()).andReturn(List.of(withTimestamp(doc1, 100)));
+        expect(cosmosDbApiMock.queryItems(isA(SqlQuerySpec.class))).andReturn(Stream.of(withTimestamp(doc2, 200)));
+        expect(cosmosDbApiMock.queryItems("SELECT VALUE COUNT(1) FROM c")).andReturn(Stream.of(2));
+        expect(cosmosDbApiMock.queryItems("SELECT VALUE MAX(c._ts) FROM c")).andReturn(Stream.of(200));
+        replay(cosmosDbApiMock);
+
+        store.reload();
+        store.reload();
+        assertThat(store.findAll()).containsExactlyInAnyOrder(doc1.getWrappedInstance(), doc2.getWrappedInstance());
+        verify(cosmosDbApiMock);
+    }
+
+    @Test
+    void reload_fallsBackToFullReloadWhenDocumentsWereDeleted() {
+        var doc1 = generateDocument();
+        expect(cosmosDbApiMock.queryAllItems()).andReturn(List.of(withTimestamp(doc1, 100)));
+        expect(cosmosDbApiMock.queryItems(isA(SqlQuerySpec.class))).andReturn(Stream.empty());
+        expect(cosmosDbApiMock.queryItems("SELECT VALUE COUNT(1) FROM c")).andReturn(Stream.of(0));
+        expect(cosmosDbApiMock.queryItems("SELECT VALUE MAX(c._ts) FROM c")).andReturn(Stream.empty());
+        expect(cosmosDbApiMock.queryAllItems()).andReturn(List.of());
+        replay(cosmosDbApiMock);
+
+        store.reload();
+        store.reload();
+        assertThat(store.findAll()).isEmpty();
+        verify(cosmosDbApiMock);
+    }
+
+    @Test
+    void reload_fallsBackToFullReloadWhenDeletionIsOffsetByInsertion() {
+        var doc1 = generateDocument();
+        var doc2 = generateDocument();
+        var doc3 = generateDocument();
+        expect(cosmosDbApiMock.queryAllItems()).andReturn(List.of(withTimestamp(doc1, 100), withTimestamp(doc2, 200)));
+        // doc2 is deleted and doc3 inserted by another runtime after the query for modified documents
+        expect(cosmosDbApiMock.queryItems(isA(SqlQuerySpec.class))).andReturn(Stream.empty());
+        expect(cosmosDbApiMock.queryItems("SELECT VALUE COUNT(1) FROM c")).andReturn(Stream.of(2));
+        expect(cosmosDbApiMock.queryItems("SELECT VALUE MAX(c._ts) FROM c")).andReturn(Stream.of(300));
+        expect(cosmosDbApiMock.queryAllItems()).andReturn(List.of(withTimestamp(doc1, 100), withTimestamp(doc3, 300)));
+        replay(cosmosDbApiMock);
+
+        store.reload();
+        store.reload();
+        assertThat(store.findAll()).containsExactlyInAnyOrder(doc1.getWrappedInstance(), doc3.getWrappedInstance());
+        verify(cosmosDbApiMock);
+    }
+
     @Test
     void reload() {
         replay(cosmosDbApiMock);
         verify(cosmosDbApiMock);
     }
+
+    /**
+     * Returns the document as the Cosmos DB client does, including the modification timestamp.
+     */
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> withTimestamp(ContractDefinitionDocument document, long timestamp) {
+        var map = (Map<String, Object>) typeManager.getMapper().convertValue(document, Map.class);
+        map.put("_ts", timestamp);
+        return map;
+    }
 }
\ No newline at end of file
@@ -36,7 +36,7 @@ public class CosmosContractDefinitionStoreExtension implements ServiceExtension
 
     @Override
     public Set<String> provides() {
-        return Set.of(ContractDefinitionStore.FEATURE, ContractDefinitionLoader.FEATURE);
+        return Set.of(ContractDefinitionStore.FEATURE, ContractDefinitionLoader.FEATURE, ContractNegotiationStore.FEATURE);
     }
 
     @Override
@@ -86,6 +86,15 @@ public class CosmosContractNegotiationStore implements ContractNegotiationStore
         return list.stream().map(this::toNegotiation).collect(Collectors.toList());
     }
 
+    @Override
+    public @NotNull List<ContractNegotiation> findOlderThan(int state, long stateTimestamp, int max) {
+        final String query = "SELECT TOP @max * FROM c WHERE c.wrappedInstance.state = @state AND c.wrappedInstance.stateTimestamp < @stateTimestamp ORDER BY c.wrappedInstance.stateTimestamp";
+        var spec = new SqlQuerySpec(query, new SqlParameter("@max", max), new SqlParameter("@state", state), new SqlParameter("@stateTimestamp", stateTimestamp));
+
+        var objects = with(retryPolicy).get(() -> cosmosDbApi.queryItems(spec));
+        return objects.map(this::toNegotiation).collect(Collectors.toList());
+    }
+
 
     private ContractNegotiation toNegotiation(Object object) {
         var json = typeManager.writeValueAsString(object);
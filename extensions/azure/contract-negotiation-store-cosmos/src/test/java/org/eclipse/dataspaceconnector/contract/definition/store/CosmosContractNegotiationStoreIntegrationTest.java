@@ -218,6 +218,17 @@ public class CosmosContractNegotiationStoreIntegrationTest {
     }
 
 
+    @Test
+    void findOlderThan_doesNotLease() {
+        var state = ContractNegotiationStates.REQUESTED;
+        var n = generateNegotiation(state);
+        container.createItem(new ContractNegotiationDocument(n));
+
+        assertThat(store.findOlderThan(state.code(), n.getStateTimestamp() + 1, 10)).containsExactly(n);
+        assertThat(store.findOlderThan(state.code(), n.getStateTimestamp(), 10)).isEmpty();
+        assertThat(store.nextForState(state.code(), 10)).containsExactly(n);
+    }
+
     @Test
     void nextForState_noResult() {
         var state = ContractNegotiationStates.CONFIRMED;
@@ -106,4 +106,14 @@ class CosmosContractNegotiationStoreTest {
         store.nextForState(state.code(), 100);
         verify(cosmosDbApiMock);
     }
-}
\ No newline at end of file
+
+    @Test
+    void findOlderThan() {
+        var doc = generateDocument();
+        expect(cosmosDbApiMock.queryItems(anyObject(SqlQuerySpec.class))).andReturn(Stream.of(doc));
+        replay(cosmosDbApiMock);
+
+        assertThat(store.findOlderThan(doc.getWrappedInstance().getState(), 100, 10)).containsExactly(doc.getWrappedInstance());
+        verify(cosmosDbApiMock);
+    }
+}
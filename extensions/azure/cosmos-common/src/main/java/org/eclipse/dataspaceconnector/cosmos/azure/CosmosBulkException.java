@@ -0,0 +1,38 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.cosmos.azure;
+
+import org.eclipse.dataspaceconnector.spi.EdcException;
+
+import java.util.Map;
+
+/**
+ * Thrown if some operations of a bulk request failed. All other operations of the request have been applied.
+ */
+public class CosmosBulkException extends EdcException {
+    private final Map<String, Integer> failures;
+
+    public CosmosBulkException(Map<String, Integer> failures) {
+        super(String.format("%d CosmosDB bulk operations failed: %s", failures.size(), failures));
+        this.failures = Map.copyOf(failures);
+    }
+
+    /**
+     * Returns the ids of the documents that could not be written, mapped to the status code of the failed operation.
+     */
+    public Map<String, Integer> getFailures() {
+        return failures;
+    }
+}
@@ -23,9 +23,40 @@ public interface CosmosDbApi {
 
     Stream<Object> queryItems(String query);
 
+    /**
+     * Fetches one page of query results, so that large result sets can be consumed incrementally.
+     *
+     * @param continuationToken the token of the previous page, or null to fetch the first page
+     * @param pageSize          the preferred maximum number of items of the page
+     */
+    CosmosQueryPage queryItems(SqlQuerySpec querySpec, @Nullable String continuationToken, int pageSize);
+
     void deleteItem(String id);
 
+    /**
+     * Deletes a document without querying it first.
+     */
+    void deleteItem(String id, String partitionKey);
+
+    /**
+     * Stores all documents, replacing existing ones, with bulk requests. Operations that are throttled are retried after the delay the database requests.
+     *
+     * @throws CosmosBulkException if some documents could not be stored, all others have been stored
+     */
     void createItems(Collection<CosmosDocument<?>> definitions);
 
+    /**
+     * Deletes the documents of a partition with bulk requests. Documents that do not exist are ignored.
+     *
+     * @throws CosmosBulkException if some documents could not be deleted, all others have been deleted
+     */
+    void deleteItems(Collection<String> ids, String partitionKey);
+
+    /**
+     * Stores and deletes documents of a single partition in one transaction, so either all operations are applied or none. A transaction is limited to 100
+     * operations.
+     */
+    void executeTransaction(String partitionKey, Collection<? extends CosmosDocument<?>> items, Collection<String> deletedIds);
+
     <T> String invokeStoredProcedure(String procedureName, String partitionKey, Object... args);
 }
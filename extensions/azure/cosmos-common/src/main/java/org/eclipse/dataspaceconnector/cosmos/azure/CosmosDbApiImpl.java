@@ -8,7 +8,10 @@ import com.azure.cosmos.CosmosDatabase;
 import com.azure.cosmos.CosmosException;
 import com.azure.cosmos.CosmosStoredProcedure;
 import com.azure.cosmos.implementation.NotFoundException;
+import com.azure.cosmos.models.BulkOperations;
+import com.azure.cosmos.models.CosmosBulkOperationResponse;
 import com.azure.cosmos.models.CosmosDatabaseResponse;
+import com.azure.cosmos.models.CosmosItemOperation;
 import com.azure.cosmos.models.CosmosItemRequestOptions;
 import com.azure.cosmos.models.CosmosItemResponse;
 import com.azure.cosmos.models.CosmosQueryRequestOptions;
@@ -17,22 +20,32 @@ import com.azure.cosmos.models.CosmosStoredProcedureResponse;
 import com.azure.cosmos.models.PartitionKey;
 import com.azure.cosmos.models.SqlParameter;
 import com.azure.cosmos.models.SqlQuerySpec;
+import com.azure.cosmos.models.TransactionalBatch;
 import org.eclipse.dataspaceconnector.common.string.StringUtils;
 import org.eclipse.dataspaceconnector.spi.EdcException;
 import org.eclipse.dataspaceconnector.spi.security.Vault;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 public class CosmosDbApiImpl implements CosmosDbApi {
 
     private static final String HOST_TEMPLATE = "https://%s.documents.azure.com:443/";
+    private static final int NOT_FOUND = 404;
+    private static final int TOO_MANY_REQUESTS = 429;
+    private static final int MAX_BULK_ATTEMPTS = 10;
+    private static final int MAX_TRANSACTION_OPERATIONS = 100;
+    private static final Duration DEFAULT_RETRY_AFTER = Duration.ofMillis(100);
 
     private final CosmosItemRequestOptions itemRequestOptions;
     private final CosmosQueryRequestOptions queryRequestOptions;
@@ -162,6 +175,20 @@ public class CosmosDbApiImpl implements CosmosDbApi {
         }
     }
 
+    @Override
+    public CosmosQueryPage queryItems(SqlQuerySpec querySpec, @Nullable String continuationToken, int pageSize) {
+        try {
+            var pages = container.queryItems(querySpec, queryRequestOptions, Object.class).iterableByPage(continuationToken, pageSize).iterator();
+            if (!pages.hasNext()) {
+                return new CosmosQueryPage(List.of(), null);
+            }
+            var page = pages.next();
+            return new CosmosQueryPage(page.getResults(), page.getContinuationToken());
+        } catch (CosmosException e) {
+            throw new EdcException(e);
+        }
+    }
+
     @Override
     public void deleteItem(String id) {
 
@@ -177,9 +204,54 @@ public class CosmosDbApiImpl implements CosmosDbApi {
         }
     }
 
+    @Override
+    public void deleteItem(String id, String partitionKey) {
+        try {
+            container.deleteItem(id, new PartitionKey(partitionKey), itemRequestOptions);
+        } catch (CosmosException e) {
+            throw new EdcException(e);
+        }
+    }
+
     @Override
     public void createItems(Collection<CosmosDocument<?>> definitions) {
-        definitions.forEach(this::saveItem);
+        var operations = definitions.stream()
+                .map(document -> BulkOperations.getUpsertItemOperation(document, new PartitionKey(document.getPartitionKey())))
+                .collect(Collectors.toList());
+        executeBulk(operations, Set.of());
+    }
+
+    @Override
+    public void deleteItems(Collection<String> ids, String partitionKey) {
+        var key = new PartitionKey(partitionKey);
+        var operations = ids.stream()
+                .map(id -> BulkOperations.getDeleteItemOperation(id, key))
+                .collect(Collectors.toList());
+        executeBulk(operations, Set.of(NOT_FOUND));
+    }
+
+    @Override
+    public void executeTransaction(String partitionKey, Collection<? extends CosmosDocument<?>> items, Collection<String> deletedIds) {
+        if (items.isEmpty() && deletedIds.isEmpty()) {
+            return;
+        }
+        if (items.size() + deletedIds.size() > MAX_TRANSACTION_OPERATIONS) {
+            throw new IllegalArgumentException("A transaction can contain at most " + MAX_TRANSACTION_OPERATIONS + " operations");
+        }
+        if (items.stream().anyMatch(item -> !partitionKey.equals(item.getPartitionKey()))) {
+            throw new IllegalArgumentException("All documents of a transaction must be in partition " + partitionKey);
+        }
+        var batch = TransactionalBatch.createTransactionalBatch(new PartitionKey(partitionKey));
+        items.forEach(batch::upsertItemOperation);
+        deletedIds.forEach(batch::deleteItemOperation);
+        try {
+            var response = container.executeTransactionalBatch(batch);
+            if (!response.isSuccessStatusCode()) {
+                throw new EdcException(String.format("CosmosDB transaction failed with status %d: %s", response.getStatusCode(), response.getErrorMessage()));
+            }
+        } catch (CosmosException e) {
+            throw new EdcException(e);
+        }
     }
 
     @Override
@@ -199,5 +271,70 @@ public class CosmosDbApiImpl implements CosmosDbApi {
         return container.getScripts().getStoredProcedure(sprocName);
     }
 
+    /**
+     * Executes the operations with the bulk executor of the SDK. Operations that are throttled because the container ran out of request units are
+     * resubmitted after the longest delay the database requested, so that large bulk requests adapt to the provisioned throughput. All other failures
+     * are collected and reported together once every operation has been attempted.
+     */
+    private void executeBulk(List<CosmosItemOperation> operations, Set<Integer> ignoredStatusCodes) {
+        var failures = new HashMap<String, Integer>();
+        var pending = operations;
+        for (var attempt = 1; !pending.isEmpty(); attempt++) {
+            List<CosmosBulkOperationResponse<Object>> responses;
+            try {
+                responses = container.processBulkOperations(pending);
+            } catch (CosmosException e) {
+                throw new EdcException(e);
+            }
+            var throttled = new ArrayList<CosmosItemOperation>();
+            var retryAfter = Duration.ZERO;
+            for (var response : responses) {
+                var statusCode = statusCode(response);
+                if (statusCode == TOO_MANY_REQUESTS && attempt < MAX_BULK_ATTEMPTS) {
+                    throttled.add(response.getOperation());
+                    var delay = retryAfter(response);
+                    retryAfter = delay.compareTo(retryAfter) > 0 ? delay : retryAfter;
+                } else if ((statusCode < 200 || statusCode >= 300) && !ignoredStatusCodes.contains(statusCode)) {
+                    failures.put(response.getOperation().getId(), statusCode);
+                }
+            }
+            if (!throttled.isEmpty()) {
+                sleep(retryAfter);
+            }
+            pending = throttled;
+        }
+        if (!failures.isEmpty()) {
+            throw new CosmosBulkException(failures);
+        }
+    }
+
+    private static int statusCode(CosmosBulkOperationResponse<?> response) {
+        if (response.getResponse() != null) {
+            return response.getResponse().getStatusCode();
+        }
+        // the operation failed without a response, e.g. because of a timeout
+        var exception = response.getException();
+        return exception instanceof CosmosException ? ((CosmosException) exception).getStatusCode() : 500;
+    }
+
+    private static Duration retryAfter(CosmosBulkOperationResponse<?> response) {
+        Duration retryAfter = null;
+        if (response.getResponse() != null) {
+            retryAfter = response.getResponse().getRetryAfterDuration();
+        } else if (response.getException() instanceof CosmosException) {
+            retryAfter = ((CosmosException) response.getException()).getRetryAfterDuration();
+        }
+        return retryAfter != null && !retryAfter.isZero() ? retryAfter : DEFAULT_RETRY_AFTER;
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new EdcException(e);
+        }
+    }
+
 
 }
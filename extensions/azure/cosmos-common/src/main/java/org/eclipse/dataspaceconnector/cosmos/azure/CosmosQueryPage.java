@@ -0,0 +1,44 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.cosmos.azure;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * One page of query results and the continuation token that fetches the next page.
+ */
+public class CosmosQueryPage {
+    private final List<Object> items;
+    private final String continuationToken;
+
+    public CosmosQueryPage(List<Object> items, @Nullable String continuationToken) {
+        this.items = items;
+        this.continuationToken = continuationToken;
+    }
+
+    public List<Object> getItems() {
+        return items;
+    }
+
+    /**
+     * Returns the token that continues the query after this page, or null if this is the last page.
+     */
+    @Nullable
+    public String getContinuationToken() {
+        return continuationToken;
+    }
+}
@@ -9,6 +9,7 @@ import com.azure.cosmos.models.CosmosDatabaseResponse;
 import com.azure.cosmos.models.CosmosItemRequestOptions;
 import com.azure.cosmos.models.PartitionKey;
 import org.eclipse.dataspaceconnector.common.annotations.IntegrationTest;
+import org.eclipse.dataspaceconnector.spi.EdcException;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
@@ -18,9 +19,11 @@ import org.junit.jupiter.api.Test;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.eclipse.dataspaceconnector.common.configuration.ConfigurationFunctions.propOrEnv;
 
 @IntegrationTest
@@ -144,4 +147,53 @@ class CosmosDbApiImplIntegrationTest {
         assertThat(result).hasSize(2);
     }
 
-}
\ No newline at end of file
+    @Test
+    void createItems() {
+        var items = new ArrayList<CosmosDocument<?>>();
+        for (var i = 0; i < 150; i++) {
+            var testItem = new TestCosmosDocument("payload-" + i, i % 2 == 0 ? PARTITION_KEY : "another-partkey");
+            items.add(testItem);
+            record.add(testItem);
+        }
+
+        cosmosDbApi.createItems(items);
+
+        assertThat(cosmosDbApi.queryAllItems()).hasSize(150);
+    }
+
+    @Test
+    void deleteItems() {
+        var testItem = new TestCosmosDocument("payload", PARTITION_KEY);
+        container.createItem(testItem);
+        var testItem2 = new TestCosmosDocument("payload", PARTITION_KEY);
+        container.createItem(testItem2);
+        record.add(testItem2);
+
+        cosmosDbApi.deleteItems(List.of(testItem.getId(), "not-exists"), PARTITION_KEY);
+
+        assertThat(cosmosDbApi.queryAllItems()).hasSize(1);
+    }
+
+    @Test
+    void executeTransaction() {
+        var testItem = new TestCosmosDocument("payload", PARTITION_KEY);
+        container.createItem(testItem);
+        var testItem2 = new TestCosmosDocument("payload-two", PARTITION_KEY);
+        record.add(testItem2);
+
+        cosmosDbApi.executeTransaction(PARTITION_KEY, List.of(testItem2), List.of(testItem.getId()));
+
+        assertThat(cosmosDbApi.queryItemById(testItem.getId())).isNull();
+        assertThat(cosmosDbApi.queryItemById(testItem2.getId(), PARTITION_KEY)).isNotNull();
+    }
+
+    @Test
+    void executeTransaction_failedOperationRollsBack() {
+        var testItem = new TestCosmosDocument("payload", PARTITION_KEY);
+
+        assertThatThrownBy(() -> cosmosDbApi.executeTransaction(PARTITION_KEY, List.of(testItem), List.of("not-exists")))
+                .isInstanceOf(EdcException.class);
+
+        assertThat(cosmosDbApi.queryItemById(testItem.getId())).isNull();
+    }
+}
@@ -26,10 +26,13 @@ import com.azure.cosmos.models.CosmosQueryRequestOptions;
 import com.azure.cosmos.models.CosmosStoredProcedureRequestOptions;
 import com.azure.cosmos.models.CosmosStoredProcedureResponse;
 import com.azure.cosmos.models.PartitionKey;
+import com.azure.cosmos.models.SqlParameter;
+import com.azure.cosmos.models.SqlQuerySpec;
 import net.jodah.failsafe.FailsafeExecutor;
 import net.jodah.failsafe.Fallback;
 import net.jodah.failsafe.RetryPolicy;
 import org.eclipse.dataspaceconnector.spi.EdcException;
+import org.eclipse.dataspaceconnector.spi.transfer.store.TransferProcessQuery;
 import org.eclipse.dataspaceconnector.spi.transfer.store.TransferProcessStore;
 import org.eclipse.dataspaceconnector.spi.types.TypeManager;
 import org.eclipse.dataspaceconnector.spi.types.domain.transfer.TransferProcess;
@@ -38,6 +41,7 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -150,6 +154,44 @@ public class CosmosTransferProcessStore implements TransferProcessStore {
     }
 
 
+    @Override
+    public @NotNull List<TransferProcess> query(TransferProcessQuery query) {
+        var conditions = new ArrayList<String>();
+        var parameters = new ArrayList<SqlParameter>();
+        if (query.getState() != null) {
+            conditions.add("t.state = @state");
+            parameters.add(new SqlParameter("@state", query.getState()));
+        }
+        if (query.getAssetId() != null) {
+            conditions.add("t.dataRequest.assetId = @assetId");
+            parameters.add(new SqlParameter("@assetId", query.getAssetId()));
+        }
+        if (query.getFrom() != null) {
+            conditions.add("t.stateTimestamp >= @from");
+            parameters.add(new SqlParameter("@from", query.getFrom()));
+        }
+        if (query.getTo() != null) {
+            conditions.add("t.stateTimestamp < @to");
+            parameters.add(new SqlParameter("@to", query.getTo()));
+        }
+        var where = conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions);
+        var sql = "SELECT * FROM t" + where + " ORDER BY t.stateTimestamp ASC OFFSET @offset LIMIT @limit";
+        parameters.add(new SqlParameter("@offset", query.getOffset()));
+        parameters.add(new SqlParameter("@limit", query.getLimit()));
+
+        var options = new CosmosQueryRequestOptions();
+        options.setPartitionKey(new PartitionKey(partitionKey));
+        try {
+            var response = failsafeExecutor.get(() -> container.queryItems(new SqlQuerySpec(sql, parameters), options, Object.class));
+            return response.stream()
+                    .map(this::convertObject)
+                    .map(TransferProcessDocument::getWrappedInstance)
+                    .collect(Collectors.toList());
+        } catch (CosmosException ex) {
+            throw new EdcException(ex);
+        }
+    }
+
     @Override
     public void create(TransferProcess process) {
 
@@ -15,6 +15,7 @@
 package org.eclipse.dataspaceconnector.security.azure;
 
 import com.azure.core.credential.TokenCredential;
+import com.azure.core.exception.HttpResponseException;
 import com.azure.core.exception.ResourceNotFoundException;
 import com.azure.core.util.polling.SyncPoller;
 import com.azure.identity.ClientCertificateCredentialBuilder;
@@ -24,11 +25,14 @@ import com.azure.security.keyvault.secrets.SecretClientBuilder;
 import com.azure.security.keyvault.secrets.models.DeletedSecret;
 import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
 import org.eclipse.dataspaceconnector.spi.security.Vault;
+import org.eclipse.dataspaceconnector.spi.security.VaultListener;
 import org.eclipse.dataspaceconnector.spi.security.VaultResponse;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.TimeoutException;
 
 /**
@@ -38,6 +42,7 @@ public class AzureVault implements Vault {
 
     private final SecretClient secretClient;
     private final Monitor monitor;
+    private final Collection<VaultListener> listeners = new ConcurrentLinkedQueue<>();
 
     private AzureVault(TokenCredential credential, Monitor monitor, String keyVaultUri) {
         this.monitor = monitor;
@@ -78,6 +83,14 @@ public class AzureVault implements Vault {
         } catch (ResourceNotFoundException ex) {
             monitor.severe("Secret not found!", ex);
             return null;
+        } catch (HttpResponseException ex) {
+            var status = ex.getResponse() != null ? ex.getResponse().getStatusCode() : 0;
+            if (status == 429 || status >= 500) {
+                // the secret may exist: let callers (e.g. a caching vault) tell this apart from a missing secret
+                throw new AzureVaultException("Azure Key Vault unavailable (HTTP " + status + ")", ex);
+            }
+            monitor.severe("Error accessing secret:", ex);
+            return null;
         } catch (Exception ex) {
             monitor.severe("Error accessing secret:", ex);
             return null;
@@ -97,27 +110,26 @@ public class AzureVault implements Vault {
     @Override
     public VaultResponse storeSecret(String key, String value) {
         try {
-            key = sanitizeKey(key);
-            var secret = secretClient.setSecret(key, value);
+            secretClient.setSecret(sanitizeKey(key), value);
             monitor.debug("storing secret successful");
-            return VaultResponse.OK;
         } catch (Exception ex) {
             monitor.severe("Error storing secret", ex);
             return new VaultResponse(ex.getMessage());
         }
+        listeners.forEach(listener -> notifyListener(listener, key));
+        return VaultResponse.OK;
     }
 
     @Override
     public VaultResponse deleteSecret(String key) {
-        key = sanitizeKey(key);
+        var sanitizedKey = sanitizeKey(key);
         SyncPoller<DeletedSecret, Void> poller = null;
         try {
-            poller = secretClient.beginDeleteSecret(key);
+            poller = secretClient.beginDeleteSecret(sanitizedKey);
             monitor.debug("Begin deleting secret");
             poller.waitForCompletion(Duration.ofMinutes(1));
 
             monitor.debug("deletion complete");
-            return VaultResponse.OK;
         } catch (ResourceNotFoundException ex) {
             monitor.severe("Error deleting secret - does not exist!");
             return new VaultResponse(ex.getMessage());
@@ -137,10 +149,34 @@ public class AzureVault implements Vault {
             return new VaultResponse(re.getMessage());
         } finally {
             try {
-                secretClient.purgeDeletedSecret(key);
+                secretClient.purgeDeletedSecret(sanitizedKey);
             } catch (Exception e) {
                 monitor.severe("Error purging secret from AzureVault", e);
             }
         }
+        listeners.forEach(listener -> notifyListener(listener, key));
+        return VaultResponse.OK;
+    }
+
+    /**
+     * Listeners are notified of changes made through this instance. Secrets rotated directly in Azure Key Vault are not
+     * observed.
+     */
+    @Override
+    public void registerListener(VaultListener listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public void unregisterListener(VaultListener listener) {
+        listeners.remove(listener);
+    }
+
+    private void notifyListener(VaultListener listener, String key) {
+        try {
+            listener.secretChanged(key);
+        } catch (RuntimeException e) {
+            monitor.severe("Error notifying vault listener of changed secret " + key, e);
+        }
     }
 }
@@ -18,4 +18,8 @@ public class AzureVaultException extends RuntimeException {
     public AzureVaultException(String message) {
         super(message);
     }
+
+    public AzureVaultException(String message, Throwable cause) {
+        super(message, cause);
+    }
 }
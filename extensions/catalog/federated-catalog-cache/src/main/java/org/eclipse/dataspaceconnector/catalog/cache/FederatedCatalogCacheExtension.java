@@ -22,6 +22,7 @@ import org.eclipse.dataspaceconnector.catalog.spi.QueryEngine;
 import org.eclipse.dataspaceconnector.catalog.spi.WorkItem;
 import org.eclipse.dataspaceconnector.catalog.spi.WorkItemQueue;
 import org.eclipse.dataspaceconnector.catalog.spi.model.UpdateResponse;
+import org.eclipse.dataspaceconnector.spi.metrics.MetricRegistry;
 import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
 import org.eclipse.dataspaceconnector.spi.protocol.web.WebService;
 import org.eclipse.dataspaceconnector.spi.system.ServiceExtension;
@@ -45,7 +46,7 @@ public class FederatedCatalogCacheExtension implements ServiceExtension {
     private static final int DEFAULT_QUEUE_LENGTH = 50;
     private static final int DEFAULT_BATCH_SIZE = 1;
     private static final int DEFAULT_RETRY_TIMEOUT_MILLIS = 2000;
-    private LoaderManager loaderManager;
+    private LoaderManagerImpl loaderManager;
     private PartitionManager partitionManager;
     private PartitionConfiguration partitionManagerConfig;
     private Monitor monitor;
@@ -60,7 +61,7 @@ public class FederatedCatalogCacheExtension implements ServiceExtension {
     @Override
     public Set<String> requires() {
         return Set.of("edc:retry-policy", FederatedCacheNodeDirectory.FEATURE,
-                "edc:webservice", FederatedCacheStore.FEATURE);
+                "edc:webservice", FederatedCacheStore.FEATURE, MetricRegistry.FEATURE);
     }
 
     @Override
@@ -92,6 +93,11 @@ public class FederatedCatalogCacheExtension implements ServiceExtension {
 
         // and a loader manager
         loaderManager = createLoaderManager(store);
+        context.registerConfigurationListener(PartitionConfiguration.PART_LOADER_BATCH_SIZE_SETTING, (key, value) -> {
+            var batchSize = partitionManagerConfig.getLoaderBatchSize(DEFAULT_BATCH_SIZE);
+            loaderManager.setBatchSize(batchSize);
+            monitor.info("Loader batch size changed to " + batchSize);
+        });
 
         monitor.info("Federated Catalog Cache extension initialized");
     }
@@ -111,7 +117,7 @@ public class FederatedCatalogCacheExtension implements ServiceExtension {
     }
 
     @NotNull
-    private LoaderManager createLoaderManager(FederatedCacheStore store) {
+    private LoaderManagerImpl createLoaderManager(FederatedCacheStore store) {
         return LoaderManagerImpl.Builder.newInstance()
                 .loaders(List.of(new DefaultLoader(store)))
                 .batchSize(partitionManagerConfig.getLoaderBatchSize(DEFAULT_BATCH_SIZE))
@@ -157,6 +163,7 @@ public class FederatedCatalogCacheExtension implements ServiceExtension {
                 .errorReceiver(getErrorWorkItemConsumer(context, workItems))
                 .protocolAdapters(protocolAdapters)
                 .workQueuePollTimeout(() -> Duration.ofMillis(2000 + new Random().nextInt(3000)))
+                .metrics(context.getService(MetricRegistry.class))
                 .build();
     }
 
@@ -11,10 +11,15 @@ import org.eclipse.dataspaceconnector.catalog.spi.WorkItemQueue;
 import org.eclipse.dataspaceconnector.catalog.spi.model.UpdateRequest;
 import org.eclipse.dataspaceconnector.catalog.spi.model.UpdateResponse;
 import org.eclipse.dataspaceconnector.spi.EdcException;
+import org.eclipse.dataspaceconnector.spi.metrics.Counter;
+import org.eclipse.dataspaceconnector.spi.metrics.MetricRegistry;
+import org.eclipse.dataspaceconnector.spi.metrics.NoopMetricRegistry;
+import org.eclipse.dataspaceconnector.spi.metrics.Timer;
 import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
 import org.jetbrains.annotations.Nullable;
 
 import java.time.Duration;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.TimeUnit;
@@ -35,10 +40,13 @@ public class CrawlerImpl implements Crawler {
     private final AtomicBoolean isActive;
     private final String crawlerId;
     private final CrawlerErrorHandler errorHandler;
+    private final Counter succeeded;
+    private final Counter failed;
+    private final Timer requestTimer;
 
     CrawlerImpl(WorkItemQueue workItemQueue, Monitor monitor, BlockingQueue<UpdateResponse> responseQueue,
                 RetryPolicy<Object> updateResponseEnqueueRetryPolicy, NodeQueryAdapterRegistry catalogQueryAdapterRegistry,
-                Supplier<Duration> workQueuePollTimeout, CrawlerErrorHandler errorHandler) {
+                Supplier<Duration> workQueuePollTimeout, CrawlerErrorHandler errorHandler, MetricRegistry metrics) {
         this.workItemQueue = workItemQueue;
         this.catalogQueryAdapterRegistry = catalogQueryAdapterRegistry;
         this.monitor = monitor;
@@ -47,6 +55,9 @@ public class CrawlerImpl implements Crawler {
         this.workQueuePollTimeout = workQueuePollTimeout;
         this.errorHandler = errorHandler;
         isActive = new AtomicBoolean(true);
+        succeeded = metrics.counter("edc_catalog_crawler_requests_total", Map.of("outcome", "success"));
+        failed = metrics.counter("edc_catalog_crawler_requests_total", Map.of("outcome", "failure"));
+        requestTimer = metrics.timer("edc_catalog_crawler_request_seconds");
         crawlerId = format("\"%s\"", MobyNamesGenerator.getRandomName().replace("_", " "));
     }
 
@@ -78,9 +89,12 @@ public class CrawlerImpl implements Crawler {
                         // if the adapters are found, use them to send the update request
                         WorkItem finalItem = item;
                         for (NodeQueryAdapter a : adapters) {
+                            var start = System.nanoTime();
                             a.sendRequest(new UpdateRequest(finalItem.getUrl()))
                                     // the following happens on a different thread
                                     .whenComplete((updateResponse, throwable) -> {
+                                        requestTimer.record(System.nanoTime() - start);
+                                        (throwable != null ? failed : succeeded).increment();
                                         if (throwable != null) {
                                             handleError(finalItem, throwable.getMessage());
                                         } else {
@@ -142,6 +156,7 @@ public class CrawlerImpl implements Crawler {
         private WorkItemQueue workItems;
         private Supplier<Duration> workQueuePollTimeout;
         private CrawlerErrorHandler errorHandler;
+        private MetricRegistry metrics = NoopMetricRegistry.INSTANCE;
 
         private Builder() {
         }
@@ -180,6 +195,11 @@ public class CrawlerImpl implements Crawler {
             return this;
         }
 
+        public Builder metrics(MetricRegistry metrics) {
+            this.metrics = metrics;
+            return this;
+        }
+
         public Builder workItems(WorkItemQueue workItems) {
             this.workItems = workItems;
             return this;
@@ -190,7 +210,7 @@ public class CrawlerImpl implements Crawler {
             Objects.requireNonNull(queue);
             Objects.requireNonNull(adapters);
 
-            return new CrawlerImpl(workItems, monitor, queue, retryPolicy, adapters, workQueuePollTimeout, errorHandler);
+            return new CrawlerImpl(workItems, monitor, queue, retryPolicy, adapters, workQueuePollTimeout, errorHandler, metrics);
         }
     }
 }
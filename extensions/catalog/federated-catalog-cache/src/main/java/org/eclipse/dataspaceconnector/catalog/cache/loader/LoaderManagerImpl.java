@@ -23,7 +23,7 @@ public class LoaderManagerImpl implements LoaderManager {
     private final List<Loader> loaders;
     private final AtomicBoolean isRunning;
     private final ReentrantLock lock;
-    private final int batchSize;
+    private volatile int batchSize;
     private final WaitStrategy waitStrategy;
     private final Monitor monitor;
     private BlockingQueue<UpdateResponse> queue;
@@ -42,6 +42,16 @@ public class LoaderManagerImpl implements LoaderManager {
         return batchSize;
     }
 
+    /**
+     * Changes the batch size, taking effect with the next batch.
+     */
+    public void setBatchSize(int batchSize) {
+        if (batchSize < 0) {
+            throw new IllegalArgumentException("Batch Size cannot be negative!");
+        }
+        this.batchSize = batchSize;
+    }
+
     @Override
     public void start(BlockingQueue<UpdateResponse> queue) {
         this.queue = queue;
@@ -66,6 +76,7 @@ public class LoaderManagerImpl implements LoaderManager {
     private void beginDequeue() {
         while (isRunning.get()) {
             boolean isBatchFull = true;
+            var batchSize = this.batchSize;
             try {
                 lock.lock();
                 isBatchFull = queue.size() >= batchSize;
@@ -10,6 +10,7 @@ import org.eclipse.dataspaceconnector.catalog.spi.WorkItemQueue;
 import org.eclipse.dataspaceconnector.catalog.spi.model.UpdateRequest;
 import org.eclipse.dataspaceconnector.catalog.spi.model.UpdateResponse;
 import org.eclipse.dataspaceconnector.spi.EdcException;
+import org.eclipse.dataspaceconnector.spi.metrics.NoopMetricRegistry;
 import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -63,7 +64,7 @@ class CrawlerImplTest {
         registry = niceMock(NodeQueryAdapterRegistry.class);
         expect(registry.findForProtocol(anyString())).andReturn(Collections.singletonList(protocolAdapterMock));
         replay(registry);
-        crawler = new CrawlerImpl(workQueue, monitorMock, queue, createRetryPolicy(), registry, () -> Duration.ofMillis(WORK_QUEUE_POLL_TIMEOUT), errorHandlerMock);
+        crawler = new CrawlerImpl(workQueue, monitorMock, queue, createRetryPolicy(), registry, () -> Duration.ofMillis(WORK_QUEUE_POLL_TIMEOUT), errorHandlerMock, NoopMetricRegistry.INSTANCE);
     }
 
     @AfterEach
@@ -194,7 +195,7 @@ class CrawlerImplTest {
     @Test
     void shouldErrorOut_whenNoProtocolAdapterFound() throws InterruptedException {
 
-        crawler = new CrawlerImpl(workQueue, monitorMock, queue, createRetryPolicy(), new NodeQueryAdapterRegistryImpl(), () -> Duration.ofMillis(500), errorHandlerMock);
+        crawler = new CrawlerImpl(workQueue, monitorMock, queue, createRetryPolicy(), new NodeQueryAdapterRegistryImpl(), () -> Duration.ofMillis(500), errorHandlerMock, NoopMetricRegistry.INSTANCE);
 
         workQueue.put(createWorkItem());
         var l = new CountDownLatch(1);
@@ -15,7 +15,7 @@ public class PartitionConfiguration {
 
     private static final String PART_WORK_ITEM_QUEUE_SIZE_SETTING = "edc.catalog.cache.partition.queue-size";
     private static final String PART_NUM_CRAWLER_SETTING = "edc.catalog.cache.partition.num-crawlers";
-    private static final String PART_LOADER_BATCH_SIZE_SETTING = "edc.catalog.cache.loader.batch-size";
+    public static final String PART_LOADER_BATCH_SIZE_SETTING = "edc.catalog.cache.loader.batch-size";
     private static final String PART_LOADER_RETRY_TIMEOUT = "edc.catalog.cache.loader.timeout-millis";
     private static final String PART_EXECUTION_PLAN_PERIOD_MINUTES = "edc.catalog.cache.execution.period-minutes";
     private final ServiceExtensionContext context;
@@ -25,25 +25,25 @@ public class PartitionConfiguration {
     }
 
     public int getWorkItemQueueSize(int defaultValue) {
-        return Integer.parseInt(context.getSetting(PART_WORK_ITEM_QUEUE_SIZE_SETTING, String.valueOf(defaultValue)));
+        return context.getConfig().getInteger(PART_WORK_ITEM_QUEUE_SIZE_SETTING, defaultValue);
     }
 
 
     public int getNumCrawlers(int defaultValue) {
-        return Integer.parseInt(context.getSetting(PART_NUM_CRAWLER_SETTING, String.valueOf(defaultValue)));
+        return context.getConfig().getInteger(PART_NUM_CRAWLER_SETTING, defaultValue);
     }
 
 
     public int getLoaderBatchSize(int defaultValue) {
-        return Integer.parseInt(context.getSetting(PART_LOADER_BATCH_SIZE_SETTING, String.valueOf(defaultValue)));
+        return context.getConfig().getInteger(PART_LOADER_BATCH_SIZE_SETTING, defaultValue);
     }
 
     public long getLoaderRetryTimeout(int defaultValue) {
-        return Integer.parseInt(context.getSetting(PART_LOADER_RETRY_TIMEOUT, String.valueOf(defaultValue)));
+        return context.getConfig().getInteger(PART_LOADER_RETRY_TIMEOUT, defaultValue);
     }
 
     public ExecutionPlan getExecutionPlan() {
-        var minutes = Integer.parseInt(context.getSetting(PART_EXECUTION_PLAN_PERIOD_MINUTES, "10"));
+        var minutes = context.getConfig().getInteger(PART_EXECUTION_PLAN_PERIOD_MINUTES, 10);
         return new RecurringExecutionPlan(Duration.ofMinutes(minutes));
     }
 }
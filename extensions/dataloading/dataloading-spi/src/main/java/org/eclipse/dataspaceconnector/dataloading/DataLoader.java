@@ -16,18 +16,30 @@ package org.eclipse.dataspaceconnector.dataloading;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
+import java.util.function.LongConsumer;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 /**
  * Class to facilitate validation and ingestion of objects into a backing data store (i.e. the {@link DataSink}).
+ * <p>
+ * Items are handed to the sink in batches of a configurable size, so that sinks can persist them efficiently with {@link DataSink#acceptAll(Collection)}. If a
+ * parallelism greater than one is configured, the items of a batch are validated in parallel.
  *
  * @param <T> The type of objects that are to be ingested.
  */
 public class DataLoader<T> {
     private Collection<Function<T, ValidationResult>> validationPredicates;
     private DataSink<T> sink;
+    private int batchSize = 100;
+    private int parallelism = 1;
+    private LongConsumer progressListener = position -> {
+    };
 
     protected DataLoader() {
         validationPredicates = new ArrayList<>();
@@ -57,28 +69,105 @@ public class DataLoader<T> {
      * entire collection is rejected with a {@link ValidationException}.
      * <p>
      * Note that this does NOT implement transactional semantics in the database-sense. This means that if all items pass validation,
-     * they are inserted one by one.
+     * they are inserted batch by batch.
      *
      * @param items a Collection of items
      * @throws ValidationException when on or more items fail validation
      */
     public void insertAll(Collection<T> items) {
+        var list = new ArrayList<>(items);
+        var pool = createPool();
+        try {
+            var errorMessages = validateBatch(list, 0, pool);
+            if (!errorMessages.isEmpty()) {
+                throw new ValidationException(String.join("; ", errorMessages));
+            }
+        } finally {
+            shutdown(pool);
+        }
 
-        var allValidationResults = items.stream().flatMap(this::validate);
+        for (var from = 0; from < list.size(); from += batchSize) {
+            sink.acceptAll(list.subList(from, Math.min(from + batchSize, list.size())));
+            progressListener.accept(Math.min(from + batchSize, list.size()));
+        }
+    }
 
-        var errorMessages = allValidationResults.filter(ValidationResult::isInvalid).map(ValidationResult::getError).collect(Collectors.toList());
+    /**
+     * Streams items into the backing store, see {@link #insertAll(Iterator, long)}.
+     */
+    public long insertAll(Iterator<T> items) {
+        return insertAll(items, 0);
+    }
 
-        if (!errorMessages.isEmpty()) {
-            throw new ValidationException(String.join("; ", errorMessages));
+    /**
+     * Streams items into the backing store without holding more than one batch in memory. Each batch is validated and then handed to the sink. If an item
+     * fails validation, a {@link ValidationException} is thrown and the batch it belongs to is rejected, while all previous batches have already been
+     * inserted.
+     * <p>
+     * After each batch, the progress listener receives the position of the next item to be inserted. A load that was interrupted can therefore be resumed
+     * by skipping the items before the last reported position and passing that position to this method.
+     *
+     * @param items    the items to insert, e.g. read incrementally from a file
+     * @param position the position of the first item in its source, used for progress and error reporting
+     * @return the position after the last inserted item
+     * @throws ValidationException when one or more items of a batch fail validation
+     */
+    public long insertAll(Iterator<T> items, long position) {
+        var pool = createPool();
+        try {
+            var batch = new ArrayList<T>(batchSize);
+            while (items.hasNext()) {
+                batch.add(items.next());
+                if (batch.size() == batchSize || !items.hasNext()) {
+                    var errorMessages = validateBatch(batch, position, pool);
+                    if (!errorMessages.isEmpty()) {
+                        throw new ValidationException(String.join("; ", errorMessages));
+                    }
+                    sink.acceptAll(batch);
+                    position += batch.size();
+                    progressListener.accept(position);
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
+            return position;
+        } finally {
+            shutdown(pool);
+        }
+    }
+
+    /**
+     * Validates all items of the batch, in parallel if a pool is given, and returns the error messages in item order.
+     */
+    private List<String> validateBatch(List<T> batch, long position, ForkJoinPool pool) {
+        if (validationPredicates.isEmpty()) {
+            return List.of();
         }
+        if (pool == null) {
+            return errorMessages(IntStream.range(0, batch.size()), batch, position);
+        }
+        return pool.submit(() -> errorMessages(IntStream.range(0, batch.size()).parallel(), batch, position)).join();
+    }
 
-        items.forEach(sink::accept);
+    private List<String> errorMessages(IntStream indexes, List<T> batch, long position) {
+        return indexes.boxed()
+                .flatMap(i -> validate(batch.get(i)).filter(ValidationResult::isInvalid).map(result -> "item " + (position + i) + ": " + result.getError()))
+                .collect(Collectors.toList());
     }
 
     private Stream<ValidationResult> validate(T item) {
         return validationPredicates.stream().map(vr -> vr.apply(item));
     }
 
+    private ForkJoinPool createPool() {
+        return parallelism > 1 && !validationPredicates.isEmpty() ? new ForkJoinPool(parallelism) : null;
+    }
+
+    private void shutdown(ForkJoinPool pool) {
+        if (pool != null) {
+            pool.shutdown();
+        }
+    }
+
     public static final class Builder<T> {
         private final DataLoader<T> loader;
 
@@ -105,10 +194,35 @@ public class DataLoader<T> {
             return this;
         }
 
+        /**
+         * The maximum number of items that are handed to the sink at once.
+         */
+        public Builder<T> batchSize(int batchSize) {
+            loader.batchSize = batchSize;
+            return this;
+        }
+
+        /**
+         * The number of threads that validate the items of a batch, one validates on the calling thread.
+         */
+        public Builder<T> parallelism(int parallelism) {
+            loader.parallelism = parallelism;
+            return this;
+        }
+
+        /**
+         * Receives the position after the last inserted item whenever a batch was handed to the sink.
+         */
+        public Builder<T> progressListener(LongConsumer progressListener) {
+            loader.progressListener = progressListener;
+            return this;
+        }
+
         public DataLoader<T> build() {
+            if (loader.batchSize < 1) {
+                throw new IllegalArgumentException("Batch size must be greater than zero");
+            }
             return loader;
         }
     }
 }
-
-
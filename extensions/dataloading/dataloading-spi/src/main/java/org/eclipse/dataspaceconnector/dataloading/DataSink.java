@@ -13,9 +13,19 @@
  */
 package org.eclipse.dataspaceconnector.dataloading;
 
+import java.util.Collection;
+
 /**
  * Backing store for ingesting items.
  */
 public interface DataSink<T> {
     void accept(T item);
+
+    /**
+     * Ingests a batch of items. Backing stores that can persist several items at once, e.g. with a single lock or a bulk request, should override this
+     * method, by default the items are accepted one by one.
+     */
+    default void acceptAll(Collection<T> items) {
+        items.forEach(this::accept);
+    }
 }
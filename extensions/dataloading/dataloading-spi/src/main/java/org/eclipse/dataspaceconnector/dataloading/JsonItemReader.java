@@ -0,0 +1,101 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+package org.eclipse.dataspaceconnector.dataloading;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.eclipse.dataspaceconnector.spi.EdcException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads items incrementally from a JSON document, so that arbitrarily large files can be loaded without holding them in memory.
+ * <p>
+ * The document is either a JSON array of items or a sequence of root-level items, e.g. one item per line (JSON lines). Parse errors are thrown as
+ * {@link EdcException}s that wrap the original Jackson exception.
+ *
+ * @param <T> The type of the items.
+ */
+public class JsonItemReader<T> implements Iterator<T>, AutoCloseable {
+    private final JsonParser parser;
+    private final ObjectReader reader;
+    private final boolean array;
+    private JsonToken current;
+
+    public JsonItemReader(ObjectMapper mapper, Class<T> type, InputStream stream) {
+        reader = mapper.readerFor(type);
+        try {
+            parser = mapper.getFactory().createParser(stream);
+            current = parser.nextToken();
+            array = current == JsonToken.START_ARRAY;
+            if (array) {
+                current = parser.nextToken();
+            }
+        } catch (IOException e) {
+            throw new EdcException(e);
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        return current != null && !(array && current == JsonToken.END_ARRAY);
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        try {
+            T item = reader.readValue(parser);
+            current = parser.nextToken();
+            return item;
+        } catch (IOException e) {
+            throw new EdcException(e);
+        }
+    }
+
+    /**
+     * Skips up to the given number of items without deserializing them.
+     *
+     * @return the number of items that were skipped, which is less than requested if the document ends earlier
+     */
+    public long skip(long count) {
+        var skipped = 0L;
+        try {
+            while (skipped < count && hasNext()) {
+                parser.skipChildren();
+                current = parser.nextToken();
+                skipped++;
+            }
+        } catch (IOException e) {
+            throw new EdcException(e);
+        }
+        return skipped;
+    }
+
+    @Override
+    public void close() {
+        try {
+            parser.close();
+        } catch (IOException e) {
+            throw new EdcException(e);
+        }
+    }
+}
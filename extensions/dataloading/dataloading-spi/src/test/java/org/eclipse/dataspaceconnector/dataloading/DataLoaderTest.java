@@ -17,11 +17,12 @@ package org.eclipse.dataspaceconnector.dataloading;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
-import static org.easymock.EasyMock.anyObject;
 import static org.easymock.EasyMock.expectLastCall;
 import static org.easymock.EasyMock.replay;
 import static org.easymock.EasyMock.strictMock;
@@ -78,13 +79,65 @@ class DataLoaderTest {
     @Test
     void insertAll() {
         var items = IntStream.range(1, 10).mapToObj(i -> new TestEntity("Test Item " + i, i)).collect(Collectors.toList());
-        sinkMock.accept(anyObject(TestEntity.class));
-        expectLastCall().times(9);
+        sinkMock.acceptAll(items);
+        expectLastCall();
         replay(sinkMock);
         dataLoader.insertAll(items);
         verify(sinkMock);
     }
 
+    @Test
+    void insertAll_inBatches() {
+        var items = IntStream.range(1, 10).mapToObj(i -> new TestEntity("Test Item " + i, i)).collect(Collectors.toList());
+        var progress = new ArrayList<Long>();
+        DataLoader.Builder<TestEntity> builder = DataLoader.Builder.newInstance();
+        var loader = builder.sink(sinkMock).batchSize(4).parallelism(4).progressListener(progress::add)
+                .andPredicate(testEntity -> testEntity.getIndex() > 0 ? ValidationResult.OK : ValidationResult.error(INDEX_VALIDATION_MESSAGE))
+                .build();
+        sinkMock.acceptAll(items.subList(0, 4));
+        sinkMock.acceptAll(items.subList(4, 8));
+        sinkMock.acceptAll(items.subList(8, 9));
+        replay(sinkMock);
+
+        loader.insertAll(items);
+
+        assertThat(progress).containsExactly(4L, 8L, 9L);
+        verify(sinkMock);
+    }
+
+    @Test
+    void insertAll_streamed() {
+        var items = IntStream.range(1, 10).mapToObj(i -> new TestEntity("Test Item " + i, i)).collect(Collectors.toList());
+        var progress = new ArrayList<Long>();
+        DataLoader.Builder<TestEntity> builder = DataLoader.Builder.newInstance();
+        var loader = builder.sink(sinkMock).batchSize(5).progressListener(progress::add).build();
+        sinkMock.acceptAll(items.subList(0, 5));
+        sinkMock.acceptAll(items.subList(5, 9));
+        replay(sinkMock);
+
+        var position = loader.insertAll(items.iterator(), 10);
+
+        assertThat(position).isEqualTo(19);
+        assertThat(progress).containsExactly(15L, 19L);
+        verify(sinkMock);
+    }
+
+    @Test
+    void insertAll_streamed_invalidItemStopsLoading() {
+        var items = IntStream.range(1, 10).mapToObj(i -> new TestEntity("Test Item " + i, i)).collect(Collectors.toList());
+        items.add(6, new TestEntity("Invalid entity", -9));
+        DataLoader.Builder<TestEntity> builder = DataLoader.Builder.newInstance();
+        var loader = builder.sink(sinkMock).batchSize(5)
+                .andPredicate(testEntity -> testEntity.getIndex() > 0 ? ValidationResult.OK : ValidationResult.error(INDEX_VALIDATION_MESSAGE))
+                .build();
+        sinkMock.acceptAll(items.subList(0, 5));
+        replay(sinkMock);
+
+        assertThatThrownBy(() -> loader.insertAll(items.iterator())).isInstanceOf(ValidationException.class)
+                .hasMessage("item 6: " + INDEX_VALIDATION_MESSAGE);
+        verify(sinkMock);
+    }
+
     @Test
     void insertAll_oneItemFails() {
         var items = IntStream.range(1, 10).mapToObj(i -> new TestEntity("Test Item " + i, i)).collect(Collectors.toList());
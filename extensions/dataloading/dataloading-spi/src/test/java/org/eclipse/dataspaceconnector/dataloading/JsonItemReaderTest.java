@@ -0,0 +1,79 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+package org.eclipse.dataspaceconnector.dataloading;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import org.eclipse.dataspaceconnector.spi.EdcException;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JsonItemReaderTest {
+
+    @Test
+    void readArray() {
+        var reader = reader("[{\"id\": 1}, {\"id\": 2, \"nested\": {\"id\": 9}}, {\"id\": 3}]");
+
+        assertThat(ids(reader)).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    void readJsonLines() {
+        var reader = reader("{\"id\": 1}\n{\"id\": 2}\n\n{\"id\": 3}\n");
+
+        assertThat(ids(reader)).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    void skip() {
+        var reader = reader("[{\"id\": 1, \"nested\": [{\"id\": 9}]}, {\"id\": 2}, {\"id\": 3}]");
+
+        assertThat(reader.skip(2)).isEqualTo(2);
+        assertThat(ids(reader)).containsExactly(3);
+        assertThat(reader.skip(1)).isZero();
+    }
+
+    @Test
+    void readEmptyArray() {
+        assertThat(reader("[]").hasNext()).isFalse();
+    }
+
+    @Test
+    void readInvalidItem() {
+        var reader = reader("[{\"id\": 1}, [\"not an object\"]]");
+        reader.next();
+
+        assertThatThrownBy(reader::next).isInstanceOf(EdcException.class).hasRootCauseInstanceOf(MismatchedInputException.class);
+    }
+
+    @SuppressWarnings("rawtypes")
+    private JsonItemReader<Map> reader(String json) {
+        return new JsonItemReader<>(new ObjectMapper(), Map.class, new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @SuppressWarnings("rawtypes")
+    private List<Object> ids(JsonItemReader<Map> reader) {
+        var ids = new ArrayList<>();
+        reader.forEachRemaining(item -> ids.add(item.get("id")));
+        return ids;
+    }
+}
@@ -25,6 +25,8 @@ import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Properties;
@@ -33,15 +35,17 @@ import static java.lang.String.format;
 import static org.eclipse.dataspaceconnector.common.configuration.ConfigurationFunctions.propOrEnv;
 
 /**
- * Sources configuration values from a properties file.
+ * Sources configuration values from a properties file. On {@link #reload()} the file is read again if it has been modified.
  */
 public class FsConfigurationExtension implements ConfigurationExtension {
 
     @EdcSetting
     private static final String CONFIG_LOCATION = propOrEnv("edc.fs.config", "dataspaceconnector-configuration.properties");
 
-    private final Map<String, String> propertyCache = new HashMap<>();
+    private volatile Map<String, String> propertyCache = Map.of();
     private Path configFile;
+    private Monitor monitor;
+    private FileTime lastModified;
 
     /**
      * Default ctor - required for extension loading
@@ -58,27 +62,53 @@ public class FsConfigurationExtension implements ConfigurationExtension {
 
     @Override
     public void initialize(Monitor monitor) {
-        var configPath = configFile != null ? configFile : Paths.get(FsConfigurationExtension.CONFIG_LOCATION);
-        if (!Files.exists(configPath)) {
-            monitor.info(format("Configuration file does not exist: %s. Ignoring.", FsConfigurationExtension.CONFIG_LOCATION));
+        this.monitor = monitor;
+        if (configFile == null) {
+            configFile = Paths.get(FsConfigurationExtension.CONFIG_LOCATION);
+        }
+        if (!Files.exists(configFile)) {
+            monitor.info(format("Configuration file does not exist: %s. Ignoring.", configFile));
             return;
         }
 
-        try (InputStream is = Files.newInputStream(configPath)) {
+        load();
+        monitor.info("Initialized FS Configuration extension");
+    }
+
+    @Override
+    public @Nullable String getSetting(String key) {
+        return propertyCache.get(key);
+    }
+
+    @Override
+    public Map<String, String> getEntries() {
+        return propertyCache;
+    }
+
+    @Override
+    public void reload() {
+        try {
+            if (Files.exists(configFile) && !Files.getLastModifiedTime(configFile).equals(lastModified)) {
+                load();
+                monitor.info(format("Reloaded configuration file %s", configFile));
+            }
+        } catch (IOException e) {
+            throw new EdcException(e);
+        }
+    }
+
+    private void load() {
+        try (InputStream is = Files.newInputStream(configFile)) {
+            lastModified = Files.getLastModifiedTime(configFile);
             var properties = new Properties();
             properties.load(is);
+            Map<String, String> entries = new HashMap<>();
             for (String name : properties.stringPropertyNames()) {
-                propertyCache.put(name, properties.getProperty(name));
+                entries.put(name, properties.getProperty(name));
             }
+            propertyCache = Collections.unmodifiableMap(entries);
         } catch (IOException e) {
             throw new EdcException(e);
         }
-
-        monitor.info("Initialized FS Configuration extension");
-    }
-
-    @Override
-    public @Nullable String getSetting(String key) {
-        return propertyCache.get(key);
     }
 }
@@ -32,6 +32,9 @@ public final class FsConfiguration {
     @EdcSetting
     static final boolean PERSISTENT_VAULT = Boolean.parseBoolean(propOrEnv("edc.vault.persistent", "true"));
 
+    @EdcSetting
+    static final int VAULT_COMPACTION_THRESHOLD = Integer.parseInt(propOrEnv("edc.vault.compaction.threshold", String.valueOf(FsVault.DEFAULT_COMPACTION_THRESHOLD)));
+
 
     private FsConfiguration() {
     }
@@ -15,81 +15,312 @@
 package org.eclipse.dataspaceconnector.security.fs;
 
 import org.eclipse.dataspaceconnector.spi.EdcException;
+import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
 import org.eclipse.dataspaceconnector.spi.security.Vault;
+import org.eclipse.dataspaceconnector.spi.security.VaultListener;
 import org.eclipse.dataspaceconnector.spi.security.VaultResponse;
 import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.Writer;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.HashMap;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Collection;
 import java.util.Map;
 import java.util.Properties;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 /**
  * Implements a vault backed by a properties file.
+ * <br/>
+ * Changes are appended to a journal next to the properties file instead of rewriting it, so that a write costs the
+ * same regardless of the number of secrets. Once the journal holds more records than the threshold (or than there are
+ * secrets, if that is larger), it is compacted: the secrets are written to a temporary file, synced and atomically
+ * renamed over the properties file. Secrets stored with an expiry are kept in the journal, since the properties format
+ * has no room for it, and are dropped at compaction once expired.
+ * <br/>
+ * Reads never block: secrets are held in a concurrent map, writes are serialized. A failed compaction is logged and
+ * retried with the next write, as the change itself is already in the journal. The journal is held open until the
+ * vault is closed; if it could not be reopened after a compaction, the next write reopens it.
  */
-public class FsVault implements Vault {
-    private final AtomicReference<Map<String, String>> secrets;
+public class FsVault implements Vault, AutoCloseable {
+    static final int DEFAULT_COMPACTION_THRESHOLD = 1000;
+
+    private static final String JOURNAL_SUFFIX = ".journal";
+    private static final String STORE = "S";
+    private static final String DELETE = "D";
+
+    private final Map<String, Secret> secrets = new ConcurrentHashMap<>();
+    private final Collection<VaultListener> listeners = new ConcurrentLinkedQueue<>();
     private final Path vaultFile;
+    private final Path journalFile;
     private final boolean persistent;
+    private final int compactionThreshold;
+    private final Clock clock;
+    private final Monitor monitor;
+
+    private FileChannel journal;
+    private int journalRecords;
+    private boolean closed;
 
     public FsVault(Path vaultFile, boolean persistent) {
-        this.persistent = persistent;
-        secrets = new AtomicReference<>(new HashMap<>());
+        this(vaultFile, persistent, DEFAULT_COMPACTION_THRESHOLD, Clock.systemUTC(), new Monitor() {
+        });
+    }
 
+    public FsVault(Path vaultFile, boolean persistent, int compactionThreshold, Clock clock, Monitor monitor) {
         this.vaultFile = vaultFile;
+        this.journalFile = vaultFile.resolveSibling(vaultFile.getFileName() + JOURNAL_SUFFIX);
+        this.persistent = persistent;
+        this.compactionThreshold = compactionThreshold;
+        this.clock = clock;
+        this.monitor = monitor;
+
         try (InputStream is = Files.newInputStream(vaultFile)) {
             var properties = new Properties();
             properties.load(is);
             for (String name : properties.stringPropertyNames()) {
-                secrets.get().put(name, properties.getProperty(name));
+                secrets.put(name, new Secret(properties.getProperty(name), 0));
             }
         } catch (IOException e) {
             throw new EdcException(e);
         }
+
+        if (Files.exists(journalFile)) {
+            replayJournal();
+            if (persistent) {
+                // start from a clean journal, this also discards a record torn by a crash
+                compact();
+            }
+        } else if (persistent) {
+            try {
+                journal = openJournal();
+            } catch (IOException e) {
+                throw new EdcException(e);
+            }
+        }
     }
 
     @Override
     public @Nullable
     String resolveSecret(String key) {
-        return secrets.get().get(key);
+        var secret = secrets.get(key);
+        if (secret == null || secret.isExpired(clock.millis())) {
+            return null;
+        }
+        return secret.value;
     }
 
     @Override
-    public synchronized VaultResponse storeSecret(String key, String value) {
-        var newSecrets = new HashMap<>(secrets.get());
-        newSecrets.put(key, value);
-        var properties = new Properties();
-        properties.putAll(newSecrets);
-        if (persistent) {
-            try (Writer writer = Files.newBufferedWriter(vaultFile)) {
-                properties.store(writer, null);
-            } catch (IOException e) {
-                return new VaultResponse(e.getMessage());
-            }
+    public VaultResponse storeSecret(String key, String value) {
+        return storeSecret(key, value, null);
+    }
+
+    @Override
+    public synchronized VaultResponse storeSecret(String key, String value, @Nullable Instant expiresAt) {
+        var secret = new Secret(value, expiresAt != null ? expiresAt.toEpochMilli() : 0);
+        try {
+            append(STORE + " " + encode(key) + " " + encode(value) + " " + secret.expiresAt);
+        } catch (IOException e) {
+            return new VaultResponse(e.getMessage());
         }
-        secrets.set(newSecrets);
+        secrets.put(key, secret);
+        compactIfNeeded();
+        listeners.forEach(l -> l.secretChanged(key));
         return VaultResponse.OK;
     }
 
     @Override
-    public VaultResponse deleteSecret(String key) {
-        var newSecrets = new HashMap<>(secrets.get());
-        newSecrets.remove(key);
+    public synchronized VaultResponse deleteSecret(String key) {
+        try {
+            append(DELETE + " " + encode(key));
+        } catch (IOException e) {
+            return new VaultResponse(e.getMessage());
+        }
+        secrets.remove(key);
+        compactIfNeeded();
+        listeners.forEach(l -> l.secretChanged(key));
+        return VaultResponse.OK;
+    }
+
+    @Override
+    public void registerListener(VaultListener listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public void unregisterListener(VaultListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Closes the journal. Changes made afterwards fail.
+     */
+    @Override
+    public synchronized void close() {
+        closed = true;
+        if (journal == null) {
+            return;
+        }
+        try {
+            journal.close();
+        } catch (IOException e) {
+            throw new EdcException(e);
+        } finally {
+            journal = null;
+        }
+    }
+
+    private void append(String record) throws IOException {
+        if (!persistent) {
+            return;
+        }
+        if (closed) {
+            throw new IOException("Vault journal is closed");
+        }
+        if (journal == null) {
+            journal = openJournal();
+        }
+        var bytes = ByteBuffer.wrap((record + "\n").getBytes(StandardCharsets.UTF_8));
+        while (bytes.hasRemaining()) {
+            journal.write(bytes);
+        }
+        journalRecords++;
+    }
+
+    private void compactIfNeeded() {
+        if (persistent && journalRecords > Math.max(compactionThreshold, secrets.size())) {
+            try {
+                compact();
+            } catch (EdcException e) {
+                monitor.warning("Failed to compact vault journal " + journalFile, e);
+            }
+        }
+    }
+
+    /**
+     * Rewrites the properties file from the current secrets and starts a new journal holding only the live expiring
+     * secrets. Each file is written to a temporary file, synced and then renamed, so that a crash leaves either the old
+     * or the new version in place. Replaying an old journal over a new properties file yields the same secrets, so the
+     * order of the two renames does not matter. The previous journal is only closed once the new one is open, so that it
+     * keeps taking changes if the compaction fails before.
+     */
+    private synchronized void compact() {
+        var now = clock.millis();
+        secrets.values().removeIf(s -> s.isExpired(now));
+
         var properties = new Properties();
-        properties.putAll(newSecrets);
-        if (persistent) {
-            try (Writer writer = Files.newBufferedWriter(vaultFile)) {
-                properties.store(writer, null);
-            } catch (IOException e) {
-                return new VaultResponse(e.getMessage());
+        var expiring = new StringBuilder();
+        secrets.forEach((key, secret) -> {
+            if (secret.expiresAt == 0) {
+                properties.put(key, secret.value);
+            } else {
+                expiring.append(STORE).append(' ').append(encode(key)).append(' ').append(encode(secret.value)).append(' ').append(secret.expiresAt).append('\n');
             }
+        });
+
+        var previous = journal;
+        try {
+            writeAtomically(vaultFile, out -> properties.store(out, null));
+            writeAtomically(journalFile, out -> out.write(expiring.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (IOException e) {
+            throw new EdcException(e);
+        }
+        journalRecords = 0;
+        try {
+            journal = openJournal();
+        } catch (IOException e) {
+            // the previous journal has been replaced, appending to it would lose the changes; the next write reopens it
+            journal = null;
+            throw new EdcException(e);
+        } finally {
+            closeQuietly(previous);
+        }
+    }
+
+    FileChannel openJournal() throws IOException {
+        return FileChannel.open(journalFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    private void closeQuietly(@Nullable FileChannel channel) {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            monitor.warning("Failed to close vault journal " + journalFile, e);
+        }
+    }
+
+    private void writeAtomically(Path target, FileWriter writer) throws IOException {
+        var temp = target.resolveSibling(target.getFileName() + ".tmp");
+        try (var channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            var out = Channels.newOutputStream(channel);
+            writer.write(out);
+            out.flush();
+            channel.force(true);
+        }
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private void replayJournal() {
+        try {
+            for (String line : Files.readAllLines(journalFile, StandardCharsets.UTF_8)) {
+                var fields = line.split(" ");
+                try {
+                    if (STORE.equals(fields[0]) && fields.length == 4) {
+                        secrets.put(decode(fields[1]), new Secret(decode(fields[2]), Long.parseLong(fields[3])));
+                    } else if (DELETE.equals(fields[0]) && fields.length == 2) {
+                        secrets.remove(decode(fields[1]));
+                    } else {
+                        break;
+                    }
+                } catch (IllegalArgumentException e) {
+                    // a record torn by a crash can only be the last one
+                    break;
+                }
+            }
+        } catch (IOException e) {
+            throw new EdcException(e);
+        }
+    }
+
+    private static String encode(String value) {
+        return Base64.getEncoder().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decode(String value) {
+        return new String(Base64.getDecoder().decode(value), StandardCharsets.UTF_8);
+    }
+
+    @FunctionalInterface
+    private interface FileWriter {
+        void write(OutputStream out) throws IOException;
+    }
+
+    private static class Secret {
+        private final String value;
+        private final long expiresAt;
+
+        Secret(String value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+
+        boolean isExpired(long now) {
+            return expiresAt != 0 && now >= expiresAt;
         }
-        secrets.set(newSecrets);
-        return VaultResponse.OK;
     }
 }
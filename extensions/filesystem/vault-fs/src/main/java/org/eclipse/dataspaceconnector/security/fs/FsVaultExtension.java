@@ -27,10 +27,12 @@ import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.security.GeneralSecurityException;
 import java.security.KeyStore;
+import java.time.Clock;
 
 import static org.eclipse.dataspaceconnector.security.fs.FsConfiguration.KEYSTORE_LOCATION;
 import static org.eclipse.dataspaceconnector.security.fs.FsConfiguration.KEYSTORE_PASSWORD;
 import static org.eclipse.dataspaceconnector.security.fs.FsConfiguration.PERSISTENT_VAULT;
+import static org.eclipse.dataspaceconnector.security.fs.FsConfiguration.VAULT_COMPACTION_THRESHOLD;
 import static org.eclipse.dataspaceconnector.security.fs.FsConfiguration.VAULT_LOCATION;
 
 /**
@@ -43,7 +45,10 @@ public class FsVaultExtension implements VaultExtension {
 
     @Override
     public void initialize(Monitor monitor) {
-        vault = initializeVault();
+        var fsVault = initializeVault(monitor);
+        // boot extensions are not shut down by the runtime
+        Runtime.getRuntime().addShutdownHook(new Thread(fsVault::close));
+        vault = fsVault;
 
         KeyStore keyStore = loadKeyStore();
         privateKeyResolver = new FsPrivateKeyResolver(KEYSTORE_PASSWORD, keyStore);
@@ -67,12 +72,12 @@ public class FsVaultExtension implements VaultExtension {
         return certificateResolver;
     }
 
-    private Vault initializeVault() {
+    private FsVault initializeVault(Monitor monitor) {
         var vaultPath = Paths.get(VAULT_LOCATION);
         if (!Files.exists(vaultPath)) {
             throw new EdcException("Vault file does not exist: " + VAULT_LOCATION);
         }
-        return new FsVault(vaultPath, PERSISTENT_VAULT);
+        return new FsVault(vaultPath, PERSISTENT_VAULT, VAULT_COMPACTION_THRESHOLD, Clock.systemUTC(), monitor);
     }
 
     private KeyStore loadKeyStore() {
@@ -14,17 +14,42 @@
 
 package org.eclipse.dataspaceconnector.security.fs;
 
+import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import java.io.IOException;
 import java.net.URISyntaxException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class FsVaultTest {
     private static final String TEST_VAULT = "test-vault.properties";
 
+    private final List<String> warnings = new ArrayList<>();
+    private final Monitor monitor = new Monitor() {
+        @Override
+        public void warning(Supplier<String> supplier, Throwable... errors) {
+            warnings.add(supplier.get());
+        }
+    };
     private FsVault vault;
 
     @Test
@@ -33,6 +58,125 @@ class FsVaultTest {
         assertEquals("secretvalue2", vault.resolveSecret("secret2"));
     }
 
+    @Test
+    void verifyStoreAndDeleteSurviveRestart(@TempDir Path tempDir) throws IOException {
+        var vaultFile = Files.writeString(tempDir.resolve("vault.properties"), "secret1=secretvalue1\n");
+        var persistentVault = new FsVault(vaultFile, true);
+
+        persistentVault.storeSecret("secret2", "multi\nline = value");
+        persistentVault.deleteSecret("secret1");
+
+        var reopened = new FsVault(vaultFile, true);
+        assertNull(reopened.resolveSecret("secret1"));
+        assertEquals("multi\nline = value", reopened.resolveSecret("secret2"));
+    }
+
+    @Test
+    void verifyCompaction(@TempDir Path tempDir) throws IOException {
+        var vaultFile = Files.writeString(tempDir.resolve("vault.properties"), "");
+        var persistentVault = new FsVault(vaultFile, true, 2, Clock.systemUTC(), monitor);
+
+        persistentVault.storeSecret("secret1", "value1");
+        persistentVault.storeSecret("secret1", "value2");
+        persistentVault.storeSecret("secret2", "value3");
+
+        var properties = new Properties();
+        try (var reader = Files.newBufferedReader(vaultFile)) {
+            properties.load(reader);
+        }
+        assertEquals("value2", properties.getProperty("secret1"));
+        assertEquals("value3", properties.getProperty("secret2"));
+        assertEquals(0, Files.size(tempDir.resolve("vault.properties.journal")));
+    }
+
+    @Test
+    void verifyExpiry(@TempDir Path tempDir) throws IOException {
+        var vaultFile = Files.writeString(tempDir.resolve("vault.properties"), "");
+        var now = Instant.now();
+        var persistentVault = new FsVault(vaultFile, true, 100, Clock.fixed(now, ZoneOffset.UTC), monitor);
+
+        persistentVault.storeSecret("token", "value", now.plusSeconds(60));
+        assertEquals("value", persistentVault.resolveSecret("token"));
+
+        var later = new FsVault(vaultFile, true, 100, Clock.fixed(now.plusSeconds(61), ZoneOffset.UTC), monitor);
+        assertNull(later.resolveSecret("token"));
+    }
+
+    @Test
+    void verifyTornJournalRecordIgnored(@TempDir Path tempDir) throws IOException {
+        var vaultFile = Files.writeString(tempDir.resolve("vault.properties"), "");
+        new FsVault(vaultFile, true).storeSecret("secret1", "value1");
+        Files.writeString(tempDir.resolve("vault.properties.journal"), "S c2Vj", StandardOpenOption.APPEND);
+
+        var reopened = new FsVault(vaultFile, true);
+        assertEquals("value1", reopened.resolveSecret("secret1"));
+
+        reopened.storeSecret("secret2", "value2");
+        assertEquals("value2", new FsVault(vaultFile, true).resolveSecret("secret2"));
+    }
+
+    @Test
+    void verifyFailedCompactionKeepsChanges(@TempDir Path tempDir) throws IOException {
+        var vaultFile = Files.writeString(tempDir.resolve("vault.properties"), "");
+        var persistentVault = new FsVault(vaultFile, true, 1, Clock.systemUTC(), monitor);
+        // the temporary file of the compaction cannot be created
+        var blocker = Files.createDirectory(tempDir.resolve("vault.properties.tmp"));
+
+        persistentVault.storeSecret("secret1", "value1");
+        assertTrue(persistentVault.storeSecret("secret1", "value2").success());
+        assertEquals("value2", persistentVault.resolveSecret("secret1"));
+        assertEquals(1, warnings.size());
+
+        // the journal still takes changes, and the next write compacts it
+        Files.delete(blocker);
+        persistentVault.storeSecret("secret2", "value3");
+        assertEquals(0, Files.size(tempDir.resolve("vault.properties.journal")));
+
+        var reopened = new FsVault(vaultFile, true);
+        assertEquals("value2", reopened.resolveSecret("secret1"));
+        assertEquals("value3", reopened.resolveSecret("secret2"));
+    }
+
+    @Test
+    void verifyJournalReopenedAfterFailedCompaction(@TempDir Path tempDir) throws IOException {
+        var vaultFile = Files.writeString(tempDir.resolve("vault.properties"), "");
+        var opened = new AtomicInteger();
+        var persistentVault = new FsVault(vaultFile, true, 1, Clock.systemUTC(), monitor) {
+            @Override
+            FileChannel openJournal() throws IOException {
+                // the journal cannot be reopened by the first compaction
+                if (opened.incrementAndGet() == 2) {
+                    throw new IOException("unavailable");
+                }
+                return super.openJournal();
+            }
+        };
+
+        persistentVault.storeSecret("secret1", "value1");
+        assertTrue(persistentVault.storeSecret("secret1", "value2").success());
+        assertEquals(1, warnings.size());
+
+        assertTrue(persistentVault.storeSecret("secret2", "value3").success());
+        assertEquals(3, opened.get());
+
+        var reopened = new FsVault(vaultFile, true);
+        assertEquals("value2", reopened.resolveSecret("secret1"));
+        assertEquals("value3", reopened.resolveSecret("secret2"));
+    }
+
+    @Test
+    void verifyClose(@TempDir Path tempDir) throws IOException {
+        var vaultFile = Files.writeString(tempDir.resolve("vault.properties"), "");
+        var persistentVault = new FsVault(vaultFile, true);
+        persistentVault.storeSecret("secret1", "value1");
+
+        persistentVault.close();
+        persistentVault.close();
+
+        assertFalse(persistentVault.storeSecret("secret2", "value2").success());
+        assertEquals("value1", new FsVault(vaultFile, true).resolveSecret("secret1"));
+    }
+
     @BeforeEach
     void setUp() throws URISyntaxException {
         var uri = getClass().getClassLoader().getResource(TEST_VAULT).toURI();
@@ -14,17 +14,25 @@ public interface DidStore {
     String FEATURE = "edc:did-documentstore";
 
     /**
-     * Returns all stored documents up to the limit.
+     * Returns the first stored documents in the order they were persisted, up to the limit.
      */
     List<DidDocument> getAll(int limit);
 
     /**
-     * Returns all documents starting from the position specified by the given token.
+     * Returns all documents starting from the position specified by the given token, including the document whose id is the token.
      */
     List<DidDocument> getAfter(String continuationToken);
 
     /**
-     * Persists a document.
+     * Returns a page of documents in the order they were persisted, following the document whose id is the continuation token. The id of the last document
+     * of a page is the token of the next page, so paging ends with an empty page. Returns an empty list if no document with that id exists.
+     */
+    List<DidDocument> getAfter(String continuationToken, int limit);
+
+    /**
+     * Persists a document, unless a document with the same id already exists.
+     *
+     * @return true if the document was persisted
      */
     boolean save(DidDocument document);
 
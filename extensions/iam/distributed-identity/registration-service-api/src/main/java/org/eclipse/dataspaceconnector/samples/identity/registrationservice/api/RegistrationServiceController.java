@@ -36,7 +36,7 @@ public class RegistrationServiceController implements RegistrationService {
         if (StringUtils.isNullOrBlank(offset)) {
             allDids = getAllDids(100);
         } else {
-            allDids = getDidsWithOffset(offset);
+            allDids = getDidsWithOffset(offset, 100);
         }
 
         return Response.ok(allDids).build();
@@ -48,8 +48,8 @@ public class RegistrationServiceController implements RegistrationService {
         return didDocumentStore.forId(did);
     }
 
-    private List<DidDocument> getDidsWithOffset(String offset) {
-        return didDocumentStore.getAfter(offset);
+    private List<DidDocument> getDidsWithOffset(String offset, int maxNumber) {
+        return didDocumentStore.getAfter(offset, maxNumber);
     }
 
     private List<DidDocument> getAllDids(int maxNumber) {
@@ -18,18 +18,18 @@ import org.eclipse.dataspaceconnector.dataloading.AssetEntry;
 import org.eclipse.dataspaceconnector.dataloading.AssetLoader;
 import org.eclipse.dataspaceconnector.spi.asset.AssetIndex;
 import org.eclipse.dataspaceconnector.spi.asset.AssetSelectorExpression;
+import org.eclipse.dataspaceconnector.spi.asset.CriterionToPredicateConverter;
 import org.eclipse.dataspaceconnector.spi.asset.DataAddressResolver;
 import org.eclipse.dataspaceconnector.spi.types.domain.asset.Asset;
 import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataAddress;
 
+import java.util.Collection;
 import java.util.Collections;
-import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
@@ -67,7 +67,7 @@ public class InMemoryAssetLoader implements AssetIndex, DataAddressResolver, Ass
 
         // convert all the criteria into predicates since we're in memory anyway, collate all predicates into one and
         // apply it to the stream
-        var rootPredicate = expression.getCriteria().stream().map(predicateFactory::convert).reduce(x -> true, Predicate::and);
+        var rootPredicate = predicateFactory.convert(expression);
 
         lock.readLock().lock();
         try {
@@ -79,15 +79,12 @@ public class InMemoryAssetLoader implements AssetIndex, DataAddressResolver, Ass
 
     @Override
     public Asset findById(String assetId) {
-        Predicate<Asset> predicate = (asset) -> asset.getId().equals(assetId);
-        List<Asset> assets;
         lock.readLock().lock();
         try {
-            assets = filterByPredicate(cache, predicate).collect(Collectors.toList());
+            return cache.get(assetId);
         } finally {
             lock.readLock().unlock();
         }
-        return assets.isEmpty() ? null : assets.get(0);
     }
 
     @Override
@@ -122,6 +119,16 @@ public class InMemoryAssetLoader implements AssetIndex, DataAddressResolver, Ass
         }
     }
 
+    @Override
+    public void acceptAll(Collection<AssetEntry> items) {
+        lock.writeLock().lock();
+        try {
+            items.forEach(item -> add(item.getAsset(), item.getDataAddress()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
     @Override
     public void accept(Asset asset, DataAddress dataAddress) {
         accept(new AssetEntry(asset, dataAddress));
@@ -4,89 +4,112 @@ import org.eclipse.dataspaceconnector.iam.did.spi.document.DidDocument;
 import org.eclipse.dataspaceconnector.iam.did.spi.store.DidStore;
 import org.jetbrains.annotations.Nullable;
 
-import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
-import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.stream.Collectors;
-
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * An in-memory, threadsafe DID document store.
+ * <p>
+ * Documents are appended to a list in the order they are saved and indexed by id, so that lookups, duplicate checks and finding the start of a page are
+ * constant time. Pages are copies of a range of the list and never longer than the requested limit.
+ */
 public class InMemoryDidDocumentStore implements DidStore {
 
-    private final List<Entity<DidDocument>> memoryDb;
-
-    public InMemoryDidDocumentStore() {
-        memoryDb = new CopyOnWriteArrayList<>();
-    }
+    private final List<DidDocument> documents = new ArrayList<>();
+    private final Map<String, Integer> positions = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
 
     @Override
     public List<DidDocument> getAll(int limit) {
-        return memoryDb.stream().sorted().limit(limit).map(e -> e.payload).collect(Collectors.toList());
+        lock.readLock().lock();
+        try {
+            return page(0, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
     }
 
     @Override
     public List<DidDocument> getAfter(String continuationToken) {
-        if (memoryDb.stream().noneMatch(e -> e.getPayload().getId().equals(continuationToken))) {
-            return Collections.emptyList();
+        lock.readLock().lock();
+        try {
+            var position = positions.get(continuationToken);
+            return position != null ? page(position, Integer.MAX_VALUE) : Collections.emptyList();
+        } finally {
+            lock.readLock().unlock();
         }
+    }
 
-        return memoryDb.stream()
-                .dropWhile(e -> !e.getPayload().getId().equals(continuationToken))
-                .map(Entity::getPayload)
-                .collect(Collectors.toList());
+    @Override
+    public List<DidDocument> getAfter(String continuationToken, int limit) {
+        lock.readLock().lock();
+        try {
+            var position = positions.get(continuationToken);
+            // the token is the last document of the previous page
+            return position != null ? page(position + 1, limit) : Collections.emptyList();
+        } finally {
+            lock.readLock().unlock();
+        }
     }
 
     @Override
     public boolean save(DidDocument entity) {
-        if (memoryDb.stream().noneMatch(e -> e.getPayload().getId().equals(entity.getId()))) {
-            memoryDb.add(new Entity<>(entity));
-            return true;
+        lock.writeLock().lock();
+        try {
+            return append(entity);
+        } finally {
+            lock.writeLock().unlock();
         }
-        return false;
     }
 
     @Override
     public DidDocument getLatest() {
-        if (memoryDb.isEmpty()) {
-            return null;
+        lock.readLock().lock();
+        try {
+            return documents.isEmpty() ? null : documents.get(documents.size() - 1);
+        } finally {
+            lock.readLock().unlock();
         }
-
-        return memoryDb.get(memoryDb.size() - 1).getPayload();
     }
 
     @Override
     public void saveAll(Collection<DidDocument> entities) {
-        // to transaction handling is required here
-        entities.forEach(this::save);
+        // take the lock once for the whole collection, no transaction handling is required here
+        lock.writeLock().lock();
+        try {
+            entities.forEach(this::append);
+        } finally {
+            lock.writeLock().unlock();
+        }
     }
 
     @Override
     @Nullable
     public DidDocument forId(String did) {
-        // TODO this can be much more efficient
-        var result = memoryDb.stream().filter(d -> did.equals(d.payload.getId())).findFirst();
-        return result.map(didDocumentEntity -> didDocumentEntity.payload).orElse(null);
-    }
-
-    private static class Entity<T> implements Comparable<Entity<T>> {
-        private final Instant createTime = Instant.now();
-        private final T payload;
-
-        public Entity(T payload) {
-            this.payload = payload;
-        }
-
-        public T getPayload() {
-            return payload;
+        lock.readLock().lock();
+        try {
+            var position = positions.get(did);
+            return position != null ? documents.get(position) : null;
+        } finally {
+            lock.readLock().unlock();
         }
+    }
 
-        public Instant getCreateTime() {
-            return createTime;
+    private boolean append(DidDocument document) {
+        if (positions.putIfAbsent(document.getId(), documents.size()) != null) {
+            return false;
         }
+        documents.add(document);
+        return true;
+    }
 
-        @Override
-        public int compareTo(Entity<T> other) {
-            return createTime.compareTo(other.getCreateTime());
-        }
+    private List<DidDocument> page(int from, int limit) {
+        var to = (int) Math.min(documents.size(), (long) from + Math.max(limit, 0));
+        return from < to ? new ArrayList<>(documents.subList(from, to)) : Collections.emptyList();
     }
 }
@@ -8,8 +8,10 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.security.SecureRandom;
+import java.util.ArrayList;
 import java.util.Base64;
 import java.util.Collections;
+import java.util.List;
 import java.util.Random;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -55,6 +57,48 @@ class InMemoryDidDocumentStoreTest {
         assertThat(store.getAfter(d2.getId())).hasSize(2).containsOnly(d2, d3);
     }
 
+    @Test
+    void getAfter_pages() {
+        var documents = new ArrayList<DidDocument>();
+        for (int i = 0; i < 5; i++) {
+            documents.add(createDidDocument());
+        }
+        store.saveAll(documents);
+
+        var first = store.getAll(2);
+        assertThat(first).containsExactly(documents.get(0), documents.get(1));
+
+        // the last document of a page is the token of the next page
+        var second = store.getAfter(first.get(1).getId(), 2);
+        assertThat(second).containsExactly(documents.get(2), documents.get(3));
+
+        var third = store.getAfter(second.get(1).getId(), 2);
+        assertThat(third).containsExactly(documents.get(4));
+
+        assertThat(store.getAfter(third.get(0).getId(), 2)).isEmpty();
+    }
+
+    @Test
+    void getAfter_pagesThroughWholeStore() {
+        var documents = new ArrayList<DidDocument>();
+        for (int i = 0; i < 10; i++) {
+            documents.add(createDidDocument());
+        }
+        store.saveAll(documents);
+
+        var read = new ArrayList<DidDocument>();
+        var page = store.getAll(3);
+        var pages = 0;
+        while (!page.isEmpty()) {
+            assertThat(++pages).isLessThanOrEqualTo(documents.size());
+            read.addAll(page);
+            page = store.getAfter(page.get(page.size() - 1).getId(), 3);
+        }
+
+        assertThat(read).containsExactlyElementsOf(documents);
+        assertThat(pages).isEqualTo(4);
+    }
+
     @Test
     void getAfter_whenEmpty() {
         assertThat(store.getAfter("nonexist")).isNotNull().isEmpty();
@@ -86,6 +130,27 @@ class InMemoryDidDocumentStoreTest {
         assertThat(store.getAll(100)).hasSize(1).containsOnly(did);
     }
 
+    @Test
+    void saveAll_skipsExisting() {
+        var did1 = createDidDocument();
+        var did2 = createDidDocument();
+        store.save(did1);
+
+        store.saveAll(List.of(did2, did1, did2));
+
+        assertThat(store.getAll(100)).containsExactly(did1, did2);
+    }
+
+    @Test
+    void forId() {
+        var did1 = createDidDocument();
+        var did2 = createDidDocument();
+        store.saveAll(List.of(did1, did2));
+
+        assertThat(store.forId(did2.getId())).isEqualTo(did2);
+        assertThat(store.forId("notexist")).isNull();
+    }
+
     @Test
     void getLatest() throws InterruptedException {
         var did1 = createDidDocument();
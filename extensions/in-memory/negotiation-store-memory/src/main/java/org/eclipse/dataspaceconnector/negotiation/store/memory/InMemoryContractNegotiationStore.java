@@ -0,0 +1,256 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.negotiation.store.memory;
+
+import org.eclipse.dataspaceconnector.spi.contract.negotiation.store.ContractNegotiationStore;
+import org.eclipse.dataspaceconnector.spi.types.domain.contract.ContractAgreement;
+import org.eclipse.dataspaceconnector.spi.types.domain.contract.negotiation.ContractNegotiation;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static java.util.Collections.emptyList;
+
+/**
+ * An in-memory, threadsafe contract negotiation store that scales to a large number of negotiations.
+ * <p>
+ * Negotiations are indexed by id, correlation id and agreement id, so that all lookups are constant time and lock-free. For each state, negotiations are kept
+ * in a queue ordered by state timestamp, oldest first. {@link #nextForState(int, int)} takes negotiations from the head of the queue and leases them: they are not
+ * returned again until they are saved or the lease expires. Saving a negotiation moves it to the queue of its new state. {@link #findOlderThan(int, long, int)}
+ * reads from the head of the same queues without leasing.
+ * <p>
+ * All negotiations are stored and returned by value.
+ */
+public class InMemoryContractNegotiationStore implements ContractNegotiationStore {
+    private static final Comparator<Entry> QUEUE_ORDER = Comparator.<Entry>comparingLong(e -> e.negotiation.getStateTimestamp()).thenComparingLong(e -> e.sequence);
+    private static final Comparator<Entry> LEASE_ORDER = Comparator.<Entry>comparingLong(e -> e.leaseExpiry).thenComparingLong(e -> e.sequence);
+
+    private final Map<String, Entry> negotiationsById = new ConcurrentHashMap<>();
+    private final Map<String, String> idsByCorrelationId = new ConcurrentHashMap<>();
+    private final Map<String, String> idsByAgreementId = new ConcurrentHashMap<>();
+
+    // the queues and leases are only accessed while holding the lock
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<Integer, NavigableSet<Entry>> stateQueues = new HashMap<>();
+    private final NavigableSet<Entry> leases = new TreeSet<>(LEASE_ORDER);
+    private final long leaseMillis;
+    private final Clock clock;
+    private long sequence;
+
+    public InMemoryContractNegotiationStore() {
+        this(Duration.ofMinutes(1), Clock.systemUTC());
+    }
+
+    /**
+     * Creates a store that leases negotiations returned from {@link #nextForState(int, int)} for the given duration.
+     */
+    public InMemoryContractNegotiationStore(Duration leaseDuration, Clock clock) {
+        leaseMillis = leaseDuration.toMillis();
+        this.clock = clock;
+    }
+
+    @Override
+    public @Nullable ContractNegotiation find(String negotiationId) {
+        var entry = negotiationsById.get(negotiationId);
+        return entry != null ? entry.negotiation.copy() : null;
+    }
+
+    @Override
+    public @Nullable ContractNegotiation findForCorrelationId(String correlationId) {
+        var id = idsByCorrelationId.get(correlationId);
+        return id != null ? find(id) : null;
+    }
+
+    @Override
+    public @Nullable ContractAgreement findContractAgreement(String contractId) {
+        var id = idsByAgreementId.get(contractId);
+        var entry = id != null ? negotiationsById.get(id) : null;
+        return entry != null ? entry.negotiation.getContractAgreement() : null;
+    }
+
+    @Override
+    public void save(ContractNegotiation negotiation) {
+        lock.lock();
+        try {
+            store(negotiation);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean save(ContractNegotiation negotiation, int expectedState) {
+        lock.lock();
+        try {
+            // entries are only replaced while holding the lock, so the state cannot change between the check and the save
+            var stored = negotiationsById.get(negotiation.getId());
+            if (stored == null || stored.negotiation.getState() != expectedState) {
+                return false;
+            }
+            store(negotiation);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void delete(String negotiationId) {
+        lock.lock();
+        try {
+            var entry = negotiationsById.remove(negotiationId);
+            if (entry != null) {
+                unlink(entry, null);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public @NotNull List<ContractNegotiation> nextForState(int state, int max) {
+        lock.lock();
+        try {
+            var now = clock.millis();
+            releaseExpiredLeases(now);
+            var queue = stateQueues.get(state);
+            if (queue == null || queue.isEmpty()) {
+                return emptyList();
+            }
+            var negotiations = new ArrayList<ContractNegotiation>(Math.min(max, queue.size()));
+            while (negotiations.size() < max && !queue.isEmpty()) {
+                var entry = queue.pollFirst();
+                entry.leaseExpiry = now + leaseMillis;
+                leases.add(entry);
+                negotiations.add(entry.negotiation.copy());
+            }
+            return negotiations;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public @NotNull List<ContractNegotiation> findOlderThan(int state, long stateTimestamp, int max) {
+        lock.lock();
+        try {
+            var negotiations = new ArrayList<ContractNegotiation>();
+            var queue = stateQueues.get(state);
+            if (queue != null) {
+                for (var entry : queue) {
+                    if (negotiations.size() == max || entry.negotiation.getStateTimestamp() >= stateTimestamp) {
+                        break;
+                    }
+                    negotiations.add(entry.negotiation.copy());
+                }
+            }
+            // leased negotiations are not in the queue, but there are at most as many as are being processed
+            for (var entry : leases) {
+                if (entry.negotiation.getState() == state && entry.negotiation.getStateTimestamp() < stateTimestamp) {
+                    negotiations.add(entry.negotiation.copy());
+                }
+            }
+            negotiations.sort(Comparator.comparingLong(ContractNegotiation::getStateTimestamp));
+            return negotiations.size() > max ? new ArrayList<>(negotiations.subList(0, max)) : negotiations;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Replaces the stored negotiation, must be called while holding the lock.
+     */
+    private void store(ContractNegotiation negotiation) {
+        var entry = new Entry(negotiation.copy(), sequence++);
+        // index the new entry before unlinking the previous one, so that concurrent lookups always find the negotiation
+        var previous = negotiationsById.put(negotiation.getId(), entry);
+        index(entry);
+        if (previous != null) {
+            unlink(previous, entry);
+        }
+        queue(negotiation.getState()).add(entry);
+    }
+
+    private void index(Entry entry) {
+        var negotiation = entry.negotiation;
+        if (negotiation.getCorrelationId() != null) {
+            idsByCorrelationId.put(negotiation.getCorrelationId(), negotiation.getId());
+        }
+        if (negotiation.getContractAgreement() != null) {
+            idsByAgreementId.put(negotiation.getContractAgreement().getId(), negotiation.getId());
+        }
+    }
+
+    /**
+     * Removes the entry from its state queue or lease, and removes index keys that the replacing entry, if any, no longer has.
+     */
+    private void unlink(Entry entry, @Nullable Entry replacement) {
+        if (entry.leaseExpiry != 0) {
+            leases.remove(entry);
+        } else {
+            queue(entry.negotiation.getState()).remove(entry);
+        }
+        var id = entry.negotiation.getId();
+        var correlationId = entry.negotiation.getCorrelationId();
+        if (correlationId != null && (replacement == null || !correlationId.equals(replacement.negotiation.getCorrelationId()))) {
+            idsByCorrelationId.remove(correlationId, id);
+        }
+        var agreementId = entry.negotiation.getContractAgreement() != null ? entry.negotiation.getContractAgreement().getId() : null;
+        var replacementAgreement = replacement != null ? replacement.negotiation.getContractAgreement() : null;
+        if (agreementId != null && (replacementAgreement == null || !agreementId.equals(replacementAgreement.getId()))) {
+            idsByAgreementId.remove(agreementId, id);
+        }
+    }
+
+    /**
+     * Returns negotiations whose lease has expired to the queue of their state.
+     */
+    private void releaseExpiredLeases(long now) {
+        while (!leases.isEmpty() && leases.first().leaseExpiry <= now) {
+            var entry = leases.pollFirst();
+            entry.leaseExpiry = 0;
+            queue(entry.negotiation.getState()).add(entry);
+        }
+    }
+
+    private NavigableSet<Entry> queue(int state) {
+        return stateQueues.computeIfAbsent(state, s -> new TreeSet<>(QUEUE_ORDER));
+    }
+
+    /**
+     * A stored negotiation. The sequence makes entries with the same state timestamp distinct, the lease expiry is zero unless the entry is leased.
+     */
+    private static class Entry {
+        private final ContractNegotiation negotiation;
+        private final long sequence;
+        private long leaseExpiry;
+
+        Entry(ContractNegotiation negotiation, long sequence) {
+            this.negotiation = negotiation;
+            this.sequence = sequence;
+        }
+    }
+}
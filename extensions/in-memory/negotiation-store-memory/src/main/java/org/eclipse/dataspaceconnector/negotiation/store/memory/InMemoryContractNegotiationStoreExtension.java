@@ -0,0 +1,76 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.negotiation.store.memory;
+
+import org.eclipse.dataspaceconnector.spi.EdcException;
+import org.eclipse.dataspaceconnector.spi.EdcSetting;
+import org.eclipse.dataspaceconnector.spi.contract.negotiation.store.ContractNegotiationStore;
+import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
+import org.eclipse.dataspaceconnector.spi.system.ServiceExtension;
+import org.eclipse.dataspaceconnector.spi.system.ServiceExtensionContext;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Set;
+
+import static java.lang.String.format;
+
+/**
+ * Provides an in-memory implementation of the {@link ContractNegotiationStore}.
+ */
+public class InMemoryContractNegotiationStoreExtension implements ServiceExtension {
+
+    @EdcSetting
+    private static final String LEASE_MILLIS = "edc.negotiation.store.memory.lease.millis";
+
+    private Monitor monitor;
+
+    @Override
+    public Set<String> provides() {
+        return Set.of(ContractNegotiationStore.FEATURE);
+    }
+
+    @Override
+    public void initialize(ServiceExtensionContext context) {
+        monitor = context.getMonitor();
+        var leaseDuration = Duration.ofMillis(leaseMillis(context));
+        context.registerService(ContractNegotiationStore.class, new InMemoryContractNegotiationStore(leaseDuration, Clock.systemUTC()));
+        monitor.info("Initialized In-Memory Contract Negotiation Store extension");
+    }
+
+    @Override
+    public void start() {
+        monitor.info("Started In-Memory Contract Negotiation Store extension");
+    }
+
+    @Override
+    public void shutdown() {
+        monitor.info("Shutdown In-Memory Contract Negotiation Store extension");
+    }
+
+    private static long leaseMillis(ServiceExtensionContext context) {
+        var value = context.getSetting(LEASE_MILLIS, "60000");
+        long millis;
+        try {
+            millis = Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new EdcException(format("Invalid value for %s: %s", LEASE_MILLIS, value));
+        }
+        if (millis <= 0) {
+            throw new EdcException(format("Invalid value for %s: %s", LEASE_MILLIS, value));
+        }
+        return millis;
+    }
+}
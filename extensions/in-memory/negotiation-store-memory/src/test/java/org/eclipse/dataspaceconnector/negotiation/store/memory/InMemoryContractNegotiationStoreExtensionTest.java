@@ -0,0 +1,65 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.negotiation.store.memory;
+
+import org.eclipse.dataspaceconnector.spi.EdcException;
+import org.eclipse.dataspaceconnector.spi.contract.negotiation.store.ContractNegotiationStore;
+import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
+import org.eclipse.dataspaceconnector.spi.system.ServiceExtensionContext;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.easymock.EasyMock.anyString;
+import static org.easymock.EasyMock.createNiceMock;
+import static org.easymock.EasyMock.eq;
+import static org.easymock.EasyMock.expect;
+import static org.easymock.EasyMock.isA;
+import static org.easymock.EasyMock.replay;
+import static org.easymock.EasyMock.verify;
+
+class InMemoryContractNegotiationStoreExtensionTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = { "1m", "0", "-1" })
+    void initialize_rejectsInvalidLease(String lease) {
+        var context = context(lease);
+        replay(context);
+
+        assertThatThrownBy(() -> new InMemoryContractNegotiationStoreExtension().initialize(context))
+                .isInstanceOf(EdcException.class)
+                .hasMessage("Invalid value for edc.negotiation.store.memory.lease.millis: " + lease);
+    }
+
+    @Test
+    void initialize_registersStore() {
+        var context = context("1000");
+        context.registerService(eq(ContractNegotiationStore.class), isA(InMemoryContractNegotiationStore.class));
+        replay(context);
+
+        new InMemoryContractNegotiationStoreExtension().initialize(context);
+
+        verify(context);
+    }
+
+    private ServiceExtensionContext context(String lease) {
+        ServiceExtensionContext context = createNiceMock(ServiceExtensionContext.class);
+        expect(context.getMonitor()).andStubReturn(new Monitor() {
+        });
+        expect(context.getSetting(eq("edc.negotiation.store.memory.lease.millis"), anyString())).andStubReturn(lease);
+        return context;
+    }
+}
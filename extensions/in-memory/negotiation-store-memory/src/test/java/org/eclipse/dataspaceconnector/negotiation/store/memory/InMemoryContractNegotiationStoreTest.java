@@ -0,0 +1,165 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.negotiation.store.memory;
+
+import org.eclipse.dataspaceconnector.policy.model.Policy;
+import org.eclipse.dataspaceconnector.spi.types.domain.contract.ContractAgreement;
+import org.eclipse.dataspaceconnector.spi.types.domain.contract.negotiation.ContractNegotiation;
+import org.eclipse.dataspaceconnector.spi.types.domain.contract.negotiation.ContractNegotiationStates;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.dataspaceconnector.spi.types.domain.contract.negotiation.ContractNegotiation.Type.PROVIDER;
+
+class InMemoryContractNegotiationStoreTest {
+    private final InMemoryContractNegotiationStore store = new InMemoryContractNegotiationStore();
+
+    @Test
+    void verifySaveFindDelete() {
+        var negotiation = negotiation("correlation", ContractNegotiationStates.REQUESTED, 1);
+
+        store.save(negotiation);
+
+        var found = store.find(negotiation.getId());
+        assertThat(found).isEqualTo(negotiation).isNotSameAs(negotiation); // enforce by-value
+        assertThat(store.findForCorrelationId("correlation")).isEqualTo(negotiation);
+
+        store.delete(negotiation.getId());
+
+        assertThat(store.find(negotiation.getId())).isNull();
+        assertThat(store.findForCorrelationId("correlation")).isNull();
+        assertThat(store.nextForState(ContractNegotiationStates.REQUESTED.code(), 10)).isEmpty();
+    }
+
+    @Test
+    void verifyAgreementIndex() {
+        var negotiation = negotiation("correlation", ContractNegotiationStates.CONFIRMING, 1);
+        store.save(negotiation);
+        assertThat(store.findContractAgreement("1:2")).isNull();
+
+        negotiation.setContractAgreement(agreement("1:2"));
+        negotiation.transitionConfirmed();
+        store.save(negotiation);
+
+        assertThat(store.findContractAgreement("1:2")).isEqualTo(negotiation.getContractAgreement());
+    }
+
+    @Test
+    void verifyNextForState_oldestFirstAndLeased() {
+        var newer = negotiation("newer", ContractNegotiationStates.REQUESTED, 2);
+        var older = negotiation("older", ContractNegotiationStates.REQUESTED, 1);
+        var other = negotiation("other", ContractNegotiationStates.CONFIRMING, 0);
+        store.save(newer);
+        store.save(older);
+        store.save(other);
+
+        var next = store.nextForState(ContractNegotiationStates.REQUESTED.code(), 1);
+        assertThat(next).extracting(ContractNegotiation::getId).containsExactly(older.getId());
+
+        // the older negotiation is leased
+        next = store.nextForState(ContractNegotiationStates.REQUESTED.code(), 10);
+        assertThat(next).extracting(ContractNegotiation::getId).containsExactly(newer.getId());
+        assertThat(store.nextForState(ContractNegotiationStates.REQUESTED.code(), 10)).isEmpty();
+
+        // saving releases the lease
+        store.save(older);
+        assertThat(store.nextForState(ContractNegotiationStates.REQUESTED.code(), 10)).extracting(ContractNegotiation::getId).containsExactly(older.getId());
+    }
+
+    @Test
+    void verifyNextForState_movesWithState() {
+        var negotiation = negotiation("correlation", ContractNegotiationStates.REQUESTED, 1);
+        store.save(negotiation);
+
+        negotiation.transitionConfirming();
+        store.save(negotiation);
+
+        assertThat(store.nextForState(ContractNegotiationStates.REQUESTED.code(), 10)).isEmpty();
+        assertThat(store.nextForState(ContractNegotiationStates.CONFIRMING.code(), 10)).hasSize(1);
+    }
+
+    @Test
+    void verifySave_onlyFromExpectedState() {
+        var negotiation = negotiation("correlation", ContractNegotiationStates.REQUESTED, 1);
+        assertThat(store.save(negotiation, ContractNegotiationStates.REQUESTED.code())).isFalse(); // not stored yet
+        store.save(negotiation);
+
+        var confirming = negotiation.copy();
+        confirming.transitionConfirming();
+        assertThat(store.save(confirming, ContractNegotiationStates.REQUESTED.code())).isTrue();
+
+        // a copy read before the negotiation advanced does not overwrite it
+        negotiation.transitionError("timed out");
+        assertThat(store.save(negotiation, ContractNegotiationStates.REQUESTED.code())).isFalse();
+        assertThat(store.find(negotiation.getId()).getState()).isEqualTo(ContractNegotiationStates.CONFIRMING.code());
+        assertThat(store.nextForState(ContractNegotiationStates.ERROR.code(), 10)).isEmpty();
+    }
+
+    @Test
+    void verifyNextForState_expiredLeaseIsReturnedAgain() {
+        var leasingStore = new InMemoryContractNegotiationStore(Duration.ZERO, Clock.systemUTC());
+        leasingStore.save(negotiation("correlation", ContractNegotiationStates.REQUESTED, 1));
+
+        assertThat(leasingStore.nextForState(ContractNegotiationStates.REQUESTED.code(), 10)).hasSize(1);
+        assertThat(leasingStore.nextForState(ContractNegotiationStates.REQUESTED.code(), 10)).hasSize(1);
+    }
+
+    @Test
+    void verifyFindOlderThan_doesNotLease() {
+        var older = negotiation("older", ContractNegotiationStates.REQUESTED, 1);
+        var newer = negotiation("newer", ContractNegotiationStates.REQUESTED, 5);
+        store.save(newer);
+        store.save(older);
+        store.save(negotiation("other", ContractNegotiationStates.CONFIRMING, 1));
+
+        assertThat(store.findOlderThan(ContractNegotiationStates.REQUESTED.code(), 5, 10)).extracting(ContractNegotiation::getId).containsExactly(older.getId());
+        assertThat(store.findOlderThan(ContractNegotiationStates.REQUESTED.code(), 6, 1)).extracting(ContractNegotiation::getId).containsExactly(older.getId());
+
+        // the negotiations are still available to the state machine
+        assertThat(store.nextForState(ContractNegotiationStates.REQUESTED.code(), 10)).hasSize(2);
+        // and leased negotiations are still found
+        assertThat(store.findOlderThan(ContractNegotiationStates.REQUESTED.code(), 6, 10)).hasSize(2);
+    }
+
+    private ContractNegotiation negotiation(String correlationId, ContractNegotiationStates state, long stateTimestamp) {
+        return ContractNegotiation.Builder.newInstance()
+                .id(UUID.randomUUID().toString())
+                .correlationId(correlationId)
+                .counterPartyId("consumer")
+                .protocol("ids-multipart")
+                .type(PROVIDER)
+                .state(state.code())
+                .stateTimestamp(stateTimestamp)
+                .build();
+    }
+
+    private ContractAgreement agreement(String id) {
+        return ContractAgreement.Builder.newInstance()
+                .id(id)
+                .providerAgentId("provider")
+                .consumerAgentId("consumer")
+                .contractSigningDate(1)
+                .contractStartDate(1)
+                .contractEndDate(2)
+                .assetIds(List.of("asset"))
+                .policy(Policy.Builder.newInstance().build())
+                .build();
+    }
+}
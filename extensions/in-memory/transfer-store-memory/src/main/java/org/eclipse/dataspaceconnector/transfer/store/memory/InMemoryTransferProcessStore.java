@@ -15,6 +15,7 @@
 package org.eclipse.dataspaceconnector.transfer.store.memory;
 
 import org.eclipse.dataspaceconnector.spi.EdcException;
+import org.eclipse.dataspaceconnector.spi.transfer.store.TransferProcessQuery;
 import org.eclipse.dataspaceconnector.spi.transfer.store.TransferProcessStore;
 import org.eclipse.dataspaceconnector.spi.types.domain.transfer.TransferProcess;
 import org.jetbrains.annotations.NotNull;
@@ -69,6 +70,17 @@ public class InMemoryTransferProcessStore implements TransferProcessStore {
         });
     }
 
+    @Override
+    public @NotNull List<TransferProcess> query(TransferProcessQuery query) {
+        return readLock(() -> processesById.values().stream()
+                .filter(query::matches)
+                .sorted(Comparator.comparingLong(TransferProcess::getStateTimestamp).thenComparing(TransferProcess::getId))
+                .skip(query.getOffset())
+                .limit(query.getLimit())
+                .map(TransferProcess::copy)
+                .collect(toList()));
+    }
+
     @Override
     public void create(TransferProcess process) {
         writeLock(() -> {
@@ -14,6 +14,7 @@
 
 package org.eclipse.dataspaceconnector.transfer.store.memory;
 
+import org.eclipse.dataspaceconnector.spi.transfer.store.TransferProcessQuery;
 import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataRequest;
 import org.eclipse.dataspaceconnector.spi.types.domain.transfer.ProvisionedResourceSet;
 import org.eclipse.dataspaceconnector.spi.types.domain.transfer.ResourceManifest;
@@ -145,6 +146,34 @@ class InMemoryTransferProcessStoreTest {
         assertThat(list1).isNotEqualTo(list2).doesNotContainAnyElementsOf(list2);
     }
 
+    @Test
+    void verifyQuery_filtersAndPages() {
+        for (int i = 0; i < 10; i++) {
+            var asset = i % 2 == 0 ? "asset-even" : "asset-odd";
+            var process = TransferProcess.Builder.newInstance().id("process-" + i)
+                    .dataRequest(DataRequest.Builder.newInstance().id("request-" + i).assetId(asset).destinationType("test").build())
+                    .build();
+            store.create(process);
+        }
+        var provisioning = store.find("process-0");
+        provisioning.transitionProvisioning(ResourceManifest.Builder.newInstance().build());
+        store.update(provisioning);
+
+        var evenAssets = store.query(TransferProcessQuery.Builder.newInstance().assetId("asset-even").build());
+        assertThat(evenAssets).hasSize(5).allMatch(p -> "asset-even".equals(p.getDataRequest().getAssetId()));
+
+        var initialEvenAssets = store.query(TransferProcessQuery.Builder.newInstance().assetId("asset-even").state(TransferProcessStates.INITIAL.code()).build());
+        assertThat(initialEvenAssets).hasSize(4).noneMatch(p -> p.getId().equals("process-0"));
+
+        var firstPage = store.query(TransferProcessQuery.Builder.newInstance().limit(6).build());
+        var secondPage = store.query(TransferProcessQuery.Builder.newInstance().offset(6).limit(6).build());
+        assertThat(firstPage).hasSize(6);
+        assertThat(secondPage).hasSize(4).doesNotContainAnyElementsOf(firstPage);
+
+        var future = store.query(TransferProcessQuery.Builder.newInstance().from(System.currentTimeMillis() + 60_000).build());
+        assertThat(future).isEmpty();
+    }
+
     @BeforeEach
     void setUp() {
         store = new InMemoryTransferProcessStore();
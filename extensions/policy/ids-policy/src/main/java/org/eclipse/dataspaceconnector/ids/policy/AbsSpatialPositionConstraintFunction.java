@@ -14,29 +14,24 @@
 
 package org.eclipse.dataspaceconnector.ids.policy;
 
+import org.eclipse.dataspaceconnector.policy.model.Operand;
+import org.eclipse.dataspaceconnector.policy.model.Operands;
 import org.eclipse.dataspaceconnector.policy.model.Operator;
 import org.eclipse.dataspaceconnector.policy.model.Permission;
 import org.eclipse.dataspaceconnector.spi.contract.policy.AtomicConstraintFunction;
 import org.eclipse.dataspaceconnector.spi.contract.policy.PolicyContext;
 
-import java.util.Collection;
-import java.util.Objects;
-
 public class AbsSpatialPositionConstraintFunction implements AtomicConstraintFunction<Permission> {
 
     @Override
     public boolean evaluate(Operator operator, Object rightValue, Permission rule, PolicyContext context) {
+        return evaluate(operator, Operand.of(rightValue), rule, context);
+    }
+
+    @Override
+    public boolean evaluate(Operator operator, Operand rightOperand, Permission rule, PolicyContext context) {
         var region = context.getParticipantAgent().getClaims().get("region");
-        switch (operator) {
-            case EQ:
-                return Objects.equals(region, rightValue);
-            case NEQ:
-                return !Objects.equals(region, rightValue);
-            case IN:
-                return ((Collection<?>) rightValue).contains(region);
-            default:
-                return false;
-        }
+        return Operands.evaluate(operator, region, rightOperand);
     }
 
 }
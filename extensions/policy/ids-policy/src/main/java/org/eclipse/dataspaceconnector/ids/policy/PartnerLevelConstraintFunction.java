@@ -14,28 +14,23 @@
 
 package org.eclipse.dataspaceconnector.ids.policy;
 
+import org.eclipse.dataspaceconnector.policy.model.Operand;
+import org.eclipse.dataspaceconnector.policy.model.Operands;
 import org.eclipse.dataspaceconnector.policy.model.Operator;
 import org.eclipse.dataspaceconnector.policy.model.Permission;
 import org.eclipse.dataspaceconnector.spi.contract.policy.AtomicConstraintFunction;
 import org.eclipse.dataspaceconnector.spi.contract.policy.PolicyContext;
 
-import java.util.Collection;
-import java.util.Objects;
-
 public class PartnerLevelConstraintFunction implements AtomicConstraintFunction<Permission> {
     @Override
     public boolean evaluate(Operator operator, Object rightValue, Permission rule, PolicyContext context) {
+        return evaluate(operator, Operand.of(rightValue), rule, context);
+    }
+
+    @Override
+    public boolean evaluate(Operator operator, Operand rightOperand, Permission rule, PolicyContext context) {
         String partnerLevel = context.getParticipantAgent().getClaims().get("partnerLevel");
-        switch (operator) {
-            case EQ:
-                return Objects.equals(partnerLevel, rightValue);
-            case NEQ:
-                return !Objects.equals(partnerLevel, rightValue);
-            case IN:
-                return ((Collection<?>) rightValue).contains(partnerLevel);
-            default:
-                return false;
-        }
+        return Operands.evaluate(operator, partnerLevel, rightOperand);
     }
 
 }
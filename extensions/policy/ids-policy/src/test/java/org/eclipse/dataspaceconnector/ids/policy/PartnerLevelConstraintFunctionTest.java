@@ -1,6 +1,7 @@
 package org.eclipse.dataspaceconnector.ids.policy;
 
 import org.eclipse.dataspaceconnector.contract.policy.PolicyContextImpl;
+import org.eclipse.dataspaceconnector.policy.model.Operand;
 import org.eclipse.dataspaceconnector.policy.model.Operator;
 import org.eclipse.dataspaceconnector.policy.model.Permission;
 import org.eclipse.dataspaceconnector.spi.contract.agent.ParticipantAgent;
@@ -36,6 +37,23 @@ class PartnerLevelConstraintFunctionTest {
         assertThat(result).isFalse();
     }
 
+    @Test
+    void shouldNotVerifyEqConstraintOfNumericLevels() {
+        var agent = new ParticipantAgent(Map.of("partnerLevel", "0123"), emptyMap());
+
+        boolean result = constraintFunction.evaluate(EQ, "123", Permission.Builder.newInstance().build(), new PolicyContextImpl(agent));
+
+        assertThat(result).isFalse();
+    }
+
+    @Test
+    void shouldVerifyEqConstraintOfTypedOperand() {
+        var agent = new ParticipantAgent(Map.of("partnerLevel", "1000"), emptyMap());
+
+        assertThat(constraintFunction.evaluate(EQ, Operand.of("1000"), Permission.Builder.newInstance().build(), new PolicyContextImpl(agent))).isTrue();
+        assertThat(constraintFunction.evaluate(EQ, Operand.of("1e3"), Permission.Builder.newInstance().build(), new PolicyContextImpl(agent))).isFalse();
+    }
+
     @Test
     void shouldVerifyNotEqConstraint() {
         var agent = new ParticipantAgent(Map.of("partnerLevel", "gold"), emptyMap());
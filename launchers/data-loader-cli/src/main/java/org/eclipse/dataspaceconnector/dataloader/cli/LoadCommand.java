@@ -13,28 +13,39 @@
  */
 package org.eclipse.dataspaceconnector.dataloader.cli;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.eclipse.dataspaceconnector.dataloading.AssetEntry;
 import org.eclipse.dataspaceconnector.dataloading.DataLoader;
 import org.eclipse.dataspaceconnector.dataloading.DataSink;
+import org.eclipse.dataspaceconnector.dataloading.JsonItemReader;
 import org.eclipse.dataspaceconnector.spi.types.domain.contract.offer.ContractDefinition;
 import picocli.CommandLine;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
-import java.util.Collection;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.TimeUnit;
 
 @CommandLine.Command(name = "load", mixinStandardHelpOptions = true, description = "Reads objects from a JSON file into a backing store.")
 public class LoadCommand implements Runnable {
 
+    private static final long PROGRESS_INTERVAL = TimeUnit.SECONDS.toNanos(5);
+
     private final ObjectMapper mapper;
     private final DataSink<AssetEntry> assetSink;
     private final DataSink<ContractDefinition> contractsSink;
     @CommandLine.ArgGroup(exclusive = true, multiplicity = "1")
     LoadInstruction loadInstruction;
+    @CommandLine.Option(names = { "--batch-size" }, description = "The number of objects that are stored at once. Defaults to ${DEFAULT-VALUE}.")
+    int batchSize = 100;
+    @CommandLine.Option(names = { "--parallelism" }, description = "The number of threads that validate objects. Defaults to the number of processors.")
+    int parallelism = Runtime.getRuntime().availableProcessors();
+    @CommandLine.Option(names = { "--checkpoint" }, description = "A file that records how many objects were stored. If it exists, loading resumes after these objects. It is deleted once all objects are stored.")
+    File checkpointFile;
+
+    private long lastReport;
 
     public LoadCommand(ObjectMapper mapper, DataSink<AssetEntry> assetSink, DataSink<ContractDefinition> contractsSink) {
         this.mapper = mapper;
@@ -51,16 +62,9 @@ public class LoadCommand implements Runnable {
             throw new IllegalArgumentException("--assets and --contracts are mutually exclusive!");
         }
         if (loadInstruction.assetsFileName != null) {
-            var json = readFile(loadInstruction.assetsFileName);
-            var assetList = tryReadAsAssetRecords(json);
-
-            DataLoader.Builder<AssetEntry> builder = DataLoader.Builder.newInstance();
-            builder.sink(assetSink).build().insertAll(assetList);
+            load(loadInstruction.assetsFileName, AssetEntry.class, assetSink);
         } else if (loadInstruction.contractsFile != null) {
-            var json = readFile(loadInstruction.contractsFile);
-            var contractDefList = tryReadAsContractRecords(json);
-            DataLoader.Builder<ContractDefinition> builder = DataLoader.Builder.newInstance();
-            builder.sink(contractsSink).build().insertAll(contractDefList);
+            load(loadInstruction.contractsFile, ContractDefinition.class, contractsSink);
         } else {
             throw new IllegalArgumentException("Can only parse AssetEntry objects at this time!");
         }
@@ -82,31 +86,79 @@ public class LoadCommand implements Runnable {
         loadInstruction.contractsFile = parseAssets;
     }
 
-    private Collection<ContractDefinition> tryReadAsContractRecords(String json) {
-        var tr = new TypeReference<Collection<ContractDefinition>>() {
-        };
-        try {
-            return mapper.readValue(json, tr);
-        } catch (JsonProcessingException e) {
+    /**
+     * Streams the objects from the file into the sink, so that the file is never held in memory as a whole. The file contains either a JSON array or one
+     * object per line.
+     */
+    private <T> void load(File file, Class<T> type, DataSink<T> sink) {
+        var checkpoint = readCheckpoint();
+        var started = System.nanoTime();
+        lastReport = started;
+        try (var stream = Files.newInputStream(file.toPath()); var reader = new JsonItemReader<>(mapper, type, stream)) {
+            var position = reader.skip(checkpoint);
+
+            DataLoader.Builder<T> builder = DataLoader.Builder.newInstance();
+            var loader = builder.sink(sink)
+                    .batchSize(batchSize)
+                    .parallelism(parallelism)
+                    .progressListener(this::onProgress)
+                    .build();
+            var total = loader.insertAll(reader, position);
+
+            System.out.printf("Stored %d objects in %d seconds%n", total - position, TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - started));
+        } catch (IOException e) {
             throw new RuntimeException(e);
         }
+        deleteCheckpoint();
     }
 
-    private Collection<AssetEntry> tryReadAsAssetRecords(String json) {
-        var tr = new TypeReference<Collection<AssetEntry>>() {
-        };
+    private void onProgress(long position) {
+        writeCheckpoint(position);
+        var now = System.nanoTime();
+        if (now - lastReport >= PROGRESS_INTERVAL) {
+            lastReport = now;
+            System.out.printf("Stored %d objects%n", position);
+        }
+    }
+
+    private long readCheckpoint() {
+        if (checkpointFile == null || !checkpointFile.exists()) {
+            return 0;
+        }
         try {
-            return mapper.readValue(json, tr);
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException(e);
+            var position = Long.parseLong(Files.readString(checkpointFile.toPath()).trim());
+            System.out.printf("Resuming after %d objects%n", position);
+            return position;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
     }
 
-    private String readFile(File file) {
+    /**
+     * Replaces the checkpoint atomically, so that an interrupted load never leaves a partially written checkpoint behind.
+     */
+    private void writeCheckpoint(long position) {
+        if (checkpointFile == null) {
+            return;
+        }
+        var target = checkpointFile.toPath();
+        var temp = target.resolveSibling(target.getFileName() + ".tmp");
         try {
-            return Files.readString(file.toPath());
+            Files.writeString(temp, Long.toString(position));
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
         } catch (IOException e) {
-            throw new RuntimeException(e);
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void deleteCheckpoint() {
+        if (checkpointFile == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(checkpointFile.toPath());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
     }
 
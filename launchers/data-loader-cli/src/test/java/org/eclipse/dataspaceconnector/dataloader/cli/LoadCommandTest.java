@@ -15,6 +15,8 @@ package org.eclipse.dataspaceconnector.dataloader.cli;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import org.easymock.Capture;
+import org.easymock.CaptureType;
 import org.eclipse.dataspaceconnector.dataloading.AssetEntry;
 import org.eclipse.dataspaceconnector.dataloading.AssetLoader;
 import org.eclipse.dataspaceconnector.dataloading.ContractDefinitionLoader;
@@ -22,13 +24,20 @@ import org.eclipse.dataspaceconnector.dataloading.DataSink;
 import org.eclipse.dataspaceconnector.spi.types.domain.contract.offer.ContractDefinition;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.Collection;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
-import static org.easymock.EasyMock.anyObject;
+import static org.easymock.EasyMock.capture;
 import static org.easymock.EasyMock.expectLastCall;
+import static org.easymock.EasyMock.newCapture;
 import static org.easymock.EasyMock.replay;
 import static org.easymock.EasyMock.strictMock;
 import static org.easymock.EasyMock.verify;
@@ -49,14 +58,50 @@ class LoadCommandTest {
 
     @Test
     void runCommand_assets() {
-        assetLoaderMock.accept(anyObject(AssetEntry.class));
-        expectLastCall().times(10);
+        Capture<Collection<AssetEntry>> items = newCapture();
+        assetLoaderMock.acceptAll(capture(items));
+        expectLastCall();
         replay(assetLoaderMock);
 
         var file = getFileFromResourceName("assets.json");
         loadCommand.setParseAssets(file);
 
         loadCommand.run();
+        assertThat(items.getValue()).hasSize(10);
+        verify(assetLoaderMock);
+    }
+
+    @Test
+    void runCommand_assets_jsonLinesInBatches() {
+        Capture<Collection<AssetEntry>> items = newCapture(CaptureType.ALL);
+        assetLoaderMock.acceptAll(capture(items));
+        expectLastCall().times(3);
+        replay(assetLoaderMock);
+
+        var file = getFileFromResourceName("assets.jsonl");
+        loadCommand.setParseAssets(file);
+        loadCommand.batchSize = 4;
+
+        loadCommand.run();
+        assertThat(items.getValues()).extracting(Collection::size).containsExactly(4, 4, 2);
+        verify(assetLoaderMock);
+    }
+
+    @Test
+    void runCommand_assets_resumesFromCheckpoint(@TempDir Path tempDir) throws IOException {
+        Capture<Collection<AssetEntry>> items = newCapture();
+        assetLoaderMock.acceptAll(capture(items));
+        expectLastCall();
+        replay(assetLoaderMock);
+
+        var checkpoint = tempDir.resolve("assets.checkpoint");
+        Files.writeString(checkpoint, "7");
+        loadCommand.setParseAssets(getFileFromResourceName("assets.json"));
+        loadCommand.checkpointFile = checkpoint.toFile();
+
+        loadCommand.run();
+        assertThat(items.getValue()).extracting(entry -> entry.getAsset().getId()).containsExactly("test-asset-7", "test-asset-8", "test-asset-9");
+        assertThat(checkpoint).doesNotExist();
         verify(assetLoaderMock);
     }
 
@@ -95,14 +140,16 @@ class LoadCommandTest {
 
     @Test
     void runCommand_contracts() {
-        contractsSinkMock.accept(anyObject(ContractDefinition.class));
-        expectLastCall().times(10);
+        Capture<Collection<ContractDefinition>> items = newCapture();
+        contractsSinkMock.acceptAll(capture(items));
+        expectLastCall();
         replay(contractsSinkMock, assetLoaderMock);
 
         var file = getFileFromResourceName("contracts.json");
         loadCommand.setParseContracts(file);
 
         loadCommand.run();
+        assertThat(items.getValue()).hasSize(10);
         verify(contractsSinkMock, assetLoaderMock);
     }
 
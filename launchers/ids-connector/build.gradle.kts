@@ -29,6 +29,7 @@ dependencies {
     implementation(project(":core:contract"))
 
     implementation(project(":extensions:in-memory:transfer-store-memory"))
+    implementation(project(":extensions:in-memory:negotiation-store-memory"))
     implementation(project(":extensions:in-memory:policy-registry-memory"))
     implementation(project(":extensions:in-memory:assetindex-memory"))
 
@@ -96,6 +96,9 @@ public class EdcExtension implements BeforeTestExecutionCallback, AfterTestExecu
 
     @Override
     public void afterTestExecution(ExtensionContext context) {
+        if (this.context != null) {
+            this.context.shutdown();
+        }
         if (runningServiceExtensions != null) {
             var iter = runningServiceExtensions.listIterator(runningServiceExtensions.size());
             while (iter.hasPrevious()) {
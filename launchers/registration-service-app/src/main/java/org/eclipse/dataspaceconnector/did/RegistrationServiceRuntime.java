@@ -39,7 +39,10 @@ public class RegistrationServiceRuntime {
         try {
             loadVault(context);
             List<ServiceExtension> serviceExtensions = context.loadServiceExtensions();
-            Runtime.getRuntime().addShutdownHook(new Thread(() -> shutdown(serviceExtensions, monitor)));
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                context.shutdown();
+                shutdown(serviceExtensions, monitor);
+            }));
             bootServiceExtensions(serviceExtensions, context);
         } catch (Exception e) {
             monitor.severe("Error booting runtime", e);
@@ -68,6 +68,7 @@ include(":extensions:filesystem:vault-fs")
 include(":extensions:in-memory:assetindex-memory")
 include(":extensions:in-memory:policy-registry-memory")
 include(":extensions:in-memory:transfer-store-memory")
+include(":extensions:in-memory:negotiation-store-memory")
 include(":extensions:in-memory:did-document-store-inmem")
 include(":extensions:in-memory:identity-hub-memory")
 include(":extensions:in-memory:fcc-node-directory-memory")
@@ -120,6 +121,10 @@ include(":samples:other:streaming")
 include(":samples:other:file-transfer-s3-to-s3")
 include(":samples:other:custom-runtime")
 
+// benchmarks and system level tests
+include(":system-tests:benchmarks")
+include(":system-tests:transfer-load-test")
+
 // all implementations during/regarding the GaiaX Hackathon should go here:
 
 
@@ -0,0 +1,217 @@
+package org.eclipse.dataspaceconnector.spi.asset;
+
+import org.eclipse.dataspaceconnector.spi.types.domain.asset.Asset;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * Converts a {@link Criterion}, which is essentially a select statement, into a {@code Predicate<Asset>}.
+ * <p>
+ * This is useful when dealing with in-memory collections of objects, here: {@link Asset} where Predicates can be applied
+ * efficiently. It is also used to check whether a single asset is selected by an {@link AssetSelectorExpression} without
+ * querying the {@link AssetIndex}.
+ * <p>
+ * Supports the operators {@code =}, {@code !=}, {@code <}, {@code <=}, {@code >}, {@code >=}, {@code IN}, {@code LIKE} and {@code CONTAINS}, whose right
+ * operands are read like the literals of a Cosmos SQL query: {@code 'text'} is the string {@code text}, numbers and booleans are typed, and other text is
+ * taken as-is. A number or boolean also matches a string property with the same text, so that selectors written before literals were typed keep matching.
+ * Comparisons between a number and a string, and conditions on a missing property, never match.
+ * <p>
+ * _Note: other {@link AssetIndex} implementations might have different converters!
+ */
+public class CriterionToPredicateConverter implements CriterionConverter<Predicate<Asset>> {
+    private static final Pattern NUMBER = Pattern.compile("-?\\d+(\\.\\d+)?([eE][-+]?\\d+)?");
+
+    @Override
+    public Predicate<Asset> convert(Criterion criterion) {
+        var key = (String) criterion.getOperandLeft();
+        // parse the operand once, not for every asset
+        switch (criterion.getOperator().toUpperCase(Locale.ROOT)) {
+            case "=":
+                return matching(key, value(criterion.getOperandRight())::matches);
+            case "!=":
+                var unequal = value(criterion.getOperandRight());
+                return matching(key, property -> !unequal.matches(property));
+            case "<":
+                return comparing(key, criterion.getOperandRight(), result -> result < 0);
+            case "<=":
+                return comparing(key, criterion.getOperandRight(), result -> result <= 0);
+            case ">":
+                return comparing(key, criterion.getOperandRight(), result -> result > 0);
+            case ">=":
+                return comparing(key, criterion.getOperandRight(), result -> result >= 0);
+            case "IN":
+                var items = items(criterion.getOperandRight());
+                return matching(key, property -> items.stream().anyMatch(item -> item.matches(property)));
+            case "LIKE":
+                var pattern = like(String.valueOf(value(criterion.getOperandRight()).text));
+                return matching(key, property -> property instanceof String && pattern.matcher((String) property).matches());
+            case "CONTAINS":
+                var element = value(criterion.getOperandRight());
+                return matching(key, property -> property instanceof Collection && ((Collection<?>) property).stream().anyMatch(element::matches));
+            default:
+                throw new IllegalArgumentException(String.format("Operator [%s] is not supported by this converter!", criterion.getOperator()));
+        }
+    }
+
+    /**
+     * Converts all criteria of the expression into a single predicate. An expression without criteria selects no assets, {@link AssetSelectorExpression#SELECT_ALL} selects all
+     * assets.
+     */
+    public Predicate<Asset> convert(AssetSelectorExpression expression) {
+        Objects.requireNonNull(expression, "AssetSelectorExpression can not be null!");
+        if (expression == AssetSelectorExpression.SELECT_ALL) {
+            return asset -> true;
+        }
+        if (expression.getCriteria().isEmpty()) {
+            return asset -> false;
+        }
+        return expression.getCriteria().stream().map(this::convert).reduce(x -> true, Predicate::and);
+    }
+
+    private Predicate<Asset> matching(String key, Predicate<Object> condition) {
+        return asset -> {
+            Object property = property(key, asset);
+            if (property == null) {
+                return false; //property does not exist on asset
+            }
+            return condition.test(property);
+        };
+    }
+
+    private Predicate<Asset> comparing(String key, Object operand, IntPredicate result) {
+        var value = value(operand).value;
+        return matching(key, property -> {
+            var comparison = compare(property, value);
+            return comparison != null && result.test(comparison);
+        });
+    }
+
+    /**
+     * Compares numbers by value and strings and booleans with their own kind, returning null if the two cannot be compared.
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static Integer compare(Object property, Object value) {
+        if (property instanceof Number && value instanceof Number) {
+            return Double.compare(((Number) property).doubleValue(), ((Number) value).doubleValue());
+        }
+        if (property instanceof Comparable && value != null && property.getClass() == value.getClass()) {
+            return ((Comparable) property).compareTo(value);
+        }
+        return null;
+    }
+
+    /**
+     * Returns the items of an IN operand, which is either a collection or a list in the form {@code (a, 'b', 3)}.
+     */
+    private List<Operand> items(Object operand) {
+        var items = new ArrayList<Operand>();
+        if (operand instanceof Collection) {
+            ((Collection<?>) operand).forEach(item -> items.add(value(item)));
+        } else if (operand != null) {
+            var list = operand.toString().trim();
+            if (list.startsWith("(") && list.endsWith(")")) {
+                list = list.substring(1, list.length() - 1);
+            }
+            for (var item : split(list)) {
+                items.add(value(item));
+            }
+        }
+        return items;
+    }
+
+    /**
+     * Splits a list at commas that are not part of a quoted string.
+     */
+    private static List<String> split(String list) {
+        var items = new ArrayList<String>();
+        var quoted = false;
+        var start = 0;
+        for (var i = 0; i < list.length(); i++) {
+            var c = list.charAt(i);
+            if (c == '\'') {
+                quoted = !quoted;
+            } else if (c == ',' && !quoted) {
+                items.add(list.substring(start, i));
+                start = i + 1;
+            }
+        }
+        items.add(list.substring(start));
+        return items;
+    }
+
+    /**
+     * Reads a right operand, parsing strings as literals.
+     */
+    private static Operand value(Object operand) {
+        if (!(operand instanceof String)) {
+            return new Operand(operand, operand != null ? operand.toString() : null);
+        }
+        var text = ((String) operand).trim();
+        if (text.length() >= 2 && text.startsWith("'") && text.endsWith("'")) {
+            var content = text.substring(1, text.length() - 1).replace("''", "'");
+            return new Operand(content, content);
+        } else if (NUMBER.matcher(text).matches()) {
+            return new Operand(text.contains(".") || text.contains("e") || text.contains("E") ? (Object) Double.valueOf(text) : (Object) Long.valueOf(text), text);
+        } else if ("true".equals(text) || "false".equals(text)) {
+            return new Operand(Boolean.valueOf(text), text);
+        }
+        return new Operand(text, text);
+    }
+
+    /**
+     * Translates a LIKE pattern, in which {@code %} matches any text and {@code _} any single character, into a regular expression.
+     */
+    private static Pattern like(String pattern) {
+        var regex = new StringBuilder();
+        var literal = new StringBuilder();
+        for (var c : pattern.toCharArray()) {
+            if (c == '%' || c == '_') {
+                if (literal.length() > 0) {
+                    regex.append(Pattern.quote(literal.toString()));
+                    literal.setLength(0);
+                }
+                regex.append(c == '%' ? ".*" : ".");
+            } else {
+                literal.append(c);
+            }
+        }
+        if (literal.length() > 0) {
+            regex.append(Pattern.quote(literal.toString()));
+        }
+        return Pattern.compile(regex.toString(), Pattern.DOTALL);
+    }
+
+    private <T> T property(String key, Asset asset) {
+        if (asset.getProperties() == null || asset.getProperties().isEmpty()) {
+            return null;
+        }
+        return (T) asset.getProperty(key);
+    }
+
+    /**
+     * A parsed right operand, together with the text it was written as.
+     */
+    private static class Operand {
+        private final Object value;
+        private final String text;
+
+        Operand(Object value, String text) {
+            this.value = value;
+            this.text = text;
+        }
+
+        boolean matches(Object property) {
+            if (property instanceof Number && value instanceof Number) {
+                return ((Number) property).doubleValue() == ((Number) value).doubleValue();
+            }
+            return Objects.equals(property, value) || property instanceof String && property.equals(text);
+        }
+    }
+}
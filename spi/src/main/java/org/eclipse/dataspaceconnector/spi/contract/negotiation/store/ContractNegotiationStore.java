@@ -27,6 +27,8 @@ import java.util.List;
  */
 public interface ContractNegotiationStore {
 
+    String FEATURE = "edc:contractnegotiation:store";
+
     /**
      * Finds the contract negotiation for the id or null.
      */
@@ -50,6 +52,23 @@ public interface ContractNegotiationStore {
      */
     void save(ContractNegotiation negotiation);
 
+    /**
+     * Persists a contract negotiation only if the stored negotiation is still in the expected state, i.e. the state it was read in. This lets a caller detect that
+     * the negotiation was changed concurrently instead of overwriting the change.
+     * <p>
+     * The default implementation checks and saves in two steps, stores that are shared between threads or runtimes should override it to do both atomically.
+     *
+     * @return false if the negotiation does not exist or is in another state, in which case it is not saved
+     */
+    default boolean save(ContractNegotiation negotiation, int expectedState) {
+        var stored = find(negotiation.getId());
+        if (stored == null || stored.getState() != expectedState) {
+            return false;
+        }
+        save(negotiation);
+        return true;
+    }
+
     /**
      * Removes a contract negotiation for the given id.
      */
@@ -61,4 +80,11 @@ public interface ContractNegotiationStore {
     @NotNull
     List<ContractNegotiation> nextForState(int state, int max);
 
+    /**
+     * Returns up to max contract negotiations in the given state whose state timestamp is older than the given epoch milliseconds, oldest first. Unlike
+     * {@link #nextForState(int, int)}, the negotiations are not leased.
+     */
+    @NotNull
+    List<ContractNegotiation> findOlderThan(int state, long stateTimestamp, int max);
+
 }
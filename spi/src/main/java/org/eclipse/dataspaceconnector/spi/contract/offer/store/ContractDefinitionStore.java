@@ -15,6 +15,7 @@ package org.eclipse.dataspaceconnector.spi.contract.offer.store;
 
 import org.eclipse.dataspaceconnector.spi.types.domain.contract.offer.ContractDefinition;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.Collection;
 
@@ -31,6 +32,12 @@ public interface ContractDefinitionStore {
     @NotNull
     Collection<ContractDefinition> findAll();
 
+    /**
+     * Returns the definition with the given id or null if it does not exist. Implementations must not scan all definitions to find it.
+     */
+    @Nullable
+    ContractDefinition findById(String definitionId);
+
     /**
      * Persists the definitions.
      */
@@ -15,6 +15,7 @@ package org.eclipse.dataspaceconnector.spi.contract.offer.store;
 
 import org.eclipse.dataspaceconnector.spi.types.domain.contract.offer.ContractDefinition;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.Collection;
 import java.util.Collections;
@@ -32,6 +33,11 @@ public class InMemoryContractDefinitionStore implements ContractDefinitionStore
         return Collections.unmodifiableCollection(cache.values());
     }
 
+    @Override
+    public @Nullable ContractDefinition findById(String definitionId) {
+        return cache.get(definitionId);
+    }
+
     @Override
     public void save(Collection<ContractDefinition> definitions) {
         definitions.forEach(d -> cache.put(d.getId(), d));
@@ -13,12 +13,16 @@
  */
 package org.eclipse.dataspaceconnector.spi.contract.policy;
 
+import org.eclipse.dataspaceconnector.policy.model.Operand;
 import org.eclipse.dataspaceconnector.policy.model.Operator;
 import org.eclipse.dataspaceconnector.policy.model.Rule;
 
 /**
  * Invoked during policy evaluation when the left operand of an atomic constraint evaluates to a key associated with this function. The function is responsible for performing
  * policy evaluation on the right operand.
+ * <p>
+ * Functions that compare numbers, date-times or durations should override {@link #evaluate(Operator, Operand, Rule, PolicyContext)} and use
+ * {@link org.eclipse.dataspaceconnector.policy.model.Operands#evaluate(Operator, Object, Operand)} rather than comparing the operands themselves.
  */
 @FunctionalInterface
 public interface AtomicConstraintFunction<R extends Rule> {
@@ -33,4 +37,16 @@ public interface AtomicConstraintFunction<R extends Rule> {
      */
     boolean evaluate(Operator operator, Object rightValue, R rule, PolicyContext context);
 
+    /**
+     * Performs the evaluation on the right operand as converted when the policy was loaded. The default passes on the raw value.
+     *
+     * @param operator the operation
+     * @param rightOperand the right-side expression for the constraint together with its typed value
+     * @param rule the rule associated with the constraint
+     * @param context the policy context
+     */
+    default boolean evaluate(Operator operator, Operand rightOperand, R rule, PolicyContext context) {
+        return evaluate(operator, rightOperand.getValue(), rule, context);
+    }
+
 }
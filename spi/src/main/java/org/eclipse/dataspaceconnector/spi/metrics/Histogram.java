@@ -0,0 +1,38 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.spi.metrics;
+
+/**
+ * Records the distribution of values into buckets with fixed upper bounds.
+ */
+public interface Histogram extends Meter {
+
+    void record(long value);
+
+    long getCount();
+
+    long getSum();
+
+    /**
+     * Returns the inclusive upper bounds of the buckets in ascending order. Values above the last bound are only counted
+     * in the total.
+     */
+    long[] getBucketBounds();
+
+    /**
+     * Returns the number of values per bucket, not cumulative, in the order of {@link #getBucketBounds()}.
+     */
+    long[] getBucketCounts();
+}
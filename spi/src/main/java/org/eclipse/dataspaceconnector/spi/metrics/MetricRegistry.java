@@ -0,0 +1,56 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.spi.metrics;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Creates and holds the meters of a runtime. Requesting a meter with the name and labels of an existing one returns
+ * the existing meter, so callers may either keep a reference or look meters up when needed.
+ * <p>
+ * Metric names follow the Prometheus conventions, e.g. {@code edc_transfer_process_transitions_total}.
+ */
+public interface MetricRegistry {
+    String FEATURE = "edc:metrics";
+
+    Counter counter(String name, Map<String, String> labels);
+
+    default Counter counter(String name) {
+        return counter(name, Map.of());
+    }
+
+    Timer timer(String name, Map<String, String> labels);
+
+    default Timer timer(String name) {
+        return timer(name, Map.of());
+    }
+
+    /**
+     * Returns a histogram with the given bucket upper bounds, which must be in ascending order.
+     */
+    Histogram histogram(String name, Map<String, String> labels, long... bucketBounds);
+
+    /**
+     * Registers a gauge sampling the supplier whenever the metrics are read.
+     */
+    Gauge gauge(String name, Map<String, String> labels, Supplier<? extends Number> value);
+
+    /**
+     * Returns all registered meters.
+     */
+    Collection<Meter> getMeters();
+}
@@ -0,0 +1,105 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.spi.metrics;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Writes meters in the Prometheus text exposition format. Timers are exposed in seconds.
+ */
+public final class MetricsTextFormat {
+    public static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000d;
+
+    private MetricsTextFormat() {
+    }
+
+    public static String format(Collection<Meter> meters) {
+        var builder = new StringBuilder();
+        var byName = new TreeMap<String, List<Meter>>();
+        meters.forEach(meter -> byName.computeIfAbsent(meter.getName(), k -> new ArrayList<>()).add(meter));
+
+        byName.forEach((name, group) -> {
+            group.sort(Comparator.comparing(meter -> meter.getLabels().toString()));
+            builder.append("# TYPE ").append(name).append(' ').append(type(group.get(0))).append('\n');
+            for (Meter meter : group) {
+                if (meter instanceof Histogram) {
+                    appendHistogram(builder, (Histogram) meter);
+                } else if (meter instanceof Counter) {
+                    appendSample(builder, name, meter.getLabels(), null, String.valueOf(((Counter) meter).getCount()));
+                } else if (meter instanceof Gauge) {
+                    appendSample(builder, name, meter.getLabels(), null, String.valueOf(((Gauge) meter).getValue()));
+                }
+            }
+        });
+        return builder.toString();
+    }
+
+    private static String type(Meter meter) {
+        if (meter instanceof Histogram) {
+            return "histogram";
+        }
+        return meter instanceof Counter ? "counter" : "gauge";
+    }
+
+    private static void appendHistogram(StringBuilder builder, Histogram histogram) {
+        var seconds = histogram instanceof Timer;
+        var bounds = histogram.getBucketBounds();
+        var counts = histogram.getBucketCounts();
+        long cumulative = 0;
+        for (int i = 0; i < bounds.length; i++) {
+            cumulative += counts[i];
+            appendSample(builder, histogram.getName() + "_bucket", histogram.getLabels(), value(bounds[i], seconds), String.valueOf(cumulative));
+        }
+        var count = histogram.getCount();
+        appendSample(builder, histogram.getName() + "_bucket", histogram.getLabels(), "+Inf", String.valueOf(count));
+        appendSample(builder, histogram.getName() + "_sum", histogram.getLabels(), null, value(histogram.getSum(), seconds));
+        appendSample(builder, histogram.getName() + "_count", histogram.getLabels(), null, String.valueOf(count));
+    }
+
+    private static String value(long value, boolean seconds) {
+        return seconds ? String.valueOf(value / NANOS_PER_SECOND) : String.valueOf(value);
+    }
+
+    private static void appendSample(StringBuilder builder, String name, Map<String, String> labels, String le, String value) {
+        builder.append(name);
+        if (!labels.isEmpty() || le != null) {
+            builder.append('{');
+            var first = true;
+            for (Map.Entry<String, String> label : new TreeMap<>(labels).entrySet()) {
+                if (!first) {
+                    builder.append(',');
+                }
+                builder.append(label.getKey()).append("=\"").append(escape(label.getValue())).append('"');
+                first = false;
+            }
+            if (le != null) {
+                builder.append(first ? "" : ",").append("le=\"").append(le).append('"');
+            }
+            builder.append('}');
+        }
+        builder.append(' ').append(value).append('\n');
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.spi.metrics;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Registry discarding all measurements, used by components when no {@link MetricRegistry} is available.
+ */
+public final class NoopMetricRegistry implements MetricRegistry {
+    public static final NoopMetricRegistry INSTANCE = new NoopMetricRegistry();
+
+    private static final long[] NO_BUCKETS = new long[0];
+    private static final NoopMeter METER = new NoopMeter();
+
+    private NoopMetricRegistry() {
+    }
+
+    @Override
+    public Counter counter(String name, Map<String, String> labels) {
+        return METER;
+    }
+
+    @Override
+    public Timer timer(String name, Map<String, String> labels) {
+        return METER;
+    }
+
+    @Override
+    public Histogram histogram(String name, Map<String, String> labels, long... bucketBounds) {
+        return METER;
+    }
+
+    @Override
+    public Gauge gauge(String name, Map<String, String> labels, Supplier<? extends Number> value) {
+        return METER;
+    }
+
+    @Override
+    public Collection<Meter> getMeters() {
+        return List.of();
+    }
+
+    private static class NoopMeter implements Counter, Timer, Gauge {
+
+        @Override
+        public String getName() {
+            return "noop";
+        }
+
+        @Override
+        public Map<String, String> getLabels() {
+            return Map.of();
+        }
+
+        @Override
+        public void increment(long amount) {
+        }
+
+        @Override
+        public void record(long value) {
+        }
+
+        @Override
+        public long getCount() {
+            return 0;
+        }
+
+        @Override
+        public long getSum() {
+            return 0;
+        }
+
+        @Override
+        public long[] getBucketBounds() {
+            return NO_BUCKETS;
+        }
+
+        @Override
+        public long[] getBucketCounts() {
+            return NO_BUCKETS;
+        }
+
+        @Override
+        public double getValue() {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.spi.metrics;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * A histogram of durations, recorded in nanoseconds.
+ */
+public interface Timer extends Histogram {
+
+    default void record(long amount, TimeUnit unit) {
+        record(unit.toNanos(amount));
+    }
+
+    default void record(Duration duration) {
+        record(duration.toNanos());
+    }
+
+    /**
+     * Runs the operation and records its duration, also if it fails.
+     */
+    default <T> T time(Supplier<T> operation) {
+        var start = System.nanoTime();
+        try {
+            return operation.get();
+        } finally {
+            record(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Runs the operation and records its duration, also if it fails.
+     */
+    default void time(Runnable operation) {
+        var start = System.nanoTime();
+        try {
+            operation.run();
+        } finally {
+            record(System.nanoTime() - start);
+        }
+    }
+}
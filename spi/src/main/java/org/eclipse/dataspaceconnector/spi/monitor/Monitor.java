@@ -19,6 +19,9 @@ import java.util.function.Supplier;
 
 /**
  * System monitoring and logging interface.
+ * <p>
+ * The variants taking a map of fields log structured key/value pairs, e.g. process ids, along with the message.
+ * Implementations may render the fields lazily or asynchronously, so the map must not be modified after it is passed.
  */
 public interface Monitor {
 
@@ -32,6 +35,10 @@ public interface Monitor {
     default void severe(Map<String, Object> data) {
     }
 
+    default void severe(String message, Map<String, Object> fields, Throwable... errors) {
+        severe(() -> MonitorFields.render(message, fields), errors);
+    }
+
     
     default void warning(Supplier<String> supplier, Throwable... errors) {
     }
@@ -40,6 +47,10 @@ public interface Monitor {
         warning(() -> message, errors);
     }
 
+    default void warning(String message, Map<String, Object> fields, Throwable... errors) {
+        warning(() -> MonitorFields.render(message, fields), errors);
+    }
+
     default void info(Supplier<String> supplier, Throwable... errors) {
     }
 
@@ -47,6 +58,10 @@ public interface Monitor {
         info(() -> message, errors);
     }
 
+    default void info(String message, Map<String, Object> fields, Throwable... errors) {
+        info(() -> MonitorFields.render(message, fields), errors);
+    }
+
     default void debug(Supplier<String> supplier, Throwable... errors) {
     }
 
@@ -54,4 +69,8 @@ public interface Monitor {
         debug(() -> message, errors);
     }
 
+    default void debug(String message, Map<String, Object> fields, Throwable... errors) {
+        debug(() -> MonitorFields.render(message, fields), errors);
+    }
+
 }
@@ -0,0 +1,44 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.spi.monitor;
+
+import java.util.Map;
+
+/**
+ * Renders structured monitor fields as {@code key=value} pairs appended to the message. Values containing whitespace
+ * are quoted.
+ */
+public final class MonitorFields {
+
+    private MonitorFields() {
+    }
+
+    public static String render(String message, Map<String, Object> fields) {
+        if (fields == null || fields.isEmpty()) {
+            return message;
+        }
+        var builder = new StringBuilder(message);
+        fields.forEach((key, value) -> {
+            var text = String.valueOf(value);
+            builder.append(' ').append(key).append('=');
+            if (text.isEmpty() || text.chars().anyMatch(Character::isWhitespace)) {
+                builder.append('"').append(text.replace("\"", "\\\"")).append('"');
+            } else {
+                builder.append(text);
+            }
+        });
+        return builder.toString();
+    }
+}
@@ -40,6 +40,11 @@ public class MultiplexingMonitor implements Monitor {
         internalMonitors.forEach(m -> m.severe(message, errors));
     }
 
+    @Override
+    public void severe(String message, Map<String, Object> fields, Throwable... errors) {
+        internalMonitors.forEach(m -> m.severe(message, fields, errors));
+    }
+
     @Override
     public void severe(Map<String, Object> data) {
         internalMonitors.forEach(m -> m.severe(data));
@@ -55,6 +60,11 @@ public class MultiplexingMonitor implements Monitor {
         internalMonitors.forEach(m -> m.warning(message, errors));
     }
 
+    @Override
+    public void warning(String message, Map<String, Object> fields, Throwable... errors) {
+        internalMonitors.forEach(m -> m.warning(message, fields, errors));
+    }
+
     @Override
     public void info(Supplier<String> supplier, Throwable... errors) {
         internalMonitors.forEach(m -> m.info(supplier, errors));
@@ -65,6 +75,11 @@ public class MultiplexingMonitor implements Monitor {
         internalMonitors.forEach(m -> m.info(message, errors));
     }
 
+    @Override
+    public void info(String message, Map<String, Object> fields, Throwable... errors) {
+        internalMonitors.forEach(m -> m.info(message, fields, errors));
+    }
+
     @Override
     public void debug(Supplier<String> supplier, Throwable... errors) {
         internalMonitors.forEach(m -> m.debug(supplier, errors));
@@ -74,4 +89,9 @@ public class MultiplexingMonitor implements Monitor {
     public void debug(String message, Throwable... errors) {
         internalMonitors.forEach(m -> m.debug(message, errors));
     }
+
+    @Override
+    public void debug(String message, Map<String, Object> fields, Throwable... errors) {
+        internalMonitors.forEach(m -> m.debug(message, fields, errors));
+    }
 }
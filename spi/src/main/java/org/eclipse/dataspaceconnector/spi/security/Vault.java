@@ -16,6 +16,8 @@ package org.eclipse.dataspaceconnector.spi.security;
 
 import org.jetbrains.annotations.Nullable;
 
+import java.time.Instant;
+
 /**
  * Provides secrets such as certificates and keys to the runtime.
  */
@@ -38,10 +40,39 @@ public interface Vault {
      */
     VaultResponse storeSecret(String key, String value);
 
+    /**
+     * Saves a secret that is only needed until the given time, e.g. a temporary token scoped to a data transfer. Vaults
+     * that do not support expiry store the secret without it.
+     *
+     * @param key       the secret key
+     * @param value     the serialized secret value
+     * @param expiresAt the time after which the secret is no longer resolved, or null if it does not expire
+     */
+    default VaultResponse storeSecret(String key, String value, @Nullable Instant expiresAt) {
+        return storeSecret(key, value);
+    }
+
     /**
      * Deletes a secret. Depending on the vault implementation, this might mean a soft delete, or no be even permissible.
      *
      * @param key the secret's key
      */
     VaultResponse deleteSecret(String key);
+
+    /**
+     * Registers a listener that is notified when a secret changes. Vaults that cannot observe changes do not support
+     * listeners, in which case this is a no-op.
+     *
+     * @param listener the listener
+     */
+    default void registerListener(VaultListener listener) {
+    }
+
+    /**
+     * Removes a listener registered with {@link #registerListener(VaultListener)}.
+     *
+     * @param listener the listener
+     */
+    default void unregisterListener(VaultListener listener) {
+    }
 }
@@ -0,0 +1,30 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.spi.security;
+
+/**
+ * Receives notifications when a secret in a {@link Vault} is stored, rotated or deleted, for example to invalidate
+ * values derived from the secret.
+ */
+@FunctionalInterface
+public interface VaultListener {
+
+    /**
+     * Called after the secret with the given key has been changed or deleted.
+     *
+     * @param key the secret's key
+     */
+    void secretChanged(String key);
+}
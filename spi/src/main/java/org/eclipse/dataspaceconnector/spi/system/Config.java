@@ -0,0 +1,155 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.spi.system;
+
+import org.eclipse.dataspaceconnector.spi.EdcException;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import static java.lang.String.format;
+
+/**
+ * An immutable snapshot of configuration settings with typed accessors.
+ * <br/>
+ * A config may be scoped to a key prefix with {@link #getConfig(String)}, in which case keys passed to its accessors and
+ * keys returned by {@link #getEntries()} are relative to that prefix, e.g. {@code config.getConfig("edc.core.retry").getInteger("backoff.min")}
+ * resolves {@code edc.core.retry.backoff.min}.
+ */
+public class Config {
+    private final String prefix;
+    private final Map<String, String> entries;
+
+    public Config(Map<String, String> entries) {
+        this("", Collections.unmodifiableMap(new HashMap<>(Objects.requireNonNull(entries, "entries"))));
+    }
+
+    private Config(String prefix, Map<String, String> entries) {
+        this.prefix = prefix;
+        this.entries = entries;
+    }
+
+    /**
+     * Returns the value of the setting, or throws an {@link EdcException} if it is not set.
+     */
+    public String getString(String key) {
+        var value = getString(key, null);
+        if (value == null) {
+            throw new EdcException(format("Missing mandatory setting %s", prefix + key));
+        }
+        return value;
+    }
+
+    /**
+     * Returns the value of the setting, or the default value if it is not set.
+     */
+    public String getString(String key, @Nullable String defaultValue) {
+        var value = entries.get(prefix + key);
+        return value != null ? value : defaultValue;
+    }
+
+    /**
+     * Returns the setting as integer, or throws an {@link EdcException} if it is not set or not a number.
+     */
+    public int getInteger(String key) {
+        return parseInteger(key, getString(key));
+    }
+
+    /**
+     * Returns the setting as integer, or the default value if it is not set. Throws an {@link EdcException} if it is not a number.
+     */
+    public int getInteger(String key, int defaultValue) {
+        var value = getString(key, null);
+        return value != null ? parseInteger(key, value) : defaultValue;
+    }
+
+    /**
+     * Returns the setting as long, or throws an {@link EdcException} if it is not set or not a number.
+     */
+    public long getLong(String key) {
+        return parseLong(key, getString(key));
+    }
+
+    /**
+     * Returns the setting as long, or the default value if it is not set. Throws an {@link EdcException} if it is not a number.
+     */
+    public long getLong(String key, long defaultValue) {
+        var value = getString(key, null);
+        return value != null ? parseLong(key, value) : defaultValue;
+    }
+
+    /**
+     * Returns the setting as boolean, or the default value if it is not set. Throws an {@link EdcException} if it is
+     * neither {@code true} nor {@code false}.
+     */
+    public boolean getBoolean(String key, boolean defaultValue) {
+        var value = getString(key, null);
+        if (value == null) {
+            return defaultValue;
+        }
+        var trimmed = value.trim();
+        if ("true".equalsIgnoreCase(trimmed)) {
+            return true;
+        } else if ("false".equalsIgnoreCase(trimmed)) {
+            return false;
+        }
+        throw new EdcException(format("Setting %s is not a boolean: %s", prefix + key, value));
+    }
+
+    /**
+     * Returns a view of the settings below the given key prefix. A trailing dot is implied.
+     */
+    public Config getConfig(String path) {
+        if (path.isEmpty()) {
+            return this;
+        }
+        return new Config(prefix + (path.endsWith(".") ? path : path + "."), entries);
+    }
+
+    /**
+     * Returns the settings of this config, with keys relative to its prefix.
+     */
+    public Map<String, String> getEntries() {
+        if (prefix.isEmpty()) {
+            return entries;
+        }
+        var relative = new HashMap<String, String>();
+        entries.forEach((key, value) -> {
+            if (key.startsWith(prefix)) {
+                relative.put(key.substring(prefix.length()), value);
+            }
+        });
+        return Collections.unmodifiableMap(relative);
+    }
+
+    private int parseInteger(String key, String value) {
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw new EdcException(format("Setting %s is not an integer: %s", prefix + key, value));
+        }
+    }
+
+    private long parseLong(String key, String value) {
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            throw new EdcException(format("Setting %s is not a number: %s", prefix + key, value));
+        }
+    }
+}
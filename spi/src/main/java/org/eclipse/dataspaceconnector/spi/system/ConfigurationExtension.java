@@ -16,6 +16,8 @@ package org.eclipse.dataspaceconnector.spi.system;
 
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Map;
+
 /**
  * Contributes configuration to a runtime. Multiple configuration extensions may be loaded in a runtime.
  */
@@ -27,4 +29,19 @@ public interface ConfigurationExtension extends BootExtension {
     @Nullable
     String getSetting(String key);
 
+    /**
+     * Returns all settings of this extension, which the runtime merges into its configuration snapshot. Individual
+     * settings are always resolved through {@link #getSetting(String)}, so extensions that cannot enumerate their
+     * settings are only missing from the snapshot.
+     */
+    default Map<String, String> getEntries() {
+        return Map.of();
+    }
+
+    /**
+     * Re-reads the settings from the underlying source. Called periodically if configuration reloading is enabled.
+     */
+    default void reload() {
+    }
+
 }
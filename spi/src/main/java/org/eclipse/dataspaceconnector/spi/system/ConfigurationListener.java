@@ -0,0 +1,35 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.spi.system;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Receives notifications when a setting changes after the configuration has been reloaded, allowing extensions to
+ * apply new values without a restart.
+ *
+ * @see ServiceExtensionContext#registerConfigurationListener(String, ConfigurationListener)
+ */
+@FunctionalInterface
+public interface ConfigurationListener {
+
+    /**
+     * Called after the setting has been changed or removed.
+     *
+     * @param key   the full key of the setting
+     * @param value the new value, or null if the setting was removed
+     */
+    void settingChanged(String key, @Nullable String value);
+}
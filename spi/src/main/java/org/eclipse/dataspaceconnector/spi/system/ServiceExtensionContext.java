@@ -47,6 +47,26 @@ public interface ServiceExtensionContext {
      */
     String getSetting(String setting, String defaultValue);
 
+    /**
+     * Returns the current configuration snapshot, scoped to the given key prefix. Pass an empty string for all settings.
+     * The returned snapshot does not change when the configuration is reloaded.
+     */
+    Config getConfig(String path);
+
+    /**
+     * Returns the current configuration snapshot.
+     */
+    default Config getConfig() {
+        return getConfig("");
+    }
+
+    /**
+     * Registers a listener that is notified when a setting whose key starts with the given prefix changes on a
+     * configuration reload.
+     */
+    default void registerConfigurationListener(String keyPrefix, ConfigurationListener listener) {
+    }
+
     /**
      * Returns true if the service type is registered.
      */
@@ -31,6 +31,10 @@ public class TransferInitiateResponse {
         return id;
     }
 
+    public String getError() {
+        return error;
+    }
+
     public ResponseStatus getStatus() {
         return status;
     }
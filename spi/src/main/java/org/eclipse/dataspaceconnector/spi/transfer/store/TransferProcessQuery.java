@@ -0,0 +1,144 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.spi.transfer.store;
+
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.TransferProcess;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A paged query over {@link TransferProcess}es. All filters are optional and combined with a logical AND. Results are
+ * ordered by {@link TransferProcess#getStateTimestamp()}, oldest first.
+ */
+public class TransferProcessQuery {
+    public static final int DEFAULT_LIMIT = 50;
+
+    private Integer state;
+    private String assetId;
+    private Long from;
+    private Long to;
+    private int offset;
+    private int limit = DEFAULT_LIMIT;
+
+    private TransferProcessQuery() {
+    }
+
+    /**
+     * The state code the processes must be in, or null to match any state.
+     */
+    @Nullable
+    public Integer getState() {
+        return state;
+    }
+
+    /**
+     * The id of the asset the processes must transfer, or null to match any asset.
+     */
+    @Nullable
+    public String getAssetId() {
+        return assetId;
+    }
+
+    /**
+     * The inclusive lower bound of the state timestamp in epoch millis, or null for no lower bound.
+     */
+    @Nullable
+    public Long getFrom() {
+        return from;
+    }
+
+    /**
+     * The exclusive upper bound of the state timestamp in epoch millis, or null for no upper bound.
+     */
+    @Nullable
+    public Long getTo() {
+        return to;
+    }
+
+    public int getOffset() {
+        return offset;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * Returns true if the given process satisfies all filters of this query. Paging is not taken into account.
+     */
+    public boolean matches(TransferProcess process) {
+        if (state != null && process.getState() != state) {
+            return false;
+        }
+        if (assetId != null && (process.getDataRequest() == null || !assetId.equals(process.getDataRequest().getAssetId()))) {
+            return false;
+        }
+        if (from != null && process.getStateTimestamp() < from) {
+            return false;
+        }
+        return to == null || process.getStateTimestamp() < to;
+    }
+
+    public static final class Builder {
+        private final TransferProcessQuery query;
+
+        private Builder() {
+            query = new TransferProcessQuery();
+        }
+
+        public static Builder newInstance() {
+            return new Builder();
+        }
+
+        public Builder state(Integer state) {
+            query.state = state;
+            return this;
+        }
+
+        public Builder assetId(String assetId) {
+            query.assetId = assetId;
+            return this;
+        }
+
+        public Builder from(Long from) {
+            query.from = from;
+            return this;
+        }
+
+        public Builder to(Long to) {
+            query.to = to;
+            return this;
+        }
+
+        public Builder offset(int offset) {
+            query.offset = offset;
+            return this;
+        }
+
+        public Builder limit(int limit) {
+            query.limit = limit;
+            return this;
+        }
+
+        public TransferProcessQuery build() {
+            if (query.offset < 0) {
+                throw new IllegalArgumentException("Offset must not be negative");
+            }
+            if (query.limit <= 0) {
+                throw new IllegalArgumentException("Limit must be greater than zero");
+            }
+            return query;
+        }
+    }
+}
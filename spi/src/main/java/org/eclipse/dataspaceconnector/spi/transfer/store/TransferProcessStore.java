@@ -48,6 +48,17 @@ public interface TransferProcessStore {
     @NotNull
     List<TransferProcess> nextForState(int state, int max);
 
+    /**
+     * Returns a page of TransferProcesses that match the given query, ordered by {@code TransferProcess#stateTimestamp},
+     * oldest first. Contrary to {@link #nextForState(int, int)} this method has no side effects, i.e. it neither leases
+     * processes nor requires callers to update them.
+     *
+     * @param query The filter and paging parameters.
+     * @return A list of TransferProcesses (at most {@link TransferProcessQuery#getLimit()}), never null.
+     */
+    @NotNull
+    List<TransferProcess> query(TransferProcessQuery query);
+
     void create(TransferProcess process);
 
     void update(TransferProcess process);
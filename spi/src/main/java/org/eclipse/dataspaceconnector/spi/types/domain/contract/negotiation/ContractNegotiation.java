@@ -20,7 +20,9 @@ import com.fasterxml.jackson.databind.annotation.JsonPOJOBuilder;
 import org.eclipse.dataspaceconnector.spi.types.domain.contract.ContractAgreement;
 import org.eclipse.dataspaceconnector.spi.types.domain.contract.offer.ContractOffer;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -32,14 +34,23 @@ import static java.util.stream.Collectors.joining;
 /**
  * Represents a contract negotiation.
  * <p>
- * TODO: This is only placeholder
- * TODO: Implement state transitions
- * TODO: Add error details
+ * The consumer (client) side of a negotiation transitions as follows:
+ * <pre>
+ * {@link ContractNegotiationStates#REQUESTING} -> {@link ContractNegotiationStates#REQUESTED} -> [{@link ContractNegotiationStates#PROVIDER_OFFERED} ->
+ * {@link ContractNegotiationStates#CLIENT_APPROVING} -> {@link ContractNegotiationStates#CLIENT_APPROVED} ->] {@link ContractNegotiationStates#CONFIRMED}
+ * </pre>
+ * The provider side of a negotiation transitions as follows:
+ * <pre>
+ * {@link ContractNegotiationStates#REQUESTED} -> [{@link ContractNegotiationStates#PROVIDER_OFFERING} -> {@link ContractNegotiationStates#PROVIDER_OFFERED} ->
+ * {@link ContractNegotiationStates#CLIENT_OFFERED} ->] {@link ContractNegotiationStates#CONFIRMING} -> {@link ContractNegotiationStates#CONFIRMED}
+ * </pre>
+ * Either side may decline a negotiation that is not final, which transitions it to {@link ContractNegotiationStates#DECLINING} and then
+ * {@link ContractNegotiationStates#DECLINED}.
  */
 @JsonTypeName("dataspaceconnector:contractnegotiation")
 @JsonDeserialize(builder = ContractNegotiation.Builder.class)
 public class ContractNegotiation {
-    private final Type type = Type.CLIENT;
+    private Type type = Type.CLIENT;
     private List<ContractOffer> contractOffers = new ArrayList<>();
     private String id;
     private String correlationId;
@@ -49,6 +60,7 @@ public class ContractNegotiation {
     private int stateCount;
     private long stateTimestamp;
     private ContractAgreement contractAgreement;
+    private String errorDetail;
 
     public Type getType() {
         return type;
@@ -100,6 +112,13 @@ public class ContractNegotiation {
         contractOffers.add(offer);
     }
 
+    /**
+     * Returns the offer that was made last by either party, or null if no offer has been made.
+     */
+    public ContractOffer getLastContractOffer() {
+        return contractOffers.isEmpty() ? null : contractOffers.get(contractOffers.size() - 1);
+    }
+
     /**
      * Returns the finalized agreement or null if the negotiation has not been confirmed.
      */
@@ -107,9 +126,166 @@ public class ContractNegotiation {
         return contractAgreement;
     }
 
+    public void setContractAgreement(ContractAgreement agreement) {
+        contractAgreement = agreement;
+    }
+
+    public String getErrorDetail() {
+        return errorDetail;
+    }
+
+    /**
+     * The consumer is about to send the initial request.
+     */
+    public void transitionRequesting() {
+        if (Type.PROVIDER == type) {
+            throw new IllegalStateException("Provider negotiations have no REQUESTING state");
+        }
+        transition(ContractNegotiationStates.REQUESTING, ContractNegotiationStates.UNSAVED, ContractNegotiationStates.REQUESTING);
+    }
+
+    /**
+     * The consumer has sent the initial request, or the provider has received it.
+     */
+    public void transitionRequested() {
+        if (Type.PROVIDER == type) {
+            transition(ContractNegotiationStates.REQUESTED, ContractNegotiationStates.UNSAVED);
+        } else {
+            transition(ContractNegotiationStates.REQUESTED, ContractNegotiationStates.REQUESTING, ContractNegotiationStates.REQUESTED);
+        }
+    }
+
+    /**
+     * The provider is about to send a counter-offer.
+     */
+    public void transitionProviderOffering() {
+        if (Type.CLIENT == type) {
+            throw new IllegalStateException("Client negotiations have no PROVIDER_OFFERING state");
+        }
+        transition(ContractNegotiationStates.PROVIDER_OFFERING, ContractNegotiationStates.REQUESTED, ContractNegotiationStates.CLIENT_OFFERED, ContractNegotiationStates.PROVIDER_OFFERING);
+    }
+
+    /**
+     * The provider has sent a counter-offer, or the consumer has received it.
+     */
+    public void transitionProviderOffered() {
+        if (Type.PROVIDER == type) {
+            transition(ContractNegotiationStates.PROVIDER_OFFERED, ContractNegotiationStates.PROVIDER_OFFERING);
+        } else {
+            transition(ContractNegotiationStates.PROVIDER_OFFERED, ContractNegotiationStates.REQUESTED, ContractNegotiationStates.CLIENT_OFFERED, ContractNegotiationStates.CLIENT_APPROVED);
+        }
+    }
+
+    /**
+     * The consumer is about to send a counter-offer.
+     */
+    public void transitionClientOffering() {
+        if (Type.PROVIDER == type) {
+            throw new IllegalStateException("Provider negotiations have no CLIENT_OFFERING state");
+        }
+        transition(ContractNegotiationStates.CLIENT_OFFERING, ContractNegotiationStates.PROVIDER_OFFERED, ContractNegotiationStates.CLIENT_OFFERING);
+    }
+
+    /**
+     * The consumer has sent a counter-offer, or the provider has received it.
+     */
+    public void transitionClientOffered() {
+        if (Type.PROVIDER == type) {
+            transition(ContractNegotiationStates.CLIENT_OFFERED, ContractNegotiationStates.PROVIDER_OFFERED);
+        } else {
+            transition(ContractNegotiationStates.CLIENT_OFFERED, ContractNegotiationStates.CLIENT_OFFERING);
+        }
+    }
+
+    /**
+     * The consumer is about to approve the last offer of the provider.
+     */
+    public void transitionApproving() {
+        if (Type.PROVIDER == type) {
+            throw new IllegalStateException("Provider negotiations have no CLIENT_APPROVING state");
+        }
+        transition(ContractNegotiationStates.CLIENT_APPROVING, ContractNegotiationStates.PROVIDER_OFFERED, ContractNegotiationStates.CLIENT_APPROVING);
+    }
+
+    /**
+     * The consumer has sent its approval.
+     */
+    public void transitionApproved() {
+        if (Type.PROVIDER == type) {
+            throw new IllegalStateException("Provider negotiations have no CLIENT_APPROVED state");
+        }
+        transition(ContractNegotiationStates.CLIENT_APPROVED, ContractNegotiationStates.CLIENT_APPROVING);
+    }
+
+    /**
+     * This party is about to send the decline of the negotiation to the counter-party.
+     */
+    public void transitionDeclining() {
+        transition(ContractNegotiationStates.DECLINING, ContractNegotiationStates.REQUESTED, ContractNegotiationStates.PROVIDER_OFFERING, ContractNegotiationStates.PROVIDER_OFFERED,
+                ContractNegotiationStates.CLIENT_OFFERING, ContractNegotiationStates.CLIENT_OFFERED, ContractNegotiationStates.CLIENT_APPROVING, ContractNegotiationStates.CLIENT_APPROVED,
+                ContractNegotiationStates.DECLINING);
+    }
+
+    /**
+     * The negotiation has been declined by either party.
+     */
+    public void transitionDeclined() {
+        transition(ContractNegotiationStates.DECLINED, ContractNegotiationStates.REQUESTING, ContractNegotiationStates.REQUESTED, ContractNegotiationStates.PROVIDER_OFFERING,
+                ContractNegotiationStates.PROVIDER_OFFERED, ContractNegotiationStates.CLIENT_OFFERING, ContractNegotiationStates.CLIENT_OFFERED, ContractNegotiationStates.CLIENT_APPROVING,
+                ContractNegotiationStates.CLIENT_APPROVED, ContractNegotiationStates.DECLINING);
+    }
+
+    /**
+     * The provider is about to send the agreement.
+     */
+    public void transitionConfirming() {
+        if (Type.CLIENT == type) {
+            throw new IllegalStateException("Client negotiations have no CONFIRMING state");
+        }
+        transition(ContractNegotiationStates.CONFIRMING, ContractNegotiationStates.REQUESTED, ContractNegotiationStates.PROVIDER_OFFERED, ContractNegotiationStates.CLIENT_OFFERED,
+                ContractNegotiationStates.CONFIRMING);
+    }
+
+    /**
+     * The provider has sent the agreement, or the consumer has received it.
+     */
+    public void transitionConfirmed() {
+        if (Type.PROVIDER == type) {
+            transition(ContractNegotiationStates.CONFIRMED, ContractNegotiationStates.CONFIRMING);
+        } else {
+            transition(ContractNegotiationStates.CONFIRMED, ContractNegotiationStates.REQUESTED, ContractNegotiationStates.CLIENT_OFFERED, ContractNegotiationStates.CLIENT_APPROVED);
+        }
+    }
+
+    public void transitionError(@Nullable String errorDetail) {
+        state = ContractNegotiationStates.ERROR.code();
+        this.errorDetail = errorDetail;
+        stateCount = 1;
+        updateStateTimestamp();
+    }
+
+    public void updateStateTimestamp() {
+        stateTimestamp = Instant.now().toEpochMilli();
+    }
+
+    public ContractNegotiation copy() {
+        return Builder.newInstance().id(id).correlationId(correlationId).counterPartyId(counterPartyId).protocol(protocol).type(type).state(state).stateCount(stateCount)
+                .stateTimestamp(stateTimestamp).contractAgreement(contractAgreement).contractOffers(new ArrayList<>(contractOffers)).errorDetail(errorDetail).build();
+    }
+
+    @Override
+    public String toString() {
+        return "ContractNegotiation{" +
+                "id='" + id + '\'' +
+                ", type=" + type +
+                ", state=" + ContractNegotiationStates.from(state) +
+                ", stateTimestamp=" + Instant.ofEpochMilli(stateTimestamp) +
+                '}';
+    }
+
     @Override
     public int hashCode() {
-        return Objects.hash(id, correlationId, counterPartyId, protocol, type, state, stateCount, stateTimestamp, contractAgreement, contractOffers);
+        return Objects.hash(id, correlationId, counterPartyId, protocol, type, state, stateCount, stateTimestamp, contractAgreement, contractOffers, errorDetail);
     }
 
     @Override
@@ -123,17 +299,18 @@ public class ContractNegotiation {
         ContractNegotiation that = (ContractNegotiation) o;
         return state == that.state && stateCount == that.stateCount && stateTimestamp == that.stateTimestamp && Objects.equals(id, that.id) &&
                 Objects.equals(correlationId, that.correlationId) && Objects.equals(counterPartyId, that.counterPartyId) && Objects.equals(protocol, that.protocol) &&
-                type == that.type && Objects.equals(contractAgreement, that.contractAgreement) && Objects.equals(contractOffers, that.contractOffers);
+                type == that.type && Objects.equals(contractAgreement, that.contractAgreement) && Objects.equals(contractOffers, that.contractOffers) &&
+                Objects.equals(errorDetail, that.errorDetail);
     }
 
-    private void checkState(int... legalStates) {
-        for (var legalState : legalStates) {
-            if (state == legalState) {
-                return;
-            }
+    private void transition(ContractNegotiationStates end, ContractNegotiationStates... starts) {
+        if (Arrays.stream(starts).noneMatch(s -> s.code() == state)) {
+            var values = Arrays.stream(starts).map(String::valueOf).collect(joining(","));
+            throw new IllegalStateException(format("Cannot transition from state %s to %s. Expected one of: %s.", ContractNegotiationStates.from(state), end, values));
         }
-        var values = Arrays.stream(legalStates).mapToObj(String::valueOf).collect(joining(","));
-        throw new IllegalStateException(format("Illegal state: %s. Expected one of: %s.", state, values));
+        stateCount = state == end.code() ? stateCount + 1 : 1;
+        state = end.code();
+        updateStateTimestamp();
     }
 
     public enum Type {
@@ -163,6 +340,16 @@ public class ContractNegotiation {
             return this;
         }
 
+        public Builder type(Type type) {
+            negotiation.type = type;
+            return this;
+        }
+
+        public Builder errorDetail(String errorDetail) {
+            negotiation.errorDetail = errorDetail;
+            return this;
+        }
+
         public Builder state(int state) {
             negotiation.state = state;
             return this;
@@ -203,7 +390,8 @@ public class ContractNegotiation {
             Objects.requireNonNull(negotiation.id);
             Objects.requireNonNull(negotiation.counterPartyId);
             Objects.requireNonNull(negotiation.protocol);
-            if (Type.CLIENT == negotiation.type) {
+            // the correlation id is sent by the client, so only provider negotiations have one
+            if (Type.PROVIDER == negotiation.type) {
                 Objects.requireNonNull(negotiation.correlationId);
             }
             return negotiation;
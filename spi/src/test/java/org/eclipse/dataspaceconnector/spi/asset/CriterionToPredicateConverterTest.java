@@ -0,0 +1,149 @@
+package org.eclipse.dataspaceconnector.spi.asset;
+
+import org.eclipse.dataspaceconnector.spi.types.TypeManager;
+import org.eclipse.dataspaceconnector.spi.types.domain.asset.Asset;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CriterionToPredicateConverterTest {
+
+    private CriterionToPredicateConverter converter;
+
+    @BeforeEach
+    void setUp() {
+        converter = new CriterionToPredicateConverter();
+    }
+
+    @Test
+    void convert_nameEquals() {
+        var criterion = new Criterion(Asset.PROPERTY_NAME, "=", "test-asset");
+        var asset = Asset.Builder.newInstance()
+                .name("test-asset")
+                .build();
+        var predicate = converter.convert(criterion);
+
+        assertThat(predicate).isNotNull();
+        assertThat(predicate.test(asset)).isTrue();
+    }
+
+    @Test
+    void convert_versionEquals() {
+        var criterion = new Criterion(Asset.PROPERTY_VERSION, "=", "6.9");
+        var asset = Asset.Builder.newInstance()
+                .name("test-asset")
+                .version("6.9")
+                .build();
+        var predicate = converter.convert(criterion);
+
+        assertThat(predicate).isNotNull();
+        assertThat(predicate.test(asset)).isTrue();
+    }
+
+    @Test
+    void convert_anotherPropertyEquals() {
+        var criterion = new Criterion("test-property", "=", "somevalue");
+        var asset = Asset.Builder.newInstance()
+                .name("test-asset")
+                .version("6.9")
+                .property("test-property", "somevalue")
+                .build();
+        var predicate = converter.convert(criterion);
+
+        assertThat(predicate).isNotNull();
+        assertThat(predicate.test(asset)).isTrue();
+    }
+
+    @Test
+    void convert_operatorIn() {
+        var asset = Asset.Builder.newInstance()
+                .name("bob")
+                .version("6.9")
+                .property("test-property", "somevalue")
+                .build();
+        var criterion = new Criterion(Asset.PROPERTY_NAME, "in", "(bob, alice)");
+        var pred = converter.convert(criterion);
+        assertThat(pred).isNotNull().accepts(asset);
+
+    }
+
+    @Test
+    void convert_operatorInCollection() {
+        var asset = Asset.Builder.newInstance().name("bob").build();
+        var criterion = new Criterion(Asset.PROPERTY_NAME, "in", null);
+        assertThat(converter.convert(criterion)).rejects(asset);
+
+        var json = "{\"left\":\"" + Asset.PROPERTY_NAME + "\",\"op\":\"IN\",\"right\":[\"bob\",\"alice\"]}";
+        assertThat(converter.convert(new TypeManager().readValue(json, Criterion.class))).accepts(asset);
+    }
+
+    @Test
+    void convert_expression() {
+        var asset = Asset.Builder.newInstance().name("bob").version("1.0").build();
+
+        assertThat(converter.convert(AssetSelectorExpression.SELECT_ALL)).accepts(asset);
+        assertThat(converter.convert(AssetSelectorExpression.Builder.newInstance().build())).rejects(asset);
+        assertThat(converter.convert(AssetSelectorExpression.Builder.newInstance().whenEquals(Asset.PROPERTY_NAME, "bob").whenEquals(Asset.PROPERTY_VERSION, "1.0").build())).accepts(asset);
+        assertThat(converter.convert(AssetSelectorExpression.Builder.newInstance().whenEquals(Asset.PROPERTY_NAME, "bob").whenEquals(Asset.PROPERTY_VERSION, "2.0").build())).rejects(asset);
+    }
+
+    @Test
+    void convert_quotedLiteral() {
+        var asset = Asset.Builder.newInstance().id("456").name("it's").build();
+
+        assertThat(converter.convert(new Criterion(Asset.PROPERTY_ID, "=", "'456'"))).accepts(asset);
+        assertThat(converter.convert(new Criterion(Asset.PROPERTY_NAME, "=", "'it''s'"))).accepts(asset);
+        assertThat(converter.convert(new Criterion(Asset.PROPERTY_ID, "IN", "('123', '456')"))).accepts(asset);
+        assertThat(converter.convert(new Criterion(Asset.PROPERTY_ID, "IN", "('123', '4,56')"))).rejects(asset);
+    }
+
+    @Test
+    void convert_comparisonOperators() {
+        var asset = Asset.Builder.newInstance().id("123").property("size", 10).build();
+
+        assertThat(converter.convert(new Criterion("size", ">", "5"))).accepts(asset);
+        assertThat(converter.convert(new Criterion("size", ">=", "10"))).accepts(asset);
+        assertThat(converter.convert(new Criterion("size", "<", "10.5"))).accepts(asset);
+        assertThat(converter.convert(new Criterion("size", "<=", "9"))).rejects(asset);
+        assertThat(converter.convert(new Criterion("size", "=", "10.0"))).accepts(asset);
+        assertThat(converter.convert(new Criterion("size", "!=", "10"))).rejects(asset);
+        assertThat(converter.convert(new Criterion(Asset.PROPERTY_ID, "!=", "'456'"))).accepts(asset);
+        assertThat(converter.convert(new Criterion(Asset.PROPERTY_ID, ">", "'100'"))).accepts(asset);
+        // a number is not compared with a string, and a missing property matches no condition
+        assertThat(converter.convert(new Criterion(Asset.PROPERTY_ID, ">", "100"))).rejects(asset);
+        assertThat(converter.convert(new Criterion("missing", "!=", "'value'"))).rejects(asset);
+    }
+
+    @Test
+    void convert_like() {
+        var asset = Asset.Builder.newInstance().id("123").name("a.b").build();
+
+        assertThat(converter.convert(new Criterion(Asset.PROPERTY_ID, "LIKE", "'12%'"))).accepts(asset);
+        assertThat(converter.convert(new Criterion(Asset.PROPERTY_ID, "like", "'1_3'"))).accepts(asset);
+        assertThat(converter.convert(new Criterion(Asset.PROPERTY_ID, "LIKE", "'%4'"))).rejects(asset);
+        assertThat(converter.convert(new Criterion(Asset.PROPERTY_NAME, "LIKE", "'a.%'"))).accepts(asset);
+    }
+
+    @Test
+    void convert_contains() {
+        var asset = Asset.Builder.newInstance().id("123").property("tags", List.of("red", "blue")).property("sizes", List.of(1, 2)).build();
+
+        assertThat(converter.convert(new Criterion("tags", "CONTAINS", "'red'"))).accepts(asset);
+        assertThat(converter.convert(new Criterion("tags", "CONTAINS", "'green'"))).rejects(asset);
+        assertThat(converter.convert(new Criterion("sizes", "CONTAINS", "2"))).accepts(asset);
+        assertThat(converter.convert(new Criterion(Asset.PROPERTY_ID, "CONTAINS", "'1'"))).rejects(asset);
+    }
+
+    @Test
+    void convert_invalidOperator() {
+        var criterion = new Criterion("name", "GREATER_THAN", "(bob, alice)");
+        assertThatThrownBy(() -> converter.convert(criterion)).isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Operator [GREATER_THAN] is not supported by this converter!");
+
+    }
+
+}
\ No newline at end of file
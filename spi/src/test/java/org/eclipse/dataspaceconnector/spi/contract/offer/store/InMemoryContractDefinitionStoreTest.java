@@ -36,8 +36,10 @@ class InMemoryContractDefinitionStoreTest {
 
         store.save(List.of(definition2));
         assertThat(store.findAll()).contains(definition1);
+        assertThat(store.findById("2")).isEqualTo(definition2);
 
         store.delete(definition1.getId());
         assertThat(store.findAll()).doesNotContain(definition1);
+        assertThat(store.findById("1")).isNull();
     }
 }
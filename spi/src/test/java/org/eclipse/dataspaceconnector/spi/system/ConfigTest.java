@@ -0,0 +1,57 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.spi.system;
+
+import org.eclipse.dataspaceconnector.spi.EdcException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+
+class ConfigTest {
+    private final Config config = new Config(Map.of(
+            "edc.core.retry.retries.max", "3",
+            "edc.core.retry.backoff.min", " 500 ",
+            "edc.core.enabled", "TRUE",
+            "edc.core.name", "core",
+            "edc.other", "x"));
+
+    @Test
+    void typedAccessors() {
+        assertThat(config.getInteger("edc.core.retry.retries.max")).isEqualTo(3);
+        assertThat(config.getLong("edc.core.retry.backoff.min")).isEqualTo(500L);
+        assertThat(config.getBoolean("edc.core.enabled", false)).isTrue();
+        assertThat(config.getInteger("edc.core.missing", 7)).isEqualTo(7);
+    }
+
+    @Test
+    void invalidAndMissingValues() {
+        assertThatThrownBy(() -> config.getInteger("edc.core.name")).isInstanceOf(EdcException.class).hasMessageContaining("edc.core.name");
+        assertThatThrownBy(() -> config.getBoolean("edc.other", false)).isInstanceOf(EdcException.class);
+        assertThatThrownBy(() -> config.getString("edc.core.missing")).isInstanceOf(EdcException.class).hasMessageContaining("edc.core.missing");
+    }
+
+    @Test
+    void prefixViews() {
+        var retry = config.getConfig("edc.core").getConfig("retry");
+
+        assertThat(retry.getInteger("retries.max")).isEqualTo(3);
+        assertThat(retry.getEntries()).containsOnly(entry("retries.max", "3"), entry("backoff.min", " 500 "));
+        assertThatThrownBy(() -> retry.getString("backoff.max")).hasMessageContaining("edc.core.retry.backoff.max");
+    }
+}
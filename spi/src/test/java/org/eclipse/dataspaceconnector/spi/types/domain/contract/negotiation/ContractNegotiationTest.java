@@ -0,0 +1,90 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+package org.eclipse.dataspaceconnector.spi.types.domain.contract.negotiation;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ContractNegotiationTest {
+
+    @Test
+    void verifyConsumerTransitions() {
+        var negotiation = ContractNegotiation.Builder.newInstance().id(UUID.randomUUID().toString()).counterPartyId("provider").protocol("ids-multipart")
+                .type(ContractNegotiation.Type.CLIENT).build();
+
+        // test illegal transition
+        assertThrows(IllegalStateException.class, negotiation::transitionConfirming);
+
+        negotiation.transitionRequesting();
+        negotiation.transitionRequested();
+
+        negotiation.transitionProviderOffered();
+        negotiation.transitionApproving();
+        negotiation.transitionApproved();
+
+        negotiation.transitionConfirmed();
+        assertEquals(ContractNegotiationStates.CONFIRMED.code(), negotiation.getState());
+
+        // test illegal transition from a final state
+        assertThrows(IllegalStateException.class, negotiation::transitionDeclining);
+    }
+
+    @Test
+    void verifyProviderTransitions() {
+        var negotiation = ContractNegotiation.Builder.newInstance().id(UUID.randomUUID().toString()).correlationId("consumer-negotiation").counterPartyId("consumer")
+                .protocol("ids-multipart").type(ContractNegotiation.Type.PROVIDER).build();
+
+        // test illegal transition
+        assertThrows(IllegalStateException.class, negotiation::transitionRequesting);
+
+        negotiation.transitionRequested();
+
+        negotiation.transitionProviderOffering();
+        negotiation.transitionProviderOffered();
+        negotiation.transitionClientOffered();
+
+        negotiation.transitionConfirming();
+        negotiation.transitionConfirmed();
+        assertEquals(ContractNegotiationStates.CONFIRMED.code(), negotiation.getState());
+    }
+
+    @Test
+    void verifyDeclineAndError() {
+        var negotiation = ContractNegotiation.Builder.newInstance().id(UUID.randomUUID().toString()).counterPartyId("provider").protocol("ids-multipart").build();
+        negotiation.transitionRequesting();
+        negotiation.transitionRequested();
+
+        negotiation.transitionDeclining();
+        negotiation.transitionDeclined();
+        assertEquals(ContractNegotiationStates.DECLINED.code(), negotiation.getState());
+
+        negotiation.transitionError("failed");
+        assertEquals(ContractNegotiationStates.ERROR.code(), negotiation.getState());
+        assertEquals("failed", negotiation.getErrorDetail());
+    }
+
+    @Test
+    void verifyCopy() {
+        var negotiation = ContractNegotiation.Builder.newInstance().id(UUID.randomUUID().toString()).correlationId("correlation").counterPartyId("consumer")
+                .protocol("ids-multipart").type(ContractNegotiation.Type.PROVIDER).state(ContractNegotiationStates.CONFIRMING.code()).stateCount(2).stateTimestamp(1).build();
+
+        var copy = negotiation.copy();
+
+        assertEquals(negotiation, copy);
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+plugins {
+    `java-library`
+    id("me.champeau.jmh") version "0.6.6"
+}
+
+val jmhResults = file("$buildDir/reports/jmh/results.json")
+
+dependencies {
+    api(project(":spi"))
+
+    jmh(project(":core:contract"))
+    jmh(project(":core:policy:policy-engine"))
+    jmh(project(":extensions:in-memory:assetindex-memory"))
+    jmh(project(":extensions:in-memory:transfer-store-memory"))
+    jmh(project(":data-protocols:ids:ids-core"))
+    jmh(project(":data-protocols:ids:ids-transform-v1"))
+}
+
+jmh {
+    jmhVersion.set("1.33")
+    fork.set(1)
+    warmupIterations.set(3)
+    iterations.set(5)
+    resultFormat.set("JSON")
+    resultsFile.set(jmhResults)
+    // e.g. -Pjmh.includes=PolicyEngineBenchmark
+    if (project.hasProperty("jmh.includes")) {
+        includes.set(listOf(project.property("jmh.includes") as String))
+    }
+}
+
+// compares the latest results against a baseline, e.g. -Pjmh.baseline=baseline.json -Pjmh.threshold=0.1
+tasks.register<JavaExec>("jmhCompare") {
+    group = "benchmark"
+    description = "Compares the latest JMH results against a baseline result file"
+    classpath = sourceSets["main"].runtimeClasspath
+    mainClass.set("org.eclipse.dataspaceconnector.benchmarks.BenchmarkComparison")
+    args = listOf(
+            project.findProperty("jmh.baseline")?.toString() ?: "baseline.json",
+            jmhResults.path,
+            project.findProperty("jmh.threshold")?.toString() ?: "0.1"
+    )
+}
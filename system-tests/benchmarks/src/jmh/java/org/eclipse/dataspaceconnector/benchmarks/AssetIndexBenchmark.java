@@ -0,0 +1,90 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.benchmarks;
+
+import org.eclipse.dataspaceconnector.metadata.memory.InMemoryAssetLoader;
+import org.eclipse.dataspaceconnector.spi.asset.AssetSelectorExpression;
+import org.eclipse.dataspaceconnector.spi.asset.CriterionToPredicateConverter;
+import org.eclipse.dataspaceconnector.spi.types.domain.asset.Asset;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures queries against the in-memory asset index.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AssetIndexBenchmark {
+
+    @Param({ "1000", "100000" })
+    private int assets;
+
+    private InMemoryAssetLoader index;
+    private AssetSelectorExpression byDepartment;
+    private AssetSelectorExpression byContentTypeAndRegion;
+    private AssetSelectorExpression byIdList;
+    private String lastAssetId;
+
+    @Setup
+    public void setUp() {
+        index = new InMemoryAssetLoader(new CriterionToPredicateConverter());
+        for (Asset asset : SyntheticData.assets(assets)) {
+            index.accept(asset, SyntheticData.dataAddress(asset));
+        }
+        lastAssetId = "asset-" + (assets - 1);
+        byDepartment = AssetSelectorExpression.Builder.newInstance().whenEquals("department", "department-7").build();
+        byContentTypeAndRegion = AssetSelectorExpression.Builder.newInstance()
+                .whenEquals(Asset.PROPERTY_CONTENT_TYPE, "text/csv")
+                .whenEquals("region", "region-3")
+                .build();
+        byIdList = AssetSelectorExpression.Builder.newInstance()
+                .constraint(Asset.PROPERTY_ID, "in", "(asset-1, asset-10, asset-100, " + lastAssetId + ")")
+                .build();
+    }
+
+    @Benchmark
+    public long queryByProperty() {
+        return index.queryAssets(byDepartment).count();
+    }
+
+    @Benchmark
+    public long queryByTwoProperties() {
+        return index.queryAssets(byContentTypeAndRegion).count();
+    }
+
+    @Benchmark
+    public long queryByIdList() {
+        return index.queryAssets(byIdList).count();
+    }
+
+    @Benchmark
+    public long selectAll() {
+        return index.queryAssets(AssetSelectorExpression.SELECT_ALL).count();
+    }
+
+    @Benchmark
+    public Asset findById() {
+        return index.findById(lastAssetId);
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.benchmarks;
+
+import org.eclipse.dataspaceconnector.contract.policy.PolicyEngineImpl;
+import org.eclipse.dataspaceconnector.policy.model.Permission;
+import org.eclipse.dataspaceconnector.policy.model.Policy;
+import org.eclipse.dataspaceconnector.spi.contract.agent.ParticipantAgent;
+import org.eclipse.dataspaceconnector.spi.contract.policy.PolicyEngine;
+import org.eclipse.dataspaceconnector.spi.contract.policy.PolicyResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures policy evaluation for deeply nested and for wide, flat policies.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PolicyEngineBenchmark {
+
+    /**
+     * Depth of the constraint tree, the number of atomic constraints is 2^depth.
+     */
+    @Param({ "1", "4", "8" })
+    private int depth;
+
+    private PolicyEngine policyEngine;
+    private ParticipantAgent agent;
+    private Policy deepPolicy;
+    private Policy flatPolicy;
+
+    @Setup
+    public void setUp() {
+        policyEngine = new PolicyEngineImpl();
+        var claims = new HashMap<String, String>();
+        for (int i = 0; i < SyntheticData.POLICY_ATTRIBUTES; i++) {
+            var attribute = "attribute-" + i;
+            claims.put(attribute, "value-" + i);
+            policyEngine.registerFunction(Permission.class, attribute,
+                    (operator, rightValue, permission, context) -> rightValue.equals(context.getParticipantAgent().getClaims().get(attribute)));
+        }
+        agent = new ParticipantAgent(claims, new HashMap<>());
+        deepPolicy = SyntheticData.deepPolicy(depth);
+        flatPolicy = SyntheticData.flatPolicy(1 << depth);
+    }
+
+    @Benchmark
+    public PolicyResult evaluateDeepPolicy() {
+        return policyEngine.evaluate(deepPolicy, agent);
+    }
+
+    @Benchmark
+    public PolicyResult evaluateFlatPolicy() {
+        return policyEngine.evaluate(flatPolicy, agent);
+    }
+}
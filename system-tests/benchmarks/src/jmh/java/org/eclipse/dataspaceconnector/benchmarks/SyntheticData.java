@@ -0,0 +1,162 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.benchmarks;
+
+import org.eclipse.dataspaceconnector.policy.model.Action;
+import org.eclipse.dataspaceconnector.policy.model.AndConstraint;
+import org.eclipse.dataspaceconnector.policy.model.AtomicConstraint;
+import org.eclipse.dataspaceconnector.policy.model.Constraint;
+import org.eclipse.dataspaceconnector.policy.model.LiteralExpression;
+import org.eclipse.dataspaceconnector.policy.model.Operator;
+import org.eclipse.dataspaceconnector.policy.model.OrConstraint;
+import org.eclipse.dataspaceconnector.policy.model.Permission;
+import org.eclipse.dataspaceconnector.policy.model.Policy;
+import org.eclipse.dataspaceconnector.spi.types.domain.asset.Asset;
+import org.eclipse.dataspaceconnector.spi.types.domain.catalog.Catalog;
+import org.eclipse.dataspaceconnector.spi.types.domain.contract.offer.ContractOffer;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataAddress;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataRequest;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.TransferProcess;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Generates synthetic, but realistically shaped, data sets for the benchmarks. Generation is seeded so that every run
+ * measures the same data.
+ */
+final class SyntheticData {
+    static final String[] CONTENT_TYPES = { "application/json", "text/csv", "application/octet-stream", "application/xml" };
+    static final int POLICY_ATTRIBUTES = 8;
+
+    private SyntheticData() {
+    }
+
+    /**
+     * Creates assets with an id, a name, a content type and a few properties of varying cardinality.
+     */
+    static List<Asset> assets(int count) {
+        var random = new Random(42);
+        var assets = new ArrayList<Asset>(count);
+        for (int i = 0; i < count; i++) {
+            assets.add(Asset.Builder.newInstance()
+                    .id("asset-" + i)
+                    .name("Asset " + i)
+                    .version("1.0")
+                    .contentType(CONTENT_TYPES[random.nextInt(CONTENT_TYPES.length)])
+                    .property("department", "department-" + random.nextInt(100))
+                    .property("region", "region-" + random.nextInt(10))
+                    .build());
+        }
+        return assets;
+    }
+
+    static DataAddress dataAddress(Asset asset) {
+        return DataAddress.Builder.newInstance()
+                .type("AzureStorage")
+                .property("account", "benchmark")
+                .property("container", "container-" + asset.getId())
+                .property("blobname", asset.getId() + ".json")
+                .keyName(asset.getId() + "-key")
+                .build();
+    }
+
+    /**
+     * Creates a policy whose single permission is constrained by a tree of alternating AND and OR constraints. Each
+     * level doubles the number of constraints, the leaves compare the attribute {@code attribute-<n>} to its value.
+     */
+    static Policy deepPolicy(int depth) {
+        var permission = Permission.Builder.newInstance()
+                .target("asset-0")
+                .action(Action.Builder.newInstance().type("USE").build())
+                .constraint(constraintTree(depth, 0))
+                .build();
+        return Policy.Builder.newInstance().id("policy-" + depth).permission(permission).build();
+    }
+
+    /**
+     * Creates a policy with a flat list of atomic constraints, as is typical for usage policies.
+     */
+    static Policy flatPolicy(int constraints) {
+        var builder = Permission.Builder.newInstance()
+                .target("asset-0")
+                .action(Action.Builder.newInstance().type("USE").build());
+        for (int i = 0; i < constraints; i++) {
+            builder.constraint(atomicConstraint(i));
+        }
+        return Policy.Builder.newInstance().id("policy-flat-" + constraints).permission(builder.build()).build();
+    }
+
+    /**
+     * Creates a catalog holding one contract offer per asset, each with a simple usage policy.
+     */
+    static Catalog catalog(int assets) {
+        var offers = new ArrayList<ContractOffer>(assets);
+        var provider = URI.create("https://provider.example.com");
+        for (Asset asset : assets(assets)) {
+            var permission = Permission.Builder.newInstance()
+                    .target(asset.getId())
+                    .action(Action.Builder.newInstance().type("USE").build())
+                    .build();
+            offers.add(ContractOffer.Builder.newInstance()
+                    .id("offer-" + asset.getId())
+                    .provider(provider)
+                    .assets(List.of(asset))
+                    .policy(Policy.Builder.newInstance().id("policy-" + asset.getId()).permission(permission).build())
+                    .build());
+        }
+        return Catalog.Builder.newInstance().id("catalog").contractOffers(offers).build();
+    }
+
+    static TransferProcess transferProcess(int index) {
+        var dataRequest = DataRequest.Builder.newInstance()
+                .id("request-" + index)
+                .processId("process-" + index)
+                .connectorAddress("https://provider.example.com/api/ids/multipart")
+                .protocol("ids-multipart")
+                .connectorId("provider")
+                .assetId("asset-" + index)
+                .contractId("contract-" + index)
+                .dataDestination(DataAddress.Builder.newInstance().type("S3").property("bucket", "bucket-" + index).build())
+                .build();
+        return TransferProcess.Builder.newInstance()
+                .id("process-" + index)
+                .type(TransferProcess.Type.CONSUMER)
+                .dataRequest(dataRequest)
+                .build();
+    }
+
+    private static Constraint constraintTree(int depth, int index) {
+        if (depth == 0) {
+            return atomicConstraint(index);
+        }
+        var left = constraintTree(depth - 1, index * 2);
+        var right = constraintTree(depth - 1, index * 2 + 1);
+        return depth % 2 == 0
+                ? AndConstraint.Builder.newInstance().constraint(left).constraint(right).build()
+                : OrConstraint.Builder.newInstance().constraint(left).constraint(right).build();
+    }
+
+    private static AtomicConstraint atomicConstraint(int index) {
+        var attribute = index % POLICY_ATTRIBUTES;
+        return AtomicConstraint.Builder.newInstance()
+                .leftExpression(new LiteralExpression("attribute-" + attribute))
+                .operator(Operator.EQ)
+                .rightExpression(new LiteralExpression("value-" + attribute))
+                .build();
+    }
+}
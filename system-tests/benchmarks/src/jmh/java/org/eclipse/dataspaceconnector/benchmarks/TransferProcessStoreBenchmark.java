@@ -0,0 +1,88 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.benchmarks;
+
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.TransferProcess;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.TransferProcessStates;
+import org.eclipse.dataspaceconnector.transfer.store.memory.InMemoryTransferProcessStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the operations the transfer process manager performs on every iteration of its loop, alone and with
+ * concurrent readers and writers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TransferProcessStoreBenchmark {
+    private static final int BATCH_SIZE = 5;
+
+    @Param({ "1000", "100000" })
+    private int processes;
+
+    private InMemoryTransferProcessStore store;
+
+    @Setup
+    public void setUp() {
+        store = new InMemoryTransferProcessStore();
+        for (int i = 0; i < processes; i++) {
+            store.create(SyntheticData.transferProcess(i));
+        }
+    }
+
+    @Benchmark
+    public List<TransferProcess> nextForState() {
+        return store.nextForState(TransferProcessStates.INITIAL.code(), BATCH_SIZE);
+    }
+
+    @Benchmark
+    public TransferProcess find() {
+        return store.find("process-" + ThreadLocalRandom.current().nextInt(processes));
+    }
+
+    @Benchmark
+    public TransferProcess update() {
+        var process = store.find("process-" + ThreadLocalRandom.current().nextInt(processes));
+        store.update(process);
+        return process;
+    }
+
+    @Benchmark
+    @Group("contended")
+    @GroupThreads(3)
+    public TransferProcess contendedFind() {
+        return find();
+    }
+
+    @Benchmark
+    @Group("contended")
+    @GroupThreads(1)
+    public TransferProcess contendedUpdate() {
+        return update();
+    }
+}
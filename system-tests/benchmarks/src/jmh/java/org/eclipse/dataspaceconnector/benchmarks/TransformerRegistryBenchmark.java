@@ -0,0 +1,101 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.benchmarks;
+
+import de.fraunhofer.iais.eis.Resource;
+import de.fraunhofer.iais.eis.ResourceCatalog;
+import org.eclipse.dataspaceconnector.ids.core.transform.TransformerRegistryImpl;
+import org.eclipse.dataspaceconnector.ids.spi.transform.TransformResult;
+import org.eclipse.dataspaceconnector.ids.spi.transform.TransformerRegistry;
+import org.eclipse.dataspaceconnector.ids.spi.types.container.OfferedAsset;
+import org.eclipse.dataspaceconnector.ids.transform.ActionToIdsActionTransformer;
+import org.eclipse.dataspaceconnector.ids.transform.AssetToIdsArtifactTransformer;
+import org.eclipse.dataspaceconnector.ids.transform.AssetToIdsRepresentationTransformer;
+import org.eclipse.dataspaceconnector.ids.transform.AssetToIdsResourceTransformer;
+import org.eclipse.dataspaceconnector.ids.transform.CatalogToIdsResourceCatalogTransformer;
+import org.eclipse.dataspaceconnector.ids.transform.ConstraintToIdsConstraintTransformer;
+import org.eclipse.dataspaceconnector.ids.transform.ContractOfferToIdsContractOfferTransformer;
+import org.eclipse.dataspaceconnector.ids.transform.DutyToIdsDutyTransformer;
+import org.eclipse.dataspaceconnector.ids.transform.ExpressionToIdsLeftOperandTransformer;
+import org.eclipse.dataspaceconnector.ids.transform.ExpressionToIdsRdfResourceTransformer;
+import org.eclipse.dataspaceconnector.ids.transform.IdsIdToUriTransformer;
+import org.eclipse.dataspaceconnector.ids.transform.OfferedAssetToIdsResourceTransformer;
+import org.eclipse.dataspaceconnector.ids.transform.OperatorToIdsBinaryOperatorTransformer;
+import org.eclipse.dataspaceconnector.ids.transform.PermissionToIdsPermissionTransformer;
+import org.eclipse.dataspaceconnector.ids.transform.ProhibitionToIdsProhibitionTransformer;
+import org.eclipse.dataspaceconnector.spi.types.domain.catalog.Catalog;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the transformation of catalogs into their IDS representation, as done for every catalog request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TransformerRegistryBenchmark {
+
+    @Param({ "10", "100", "1000" })
+    private int assets;
+
+    private TransformerRegistry registry;
+    private Catalog catalog;
+    private OfferedAsset offeredAsset;
+
+    @Setup
+    public void setUp() {
+        registry = new TransformerRegistryImpl();
+        List.of(
+                new ActionToIdsActionTransformer(),
+                new AssetToIdsArtifactTransformer(),
+                new AssetToIdsRepresentationTransformer(),
+                new AssetToIdsResourceTransformer(),
+                new CatalogToIdsResourceCatalogTransformer(),
+                new ConstraintToIdsConstraintTransformer(),
+                new ContractOfferToIdsContractOfferTransformer(),
+                new DutyToIdsDutyTransformer(),
+                new ExpressionToIdsLeftOperandTransformer(),
+                new ExpressionToIdsRdfResourceTransformer(),
+                new IdsIdToUriTransformer(),
+                new OfferedAssetToIdsResourceTransformer(),
+                new OperatorToIdsBinaryOperatorTransformer(),
+                new PermissionToIdsPermissionTransformer(),
+                new ProhibitionToIdsProhibitionTransformer()
+        ).forEach(registry::register);
+
+        catalog = SyntheticData.catalog(assets);
+        var offer = catalog.getContractOffers().get(0);
+        offeredAsset = new OfferedAsset(offer.getAssets().get(0), List.of(offer));
+    }
+
+    @Benchmark
+    public TransformResult<ResourceCatalog> transformCatalog() {
+        return registry.transform(catalog, ResourceCatalog.class);
+    }
+
+    @Benchmark
+    public TransformResult<Resource> transformOfferedAsset() {
+        return registry.transform(offeredAsset, Resource.class);
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.benchmarks;
+
+import org.eclipse.dataspaceconnector.spi.types.TypeManager;
+import org.eclipse.dataspaceconnector.spi.types.domain.catalog.Catalog;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.TransferProcess;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures JSON serialization of the types that are persisted or sent over the wire most often.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TypeManagerBenchmark {
+
+    @Param({ "10", "1000" })
+    private int catalogSize;
+
+    private TypeManager typeManager;
+    private TransferProcess process;
+    private byte[] processJson;
+    private Catalog catalog;
+    private byte[] catalogJson;
+
+    @Setup
+    public void setUp() {
+        typeManager = new TypeManager();
+        process = SyntheticData.transferProcess(0);
+        processJson = typeManager.writeValueAsBytes(process);
+        catalog = SyntheticData.catalog(catalogSize);
+        catalogJson = typeManager.writeValueAsBytes(catalog);
+    }
+
+    @Benchmark
+    public byte[] writeTransferProcess() {
+        return typeManager.writeValueAsBytes(process);
+    }
+
+    @Benchmark
+    public TransferProcess readTransferProcess() {
+        return typeManager.readValue(processJson, TransferProcess.class);
+    }
+
+    @Benchmark
+    public byte[] writeCatalog() {
+        return typeManager.writeValueAsBytes(catalog);
+    }
+
+    @Benchmark
+    public Catalog readCatalog() {
+        return typeManager.readValue(catalogJson, Catalog.class);
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.dataspaceconnector.spi.EdcException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static java.lang.String.format;
+
+/**
+ * Compares two JMH result files written in the JSON result format. Benchmarks are matched by name, mode and parameters.
+ * A benchmark has regressed if its score is worse than the baseline by more than the threshold, where worse means lower
+ * for throughput and higher for all time-based modes.
+ * <p>
+ * Usage: {@code BenchmarkComparison <baseline.json> <current.json> [threshold]}. Exits with status 1 if a benchmark has regressed.
+ */
+public final class BenchmarkComparison {
+    private static final String THROUGHPUT = "thrpt";
+
+    private BenchmarkComparison() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: BenchmarkComparison <baseline.json> <current.json> [threshold]");
+            System.exit(2);
+        }
+        var threshold = args.length > 2 ? Double.parseDouble(args[2]) : 0.1;
+        List<Change> changes;
+        try (var baseline = Files.newInputStream(Path.of(args[0])); var current = Files.newInputStream(Path.of(args[1]))) {
+            changes = compare(read(baseline), read(current));
+        }
+
+        var regressions = 0;
+        for (Change change : changes) {
+            var regressed = change.isRegression(threshold);
+            regressions += regressed ? 1 : 0;
+            System.out.println(format("%-100s %14.3f %14.3f %8s %+7.1f%%%s", change.key, change.baseline, change.current, change.unit,
+                    change.relativeChange() * 100, regressed ? "  REGRESSION" : ""));
+        }
+        if (regressions > 0) {
+            System.out.println(format("%s benchmark(s) regressed by more than %.0f%%", regressions, threshold * 100));
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Reads a JMH JSON result file, keyed by benchmark name, mode and parameters.
+     */
+    static Map<String, Score> read(InputStream json) throws IOException {
+        var root = new ObjectMapper().readTree(json);
+        if (!root.isArray()) {
+            throw new EdcException("Not a JMH JSON result file");
+        }
+        var scores = new LinkedHashMap<String, Score>();
+        for (JsonNode benchmark : root) {
+            var mode = benchmark.path("mode").asText();
+            var key = new StringBuilder(benchmark.path("benchmark").asText()).append(" [").append(mode).append(']');
+            var params = new TreeMap<String, String>();
+            benchmark.path("params").fields().forEachRemaining(e -> params.put(e.getKey(), e.getValue().asText()));
+            if (!params.isEmpty()) {
+                key.append(' ').append(params);
+            }
+            var metric = benchmark.path("primaryMetric");
+            scores.put(key.toString(), new Score(mode, metric.path("score").asDouble(), metric.path("scoreUnit").asText()));
+        }
+        return scores;
+    }
+
+    /**
+     * Returns the changes of all benchmarks present in both results, in the order of the current results.
+     */
+    static List<Change> compare(Map<String, Score> baseline, Map<String, Score> current) {
+        var changes = new ArrayList<Change>();
+        current.forEach((key, score) -> {
+            var base = baseline.get(key);
+            if (base != null && base.unit.equals(score.unit)) {
+                changes.add(new Change(key, score.mode, base.value, score.value, score.unit));
+            }
+        });
+        return changes;
+    }
+
+    static class Score {
+        private final String mode;
+        private final double value;
+        private final String unit;
+
+        Score(String mode, double value, String unit) {
+            this.mode = mode;
+            this.value = value;
+            this.unit = unit;
+        }
+    }
+
+    static class Change {
+        private final String key;
+        private final String mode;
+        private final double baseline;
+        private final double current;
+        private final String unit;
+
+        Change(String key, String mode, double baseline, double current, String unit) {
+            this.key = key;
+            this.mode = mode;
+            this.baseline = baseline;
+            this.current = current;
+            this.unit = unit;
+        }
+
+        /**
+         * Returns the change relative to the baseline, positive if the benchmark improved.
+         */
+        double relativeChange() {
+            if (baseline == 0) {
+                return 0;
+            }
+            var change = (current - baseline) / baseline;
+            return THROUGHPUT.equals(mode) ? change : -change;
+        }
+
+        boolean isRegression(double threshold) {
+            return relativeChange() < -threshold;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.benchmarks;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+
+class BenchmarkComparisonTest {
+
+    @Test
+    void compare_detectsRegressionsDependingOnMode() throws IOException {
+        var baseline = read(result("Fast", "avgt", 10.0, "us/op") + "," + result("Throughput", "thrpt", 100.0, "ops/ms"));
+        var current = read(result("Fast", "avgt", 12.0, "us/op") + "," + result("Throughput", "thrpt", 120.0, "ops/ms"));
+
+        var changes = BenchmarkComparison.compare(baseline, current);
+
+        assertThat(changes).hasSize(2);
+        // average time went up: slower
+        assertThat(changes.get(0).isRegression(0.1)).isTrue();
+        assertThat(changes.get(0).relativeChange()).isCloseTo(-0.2, offset(0.001));
+        // throughput went up: faster
+        assertThat(changes.get(1).isRegression(0.1)).isFalse();
+    }
+
+    @Test
+    void read_keysByParameters() throws IOException {
+        var scores = read("{\"benchmark\":\"a.B.run\",\"mode\":\"avgt\",\"params\":{\"size\":\"10\"},\"primaryMetric\":{\"score\":1.0,\"scoreUnit\":\"us/op\"}}");
+
+        assertThat(scores).containsOnlyKeys("a.B.run [avgt] {size=10}");
+    }
+
+    @Test
+    void compare_ignoresBenchmarksMissingFromBaseline() throws IOException {
+        var baseline = read(result("Old", "avgt", 10.0, "us/op"));
+        var current = read(result("New", "avgt", 10.0, "us/op"));
+
+        assertThat(BenchmarkComparison.compare(baseline, current)).isEmpty();
+    }
+
+    private static Map<String, BenchmarkComparison.Score> read(String results) throws IOException {
+        return BenchmarkComparison.read(new ByteArrayInputStream(("[" + results + "]").getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static String result(String benchmark, String mode, double score, String unit) {
+        return String.format("{\"benchmark\":\"%s\",\"mode\":\"%s\",\"primaryMetric\":{\"score\":%s,\"scoreUnit\":\"%s\"}}", benchmark, mode, score, unit);
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+plugins {
+    `java-library`
+}
+
+dependencies {
+    api(project(":spi"))
+    implementation(project(":core:bootstrap"))
+    implementation(project(":core:transfer"))
+    implementation(project(":extensions:in-memory:transfer-store-memory"))
+    implementation(project(":extensions:iam:iam-mock"))
+    implementation(project(":extensions:filesystem:vault-fs"))
+}
+
+// e.g. -Pload.requests=100000 -Pload.concurrency=1000 -Pload.batchSize=50
+tasks.register<JavaExec>("loadTest") {
+    group = "verification"
+    description = "Drives transfer processes through a consumer and a provider connector wired together in one JVM"
+    classpath = sourceSets["main"].runtimeClasspath
+    mainClass.set("org.eclipse.dataspaceconnector.loadtest.LoopbackLoadTest")
+    maxHeapSize = "2g"
+    project.properties.filterKeys { it.startsWith("load.") }.forEach { (key, value) ->
+        systemProperty(key, value.toString())
+    }
+}
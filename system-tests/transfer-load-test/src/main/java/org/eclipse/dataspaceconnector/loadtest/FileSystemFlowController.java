@@ -0,0 +1,61 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.loadtest;
+
+import org.eclipse.dataspaceconnector.spi.transfer.flow.DataFlowController;
+import org.eclipse.dataspaceconnector.spi.transfer.flow.DataFlowInitiateResponse;
+import org.eclipse.dataspaceconnector.spi.transfer.response.ResponseStatus;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataRequest;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Writes a fixed payload into the directory provisioned by the consumer. The payload is written to a temporary file that
+ * is then renamed, so that the consumer never observes a partial transfer.
+ */
+public class FileSystemFlowController implements DataFlowController {
+    static final String DATA_FILE = "data.bin";
+
+    private final byte[] payload;
+
+    public FileSystemFlowController(int payloadSize) {
+        payload = new byte[payloadSize];
+    }
+
+    @Override
+    public boolean canHandle(DataRequest dataRequest) {
+        return LoopbackLoadTest.DESTINATION_TYPE.equals(dataRequest.getDestinationType());
+    }
+
+    @Override
+    public @NotNull DataFlowInitiateResponse initiateFlow(DataRequest dataRequest) {
+        var path = dataRequest.getDataDestination().getProperty(LoopbackLoadTest.PATH);
+        if (path == null) {
+            return new DataFlowInitiateResponse(ResponseStatus.FATAL_ERROR, "Data destination has no path: " + dataRequest.getId());
+        }
+        var directory = Path.of(path);
+        try {
+            var temp = Files.write(directory.resolve(DATA_FILE + ".part"), payload);
+            Files.move(temp, directory.resolve(DATA_FILE), StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            return new DataFlowInitiateResponse(ResponseStatus.ERROR_RETRY, e.getMessage());
+        }
+        return DataFlowInitiateResponse.OK;
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.loadtest;
+
+import org.eclipse.dataspaceconnector.spi.transfer.provision.ProvisionContext;
+import org.eclipse.dataspaceconnector.spi.transfer.provision.Provisioner;
+import org.eclipse.dataspaceconnector.spi.transfer.response.ResponseStatus;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.ProvisionedResource;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.ResourceDefinition;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Provisions a local directory per transfer process and removes it on deprovisioning. Both happen asynchronously, after
+ * a configurable delay, like the provisioning of cloud resources does.
+ */
+public class FileSystemProvisioner implements Provisioner<LoopbackResourceDefinition, LoopbackProvisionedResource> {
+    private final ScheduledExecutorService executor;
+    private final long delayMillis;
+    private ProvisionContext context;
+
+    public FileSystemProvisioner(ScheduledExecutorService executor, long delayMillis) {
+        this.executor = executor;
+        this.delayMillis = delayMillis;
+    }
+
+    @Override
+    public void initialize(ProvisionContext context) {
+        this.context = context;
+    }
+
+    @Override
+    public boolean canProvision(ResourceDefinition resourceDefinition) {
+        return resourceDefinition instanceof LoopbackResourceDefinition;
+    }
+
+    @Override
+    public boolean canDeprovision(ProvisionedResource resourceDefinition) {
+        return resourceDefinition instanceof LoopbackProvisionedResource;
+    }
+
+    @Override
+    public ResponseStatus provision(LoopbackResourceDefinition resourceDefinition) {
+        executor.schedule(() -> {
+            var resource = LoopbackProvisionedResource.Builder.newInstance()
+                    .id(resourceDefinition.getId())
+                    .resourceDefinitionId(resourceDefinition.getId())
+                    .transferProcessId(resourceDefinition.getTransferProcessId())
+                    .path(resourceDefinition.getPath());
+            try {
+                Files.createDirectories(Path.of(resourceDefinition.getPath()));
+            } catch (IOException e) {
+                resource.error(true).errorMessage(e.getMessage());
+            }
+            context.callback(resource.build(), null);
+        }, delayMillis, TimeUnit.MILLISECONDS);
+        return ResponseStatus.OK;
+    }
+
+    @Override
+    public ResponseStatus deprovision(LoopbackProvisionedResource provisionedResource) {
+        executor.schedule(() -> {
+            try (Stream<Path> files = Files.walk(Path.of(provisionedResource.getPath()))) {
+                files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+                context.deprovisioned(provisionedResource, null);
+            } catch (IOException e) {
+                context.deprovisioned(provisionedResource, e);
+            }
+        }, delayMillis, TimeUnit.MILLISECONDS);
+        return ResponseStatus.OK;
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.loadtest;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Percentiles of a set of latencies, in milliseconds.
+ */
+public class LatencyStats {
+    private final int count;
+    private final double p50;
+    private final double p90;
+    private final double p99;
+    private final double max;
+
+    private LatencyStats(int count, double p50, double p90, double p99, double max) {
+        this.count = count;
+        this.p50 = p50;
+        this.p90 = p90;
+        this.p99 = p99;
+        this.max = max;
+    }
+
+    public static LatencyStats of(Collection<Long> latencyNanos) {
+        var sorted = latencyNanos.stream().mapToLong(Long::longValue).toArray();
+        Arrays.sort(sorted);
+        if (sorted.length == 0) {
+            return new LatencyStats(0, 0, 0, 0, 0);
+        }
+        return new LatencyStats(sorted.length, percentile(sorted, 0.5), percentile(sorted, 0.9), percentile(sorted, 0.99), millis(sorted[sorted.length - 1]));
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public double getP50() {
+        return p50;
+    }
+
+    public double getP90() {
+        return p90;
+    }
+
+    public double getP99() {
+        return p99;
+    }
+
+    public double getMax() {
+        return max;
+    }
+
+    /**
+     * Nearest-rank percentile.
+     */
+    private static double percentile(long[] sorted, double percentile) {
+        var rank = (int) Math.ceil(percentile * sorted.length);
+        return millis(sorted[Math.max(rank, 1) - 1]);
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000d;
+    }
+}
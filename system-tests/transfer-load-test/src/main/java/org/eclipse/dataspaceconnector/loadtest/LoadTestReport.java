@@ -0,0 +1,92 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.loadtest;
+
+import java.util.Map;
+
+import static java.lang.String.format;
+
+/**
+ * The outcome of a load test run.
+ */
+public class LoadTestReport {
+    private final int requests;
+    private final int ended;
+    private final int errors;
+    private final long elapsedNanos;
+    private final LatencyStats endToEnd;
+    private final Map<String, LatencyStats> consumerTransitions;
+    private final Map<String, LatencyStats> providerTransitions;
+
+    LoadTestReport(int requests, int ended, int errors, long elapsedNanos, LatencyStats endToEnd,
+                   Map<String, LatencyStats> consumerTransitions, Map<String, LatencyStats> providerTransitions) {
+        this.requests = requests;
+        this.ended = ended;
+        this.errors = errors;
+        this.elapsedNanos = elapsedNanos;
+        this.endToEnd = endToEnd;
+        this.consumerTransitions = consumerTransitions;
+        this.providerTransitions = providerTransitions;
+    }
+
+    public int getRequests() {
+        return requests;
+    }
+
+    /**
+     * Returns the number of consumer processes that reached the ENDED state.
+     */
+    public int getEnded() {
+        return ended;
+    }
+
+    public int getErrors() {
+        return errors;
+    }
+
+    /**
+     * Returns the number of processes that ended per second.
+     */
+    public double getThroughput() {
+        return elapsedNanos > 0 ? ended / (elapsedNanos / 1_000_000_000d) : 0;
+    }
+
+    public LatencyStats getEndToEnd() {
+        return endToEnd;
+    }
+
+    public Map<String, LatencyStats> getConsumerTransitions() {
+        return consumerTransitions;
+    }
+
+    public Map<String, LatencyStats> getProviderTransitions() {
+        return providerTransitions;
+    }
+
+    @Override
+    public String toString() {
+        var builder = new StringBuilder();
+        builder.append(format("%d of %d transfers ended in %.1f s, %d errors, %.1f transfers/s%n", ended, requests, elapsedNanos / 1_000_000_000d, errors, getThroughput()));
+        builder.append(format("%n%-48s %8s %10s %10s %10s %10s%n", "Latency (ms)", "count", "p50", "p90", "p99", "max"));
+        append(builder, "end-to-end", endToEnd);
+        consumerTransitions.forEach((transition, stats) -> append(builder, "consumer " + transition, stats));
+        providerTransitions.forEach((transition, stats) -> append(builder, "provider " + transition, stats));
+        return builder.toString();
+    }
+
+    private static void append(StringBuilder builder, String name, LatencyStats stats) {
+        builder.append(format("%-48s %8d %10.2f %10.2f %10.2f %10.2f%n", name, stats.getCount(), stats.getP50(), stats.getP90(), stats.getP99(), stats.getMax()));
+    }
+}
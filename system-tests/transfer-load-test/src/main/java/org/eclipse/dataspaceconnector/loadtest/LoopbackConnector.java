@@ -0,0 +1,92 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.loadtest;
+
+import org.eclipse.dataspaceconnector.spi.monitor.Monitor;
+import org.eclipse.dataspaceconnector.spi.security.Vault;
+import org.eclipse.dataspaceconnector.spi.types.TypeManager;
+import org.eclipse.dataspaceconnector.transfer.core.flow.DataFlowManagerImpl;
+import org.eclipse.dataspaceconnector.transfer.core.protocol.provider.RemoteMessageDispatcherRegistryImpl;
+import org.eclipse.dataspaceconnector.transfer.core.provision.ProvisionManagerImpl;
+import org.eclipse.dataspaceconnector.transfer.core.provision.ResourceManifestGeneratorImpl;
+import org.eclipse.dataspaceconnector.transfer.core.transfer.StatusCheckerRegistryImpl;
+import org.eclipse.dataspaceconnector.transfer.core.transfer.TransferProcessManagerImpl;
+import org.eclipse.dataspaceconnector.transfer.store.memory.InMemoryTransferProcessStore;
+
+/**
+ * The transfer pipeline of one connector, wired the same way the core transfer extension does, on top of an in-memory
+ * store whose writes are recorded.
+ */
+class LoopbackConnector {
+    private final RecordingTransferProcessStore store;
+    private final ResourceManifestGeneratorImpl manifestGenerator = new ResourceManifestGeneratorImpl();
+    private final DataFlowManagerImpl dataFlowManager = new DataFlowManagerImpl();
+    private final StatusCheckerRegistryImpl statusCheckerRegistry = new StatusCheckerRegistryImpl();
+    private final RemoteMessageDispatcherRegistryImpl dispatcherRegistry = new RemoteMessageDispatcherRegistryImpl();
+    private final ProvisionManagerImpl provisionManager;
+    private final TransferProcessManagerImpl processManager;
+
+    LoopbackConnector(TransitionRecorder recorder, Vault vault, TypeManager typeManager, Monitor monitor, int batchSize, long waitMillis) {
+        store = new RecordingTransferProcessStore(new InMemoryTransferProcessStore(), recorder);
+        provisionManager = new ProvisionManagerImpl(vault, typeManager, monitor);
+        processManager = TransferProcessManagerImpl.Builder.newInstance()
+                .batchSize(batchSize)
+                .waitStrategy(() -> waitMillis)
+                .manifestGenerator(manifestGenerator)
+                .provisionManager(provisionManager)
+                .dataFlowManager(dataFlowManager)
+                .dispatcherRegistry(dispatcherRegistry)
+                .statusCheckerRegistry(statusCheckerRegistry)
+                .monitor(monitor)
+                .build();
+    }
+
+    void start() {
+        provisionManager.start(store);
+        processManager.start(store);
+    }
+
+    void stop() {
+        processManager.stop();
+    }
+
+    RecordingTransferProcessStore getStore() {
+        return store;
+    }
+
+    ResourceManifestGeneratorImpl getManifestGenerator() {
+        return manifestGenerator;
+    }
+
+    DataFlowManagerImpl getDataFlowManager() {
+        return dataFlowManager;
+    }
+
+    StatusCheckerRegistryImpl getStatusCheckerRegistry() {
+        return statusCheckerRegistry;
+    }
+
+    RemoteMessageDispatcherRegistryImpl getDispatcherRegistry() {
+        return dispatcherRegistry;
+    }
+
+    ProvisionManagerImpl getProvisionManager() {
+        return provisionManager;
+    }
+
+    TransferProcessManagerImpl getProcessManager() {
+        return processManager;
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.loadtest;
+
+import org.eclipse.dataspaceconnector.spi.EdcException;
+import org.eclipse.dataspaceconnector.spi.iam.IdentityService;
+import org.eclipse.dataspaceconnector.spi.message.MessageContext;
+import org.eclipse.dataspaceconnector.spi.message.RemoteMessageDispatcher;
+import org.eclipse.dataspaceconnector.spi.transfer.TransferProcessManager;
+import org.eclipse.dataspaceconnector.spi.transfer.store.TransferProcessStore;
+import org.eclipse.dataspaceconnector.spi.types.TypeManager;
+import org.eclipse.dataspaceconnector.spi.types.domain.message.RemoteMessage;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataRequest;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Delivers data requests of the consumer to the provider within the same JVM. The request is serialized and handled on
+ * a separate thread, and the consumer token is verified by the provider, so the work done per request resembles that of
+ * a remote call. Like the IDS dispatcher, it acknowledges the request on the consumer process once the provider has
+ * accepted it.
+ */
+public class LoopbackDispatcher implements RemoteMessageDispatcher {
+    static final String PROVIDER_AUDIENCE = "provider";
+    private static final String SCOPE = "loopback";
+
+    private final IdentityService consumerIdentityService;
+    private final IdentityService providerIdentityService;
+    private final TransferProcessStore consumerStore;
+    private final TransferProcessManager provider;
+    private final TypeManager typeManager;
+    private final ExecutorService executor;
+
+    public LoopbackDispatcher(IdentityService consumerIdentityService, IdentityService providerIdentityService, TransferProcessStore consumerStore,
+                              TransferProcessManager provider, TypeManager typeManager, ExecutorService executor) {
+        this.consumerIdentityService = consumerIdentityService;
+        this.providerIdentityService = providerIdentityService;
+        this.consumerStore = consumerStore;
+        this.provider = provider;
+        this.typeManager = typeManager;
+        this.executor = executor;
+    }
+
+    @Override
+    public String protocol() {
+        return LoopbackLoadTest.PROTOCOL;
+    }
+
+    @Override
+    public <T> CompletableFuture<T> send(Class<T> responseType, RemoteMessage message, MessageContext context) {
+        if (!(message instanceof DataRequest)) {
+            return CompletableFuture.failedFuture(new EdcException("Unsupported message type: " + message.getClass().getName()));
+        }
+        var token = consumerIdentityService.obtainClientCredentials(SCOPE);
+        if (!token.success()) {
+            return CompletableFuture.failedFuture(new EdcException("Unable to obtain credentials: " + token.error()));
+        }
+        var payload = typeManager.writeValueAsBytes(message);
+        var processId = context.getProcessId();
+        return CompletableFuture.runAsync(() -> receive(payload, token.getToken(), processId), executor).thenApply(v -> null);
+    }
+
+    private void receive(byte[] payload, String token, String processId) {
+        var verification = providerIdentityService.verifyJwtToken(token, PROVIDER_AUDIENCE);
+        var process = consumerStore.find(processId);
+        if (verification.valid()) {
+            provider.initiateProviderRequest(typeManager.readValue(payload, DataRequest.class));
+            process.transitionRequestAck();
+        } else {
+            process.transitionError("Not authorized: " + String.join(", ", verification.errors()));
+        }
+        consumerStore.update(process);
+    }
+}
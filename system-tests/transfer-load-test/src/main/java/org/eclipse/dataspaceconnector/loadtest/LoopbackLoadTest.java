@@ -0,0 +1,262 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.loadtest;
+
+import org.eclipse.dataspaceconnector.iam.mock.MockIdentityService;
+import org.eclipse.dataspaceconnector.monitor.ConsoleMonitor;
+import org.eclipse.dataspaceconnector.security.fs.FsVault;
+import org.eclipse.dataspaceconnector.spi.EdcException;
+import org.eclipse.dataspaceconnector.spi.types.TypeManager;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataRequest;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.TransferProcess;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.TransferProcessStates;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static java.lang.String.format;
+
+/**
+ * Drives transfer processes through a consumer and a provider connector wired together in one JVM, without any network
+ * or cloud dependencies. Each consumer process is provisioned into a directory, requested from the provider through a
+ * {@link LoopbackDispatcher}, written by the provider, completed by a status check, and finally deprovisioned.
+ * <p>
+ * The number of processes in flight is bounded by the concurrency. Settings are read from the system properties
+ * {@code load.requests}, {@code load.concurrency}, {@code load.batchSize}, {@code load.waitMillis},
+ * {@code load.provisionDelayMillis}, {@code load.payloadSize} and {@code load.timeoutSeconds}.
+ */
+public class LoopbackLoadTest {
+    public static final String PROTOCOL = "loopback";
+    public static final String DESTINATION_TYPE = "loopback";
+    public static final String PATH = "path";
+
+    // one of the regions the mock identity service issues verifiable tokens for
+    private static final String REGION = "eu";
+
+    private static final Set<Integer> CONSUMER_TERMINAL_STATES = Set.of(TransferProcessStates.ENDED.code(), TransferProcessStates.ERROR.code());
+    private static final Set<Integer> PROVIDER_TERMINAL_STATES = Set.of(TransferProcessStates.IN_PROGRESS.code(), TransferProcessStates.ERROR.code());
+
+    private int requests = 1000;
+    private int concurrency = 100;
+    private int batchSize = 20;
+    private long waitMillis = 10;
+    private long provisionDelayMillis = 0;
+    private int payloadSize = 1024;
+    private long timeoutSeconds = 300;
+
+    private LoopbackLoadTest() {
+    }
+
+    public static void main(String[] args) {
+        var report = Builder.newInstance()
+                .requests(Integer.getInteger("load.requests", 1000))
+                .concurrency(Integer.getInteger("load.concurrency", 100))
+                .batchSize(Integer.getInteger("load.batchSize", 20))
+                .waitMillis(Long.getLong("load.waitMillis", 10))
+                .provisionDelayMillis(Long.getLong("load.provisionDelayMillis", 0))
+                .payloadSize(Integer.getInteger("load.payloadSize", 1024))
+                .timeoutSeconds(Long.getLong("load.timeoutSeconds", 300))
+                .build()
+                .run();
+        System.out.println(report);
+        if (report.getEnded() < report.getRequests()) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Runs the load test and returns its report once all processes have reached a terminal state or the timeout has
+     * expired.
+     */
+    public LoadTestReport run() {
+        Path workDir;
+        try {
+            workDir = Files.createTempDirectory("edc-load-test");
+            Files.createFile(workDir.resolve("vault.properties"));
+        } catch (IOException e) {
+            throw new EdcException(e);
+        }
+
+        var typeManager = new TypeManager();
+        typeManager.registerTypes(DataRequest.class, LoopbackProvisionedResource.class);
+        var monitor = new ConsoleMonitor("loadtest", ConsoleMonitor.Level.WARNING);
+        var vault = new FsVault(workDir.resolve("vault.properties"), false);
+
+        ScheduledExecutorService provisionExecutor = Executors.newScheduledThreadPool(4);
+        ExecutorService networkExecutor = Executors.newFixedThreadPool(8);
+
+        var inFlight = new Semaphore(concurrency);
+        var done = new CountDownLatch(requests);
+        var ended = new AtomicInteger();
+        var errors = new AtomicInteger();
+
+        var consumerHolder = new LoopbackConnector[1];
+        var consumerRecorder = new TransitionRecorder(CONSUMER_TERMINAL_STATES, process -> {
+            var state = process.getState();
+            if (state == TransferProcessStates.COMPLETED.code()) {
+                // deprovisioning is requested by the client once it has consumed the data
+                var processId = process.getId();
+                provisionExecutor.execute(() -> requestDeprovisioning(consumerHolder[0], processId));
+            } else if (CONSUMER_TERMINAL_STATES.contains(state)) {
+                (state == TransferProcessStates.ENDED.code() ? ended : errors).incrementAndGet();
+                inFlight.release();
+                done.countDown();
+            }
+        });
+        var providerRecorder = new TransitionRecorder(PROVIDER_TERMINAL_STATES, process -> {
+        });
+
+        var consumer = new LoopbackConnector(consumerRecorder, vault, typeManager, monitor, batchSize, waitMillis);
+        var provider = new LoopbackConnector(providerRecorder, vault, typeManager, monitor, batchSize, waitMillis);
+        consumerHolder[0] = consumer;
+
+        var provisioner = new FileSystemProvisioner(provisionExecutor, provisionDelayMillis);
+        consumer.getManifestGenerator().registerConsumerGenerator(process -> LoopbackResourceDefinition.Builder.newInstance()
+                .id(process.getId())
+                .transferProcessId(process.getId())
+                .path(workDir.resolve(process.getId()).toString())
+                .build());
+        consumer.getProvisionManager().register(provisioner);
+        consumer.getStatusCheckerRegistry().register(DESTINATION_TYPE, (process, resources) -> resources.stream()
+                .filter(LoopbackProvisionedResource.class::isInstance)
+                .map(resource -> Path.of(((LoopbackProvisionedResource) resource).getPath(), FileSystemFlowController.DATA_FILE))
+                .anyMatch(Files::exists));
+        consumer.getDispatcherRegistry().register(new LoopbackDispatcher(new MockIdentityService(REGION), new MockIdentityService(REGION),
+                consumer.getStore(), provider.getProcessManager(), typeManager, networkExecutor));
+        provider.getDataFlowManager().register(new FileSystemFlowController(payloadSize));
+
+        provider.start();
+        consumer.start();
+
+        var start = System.nanoTime();
+        try {
+            for (int i = 0; i < requests; i++) {
+                inFlight.acquire();
+                consumer.getProcessManager().initiateConsumerRequest(DataRequest.Builder.newInstance()
+                        .id("request-" + i)
+                        .protocol(PROTOCOL)
+                        .connectorAddress("loopback://provider")
+                        .connectorId("provider")
+                        .assetId("asset-" + i)
+                        .destinationType(DESTINATION_TYPE)
+                        .managedResources(true)
+                        .build());
+            }
+            if (!done.await(timeoutSeconds, TimeUnit.SECONDS)) {
+                monitor.warning(format("Load test timed out after %s seconds with %s processes in flight", timeoutSeconds, done.getCount()));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        var elapsed = System.nanoTime() - start;
+
+        consumer.stop();
+        provider.stop();
+        provisionExecutor.shutdownNow();
+        networkExecutor.shutdownNow();
+        delete(workDir);
+
+        return new LoadTestReport(requests, ended.get(), errors.get(), elapsed, consumerRecorder.getEndToEnd(),
+                consumerRecorder.getTransitions(), providerRecorder.getTransitions());
+    }
+
+    private static void requestDeprovisioning(LoopbackConnector consumer, String processId) {
+        TransferProcess process = consumer.getStore().find(processId);
+        process.transitionDeprovisionRequested();
+        consumer.getStore().update(process);
+    }
+
+    private static void delete(Path directory) {
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        } catch (IOException e) {
+            // the directory is temporary
+        }
+    }
+
+    public static class Builder {
+        private final LoopbackLoadTest loadTest;
+
+        private Builder() {
+            loadTest = new LoopbackLoadTest();
+        }
+
+        public static Builder newInstance() {
+            return new Builder();
+        }
+
+        public Builder requests(int requests) {
+            loadTest.requests = requests;
+            return this;
+        }
+
+        /**
+         * The maximum number of consumer processes in flight.
+         */
+        public Builder concurrency(int concurrency) {
+            loadTest.concurrency = concurrency;
+            return this;
+        }
+
+        public Builder batchSize(int batchSize) {
+            loadTest.batchSize = batchSize;
+            return this;
+        }
+
+        /**
+         * The time the process managers wait when a run found no work.
+         */
+        public Builder waitMillis(long waitMillis) {
+            loadTest.waitMillis = waitMillis;
+            return this;
+        }
+
+        /**
+         * Simulates the latency of provisioning and deprovisioning cloud resources.
+         */
+        public Builder provisionDelayMillis(long provisionDelayMillis) {
+            loadTest.provisionDelayMillis = provisionDelayMillis;
+            return this;
+        }
+
+        public Builder payloadSize(int payloadSize) {
+            loadTest.payloadSize = payloadSize;
+            return this;
+        }
+
+        public Builder timeoutSeconds(long timeoutSeconds) {
+            loadTest.timeoutSeconds = timeoutSeconds;
+            return this;
+        }
+
+        public LoopbackLoadTest build() {
+            if (loadTest.requests <= 0 || loadTest.concurrency <= 0) {
+                throw new IllegalArgumentException("Requests and concurrency must be positive");
+            }
+            return loadTest;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.loadtest;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonPOJOBuilder;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.DataAddress;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.ProvisionedDataDestinationResource;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.ProvisionedResource;
+
+/**
+ * A directory provisioned by the {@link FileSystemProvisioner}.
+ */
+@JsonDeserialize(builder = LoopbackProvisionedResource.Builder.class)
+@JsonTypeName("dataspaceconnector:loopbackprovisionedresource")
+public class LoopbackProvisionedResource extends ProvisionedDataDestinationResource {
+    @JsonProperty
+    private String path;
+
+    public String getPath() {
+        return path;
+    }
+
+    @Override
+    public DataAddress createDataDestination() {
+        return DataAddress.Builder.newInstance()
+                .type(LoopbackLoadTest.DESTINATION_TYPE)
+                .property(LoopbackLoadTest.PATH, path)
+                .build();
+    }
+
+    @Override
+    public String getResourceName() {
+        return path;
+    }
+
+    @JsonPOJOBuilder(withPrefix = "")
+    public static class Builder extends ProvisionedResource.Builder<LoopbackProvisionedResource, Builder> {
+
+        private Builder() {
+            super(new LoopbackProvisionedResource());
+        }
+
+        @JsonCreator
+        public static Builder newInstance() {
+            return new Builder();
+        }
+
+        public Builder path(String path) {
+            provisionedResource.path = path;
+            return this;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.loadtest;
+
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.ResourceDefinition;
+
+import java.util.Objects;
+
+/**
+ * A directory the consumer provisions to receive the data.
+ */
+public class LoopbackResourceDefinition extends ResourceDefinition {
+    private String path;
+
+    public String getPath() {
+        return path;
+    }
+
+    public static class Builder extends ResourceDefinition.Builder<LoopbackResourceDefinition, Builder> {
+
+        private Builder() {
+            super(new LoopbackResourceDefinition());
+        }
+
+        public static Builder newInstance() {
+            return new Builder();
+        }
+
+        public Builder path(String path) {
+            resourceDefinition.path = path;
+            return this;
+        }
+
+        @Override
+        protected void verify() {
+            super.verify();
+            Objects.requireNonNull(resourceDefinition.path, "path");
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.loadtest;
+
+import org.eclipse.dataspaceconnector.spi.transfer.store.TransferProcessQuery;
+import org.eclipse.dataspaceconnector.spi.transfer.store.TransferProcessStore;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.TransferProcess;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Passes every write of a transfer process to a {@link TransitionRecorder} after it has been stored.
+ */
+public class RecordingTransferProcessStore implements TransferProcessStore {
+    private final TransferProcessStore delegate;
+    private final TransitionRecorder recorder;
+
+    public RecordingTransferProcessStore(TransferProcessStore delegate, TransitionRecorder recorder) {
+        this.delegate = delegate;
+        this.recorder = recorder;
+    }
+
+    @Override
+    public TransferProcess find(String id) {
+        return delegate.find(id);
+    }
+
+    @Override
+    public @Nullable String processIdForTransferId(String id) {
+        return delegate.processIdForTransferId(id);
+    }
+
+    @Override
+    public @NotNull List<TransferProcess> nextForState(int state, int max) {
+        return delegate.nextForState(state, max);
+    }
+
+    @Override
+    public @NotNull List<TransferProcess> query(TransferProcessQuery query) {
+        return delegate.query(query);
+    }
+
+    @Override
+    public void create(TransferProcess process) {
+        delegate.create(process);
+        recorder.record(process);
+    }
+
+    @Override
+    public void update(TransferProcess process) {
+        delegate.update(process);
+        recorder.record(process);
+    }
+
+    @Override
+    public void delete(String processId) {
+        delegate.delete(processId);
+    }
+
+    @Override
+    public void createData(String processId, String key, Object data) {
+        delegate.createData(processId, key, data);
+    }
+
+    @Override
+    public void updateData(String processId, String key, Object data) {
+        delegate.updateData(processId, key, data);
+    }
+
+    @Override
+    public void deleteData(String processId, String key) {
+        delegate.deleteData(processId, key);
+    }
+
+    @Override
+    public void deleteData(String processId, Set<String> keys) {
+        delegate.deleteData(processId, keys);
+    }
+
+    @Override
+    public <T> T findData(Class<T> type, String processId, String resourceDefinitionId) {
+        return delegate.findData(type, processId, resourceDefinitionId);
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.loadtest;
+
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.TransferProcess;
+import org.eclipse.dataspaceconnector.spi.types.domain.transfer.TransferProcessStates;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+
+/**
+ * Records the time transfer processes spend between state transitions, as observed by the store. The time spent from
+ * the creation of a process until it reaches a terminal state is recorded as well.
+ */
+public class TransitionRecorder {
+    private final Set<Integer> terminalStates;
+    private final Consumer<TransferProcess> listener;
+    private final Map<String, Observation> processes = new ConcurrentHashMap<>();
+    private final Map<Transition, Queue<Long>> latencies = new ConcurrentHashMap<>();
+    private final Queue<Long> endToEnd = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Creates a recorder.
+     *
+     * @param terminalStates the states after which a process is no longer observed
+     * @param listener       invoked after every recorded transition
+     */
+    public TransitionRecorder(Set<Integer> terminalStates, Consumer<TransferProcess> listener) {
+        this.terminalStates = terminalStates;
+        this.listener = listener;
+    }
+
+    /**
+     * Records the current state of the process if it differs from the last recorded one.
+     */
+    public void record(TransferProcess process) {
+        var now = System.nanoTime();
+        var state = process.getState();
+        var changed = new boolean[1];
+        processes.compute(process.getId(), (id, previous) -> {
+            if (previous == null) {
+                changed[0] = true;
+                return new Observation(state, now, now);
+            }
+            if (previous.state == state) {
+                return previous;
+            }
+            changed[0] = true;
+            latencies.computeIfAbsent(new Transition(previous.state, state), t -> new ConcurrentLinkedQueue<>()).add(now - previous.since);
+            if (terminalStates.contains(state)) {
+                endToEnd.add(now - previous.created);
+                return null;
+            }
+            return new Observation(state, now, previous.created);
+        });
+        if (changed[0]) {
+            listener.accept(process);
+        }
+    }
+
+    /**
+     * Returns the latency statistics per transition, ordered by the state the transition started from.
+     */
+    public Map<String, LatencyStats> getTransitions() {
+        var result = new LinkedHashMap<String, LatencyStats>();
+        latencies.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey(Comparator.comparingInt((Transition t) -> order(t.from)).thenComparingInt(t -> order(t.to))))
+                .forEach(e -> result.put(e.getKey().toString(), LatencyStats.of(e.getValue())));
+        return result;
+    }
+
+    public LatencyStats getEndToEnd() {
+        return LatencyStats.of(endToEnd);
+    }
+
+    /**
+     * Sorts errors last.
+     */
+    private static int order(int state) {
+        return state == TransferProcessStates.ERROR.code() ? Integer.MAX_VALUE : state;
+    }
+
+    private static class Observation {
+        private final int state;
+        private final long since;
+        private final long created;
+
+        Observation(int state, long since, long created) {
+            this.state = state;
+            this.since = since;
+            this.created = created;
+        }
+    }
+
+    private static class Transition {
+        private final int from;
+        private final int to;
+
+        Transition(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            Transition that = (Transition) o;
+            return from == that.from && to == that.to;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(from, to);
+        }
+
+        @Override
+        public String toString() {
+            return TransferProcessStates.from(from) + " -> " + TransferProcessStates.from(to);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ *  Copyright (c) 2021 Microsoft Corporation
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Microsoft Corporation - initial API and implementation
+ *
+ */
+
+package org.eclipse.dataspaceconnector.loadtest;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LoopbackLoadTestTest {
+
+    @Test
+    void run_allTransfersEnd() {
+        var report = LoopbackLoadTest.Builder.newInstance()
+                .requests(50)
+                .concurrency(10)
+                .waitMillis(1)
+                .timeoutSeconds(30)
+                .build()
+                .run();
+
+        assertThat(report.getErrors()).isZero();
+        assertThat(report.getEnded()).isEqualTo(50);
+        assertThat(report.getEndToEnd().getCount()).isEqualTo(50);
+        assertThat(report.getConsumerTransitions()).containsKey("REQUESTED -> REQUESTED_ACK");
+        assertThat(report.getProviderTransitions()).containsKey("PROVISIONED -> IN_PROGRESS");
+    }
+}